@@ -0,0 +1,156 @@
+package nbc.chillguys.nebulazone.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nbc.chillguys.nebulazone.common.scheduler.HashedTimingWheel;
+
+/**
+ * 경매 100만 건 종료 스케줄 등록 시 기존 ScheduledThreadPool 방식과 타이밍 휠 방식의 등록 시간, 유지 메모리 비교<br>
+ * 실행: ./gradlew jmh<br>
+ * 등록 시간은 JMH 결과로, 등록 후 유지되는 힙(GC 후 측정)은 iteration 종료 시 표준 출력으로 확인
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AuctionSchedulerBenchmark {
+
+	private static final long MAX_AUCTION_SECONDS = 7 * 24 * 60 * 60;
+	private static final Runnable NO_OP = () -> {
+	};
+
+	@State(Scope.Benchmark)
+	public static class Deadlines {
+
+		@Param({"1000000"})
+		public int auctionCount;
+
+		long[] delaySeconds;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			SplittableRandom random = new SplittableRandom(42);
+			delaySeconds = new long[auctionCount];
+			for (int i = 0; i < auctionCount; i++) {
+				delaySeconds[i] = 60 + random.nextLong(MAX_AUCTION_SECONDS);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadPoolScheduler {
+
+		ScheduledThreadPoolExecutor scheduler;
+		Map<Long, ScheduledFuture<?>> tasks;
+		long baselineHeap;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			scheduler = new ScheduledThreadPoolExecutor(30);
+			tasks = new ConcurrentHashMap<>();
+			baselineHeap = usedHeapAfterGc();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			printRetainedHeap("ScheduledThreadPool", baselineHeap, tasks.size());
+			scheduler.shutdownNow();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class TimingWheelScheduler {
+
+		HashedTimingWheel<Long> timingWheel;
+		long baselineHeap;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			timingWheel = new HashedTimingWheel<>("benchmark", 3600, 2, (auctionId, productId) -> {
+			});
+			timingWheel.start();
+			baselineHeap = usedHeapAfterGc();
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			printRetainedHeap("HashedTimingWheel", baselineHeap, timingWheel.size());
+			timingWheel.stop();
+		}
+	}
+
+	@Benchmark
+	public int scheduledThreadPool(Deadlines deadlines, ThreadPoolScheduler state) {
+		for (int i = 0; i < deadlines.auctionCount; i++) {
+			long auctionId = i;
+			state.tasks.put(auctionId, state.scheduler.schedule(NO_OP, deadlines.delaySeconds[i], TimeUnit.SECONDS));
+		}
+		return state.tasks.size();
+	}
+
+	@Benchmark
+	public int hashedTimingWheel(Deadlines deadlines, TimingWheelScheduler state) {
+		long now = System.currentTimeMillis() / 1000;
+		for (int i = 0; i < deadlines.auctionCount; i++) {
+			state.timingWheel.schedule(i, now + deadlines.delaySeconds[i], (long)i);
+		}
+		return state.timingWheel.size();
+	}
+
+	@Benchmark
+	public int scheduledThreadPoolScheduleAndCancel(Deadlines deadlines, ThreadPoolScheduler state) {
+		scheduledThreadPool(deadlines, state);
+		for (int i = 0; i < deadlines.auctionCount; i++) {
+			ScheduledFuture<?> future = state.tasks.remove((long)i);
+			future.cancel(false);
+		}
+		state.scheduler.purge();
+		return state.tasks.size();
+	}
+
+	@Benchmark
+	public int hashedTimingWheelScheduleAndCancel(Deadlines deadlines, TimingWheelScheduler state) {
+		hashedTimingWheel(deadlines, state);
+		for (int i = 0; i < deadlines.auctionCount; i++) {
+			state.timingWheel.cancel(i);
+		}
+		return state.timingWheel.size();
+	}
+
+	private static long usedHeapAfterGc() {
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+
+	private static void printRetainedHeap(String name, long baselineHeap, int scheduledCount) {
+		long retained = usedHeapAfterGc() - baselineHeap;
+		System.out.printf("%n[%s] scheduled=%d, retainedHeap=%.1fMB, bytesPerAuction=%.1f%n",
+			name, scheduledCount, retained / 1024.0 / 1024.0,
+			scheduledCount == 0 ? 0.0 : (double)retained / scheduledCount);
+	}
+}
@@ -0,0 +1,170 @@
+package nbc.chillguys.nebulazone.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nbc.chillguys.nebulazone.application.auction.service.AutoAuctionService;
+import nbc.chillguys.nebulazone.application.bid.dto.request.CreateBidRequest;
+import nbc.chillguys.nebulazone.application.bid.service.BidService;
+import nbc.chillguys.nebulazone.benchmark.loadtest.BidLoadReport;
+import nbc.chillguys.nebulazone.benchmark.loadtest.LoadTestApplication;
+import nbc.chillguys.nebulazone.benchmark.loadtest.LoadTestData;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+
+/**
+ * 실제 BidService.upsertBid와 경매 종료 처리를 동시 입찰자로 두드리는 입찰 경합 부하 테스트<br>
+ * 애플리케이션 전체를 loadtest 프로필(H2 MySQL 모드, 로컬 Redis의 별도 DB, Elasticsearch 없음)로 띄우고,
+ * bidMode마다 입찰 엔진을 바꿔 같은 부하를 줌<br>
+ * upsertBids: bidders명이 auctions개 경매에 totalBids건 입찰(입찰자마다 totalBids / bidders건)<br>
+ * bidders는 경합이 없는 1명부터 512명까지 늘려 가며, 512명에서도 입찰자마다 10건이 돌도록 totalBids를 5120으로 둠<br>
+ * 사전 입찰(prefillBidsPerAuction)도 입찰자를 돌아가며 넣으므로 bidders=1이면 한 명이 모두 넣음<br>
+ * closeAuctionsUnderBids: 입찰이 계속 들어오는 중에 auctions개 경매를 일괄 종료<br>
+ * 실행: docker compose up -d redis 후 ./gradlew jmh, 동시성 등은 jmh jar 실행 시 -p bidders=256 처럼 변경<br>
+ * 결과는 iteration마다 p50/p99 지연 시간, 처리량, 결과별 건수(에러 코드, 데드락/락 대기 초과 예외),
+ * 경매 row 락 대기 시간과 낙관적 락 충돌 등 bid.* 지표 변화량을 출력
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BidContentionBenchmark {
+
+	@Param({"lock", "optimistic", "sequencer"})
+	public String bidMode;
+
+	@Param({"1", "16"})
+	public int auctions;
+
+	@Param({"1", "8", "64", "512"})
+	public int bidders;
+
+	@Param({"5120"})
+	public int totalBids;
+
+	@Param({"8"})
+	public int prefillBidsPerAuction;
+
+	private ConfigurableApplicationContext context;
+	private BidService bidService;
+	private AutoAuctionService autoAuctionService;
+	private MeterRegistry meterRegistry;
+	private LoadTestData loadTestData;
+
+	private ExecutorService bidderExecutor;
+	private List<Long> auctionIds;
+	private List<User> users;
+	private AtomicLong priceSequence;
+	private BidLoadReport report;
+
+	@Setup(Level.Trial)
+	public void startApplication() {
+		context = LoadTestApplication.start(bidMode);
+		bidService = context.getBean(BidService.class);
+		autoAuctionService = context.getBean(AutoAuctionService.class);
+		meterRegistry = context.getBean(MeterRegistry.class);
+		loadTestData = new LoadTestData(context);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopApplication() {
+		context.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		bidderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		auctionIds = loadTestData.createAuctions(auctions);
+		users = loadTestData.createUsers(bidders);
+		priceSequence = new AtomicLong(LoadTestData.START_PRICE);
+
+		for (int i = 0; i < auctions * prefillBidsPerAuction; i++) {
+			placeBid(users.get(i % bidders), auctionIds.get(i % auctions));
+		}
+
+		report = new BidLoadReport(meterRegistry);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		bidderExecutor.shutdownNow();
+		report.print(bidMode + "/auctions=" + auctions + "/bidders=" + bidders);
+	}
+
+	@Benchmark
+	public long upsertBids() {
+		int bidsPerBidder = totalBids / bidders;
+		List<CompletableFuture<Void>> futures = new ArrayList<>(bidders);
+
+		for (int i = 0; i < bidders; i++) {
+			User user = users.get(i);
+			int offset = i;
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (int j = 0; j < bidsPerBidder; j++) {
+					Long auctionId = auctionIds.get((offset + j) % auctions);
+					report.record(() -> placeBid(user, auctionId));
+				}
+			}, bidderExecutor));
+		}
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return priceSequence.get();
+	}
+
+	@Benchmark
+	public long closeAuctionsUnderBids() {
+		AtomicBoolean closed = new AtomicBoolean();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(bidders);
+
+		for (int i = 0; i < bidders; i++) {
+			User user = users.get(i);
+			int offset = i;
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (int j = 0; !closed.get(); j++) {
+					Long auctionId = auctionIds.get((offset + j) % auctions);
+					report.record(() -> placeBid(user, auctionId));
+				}
+			}, bidderExecutor));
+		}
+
+		try {
+			report.measure("close", () -> {
+				autoAuctionService.closeAndAwaitPersisted(auctionIds);
+				autoAuctionService.autoEndAuctionsAndCreateTransactions(auctionIds);
+				return auctionIds.size();
+			});
+		} finally {
+			closed.set(true);
+		}
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return priceSequence.get();
+	}
+
+	private void placeBid(User user, Long auctionId) {
+		bidService.upsertBid(auctionId, user, new CreateBidRequest(priceSequence.addAndGet(100L)));
+	}
+}
@@ -0,0 +1,145 @@
+package nbc.chillguys.nebulazone.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+import nbc.chillguys.nebulazone.infra.redis.codec.BinaryChatMessageCodec;
+import nbc.chillguys.nebulazone.infra.redis.codec.ChatMessageCodec;
+import nbc.chillguys.nebulazone.infra.redis.codec.JsonChatMessageCodec;
+import nbc.chillguys.nebulazone.infra.redis.dto.ChatPubSubMessage;
+
+/**
+ * 채팅 pub/sub 메시지 직렬화 방식별 메시지 크기와 인코딩/디코딩 시간 비교<br>
+ * legacy: 이전 경로(GenericJackson2JsonRedisSerializer로 @class 포함 JSON 발행, String으로 바꾼 뒤 readValue)<br>
+ * json: JsonChatMessageCodec(@class 없이 바이트에서 바로 읽음), binary: BinaryChatMessageCodec<br>
+ * 실행: ./gradlew jmh, 메시지 크기(bytes/message)는 trial 시작 시 출력하고 할당량은 gc 프로파일러 결과(gc.alloc.rate.norm) 참고
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatCodecBenchmark {
+
+	@Param({"legacy", "json", "binary"})
+	public String codec;
+
+	@Param({"16", "256"})
+	public int messageLength;
+
+	private ChatCodecAdapter adapter;
+	private ChatMessageInfo message;
+	private byte[] encoded;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+		adapter = switch (codec) {
+			case "legacy" -> new LegacyJsonAdapter(objectMapper);
+			case "json" -> new CodecAdapter(new JsonChatMessageCodec(objectMapper));
+			case "binary" -> new CodecAdapter(new BinaryChatMessageCodec());
+			default -> throw new IllegalArgumentException("알 수 없는 codec: " + codec);
+		};
+
+		message = ChatMessageInfo.of(1_024L, 52_731L, "buyer-52731@nebulazone.com", createText(messageLength),
+			MessageType.TEXT, LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_456_000));
+		encoded = adapter.encode(message);
+
+		System.out.printf("%n[%s/messageLength=%d] bytes/message=%d%n", codec, messageLength, encoded.length);
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return adapter.encode(message);
+	}
+
+	@Benchmark
+	public ChatMessageInfo decode() {
+		return adapter.decode(encoded);
+	}
+
+	private static String createText(int length) {
+		String source = "안녕하세요 거래 가능할까요? hello ";
+		StringBuilder text = new StringBuilder(length);
+
+		while (text.length() < length) {
+			text.append(source.charAt(text.length() % source.length()));
+		}
+
+		return text.toString();
+	}
+
+	private interface ChatCodecAdapter {
+		byte[] encode(ChatMessageInfo message);
+
+		ChatMessageInfo decode(byte[] bytes);
+	}
+
+	private record CodecAdapter(ChatMessageCodec codec) implements ChatCodecAdapter {
+
+		@Override
+		public byte[] encode(ChatMessageInfo message) {
+			return codec.encode(message);
+		}
+
+		@Override
+		public ChatMessageInfo decode(byte[] bytes) {
+			return codec.decode(bytes);
+		}
+	}
+
+	private static final class LegacyJsonAdapter implements ChatCodecAdapter {
+
+		private final ObjectMapper objectMapper;
+		private final GenericJackson2JsonRedisSerializer serializer;
+
+		private LegacyJsonAdapter(ObjectMapper objectMapper) {
+			this.objectMapper = objectMapper;
+			this.serializer = new GenericJackson2JsonRedisSerializer(new ObjectMapper()
+				.registerModule(new JavaTimeModule())
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+		}
+
+		@Override
+		public byte[] encode(ChatMessageInfo message) {
+			return serializer.serialize(ChatPubSubMessage.from(message.roomId(), message));
+		}
+
+		@Override
+		public ChatMessageInfo decode(byte[] bytes) {
+			try {
+				String body = new String(bytes, StandardCharsets.UTF_8);
+				return objectMapper.readValue(body, ChatPubSubMessage.class).toChatMessageInfo();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package nbc.chillguys.nebulazone.benchmark.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.common.exception.BaseException;
+
+/**
+ * 한 iteration 동안의 요청 지연 시간, 처리량, 결과별 건수와 애플리케이션 지표 변화량 집계<br>
+ * 결과는 성공(accepted), 비즈니스 예외는 에러 코드, 그 밖의 예외(락 대기 초과, 데드락 등)는 예외 클래스 이름으로 구분<br>
+ * 애플리케이션 지표는 bid.* 카운터(낙관적 락 충돌, 재시도 등)와 경매 row 락 대기 시간(bid.lock.wait)의 시작 대비 변화량
+ */
+public class BidLoadReport {
+
+	private static final String METRIC_PREFIX = "bid.";
+	private static final String LOCK_WAIT_METRIC = "bid.lock.wait";
+	private static final String ACCEPTED = "accepted";
+
+	private final MeterRegistry applicationRegistry;
+	private final Timer latency;
+	private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+	private final Map<String, Double> countersAtStart;
+	private final long lockWaitCountAtStart;
+	private final double lockWaitMillisAtStart;
+	private final long startNanos = System.nanoTime();
+
+	public BidLoadReport(MeterRegistry applicationRegistry) {
+		this.applicationRegistry = applicationRegistry;
+		this.latency = Timer.builder("loadtest.latency")
+			.publishPercentiles(0.5, 0.99)
+			.distributionStatisticExpiry(Duration.ofHours(1))
+			.distributionStatisticBufferLength(1)
+			.register(new SimpleMeterRegistry());
+		this.countersAtStart = bidCounters();
+		this.lockWaitCountAtStart = lockWaitTimers().mapToLong(Timer::count).sum();
+		this.lockWaitMillisAtStart = lockWaitMillis();
+	}
+
+	/**
+	 * 요청 하나를 실행하고 지연 시간과 결과 기록(예외는 밖으로 던지지 않음)
+	 * @param request 요청
+	 * @return 성공 여부
+	 */
+	public boolean record(Runnable request) {
+		long start = System.nanoTime();
+		String outcome = ACCEPTED;
+
+		try {
+			request.run();
+		} catch (BaseException e) {
+			outcome = String.valueOf(e.getErrorCode());
+		} catch (RuntimeException e) {
+			outcome = e.getClass().getSimpleName();
+		}
+
+		latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+
+		return ACCEPTED.equals(outcome);
+	}
+
+	/**
+	 * 실행 시간을 재서 별도 항목으로 출력(예: 경매 종료 처리)
+	 */
+	public <T> T measure(String name, Supplier<T> task) {
+		long start = System.nanoTime();
+
+		try {
+			return task.get();
+		} finally {
+			System.out.printf("%n[%s] elapsed=%.1fms%n", name, (System.nanoTime() - start) / 1_000_000.0);
+		}
+	}
+
+	public void print(String name) {
+		double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+		HistogramSnapshot snapshot = latency.takeSnapshot();
+
+		System.out.printf("%n[%s] requests=%d, throughput=%.1f/s, latency p50=%.2fms, p99=%.2fms, max=%.2fms%n",
+			name, latency.count(), latency.count() / elapsedSeconds,
+			percentileMillis(snapshot, 0.5), percentileMillis(snapshot, 0.99), latency.max(TimeUnit.MILLISECONDS));
+
+		Map<String, Long> sortedOutcomes = new TreeMap<>();
+		outcomes.forEach((outcome, count) -> sortedOutcomes.put(outcome, count.sum()));
+		System.out.printf("[%s] outcomes=%s%n", name, sortedOutcomes);
+
+		long lockWaitCount = lockWaitTimers().mapToLong(Timer::count).sum() - lockWaitCountAtStart;
+		double lockWaitMillis = lockWaitMillis() - lockWaitMillisAtStart;
+		System.out.printf("[%s] lockWait count=%d, total=%.1fms, mean=%.2fms%n",
+			name, lockWaitCount, lockWaitMillis, lockWaitCount == 0 ? 0.0 : lockWaitMillis / lockWaitCount);
+
+		Map<String, Double> counterDeltas = new TreeMap<>();
+		bidCounters().forEach((counter, value) -> {
+			double delta = value - countersAtStart.getOrDefault(counter, 0.0);
+			if (delta > 0) {
+				counterDeltas.put(counter, delta);
+			}
+		});
+		System.out.printf("[%s] bidCounters=%s%n", name, counterDeltas);
+	}
+
+	private Map<String, Double> bidCounters() {
+		Map<String, Double> counters = new TreeMap<>();
+
+		applicationRegistry.getMeters().stream()
+			.filter(meter -> meter instanceof Counter)
+			.filter(meter -> meter.getId().getName().startsWith(METRIC_PREFIX))
+			.forEach(meter -> counters.merge(counterName(meter), ((Counter)meter).count(), Double::sum));
+
+		return counters;
+	}
+
+	private Stream<Timer> lockWaitTimers() {
+		return applicationRegistry.find(LOCK_WAIT_METRIC).timers().stream();
+	}
+
+	private double lockWaitMillis() {
+		return lockWaitTimers().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+	}
+
+	private static String counterName(Meter meter) {
+		StringBuilder name = new StringBuilder(meter.getId().getName());
+		meter.getId().getTags()
+			.forEach(tag -> name.append(',').append(tag.getKey()).append('=').append(tag.getValue()));
+
+		return name.toString();
+	}
+
+	private static double percentileMillis(HistogramSnapshot snapshot, double percentile) {
+		for (ValueAtPercentile value : snapshot.percentileValues()) {
+			if (value.percentile() == percentile) {
+				return value.value(TimeUnit.MILLISECONDS);
+			}
+		}
+
+		return Double.NaN;
+	}
+}
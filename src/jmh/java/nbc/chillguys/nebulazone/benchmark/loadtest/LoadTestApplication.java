@@ -0,0 +1,44 @@
+package nbc.chillguys.nebulazone.benchmark.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import nbc.chillguys.nebulazone.NebulazoneApplication;
+
+/**
+ * 부하 테스트용 애플리케이션 실행<br>
+ * loadtest 프로필(H2 MySQL 모드, 로컬 Redis의 전용 DB)로 전체 애플리케이션을 띄움<br>
+ * Redis는 docker compose up -d redis 로 띄운 로컬 Redis를 사용하며 LOADTEST_REDIS_HOST, LOADTEST_REDIS_PORT,
+ * LOADTEST_REDIS_DATABASE로 변경 가능(시작할 때 해당 DB를 비우므로 운영 Redis를 가리키면 안 됨)
+ */
+public final class LoadTestApplication {
+
+	private static final String PROFILE = "loadtest";
+
+	private LoadTestApplication() {
+	}
+
+	/**
+	 * @param bidMode 입찰 엔진(bid.mode)
+	 * @return 실행된 애플리케이션 컨텍스트
+	 */
+	public static ConfigurableApplicationContext start(String bidMode) {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(NebulazoneApplication.class)
+			.profiles(PROFILE)
+			.properties("bid.mode=" + bidMode)
+			.run();
+
+		flushRedis(context);
+
+		return context;
+	}
+
+	private static void flushRedis(ConfigurableApplicationContext context) {
+		context.getBean(StringRedisTemplate.class).execute((RedisCallback<Void>)connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		});
+	}
+}
@@ -0,0 +1,110 @@
+package nbc.chillguys.nebulazone.benchmark.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ApplicationContext;
+
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.repository.AuctionRepository;
+import nbc.chillguys.nebulazone.domain.catalog.entity.Catalog;
+import nbc.chillguys.nebulazone.domain.catalog.entity.CatalogType;
+import nbc.chillguys.nebulazone.domain.catalog.repository.CatalogRepository;
+import nbc.chillguys.nebulazone.domain.product.entity.Product;
+import nbc.chillguys.nebulazone.domain.product.entity.ProductTxMethod;
+import nbc.chillguys.nebulazone.domain.product.repository.ProductRepository;
+import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.repository.UserRepository;
+
+/**
+ * 부하 테스트용 유저, 경매 데이터 생성<br>
+ * 호출할 때마다 이메일, 닉네임이 겹치지 않는 새 데이터를 만듦
+ */
+public class LoadTestData {
+
+	public static final long START_PRICE = 1_000L;
+
+	private static final long USER_POINT = 1_000_000_000_000L;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final UserRepository userRepository;
+	private final CatalogRepository catalogRepository;
+	private final ProductRepository productRepository;
+	private final AuctionRepository auctionRepository;
+
+	private Catalog catalog;
+
+	public LoadTestData(ApplicationContext context) {
+		this.userRepository = context.getBean(UserRepository.class);
+		this.catalogRepository = context.getBean(CatalogRepository.class);
+		this.productRepository = context.getBean(ProductRepository.class);
+		this.auctionRepository = context.getBean(AuctionRepository.class);
+	}
+
+	public List<User> createUsers(int count) {
+		List<User> users = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			long id = sequence.incrementAndGet();
+			users.add(User.builder()
+				.email("loadtest-" + id + "@nebulazone.com")
+				.nickname("loadtest-" + id)
+				.point(USER_POINT)
+				.oAuthType(OAuthType.DOMAIN)
+				.roles(Set.of(UserRole.ROLE_USER))
+				.build());
+		}
+
+		return userRepository.saveAll(users);
+	}
+
+	/**
+	 * 판매자 한 명이 등록한 진행 중 경매 생성(종료 시각 하루 뒤)
+	 * @return 경매 id 목록
+	 */
+	public List<Long> createAuctions(int count) {
+		User seller = createUsers(1).get(0);
+		LocalDateTime endTime = LocalDateTime.now().plusDays(1);
+
+		List<Product> products = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			products.add(Product.builder()
+				.name("부하 테스트 상품 " + sequence.incrementAndGet())
+				.description("부하 테스트 상품")
+				.price(START_PRICE)
+				.txMethod(ProductTxMethod.AUCTION)
+				.seller(seller)
+				.catalog(getCatalog())
+				.build());
+		}
+
+		List<Auction> auctions = productRepository.saveAll(products).stream()
+			.map(product -> Auction.builder()
+				.product(product)
+				.startPrice(START_PRICE)
+				.currentPrice(START_PRICE)
+				.endTime(endTime)
+				.build())
+			.toList();
+
+		return auctionRepository.saveAll(auctions).stream().map(Auction::getId).toList();
+	}
+
+	private Catalog getCatalog() {
+		if (catalog == null) {
+			catalog = catalogRepository.save(Catalog.builder()
+				.name("부하 테스트 카탈로그")
+				.description("부하 테스트 카탈로그")
+				.type(CatalogType.CPU)
+				.build());
+		}
+
+		return catalog;
+	}
+}
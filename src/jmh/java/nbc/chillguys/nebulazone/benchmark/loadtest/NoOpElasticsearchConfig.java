@@ -0,0 +1,68 @@
+package nbc.chillguys.nebulazone.benchmark.loadtest;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import nbc.chillguys.nebulazone.domain.catalog.repository.CatalogEsRepository;
+import nbc.chillguys.nebulazone.domain.post.repository.PostEsRepository;
+import nbc.chillguys.nebulazone.domain.product.repository.ProductEsRepository;
+
+/**
+ * 부하 테스트에서 Elasticsearch 없이 애플리케이션을 띄우기 위한 저장소 대체 설정<br>
+ * loadtest 프로필은 Elasticsearch 저장소 생성을 끄고, 아무 동작도 하지 않는 구현을 대신 등록
+ */
+@Profile("loadtest")
+@Configuration(proxyBeanMethods = false)
+public class NoOpElasticsearchConfig {
+
+	@Bean
+	public ProductEsRepository productEsRepository() {
+		return noOp(ProductEsRepository.class);
+	}
+
+	@Bean
+	public CatalogEsRepository catalogEsRepository() {
+		return noOp(CatalogEsRepository.class);
+	}
+
+	@Bean
+	public PostEsRepository postEsRepository() {
+		return noOp(PostEsRepository.class);
+	}
+
+	private static <T> T noOp(Class<T> type) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+			(instance, method, args) -> switch (method.getName()) {
+				case "equals" -> instance == args[0];
+				case "hashCode" -> System.identityHashCode(instance);
+				case "toString" -> "NoOp" + type.getSimpleName();
+				default -> defaultValue(method);
+			});
+
+		return type.cast(proxy);
+	}
+
+	private static Object defaultValue(Method method) {
+		Class<?> returnType = method.getReturnType();
+
+		if (returnType == Optional.class) {
+			return Optional.empty();
+		}
+		if (returnType == boolean.class) {
+			return false;
+		}
+		if (returnType == long.class) {
+			return 0L;
+		}
+		if (returnType == int.class) {
+			return 0;
+		}
+
+		return null;
+	}
+}
@@ -2,6 +2,7 @@ package nbc.chillguys.nebulazone.application.auction.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,8 @@ import nbc.chillguys.nebulazone.application.auction.dto.response.FindAllAuctionR
 import nbc.chillguys.nebulazone.application.auction.dto.response.FindDetailAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.dto.response.ManualEndAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.service.AuctionService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionStreamService;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
@@ -31,6 +35,7 @@ import nbc.chillguys.nebulazone.domain.user.entity.User;
 public class AuctionController {
 
 	private final AuctionService auctionService;
+	private final AuctionStreamService auctionStreamService;
 
 	@GetMapping
 	public ResponseEntity<CommonPageResponse<FindAllAuctionResponse>> findAuctions(
@@ -43,6 +48,17 @@ public class AuctionController {
 
 	}
 
+	@GetMapping(params = "cursor")
+	public ResponseEntity<CommonCursorResponse<FindAllAuctionResponse>> findAuctionsByCursor(
+		@RequestParam(value = "cursor") String cursor,
+		@RequestParam(defaultValue = "20", value = "size") int size) {
+
+		CommonCursorResponse<FindAllAuctionResponse> response = auctionService.findAuctionsByCursor(cursor, size);
+
+		return ResponseEntity.ok(response);
+
+	}
+
 	@GetMapping("/sorted")
 	public ResponseEntity<List<FindAllAuctionResponse>> findAuctionsSortType(
 		@RequestParam("sort") String sortType) {
@@ -62,6 +78,15 @@ public class AuctionController {
 
 	}
 
+	@GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> streamAuction(@PathVariable("auctionId") Long auctionId) {
+
+		SseEmitter emitter = auctionStreamService.subscribe(auctionId);
+
+		return ResponseEntity.ok(emitter);
+
+	}
+
 	@PostMapping("/{auctionId}")
 	public ResponseEntity<ManualEndAuctionResponse> manualEndAuction(
 		@PathVariable("auctionId") Long auctionId,
@@ -0,0 +1,32 @@
+package nbc.chillguys.nebulazone.application.auction.dto.response;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+
+public record AuctionStreamResponse(
+	Long auctionId,
+	Long currentPrice,
+	Long bidCount,
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	LocalDateTime endTime,
+	long remainingSeconds,
+	boolean closed) {
+
+	public static AuctionStreamResponse of(AuctionLiveInfo liveInfo, boolean closed, LocalDateTime now) {
+
+		long remainingSeconds = closed ? 0 : Math.max(0, Duration.between(now, liveInfo.endTime()).toSeconds());
+
+		return new AuctionStreamResponse(
+			liveInfo.auctionId(),
+			liveInfo.currentPrice(),
+			liveInfo.bidCount(),
+			liveInfo.endTime(),
+			remainingSeconds,
+			closed
+		);
+	}
+}
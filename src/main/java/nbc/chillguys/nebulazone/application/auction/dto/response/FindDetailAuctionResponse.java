@@ -5,7 +5,7 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
-import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
 
 public record FindDetailAuctionResponse(
 	Long auctionId,
@@ -28,17 +28,19 @@ public record FindDetailAuctionResponse(
 	LocalDateTime productCreatedAt,
 	Long bidCount) {
 
-	public static FindDetailAuctionResponse from(AuctionFindDetailInfo findInfo, Bid bid) {
+	public static FindDetailAuctionResponse from(AuctionFindDetailInfo findInfo) {
+
+		TopBidInfo bid = findInfo.topBid();
 
 		return new FindDetailAuctionResponse(
 			findInfo.auctionId(),
 			findInfo.sellerId(),
 			findInfo.sellerNickname(),
 			findInfo.sellerEmail(),
-			bid == null ? null : bid.getId(),
-			bid == null ? null : bid.getUser().getId(),
-			bid == null ? null : bid.getUser().getNickname(),
-			bid == null ? null : bid.getUser().getEmail(),
+			bid == null ? null : bid.bidId(),
+			bid == null ? null : bid.userId(),
+			bid == null ? null : bid.nickname(),
+			bid == null ? null : bid.email(),
 			findInfo.startPrice(),
 			findInfo.currentPrice(),
 			findInfo.isWon(),
@@ -21,6 +21,9 @@ import nbc.chillguys.nebulazone.domain.auction.service.AuctionAdminDomainService
 public class AuctionAdminService {
 	private final AuctionAdminDomainService auctionAdminDomainService;
 	private final AuctionSchedulerService auctionSchedulerService;
+	private final AuctionRankingService auctionRankingService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final AuctionDeletionService auctionDeletionService;
 
 	public CommonPageResponse<AuctionAdminResponse> findAuctions(AuctionAdminSearchRequest request, Pageable pageable) {
 		AuctionAdminSearchQueryCommand command = new AuctionAdminSearchQueryCommand(
@@ -35,18 +38,20 @@ public class AuctionAdminService {
 	public void updateAuction(Long auctionId, AuctionAdminUpdateRequest request) {
 		AuctionAdminUpdateCommand command = AuctionAdminUpdateCommand.from(request);
 		auctionAdminDomainService.updateAuction(auctionId, command);
+		auctionDetailCacheService.evict(auctionId);
 	}
 
 	@Transactional
 	public void deleteAuction(Long auctionId) {
 		auctionAdminDomainService.deleteAuction(auctionId);
-		auctionSchedulerService.cancelSchedule(auctionId);
+		auctionDeletionService.closeDeletedAuction(auctionId);
 	}
 
 	public void restoreAuction(Long auctionId) {
 		auctionAdminDomainService.restoreAuction(auctionId);
 		Auction auction = auctionAdminDomainService.findByAuctionById(auctionId);
 		auctionSchedulerService.autoAuctionEndSchedule(auction, auction.getProduct().getId());
+		auctionRankingService.register(auction);
 	}
 
 }
@@ -0,0 +1,54 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+
+/**
+ * 경매 테이블에 비정규화한 입찰 건수, 대표 이미지를 입찰, 상품 이미지 테이블 기준으로 다시 채우는 작업<br>
+ * 컬럼 추가 직후나 값이 어긋났을 때 auction.backfill.enabled=true로 한 번 기동하여 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.backfill.enabled", havingValue = "true")
+public class AuctionBackfillService {
+
+	private final AuctionDomainService auctionDomainService;
+
+	@Value("${auction.backfill.page-size:1000}")
+	private int pageSize;
+
+	/**
+	 * 애플리케이션 기동이 끝난 뒤 별도 스레드에서 경매 id 순으로 페이지 단위 재계산
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		log.info("경매 입찰 건수, 대표 이미지 재계산 시작");
+
+		try {
+			long updated = 0;
+			Long lastAuctionId = null;
+			List<Long> page;
+			do {
+				page = auctionDomainService.findAuctionIdsAfter(lastAuctionId, pageSize);
+				updated += auctionDomainService.recalculateBidCountAndThumbnail(page);
+				lastAuctionId = page.isEmpty() ? lastAuctionId : page.get(page.size() - 1);
+			} while (page.size() == pageSize);
+
+			log.info("경매 입찰 건수, 대표 이미지 재계산 완료, 갱신: {}", updated);
+		} catch (Exception e) {
+			log.error("경매 입찰 건수, 대표 이미지 재계산 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+}
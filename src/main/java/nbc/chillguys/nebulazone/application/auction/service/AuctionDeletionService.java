@@ -0,0 +1,44 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+
+/**
+ * 경매 삭제 뒤 마감 처리<br>
+ * 사용자 삭제, 관리자 삭제, 상품 삭제가 모두 같은 순서로 입찰을 막고 예치금을 돌려주도록 한 곳에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionDeletionService {
+
+	private final AuctionSchedulerService auctionSchedulerService;
+	private final BidEngine bidEngine;
+	private final AuctionRankingService auctionRankingService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final EscrowService escrowService;
+	private final AuctionStreamService auctionStreamService;
+
+	/**
+	 * 삭제된 경매의 종료 예약을 취소하고 엔진을 마감한 뒤, 엔진에 남은 입찰이 DB에 반영되면 예치금을 모두 해제<br>
+	 * 권한 검증이 끝난 삭제 트랜잭션 안에서 호출하며, write-behind가 경매 행을 갱신하며 대기하지 않도록
+	 * 경매 행이 flush되기 전에 호출해야 함<br>
+	 * 반영 대기에 실패하면 삭제는 롤백되고 엔진은 마감된 채로 남으므로, 다시 삭제를 요청하면 이어서 처리됨
+	 * @param auctionId 삭제된 경매 id
+	 * @throws IllegalStateException 대기 시간 안에 입찰이 반영되지 않은 경우
+	 */
+	public void closeDeletedAuction(Long auctionId) {
+		auctionSchedulerService.cancelSchedule(auctionId);
+		bidEngine.closeAuction(auctionId);
+		bidEngine.awaitPersisted(auctionId);
+		auctionRankingService.remove(List.of(auctionId));
+		auctionDetailCacheService.evict(auctionId);
+		escrowService.settle(List.of(auctionId), Map.of());
+		auctionStreamService.publishClosed(auctionId);
+	}
+}
@@ -0,0 +1,218 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailCacheEntry;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailEvictPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionDetailRedisService;
+
+/**
+ * 경매 상세 정보 2단 캐시(L1: 노드 로컬 Caffeine, L2: Redis)<br>
+ * 조회는 L1, L2, DB 순서로 읽고 아래 단계에서 읽은 값을 위 단계에 채움<br>
+ * 입찰로 바뀐 현재가, 입찰 건수, 종료 시각, 최고가 입찰은 flush한 노드가 L2 항목을 그 자리에서 갱신하고,
+ * 각 노드는 실시간 경매 채널 메시지를 받아 자신의 L1 항목을 갱신(현재가가 바뀌었으면 최고가 입찰도 바뀌었으므로 L1 항목 제거)<br>
+ * 낙찰은 L2 항목을 갱신, 삭제는 L2 항목을 제거한 뒤 무효화 채널로 다른 노드의 L1 항목 제거<br>
+ * 낙찰, 삭제 반영은 트랜잭션 안에서 호출되면 커밋 후 실행하여 롤백된 변경이 캐시에 남지 않게 함<br>
+ * 캐시 경로를 거치지 않는 변경(관리자 상품 수정 등)은 TTL이 지나면 반영됨
+ */
+@Slf4j
+@Service
+public class AuctionDetailCacheService {
+
+	private static final String LOCAL_CACHE_NAME = "auction.detail.local";
+	private static final String REDIS_METRIC = "auction.detail.cache.redis";
+	private static final String STALENESS_METRIC = "auction.detail.cache.staleness";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final AuctionDetailRedisService auctionDetailRedisService;
+	private final RedisMessagePublisher redisMessagePublisher;
+	private final MeterRegistry meterRegistry;
+	private final Duration redisTtl;
+	private final Cache<Long, AuctionDetailCacheEntry> localCache;
+	private final Timer staleness;
+
+	public AuctionDetailCacheService(
+		AuctionDetailRedisService auctionDetailRedisService,
+		RedisMessagePublisher redisMessagePublisher,
+		MeterRegistry meterRegistry,
+		@Value("${auction.detail-cache.local-ttl-seconds:10}") long localTtlSeconds,
+		@Value("${auction.detail-cache.local-max-size:10000}") long localMaxSize,
+		@Value("${auction.detail-cache.redis-ttl-seconds:300}") long redisTtlSeconds
+	) {
+		this.auctionDetailRedisService = auctionDetailRedisService;
+		this.redisMessagePublisher = redisMessagePublisher;
+		this.meterRegistry = meterRegistry;
+		this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+		this.localCache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.maximumSize(localMaxSize)
+			.recordStats()
+			.build();
+		this.staleness = Timer.builder(STALENESS_METRIC)
+			.description("응답한 경매 상세 캐시 항목이 원본을 마지막으로 반영한 뒤 지난 시간")
+			.register(meterRegistry);
+
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, LOCAL_CACHE_NAME);
+	}
+
+	/**
+	 * 경매 상세 조회(L1, L2에 없으면 loader로 조회하여 두 단계 모두 저장)<br>
+	 * 같은 노드에서 동시에 같은 경매를 조회하면 loader는 한 번만 호출됨
+	 * @param auctionId 경매 id
+	 * @param loader DB 조회
+	 * @return 경매 상세 정보
+	 */
+	public AuctionFindDetailInfo getOrLoad(Long auctionId, Supplier<AuctionFindDetailInfo> loader) {
+		AuctionDetailCacheEntry entry = localCache.get(auctionId, id -> findRemoteOrLoad(id, loader));
+
+		staleness.record(Math.max(0, System.currentTimeMillis() - entry.refreshedAt()), TimeUnit.MILLISECONDS);
+
+		return entry.detail();
+	}
+
+	/**
+	 * 입찰로 바뀐 현재가, 입찰 건수, 종료 시각과 최고가 입찰을 L2, L1 항목에 반영(캐시에 없으면 무시)<br>
+	 * 다른 노드의 L1은 실시간 경매 채널 메시지로 갱신되거나 제거됨
+	 * @param liveInfo 실시간 경매 정보
+	 * @param topBid 최고가 입찰, 입찰이 없으면 null
+	 */
+	public void applyLiveInfo(AuctionLiveInfo liveInfo, TopBidInfo topBid) {
+		updateRemote(liveInfo.auctionId(), detail -> detail.withLiveInfo(liveInfo).withTopBid(topBid));
+		updateLocal(liveInfo.auctionId(), detail -> detail.withLiveInfo(liveInfo).withTopBid(topBid));
+	}
+
+	/**
+	 * 실시간 경매 정보를 이 노드의 L1 항목에만 반영<br>
+	 * 메시지에는 최고가 입찰이 없으므로 현재가가 바뀌었으면 L1 항목을 제거하여 다음 조회 때 L2에서 다시 읽음
+	 * @param liveInfo 실시간 경매 정보
+	 */
+	public void applyLocalLiveInfo(AuctionLiveInfo liveInfo) {
+		localCache.asMap().computeIfPresent(liveInfo.auctionId(), (id, entry) -> entry.detail().hasSamePrice(liveInfo)
+			? AuctionDetailCacheEntry.of(entry.detail().withLiveInfo(liveInfo))
+			: null);
+	}
+
+	/**
+	 * 낙찰된 경매의 L2, L1 항목을 낙찰 상태로 갱신하고 다른 노드의 L1 항목 제거
+	 * @param auctionId 경매 id
+	 * @param wonTime 수동 낙찰로 바뀐 종료 시각, 자동 낙찰이면 null
+	 */
+	public void markWon(Long auctionId, LocalDateTime wonTime) {
+		afterCommit(() -> {
+			updateRemote(auctionId, detail -> detail.toWon(wonTime));
+			updateLocal(auctionId, detail -> detail.toWon(wonTime));
+			redisMessagePublisher.publishAuctionDetailEviction(auctionId, nodeId);
+		});
+	}
+
+	/**
+	 * 삭제되었거나 캐시 경로 밖에서 변경된 경매의 L2, L1 항목을 제거하고 다른 노드의 L1 항목 제거
+	 * @param auctionId 경매 id
+	 */
+	public void evict(Long auctionId) {
+		afterCommit(() -> {
+			try {
+				auctionDetailRedisService.delete(auctionId);
+			} catch (Exception e) {
+				log.warn("경매 상세 Redis 캐시 삭제 실패 - auctionId: {}, error: {}", auctionId, e.getMessage());
+			}
+
+			localCache.invalidate(auctionId);
+			redisMessagePublisher.publishAuctionDetailEviction(auctionId, nodeId);
+		});
+	}
+
+	/**
+	 * 다른 노드가 발행한 무효화 메시지를 받아 이 노드의 L1 항목 제거
+	 * @param message 무효화 메시지
+	 */
+	public void evictLocal(AuctionDetailEvictPubSubMessage message) {
+		if (nodeId.equals(message.nodeId())) {
+			return;
+		}
+
+		localCache.invalidate(message.auctionId());
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private AuctionDetailCacheEntry findRemoteOrLoad(Long auctionId, Supplier<AuctionFindDetailInfo> loader) {
+		Optional<AuctionDetailCacheEntry> remote = findRemote(auctionId);
+
+		meterRegistry.counter(REDIS_METRIC, "result", remote.isPresent() ? "hit" : "miss").increment();
+
+		if (remote.isPresent()) {
+			return remote.get();
+		}
+
+		AuctionDetailCacheEntry entry = AuctionDetailCacheEntry.of(loader.get());
+		saveRemote(entry);
+
+		return entry;
+	}
+
+	private void updateLocal(Long auctionId, UnaryOperator<AuctionFindDetailInfo> updater) {
+		localCache.asMap().computeIfPresent(auctionId,
+			(id, entry) -> AuctionDetailCacheEntry.of(updater.apply(entry.detail())));
+	}
+
+	private void updateRemote(Long auctionId, UnaryOperator<AuctionFindDetailInfo> updater) {
+		findRemote(auctionId)
+			.map(entry -> AuctionDetailCacheEntry.of(updater.apply(entry.detail())))
+			.ifPresent(this::saveRemote);
+	}
+
+	// Redis 장애 시에도 상세 조회는 DB로 처리되도록 L2 오류는 로그만 남김
+	private Optional<AuctionDetailCacheEntry> findRemote(Long auctionId) {
+		try {
+			return auctionDetailRedisService.find(auctionId);
+		} catch (Exception e) {
+			log.warn("경매 상세 Redis 캐시 조회 실패 - auctionId: {}, error: {}", auctionId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void saveRemote(AuctionDetailCacheEntry entry) {
+		try {
+			auctionDetailRedisService.save(entry, redisTtl);
+		} catch (Exception e) {
+			log.warn("경매 상세 Redis 캐시 저장 실패 - auctionId: {}, error: {}",
+				entry.detail().auctionId(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 경매 종료 시각을 보관하고, 종료 시각이 지난 경매를 handler로 넘기는 대기열<br>
+ * auction.scheduler.mode 설정에 따라 로컬 타이밍 휠(local) 또는 Redis sorted set(redis) 구현이 사용됨
+ */
+public interface AuctionEndQueue {
+
+	/**
+	 * 대기열 처리 시작
+	 * @param expiredHandler 종료 시각이 지난 경매 id, 상품 id를 받는 handler
+	 */
+	void start(BiConsumer<Long, Long> expiredHandler);
+
+	/**
+	 * 종료 시각 등록. 같은 경매가 이미 있으면 새 종료 시각으로 교체
+	 * @param auctionId 경매 id
+	 * @param productId 상품 id
+	 * @param endEpochSecond 종료 시각(epoch second)
+	 */
+	void add(Long auctionId, Long productId, long endEpochSecond);
+
+	/**
+	 * 등록된 종료 시각 취소
+	 * @param auctionId 경매 id
+	 */
+	void remove(Long auctionId);
+
+	/**
+	 * 종료 처리가 끝난 경매를 대기열에서 완전히 제거<br>
+	 * 처리 도중 노드가 죽으면 재전달하는 구현에서만 사용
+	 * @param auctionId 경매 id
+	 */
+	default void complete(Long auctionId) {
+	}
+
+	/**
+	 * 서버 시작 시 DB 기준으로 대기열을 다시 채워야 하는지 여부<br>
+	 * true를 받은 쪽은 복구가 끝나면 completeRecovery, 실패하면 failRecovery를 호출해야 함
+	 */
+	boolean requiresRecovery();
+
+	/**
+	 * DB 기준 복구 완료
+	 */
+	default void completeRecovery() {
+	}
+
+	/**
+	 * DB 기준 복구 실패(다른 노드나 다음 확인 때 다시 복구)
+	 */
+	default void failRecovery() {
+	}
+
+	/**
+	 * 다른 노드가 복구를 맡았지만 아직 끝나지 않아 다시 확인해야 하는지 여부
+	 */
+	default boolean isRecoveryPending() {
+		return false;
+	}
+
+	long size();
+
+	void stop();
+}
@@ -0,0 +1,104 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+
+/**
+ * 입찰로 변경된 경매의 현재가, 입찰 건수, 종료 시각을 /topic/auction/{auctionId} 구독자에게 전달<br>
+ * 입찰마다 바로 발행하지 않고 변경된 경매 id만 모아 두었다가 flush 주기마다 경매별로 한 번만 발행하므로
+ * 입찰이 몰려도 경매당 발행 횟수는 초당 (1000 / flush-interval-ms)회를 넘지 않음<br>
+ * 경매 상세 캐시의 최고가 입찰은 DB에서 조회하므로, 입찰이 아직 DB에 반영되지 않아 현재가와 맞지 않으면
+ * 이후 flush에서 최고가 입찰만 다시 조회하여 캐시에 반영(발행은 하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionLiveService {
+
+	private static final int MAX_TOP_BID_REFRESH_ATTEMPTS = 10;
+
+	private final Set<Long> updatedAuctionIds = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Integer> staleTopBidAttempts = new ConcurrentHashMap<>();
+
+	private final BidEngine bidEngine;
+	private final BidDomainService bidDomainService;
+	private final RedisMessagePublisher redisMessagePublisher;
+	private final AuctionRankingService auctionRankingService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+
+	/**
+	 * 경매 변경 표시(다음 flush 때 발행)
+	 * @param auctionId 변경된 경매 id
+	 */
+	public void markUpdated(Long auctionId) {
+		updatedAuctionIds.add(auctionId);
+	}
+
+	/**
+	 * 변경 표시된 경매의 최신 상태를 한 번씩 조회하여 경매 상세 캐시에 반영한 뒤 Redis 채널로 발행하고 인기 순위의 입찰 건수 갱신<br>
+	 * 각 노드의 RedisMessageSubscriber가 자신의 로컬 상세 캐시에 반영하고 자신에게 연결된 WebSocket 구독자에게 전달
+	 */
+	@Scheduled(fixedRateString = "${auction.live.flush-interval-ms:200}")
+	public void flush() {
+		Map<Long, Integer> staleTopBids = new HashMap<>(staleTopBidAttempts);
+		staleTopBidAttempts.keySet().removeAll(staleTopBids.keySet());
+
+		Iterator<Long> iterator = updatedAuctionIds.iterator();
+
+		while (iterator.hasNext()) {
+			Long auctionId = iterator.next();
+			iterator.remove();
+			staleTopBids.remove(auctionId);
+
+			try {
+				bidEngine.findLiveInfo(auctionId)
+					.ifPresent(liveInfo -> {
+						refreshDetailCache(liveInfo, 0);
+						redisMessagePublisher.publishAuctionLiveInfo(liveInfo);
+						auctionRankingService.updateBidCount(liveInfo);
+					});
+			} catch (Exception e) {
+				log.error("실시간 경매 정보 발행 실패 - auctionId: {}, error: {}", auctionId, e.getMessage(), e);
+			}
+		}
+
+		staleTopBids.forEach((auctionId, attempts) -> {
+			try {
+				bidEngine.findLiveInfo(auctionId).ifPresent(liveInfo -> refreshDetailCache(liveInfo, attempts));
+			} catch (Exception e) {
+				log.warn("경매 상세 캐시 최고가 입찰 갱신 실패 - auctionId: {}, error: {}", auctionId, e.getMessage());
+			}
+		});
+	}
+
+	private void refreshDetailCache(AuctionLiveInfo liveInfo, int attempts) {
+		TopBidInfo topBid = TopBidInfo.from(bidDomainService.findHighBidByAuction(liveInfo.auctionId()));
+		auctionDetailCacheService.applyLiveInfo(liveInfo, topBid);
+
+		if (isTopBidBehind(liveInfo, topBid) && attempts < MAX_TOP_BID_REFRESH_ATTEMPTS) {
+			staleTopBidAttempts.merge(liveInfo.auctionId(), attempts + 1, Math::max);
+		}
+	}
+
+	private boolean isTopBidBehind(AuctionLiveInfo liveInfo, TopBidInfo topBid) {
+		if (topBid == null) {
+			return liveInfo.bidCount() != null && liveInfo.bidCount() > 0;
+		}
+
+		return !topBid.price().equals(liveInfo.currentPrice());
+	}
+}
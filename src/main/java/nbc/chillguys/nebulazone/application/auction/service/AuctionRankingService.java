@@ -0,0 +1,135 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionRankingInfo;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionRankingRedisService;
+
+/**
+ * 마감 임박, 인기 경매 순위를 Redis sorted set으로 유지<br>
+ * 경매 생성, 종료, 삭제와 입찰 생성, 취소 때마다 순위를 갱신하고,
+ * 이벤트 누락으로 어긋난 순위는 rebuild-interval-ms 주기로 DB 기준으로 다시 구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionRankingService {
+
+	private static final int RANKING_SIZE = 5;
+
+	private final AuctionDomainService auctionDomainService;
+	private final AuctionRankingRedisService auctionRankingRedisService;
+
+	@Value("${auction.ranking.rebuild-page-size:1000}")
+	private int rebuildPageSize;
+
+	@Value("${auction.ranking.rebuild-interval-ms:600000}")
+	private long rebuildIntervalMillis;
+
+	/**
+	 * 새로 시작된 경매를 순위에 추가
+	 * @param auction 경매
+	 */
+	public void register(Auction auction) {
+		auctionRankingRedisService.add(auction.getId(), toEpochMilli(auction.getEndTime()));
+	}
+
+	/**
+	 * 종료되거나 삭제된 경매를 순위에서 제거
+	 * @param auctionIds 경매 id 목록
+	 */
+	public void remove(List<Long> auctionIds) {
+		auctionRankingRedisService.remove(auctionIds);
+	}
+
+	/**
+	 * 입찰 생성, 취소로 바뀐 입찰 건수를 인기 순위에 반영
+	 * @param liveInfo 실시간 경매 정보
+	 */
+	public void updateBidCount(AuctionLiveInfo liveInfo) {
+		auctionRankingRedisService.updateBidCount(liveInfo.auctionId(), liveInfo.bidCount());
+	}
+
+	/**
+	 * 정렬 조건의 상위 경매 조회<br>
+	 * 순위에서 id만 가져온 뒤 id로 한 번에 조회하고, 순위가 비어 있으면(재구성 전) DB 정렬 조회로 대체
+	 * @param sortType 정렬 조건(closing, popular)
+	 * @return 순위 순서대로 정렬된 경매 목록
+	 */
+	public List<AuctionFindAllInfo> findTopAuctions(AuctionSortType sortType) {
+		List<Long> auctionIds = switch (sortType) {
+			case CLOSING -> auctionRankingRedisService.findClosingAuctionIds(
+				toEpochMilli(LocalDateTime.now()), RANKING_SIZE);
+			case POPULAR -> auctionRankingRedisService.findPopularAuctionIds(RANKING_SIZE);
+		};
+
+		if (auctionIds.isEmpty()) {
+			return auctionDomainService.findAuctionsBySortType(sortType);
+		}
+
+		Map<Long, AuctionFindAllInfo> auctions = auctionDomainService.findAuctionsByIds(auctionIds).stream()
+			.collect(Collectors.toMap(AuctionFindAllInfo::auctionId, Function.identity()));
+
+		return auctionIds.stream()
+			.map(auctions::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	/**
+	 * 진행 중 경매를 id 기준 keyset 페이징으로 조회하여 두 순위를 통째로 교체<br>
+	 * 여러 노드가 떠 있어도 주기마다 한 노드만 수행
+	 */
+	@Scheduled(fixedDelayString = "${auction.ranking.rebuild-interval-ms:600000}")
+	public void rebuild() {
+		if (!auctionRankingRedisService.tryLockRebuild(Duration.ofMillis(rebuildIntervalMillis / 2))) {
+			return;
+		}
+
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			Map<Long, Long> closingScores = new HashMap<>();
+			Map<Long, Long> popularScores = new HashMap<>();
+
+			Long lastAuctionId = null;
+			List<AuctionRankingInfo> page;
+			do {
+				page = auctionDomainService.findOpenAuctionRankings(lastAuctionId, now, rebuildPageSize);
+				for (AuctionRankingInfo info : page) {
+					closingScores.put(info.auctionId(), toEpochMilli(info.endTime()));
+					popularScores.put(info.auctionId(), info.bidCount());
+				}
+				lastAuctionId = page.isEmpty() ? lastAuctionId : page.get(page.size() - 1).auctionId();
+			} while (page.size() == rebuildPageSize);
+
+			auctionRankingRedisService.replaceAll(closingScores, popularScores);
+
+			log.info("경매 순위 재구성 완료, 진행 중 경매 수: {}", closingScores.size());
+		} catch (Exception e) {
+			log.error("경매 순위 재구성 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	private long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
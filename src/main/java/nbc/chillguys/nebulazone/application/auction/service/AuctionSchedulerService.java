@@ -2,20 +2,26 @@ package nbc.chillguys.nebulazone.application.auction.service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionEndScheduleInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
@@ -26,11 +32,18 @@ import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
 @RequiredArgsConstructor
 public class AuctionSchedulerService {
 
-	private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(30);
-	private final Map<Long, ScheduledFuture<?>> tasks = new ConcurrentHashMap<>();
+	private final ExecutorService auctionEndExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Map<Long, Long> pendingEnds = new ConcurrentHashMap<>();
 
 	private final AuctionDomainService auctionDomainService;
-	private final AutoAuctionService autoAuctionService;
+	private final AuctionEndQueue auctionEndQueue;
+	private final AuctionSettlementExecutor auctionSettlementExecutor;
+
+	@Value("${auction.scheduler.recovery-page-size:1000}")
+	private int recoveryPageSize;
+
+	@Value("${auction.scheduler.batch-size:200}")
+	private int batchSize;
 
 	/**
 	 * 경매 자동 종료 스케줄러 등록
@@ -45,16 +58,10 @@ public class AuctionSchedulerService {
 			throw new AuctionException(AuctionErrorCode.AUCTION_END_TIME_INVALID);
 		}
 
-		ScheduledFuture<?> future = scheduler.schedule(() -> {
-
-			autoAuctionService.autoEndAuctionAndCreateTransaction(auction.getId(), productId);
+		long deadline = auction.getEndTime().atZone(ZoneId.systemDefault()).toEpochSecond();
+		auctionEndQueue.add(auction.getId(), productId, deadline);
 
-			tasks.remove(auction.getId());
-
-		}, seconds, TimeUnit.SECONDS);
-
-		tasks.put(auction.getId(), future);
-		log.info("자동 낙찰 스케줄러 등록 완료. auctionId: {}, {} 초 후 실행, 등록된 스케줄러 수: {}", auction.getId(), seconds, tasks.size());
+		log.info("자동 낙찰 스케줄러 등록 완료. auctionId: {}, {} 초 후 실행", auction.getId(), seconds);
 	}
 
 	/**
@@ -63,26 +70,99 @@ public class AuctionSchedulerService {
 	 * @author 전나겸
 	 */
 	public void cancelSchedule(Long auctionId) {
-		ScheduledFuture<?> future = tasks.remove(auctionId);
-		if (future != null) {
-			future.cancel(true);
-		}
+		auctionEndQueue.remove(auctionId);
 	}
 
 	/**
 	 * 서버 재시작 시 날라간 삭제 및 종료 되지 않은 경매의 스케줄러를 복구<br>
-	 * Auction 조회 시 상품과 상품 판매자 정보도 함께 조회 함
+	 * 애플리케이션 기동이 끝난 뒤 별도 스레드에서 수행하여 기동 시간에 영향을 주지 않음<br>
+	 * 대기열이 Redis에 남아 있거나 다른 노드가 복구 중이면 DB 조회 없이 처리만 시작
 	 * @author 전나겸
 	 */
-	@PostConstruct
+	@EventListener(ApplicationReadyEvent.class)
 	public void recoverSchedules() {
+		auctionEndQueue.start(this::endAuction);
+
+		if (!auctionEndQueue.requiresRecovery()) {
+			log.info("서버 재시작 - 경매 종료 대기열이 유지되어 복구 생략, 대기 중인 경매 수: {}", auctionEndQueue.size());
+			return;
+		}
+
+		auctionEndExecutor.execute(() -> recover(LocalDateTime.now()));
+	}
+
+	/**
+	 * 복구를 맡은 노드가 끝내지 못한 채 죽었으면 lease가 만료된 뒤 이어서 복구
+	 */
+	@Scheduled(initialDelayString = "${auction.scheduler.recovery-check-interval-ms:60000}",
+		fixedDelayString = "${auction.scheduler.recovery-check-interval-ms:60000}")
+	public void retryRecovery() {
+		if (!auctionEndQueue.isRecoveryPending() || !auctionEndQueue.requiresRecovery()) {
+			return;
+		}
+
+		log.info("경매 스케줄 복구 이어받음");
+		auctionEndExecutor.execute(() -> recover(LocalDateTime.now()));
+	}
+
+	/**
+	 * DB 기준 복구 후 대기열에 완료를 알리고, 실패하면 다른 노드나 다음 확인 때 다시 복구하도록 알림
+	 * @param now 복구 기준 시각
+	 */
+	void recover(LocalDateTime now) {
+		try {
+			recoverFromDatabase(now);
+			auctionEndQueue.completeRecovery();
+		} catch (Exception e) {
+			auctionEndQueue.failRecovery();
+			log.error("경매 스케줄 복구 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 진행 중 경매를 id 기준 keyset 페이징으로 조회하여 복구<br>
+	 * 종료 시각이 남은 경매는 대기열에 등록하고, 서버가 내려가 있는 동안 종료 시각이 지난 경매는 다음 일괄 종료 대상에 추가
+	 * @param now 복구 기준 시각
+	 */
+	void recoverFromDatabase(LocalDateTime now) {
 		log.info("서버 재시작 - 경매 스케줄 복구 시작");
-		List<Auction> auctionList = auctionDomainService.findActiveAuctionsWithProductAndSeller();
 
-		auctionList.stream()
-			.filter(auction -> !auction.isWon())
-			.filter(auction -> Duration.between(LocalDateTime.now(), auction.getEndTime()).isPositive())
-			.forEach(auction -> autoAuctionEndSchedule(auction, auction.getProductId()));
+		long recovered = 0;
+		Long lastAuctionId = null;
+		List<AuctionEndScheduleInfo> page;
+		do {
+			page = auctionDomainService.findUpcomingAuctionEndSchedules(lastAuctionId, now, recoveryPageSize);
+			for (AuctionEndScheduleInfo info : page) {
+				long deadline = info.endTime().atZone(ZoneId.systemDefault()).toEpochSecond();
+				auctionEndQueue.add(info.auctionId(), info.productId(), deadline);
+			}
+			recovered += page.size();
+			lastAuctionId = page.isEmpty() ? lastAuctionId : page.get(page.size() - 1).auctionId();
+		} while (page.size() == recoveryPageSize);
+
+		long overdue = closeOverdueAuctions(now);
+
+		log.info("서버 재시작 - 경매 스케줄 복구 완료, 등록: {}, 지연 종료: {}", recovered, overdue);
+	}
+
+	/**
+	 * 종료 시각이 지난 경매를 다음 일괄 종료 대상에 추가<br>
+	 * 동시에 실행되는 정산 수는 정산 실행기의 DB 허가 수로 제한됨
+	 * @param now 복구 기준 시각
+	 * @return 종료 대상에 추가한 경매 수
+	 */
+	private long closeOverdueAuctions(LocalDateTime now) {
+		long overdue = 0;
+		Long lastAuctionId = null;
+		List<AuctionEndScheduleInfo> page;
+		do {
+			page = auctionDomainService.findOverdueAuctionEndSchedules(lastAuctionId, now, recoveryPageSize);
+			page.forEach(info -> endAuction(info.auctionId(), info.productId()));
+			overdue += page.size();
+			lastAuctionId = page.isEmpty() ? lastAuctionId : page.get(page.size() - 1).auctionId();
+		} while (page.size() == recoveryPageSize);
+
+		return overdue;
 	}
 
 	/**
@@ -92,15 +172,45 @@ public class AuctionSchedulerService {
 	@PreDestroy
 	public void shutdown() {
 		log.info("서버 종료 - 경매 스케줄러 스레드 종료");
-		scheduler.shutdown();
+		auctionEndQueue.stop();
+		auctionEndExecutor.shutdown();
 		try {
-			if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+			if (!auctionEndExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
 				log.warn("스케줄러가 정상 종료 되지 않음, 강제 종료 수행");
-				scheduler.shutdownNow();
+				auctionEndExecutor.shutdownNow();
 			}
 		} catch (InterruptedException e) {
 			log.warn("스케줄러 종료 중 에러 발생, 강제 종료 수행");
-			scheduler.shutdownNow();
+			auctionEndExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 대기열에서 만료된 경매를 다음 일괄 종료 대상에 추가
+	 * @param auctionId 종료할 경매 id
+	 * @param productId 상품 id
+	 */
+	private void endAuction(Long auctionId, Long productId) {
+		pendingEnds.put(auctionId, productId);
+	}
+
+	/**
+	 * 종료 시각이 지나 모인 경매를 batchSize 개씩 묶어 정산 실행기에 일괄 종료 요청<br>
+	 * 고정된 경매 기간 때문에 같은 시각에 끝나는 경매가 몰려도 DB 트랜잭션과 ES 요청이 배치 단위로 줄어듦
+	 */
+	@Scheduled(fixedDelayString = "${auction.scheduler.batch-window-ms:1000}")
+	public void closePendingAuctions() {
+		while (!pendingEnds.isEmpty()) {
+			Map<Long, Long> batch = new HashMap<>();
+			Iterator<Map.Entry<Long, Long>> iterator = pendingEnds.entrySet().iterator();
+
+			while (iterator.hasNext() && batch.size() < batchSize) {
+				Map.Entry<Long, Long> entry = iterator.next();
+				batch.put(entry.getKey(), entry.getValue());
+				iterator.remove();
+			}
+
+			auctionSettlementExecutor.submitBatch(batch);
 		}
 	}
 }
@@ -1,6 +1,7 @@
 package nbc.chillguys.nebulazone.application.auction.service;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -12,12 +13,17 @@ import nbc.chillguys.nebulazone.application.auction.dto.response.DeleteAuctionRe
 import nbc.chillguys.nebulazone.application.auction.dto.response.FindAllAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.dto.response.FindDetailAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.dto.response.ManualEndAuctionResponse;
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.ManualEndAuctionInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
 import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
 import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
 import nbc.chillguys.nebulazone.domain.product.entity.Product;
@@ -26,16 +32,23 @@ import nbc.chillguys.nebulazone.domain.transaction.dto.TransactionCreateCommand;
 import nbc.chillguys.nebulazone.domain.transaction.entity.UserType;
 import nbc.chillguys.nebulazone.domain.transaction.service.TransactionDomainService;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
 @Service
 @RequiredArgsConstructor
 public class AuctionService {
 
 	private final AuctionDomainService auctionDomainService;
-	private final AuctionSchedulerService auctionSchedulerService;
 	private final BidDomainService bidDomainService;
 	private final TransactionDomainService txDomainService;
 	private final ProductDomainService productDomainService;
+	private final UserDomainService userDomainService;
+	private final BidEngine bidEngine;
+	private final AuctionRankingService auctionRankingService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final EscrowService escrowService;
+	private final AuctionStreamService auctionStreamService;
+	private final AuctionDeletionService auctionDeletionService;
 
 	public CommonPageResponse<FindAllAuctionResponse> findAuctions(int page, int size) {
 
@@ -45,9 +58,23 @@ public class AuctionService {
 		return CommonPageResponse.from(response);
 	}
 
+	/**
+	 * 경매 전체 조회(cursor 페이징, 전체 건수 미포함)
+	 * @param cursor 이전 응답의 nextCursor(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 경매 목록과 다음 cursor
+	 */
+	public CommonCursorResponse<FindAllAuctionResponse> findAuctionsByCursor(String cursor, int size) {
+
+		List<AuctionFindAllInfo> findAuctions = auctionDomainService.findAuctionsByCursor(Cursor.decode(cursor), size);
+
+		return CommonCursorResponse.of(findAuctions, size, info -> new Cursor(info.createdAt(), info.auctionId()))
+			.map(FindAllAuctionResponse::from);
+	}
+
 	public List<FindAllAuctionResponse> findAuctionsBySortType(AuctionSortType sortType) {
 
-		List<AuctionFindAllInfo> findAuctionsBySortType = auctionDomainService.findAuctionsBySortType(sortType);
+		List<AuctionFindAllInfo> findAuctionsBySortType = auctionRankingService.findTopAuctions(sortType);
 
 		return findAuctionsBySortType.stream().map(FindAllAuctionResponse::from).toList();
 	}
@@ -56,7 +83,7 @@ public class AuctionService {
 	public DeleteAuctionResponse deleteAuction(Long auctionId, User user) {
 
 		Long deletedAuctionId = auctionDomainService.deleteAuction(auctionId, user);
-		auctionSchedulerService.cancelSchedule(deletedAuctionId);
+		auctionDeletionService.closeDeletedAuction(deletedAuctionId);
 
 		return DeleteAuctionResponse.from(deletedAuctionId);
 	}
@@ -72,31 +99,36 @@ public class AuctionService {
 		productDomainService.saveProductToEs(product);
 
 		ManualEndAuctionInfo auctionInfo = auctionDomainService.manualEndAuction(user, wonBid, auctionId);
+		bidEngine.closeAuction(auctionId);
+		auctionRankingService.remove(List.of(auctionId));
+		auctionDetailCacheService.markWon(auctionId, auctionInfo.wonDate());
 
-		List<Bid> bidList = bidDomainService.findBidsByAuctionIdAndStatusBid(auctionId);
-		bidList.forEach(bid -> bid.getUser().addPoint(bid.getPrice()));
+		escrowService.settle(List.of(auctionId), Map.of(auctionId, wonBid.getUser().getId()));
+		userDomainService.deductPoint(wonBid.getUser().getId(), wonBid.getPrice());
+		bidDomainService.markLosingBids(List.of(auctionId), List.of(wonBid.getId()));
 
-		product.getSeller().addPoint(wonBid.getPrice());
+		// 판매자가 다른 경로로 이미 갱신된 포인트를 엔티티 값으로 덮어쓰지 않도록 UPDATE로 적립
+		userDomainService.depositPoint(product.getSellerId(), wonBid.getPrice());
 
 		TransactionCreateCommand buyerTxCreateCommand = TransactionCreateCommand.of(wonBid.getUser(), UserType.BUYER,
 			product, product.getTxMethod().name(), auctionInfo.wonProductPrice());
 
-		txDomainService.createTransaction(buyerTxCreateCommand);
-
 		TransactionCreateCommand sellerTxCreateCommand = TransactionCreateCommand.of(product.getSeller(),
 			UserType.SELLER, product, product.getTxMethod().name(), auctionInfo.wonProductPrice());
 
-		txDomainService.createTransaction(sellerTxCreateCommand);
+		txDomainService.createTransactions(List.of(buyerTxCreateCommand, sellerTxCreateCommand));
+		auctionStreamService.publishClosed(auctionId);
 
 		return ManualEndAuctionResponse.from(auctionInfo);
 	}
 
 	public FindDetailAuctionResponse findAuction(Long auctionId) {
 
-		Bid highestPriceBid = bidDomainService.findHighBidByAuction(auctionId);
-		AuctionFindDetailInfo auctionFindDetailInfo = auctionDomainService.findAuction(auctionId);
+		AuctionFindDetailInfo auctionFindDetailInfo = auctionDetailCacheService.getOrLoad(auctionId,
+			() -> auctionDomainService.findAuction(auctionId)
+				.withTopBid(TopBidInfo.from(bidDomainService.findHighBidByAuction(auctionId))));
 
-		return FindDetailAuctionResponse.from(auctionFindDetailInfo, highestPriceBid);
+		return FindDetailAuctionResponse.from(auctionFindDetailInfo);
 	}
 
 }
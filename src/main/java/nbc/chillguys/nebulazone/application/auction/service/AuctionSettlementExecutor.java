@@ -0,0 +1,312 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.common.exception.BaseException;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionEndEntry;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionSettlementRedisService;
+
+/**
+ * 경매 정산 전용 실행기<br>
+ * 정산은 가상 스레드에서 실행하되 동시에 DB 트랜잭션을 잡는 정산은 db-permits 개로 제한하고,
+ * 정산마다 timeout-seconds 트랜잭션 제한 시간을 둠. 입찰 엔진의 DB 반영 대기는 허가와 트랜잭션을 얻기 전에 수행<br>
+ * 비즈니스 예외가 아닌 실패는 Redis 재시도 대기열에 지수 백오프로 등록하고, max-attempts 번 실패하면 dead letter로 옮김.
+ * 재시도해도 결과가 같은 비즈니스 예외는 에러 코드와 함께 바로 dead letter로 옮김<br>
+ * 정산 자체가 이미 종료된 경매를 건너뛰므로 같은 경매가 다시 전달되어도 한 번만 정산되며,
+ * 한 노드 안에서는 처리 중인 경매를 중복 실행하지 않음<br>
+ * 대기 중인 정산이 max-pending 개를 넘으면 버리지 않고 재시도 대기열로 미룸
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionSettlementExecutor {
+
+	private static final String LATENCY_METRIC = "auction.settlement.latency";
+	private static final String FAILURE_METRIC = "auction.settlement.failure";
+	private static final String PENDING_METRIC = "auction.settlement.pending";
+	private static final String RETRY_QUEUE_METRIC = "auction.settlement.retry.queue";
+	private static final String DEAD_LETTER_METRIC = "auction.settlement.dead-letter";
+
+	private final ExecutorService settlementExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final AtomicLong retryQueueSize = new AtomicLong();
+	private final AtomicLong deadLetterSize = new AtomicLong();
+
+	private final AutoAuctionService autoAuctionService;
+	private final AuctionEndQueue auctionEndQueue;
+	private final AuctionSettlementRedisService auctionSettlementRedisService;
+	private final AuctionStreamService auctionStreamService;
+	private final PlatformTransactionManager transactionManager;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auction.settlement.db-permits:8}")
+	private int dbPermitCount;
+
+	@Value("${auction.settlement.timeout-seconds:30}")
+	private int timeoutSeconds;
+
+	@Value("${auction.settlement.max-pending:10000}")
+	private int maxPending;
+
+	@Value("${auction.settlement.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${auction.settlement.retry-backoff-seconds:10}")
+	private long retryBackoffSeconds;
+
+	@Value("${auction.settlement.retry-claim-batch-size:100}")
+	private int retryClaimBatchSize;
+
+	private Semaphore dbPermits;
+	private TransactionTemplate transactionTemplate;
+
+	@PostConstruct
+	public void init() {
+		dbPermits = new Semaphore(dbPermitCount);
+
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setTimeout(timeoutSeconds);
+
+		meterRegistry.gauge(PENDING_METRIC, pending);
+		meterRegistry.gauge(RETRY_QUEUE_METRIC, retryQueueSize);
+		meterRegistry.gauge(DEAD_LETTER_METRIC, deadLetterSize);
+	}
+
+	/**
+	 * 경매 하나의 정산 요청
+	 * @param auctionId 종료할 경매 id
+	 * @param productId 상품 id
+	 */
+	public void submit(Long auctionId, Long productId) {
+		submit(auctionId, productId, false);
+	}
+
+	/**
+	 * 같은 시간대에 종료된 경매들을 한 트랜잭션으로 정산 요청<br>
+	 * 이미 처리 중인 경매는 빼고, 대기 중인 정산이 max-pending 개를 넘으면 경매별로 재시도 대기열에 미룸<br>
+	 * 일괄 정산이 실패하면 한 경매 때문에 나머지가 밀리지 않도록 처리 중 표시를 풀고 경매별 정산으로 전환
+	 * @param batch 경매 id, 상품 id
+	 */
+	public void submitBatch(Map<Long, Long> batch) {
+		Map<Long, Long> claimed = new LinkedHashMap<>();
+		batch.forEach((auctionId, productId) -> {
+			if (inFlight.add(auctionId)) {
+				claimed.put(auctionId, productId);
+			}
+		});
+
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		if (pending.addAndGet(claimed.size()) > maxPending) {
+			pending.addAndGet(-claimed.size());
+			claimed.keySet().forEach(inFlight::remove);
+			claimed.forEach((auctionId, productId) ->
+				handleFailure(auctionId, productId, "overflow", "대기 중인 정산 수 초과"));
+			return;
+		}
+
+		settlementExecutor.execute(() -> {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String outcome = "success";
+
+			try {
+				List<Long> auctionIds = new ArrayList<>(claimed.keySet());
+				autoAuctionService.closeAndAwaitPersisted(auctionIds);
+				runWithPermit(() -> autoAuctionService.autoEndAuctionsAndCreateTransactions(auctionIds));
+				claimed.keySet().forEach(auctionEndQueue::complete);
+				claimed.keySet().forEach(auctionStreamService::publishClosed);
+			} catch (Exception e) {
+				outcome = "fallback";
+				log.warn("경매 일괄 정산 실패, 개별 정산으로 전환 - 경매 수: {}, error: {}", claimed.size(), e.getMessage(), e);
+			} finally {
+				claimed.keySet().forEach(inFlight::remove);
+				pending.addAndGet(-claimed.size());
+				sample.stop(meterRegistry.timer(LATENCY_METRIC, "type", "batch", "outcome", outcome));
+			}
+
+			if ("fallback".equals(outcome)) {
+				claimed.forEach(this::submit);
+			}
+		});
+	}
+
+	/**
+	 * 재시도 시각이 지난 정산을 Redis에서 가져가 다시 실행<br>
+	 * 가져간 정산은 완료 또는 다음 재시도 등록 전까지 처리 중 목록에 남음
+	 */
+	@Scheduled(fixedDelayString = "${auction.settlement.retry-poll-interval-ms:1000}")
+	public void pollRetries() {
+		try {
+			List<AuctionEndEntry> claimed;
+			do {
+				long now = System.currentTimeMillis() / 1000;
+				long visibleAt = now + timeoutSeconds * 2L;
+				claimed = auctionSettlementRedisService.claimDue(now, visibleAt, retryClaimBatchSize);
+				claimed.forEach(entry -> submit(entry.auctionId(), entry.productId(), true));
+			} while (claimed.size() >= retryClaimBatchSize);
+
+			retryQueueSize.set(auctionSettlementRedisService.retrySize());
+			deadLetterSize.set(auctionSettlementRedisService.deadLetterSize());
+		} catch (Exception e) {
+			log.error("경매 정산 재시도 대기열 조회 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		settlementExecutor.shutdown();
+		try {
+			if (!settlementExecutor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+				log.warn("경매 정산 실행기가 정상 종료 되지 않음, 강제 종료 수행");
+				settlementExecutor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			settlementExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void submit(Long auctionId, Long productId, boolean retried) {
+		if (!inFlight.add(auctionId)) {
+			return;
+		}
+
+		if (pending.incrementAndGet() > maxPending) {
+			pending.decrementAndGet();
+			inFlight.remove(auctionId);
+			handleFailure(auctionId, productId, "overflow", "대기 중인 정산 수 초과");
+			return;
+		}
+
+		settlementExecutor.execute(() -> {
+			try {
+				settle(auctionId, productId, retried);
+			} finally {
+				inFlight.remove(auctionId);
+				pending.decrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * 정산 후 결과에 따라 대기열 정리<br>
+	 * 종료되었거나 이미 종료되어 건너뛴 경매만 완료 처리하고, 비즈니스 예외는 dead letter로, 그 외 예외는 재시도 대기열에 등록
+	 */
+	private void settle(Long auctionId, Long productId, boolean retried) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+
+		try {
+			autoAuctionService.closeAndAwaitPersisted(List.of(auctionId));
+			runWithPermit(() -> autoAuctionService.autoEndAuctionAndCreateTransaction(auctionId, productId));
+			complete(auctionId, retried);
+			auctionStreamService.publishClosed(auctionId);
+		} catch (BaseException e) {
+			outcome = "rejected";
+			meterRegistry.counter(FAILURE_METRIC, "reason", outcome).increment();
+			log.error("경매 정산 거부, dead letter로 이동 - auctionId: {}, errorCode: {}, error: {}",
+				auctionId, e.getErrorCode(), e.getMessage());
+			moveToDeadLetter(auctionId, productId, e.getErrorCode() + ": " + e.getMessage());
+		} catch (Exception e) {
+			outcome = "failed";
+			log.error("경매 정산 실패 - auctionId: {}, error: {}", auctionId, e.getMessage(), e);
+			handleFailure(auctionId, productId, isTimeout(e) ? "timeout" : "error", e.getMessage());
+		} finally {
+			sample.stop(meterRegistry.timer(LATENCY_METRIC, "type", "single", "outcome", outcome));
+		}
+	}
+
+	/**
+	 * DB 허가를 얻은 뒤 제한 시간이 있는 트랜잭션에서 실행
+	 * @throws TimeoutException 제한 시간 안에 DB 허가를 얻지 못한 경우
+	 */
+	private void runWithPermit(Runnable settlement) throws TimeoutException, InterruptedException {
+		if (!dbPermits.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+			throw new TimeoutException("정산 DB 허가 대기 시간 초과");
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> settlement.run());
+		} finally {
+			dbPermits.release();
+		}
+	}
+
+	private boolean isTimeout(Exception e) {
+		return e instanceof TimeoutException || e instanceof TransactionTimedOutException;
+	}
+
+	private void complete(Long auctionId, boolean retried) {
+		auctionEndQueue.complete(auctionId);
+
+		if (retried) {
+			auctionSettlementRedisService.complete(auctionId);
+		}
+	}
+
+	/**
+	 * 재시도 대기열에 등록하고 종료 대기열에서는 완료 처리(이후 재시도는 정산 실행기가 담당)<br>
+	 * 재시도 횟수를 넘기면 dead letter로 옮김. Redis 장애로 등록하지 못하면 종료 대기열의 재전달에 맡김
+	 */
+	private void handleFailure(Long auctionId, Long productId, String reason, String message) {
+		try {
+			long attempts = auctionSettlementRedisService.incrementAttempts(auctionId);
+
+			if (attempts >= maxAttempts) {
+				log.error("경매 정산 재시도 횟수 초과, dead letter로 이동 - auctionId: {}, 시도: {}", auctionId, attempts);
+				moveToDeadLetter(auctionId, productId, message);
+				return;
+			}
+
+			meterRegistry.counter(FAILURE_METRIC, "reason", reason).increment();
+			long retryAt = System.currentTimeMillis() / 1000 + retryBackoffSeconds * (1L << (attempts - 1));
+			auctionSettlementRedisService.scheduleRetry(auctionId, productId, retryAt);
+
+			auctionEndQueue.complete(auctionId);
+		} catch (Exception e) {
+			log.error("경매 정산 재시도 등록 실패 - auctionId: {}, error: {}", auctionId, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * dead letter로 옮기고 종료 대기열과 재시도 대기열에서 제거. Redis 장애로 옮기지 못하면 종료 대기열의 재전달에 맡김
+	 * @param message 실패 사유(비즈니스 예외는 에러 코드 포함)
+	 */
+	private void moveToDeadLetter(Long auctionId, Long productId, String message) {
+		try {
+			meterRegistry.counter(FAILURE_METRIC, "reason", "dead-letter").increment();
+			auctionSettlementRedisService.deadLetter(auctionId, productId, message);
+			auctionEndQueue.complete(auctionId);
+		} catch (Exception e) {
+			log.error("경매 정산 dead letter 이동 실패 - auctionId: {}, error: {}", auctionId, e.getMessage(), e);
+		}
+	}
+}
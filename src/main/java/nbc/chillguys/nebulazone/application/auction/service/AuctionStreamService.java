@@ -0,0 +1,262 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.auction.dto.response.AuctionStreamResponse;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+
+/**
+ * 경매 상세의 현재가, 입찰 건수, 남은 시간을 SSE로 전달하는 노드 로컬 스트림<br>
+ * 경매마다 최신 상태 하나와 연결된 emitter 목록을 메모리에 두고, 상태는 실시간 경매 채널(입찰)과
+ * 경매 종료 채널(정산, 수동 낙찰, 삭제) 메시지로만 갱신하므로 연결 수와 관계없이 DB를 읽지 않음<br>
+ * 경매의 첫 연결만 경매 상세 캐시에서 초기 상태를 읽음<br>
+ * 변경된 경매는 push-interval-ms마다, 나머지는 tick-interval-ms마다 남은 시간을 다시 보내며 이 이벤트가 연결 유지 역할도 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionStreamService {
+
+	private static final String CONNECTIONS_METRIC = "auction.stream.connections";
+	private static final String AUCTIONS_METRIC = "auction.stream.auctions";
+	private static final String EVENT_NAME = "auction";
+
+	private final Map<Long, AuctionStream> streams = new ConcurrentHashMap<>();
+	private final AtomicInteger connections = new AtomicInteger();
+
+	private final AuctionDomainService auctionDomainService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final RedisMessagePublisher redisMessagePublisher;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${auction.stream.timeout-ms:1800000}")
+	private long timeoutMs;
+
+	@Value("${auction.stream.max-connections:10000}")
+	private int maxConnections;
+
+	@PostConstruct
+	public void init() {
+		meterRegistry.gauge(CONNECTIONS_METRIC, connections);
+		meterRegistry.gauge(AUCTIONS_METRIC, streams, Map::size);
+	}
+
+	/**
+	 * 경매 스트림 연결<br>
+	 * 연결 즉시 현재 상태를 한 번 보내고, 이미 종료된 경매는 종료 상태만 보내고 연결을 닫음
+	 * @param auctionId 경매 id
+	 * @return 이 연결의 emitter
+	 * @throws AuctionException 노드의 연결 수가 max-connections를 넘은 경우 AUCTION_STREAM_LIMIT_EXCEEDED
+	 */
+	public SseEmitter subscribe(Long auctionId) {
+		AuctionFindDetailInfo detail = streams.containsKey(auctionId) ? null : findDetail(auctionId);
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+
+		if (detail != null && isClosed(detail)) {
+			AuctionStreamResponse response = AuctionStreamResponse.of(toLiveInfo(detail), true, LocalDateTime.now());
+			sendTo(auctionId, emitter, toEvent(response));
+			emitter.complete();
+			return emitter;
+		}
+
+		if (connections.incrementAndGet() > maxConnections) {
+			connections.decrementAndGet();
+			throw new AuctionException(AuctionErrorCode.AUCTION_STREAM_LIMIT_EXCEEDED);
+		}
+
+		AuctionStream stream = streams.compute(auctionId, (id, current) -> {
+			AuctionStream target = current != null ? current
+				: new AuctionStream(toLiveInfo(detail != null ? detail : findDetail(id)));
+			target.emitters.add(emitter);
+			return target;
+		});
+
+		emitter.onCompletion(() -> remove(auctionId, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> remove(auctionId, emitter));
+
+		sendTo(auctionId, emitter, toEvent(AuctionStreamResponse.of(stream.liveInfo, false, LocalDateTime.now())));
+
+		return emitter;
+	}
+
+	/**
+	 * 입찰로 바뀐 실시간 경매 정보를 상태에 반영(이 노드에 연결이 없는 경매는 무시)<br>
+	 * 전송은 다음 push 때 경매별로 한 번만 수행
+	 * @param liveInfo 실시간 경매 정보
+	 */
+	public void applyLiveInfo(AuctionLiveInfo liveInfo) {
+		AuctionStream stream = streams.get(liveInfo.auctionId());
+		if (stream == null) {
+			return;
+		}
+
+		stream.liveInfo = liveInfo;
+		stream.updated = true;
+	}
+
+	/**
+	 * 경매 종료를 모든 노드의 스트림에 알림<br>
+	 * 트랜잭션 안에서 호출되면 커밋 후 발행하여 롤백된 종료가 구독자에게 전달되지 않게 함
+	 * @param auctionId 종료된 경매 id
+	 */
+	public void publishClosed(Long auctionId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			redisMessagePublisher.publishAuctionClosed(auctionId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				redisMessagePublisher.publishAuctionClosed(auctionId);
+			}
+		});
+	}
+
+	/**
+	 * 이 노드의 경매 스트림에 종료 상태를 보내고 모든 연결을 닫음
+	 * @param auctionId 종료된 경매 id
+	 */
+	public void close(Long auctionId) {
+		AuctionStream stream = streams.remove(auctionId);
+		if (stream == null) {
+			return;
+		}
+
+		broadcast(auctionId, stream, AuctionStreamResponse.of(stream.liveInfo, true, LocalDateTime.now()));
+		stream.emitters.forEach(SseEmitter::complete);
+		connections.addAndGet(-stream.emitters.size());
+	}
+
+	/**
+	 * 변경된 경매의 최신 상태 전송
+	 */
+	@Scheduled(fixedRateString = "${auction.stream.push-interval-ms:200}")
+	public void pushUpdated() {
+		LocalDateTime now = LocalDateTime.now();
+
+		streams.forEach((auctionId, stream) -> {
+			if (stream.updated) {
+				stream.updated = false;
+				broadcast(auctionId, stream, AuctionStreamResponse.of(stream.liveInfo, false, now));
+			}
+		});
+	}
+
+	/**
+	 * 모든 경매의 남은 시간 전송
+	 */
+	@Scheduled(fixedRateString = "${auction.stream.tick-interval-ms:1000}")
+	public void tick() {
+		LocalDateTime now = LocalDateTime.now();
+
+		streams.forEach((auctionId, stream) -> {
+			stream.updated = false;
+			broadcast(auctionId, stream, AuctionStreamResponse.of(stream.liveInfo, false, now));
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		streams.values().forEach(stream -> stream.emitters.forEach(SseEmitter::complete));
+	}
+
+	// 이벤트는 경매마다 한 번만 직렬화하고 같은 내용을 모든 연결에 보냄
+	private void broadcast(Long auctionId, AuctionStream stream, AuctionStreamResponse response) {
+		Set<ResponseBodyEmitter.DataWithMediaType> event = toEvent(response);
+		if (event == null) {
+			return;
+		}
+
+		stream.emitters.forEach(emitter -> sendTo(auctionId, emitter, event));
+	}
+
+	private void sendTo(Long auctionId, SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+		if (event == null) {
+			return;
+		}
+
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			log.debug("경매 스트림 전송 실패, 연결 제거 - auctionId: {}, error: {}", auctionId, e.getMessage());
+			remove(auctionId, emitter);
+		}
+	}
+
+	private Set<ResponseBodyEmitter.DataWithMediaType> toEvent(AuctionStreamResponse response) {
+		try {
+			return SseEmitter.event()
+				.name(EVENT_NAME)
+				.data(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON)
+				.build();
+		} catch (JsonProcessingException e) {
+			log.error("경매 스트림 이벤트 직렬화 실패 - auctionId: {}, error: {}", response.auctionId(), e.getMessage());
+			return null;
+		}
+	}
+
+	private void remove(Long auctionId, SseEmitter emitter) {
+		streams.computeIfPresent(auctionId, (id, stream) -> {
+			if (stream.emitters.remove(emitter)) {
+				connections.decrementAndGet();
+			}
+
+			return stream.emitters.isEmpty() ? null : stream;
+		});
+	}
+
+	private AuctionFindDetailInfo findDetail(Long auctionId) {
+		return auctionDetailCacheService.getOrLoad(auctionId, () -> auctionDomainService.findAuction(auctionId));
+	}
+
+	private boolean isClosed(AuctionFindDetailInfo detail) {
+		return detail.isWon() || !detail.endTime().isAfter(LocalDateTime.now());
+	}
+
+	private AuctionLiveInfo toLiveInfo(AuctionFindDetailInfo detail) {
+		return new AuctionLiveInfo(detail.auctionId(), detail.currentPrice(), detail.bidCount(), detail.endTime());
+	}
+
+	private static final class AuctionStream {
+
+		private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+		private volatile AuctionLiveInfo liveInfo;
+		private volatile boolean updated;
+
+		private AuctionStream(AuctionLiveInfo liveInfo) {
+			this.liveInfo = liveInfo;
+		}
+	}
+}
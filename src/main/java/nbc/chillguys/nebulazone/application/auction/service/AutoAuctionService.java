@@ -1,12 +1,17 @@
 package nbc.chillguys.nebulazone.application.auction.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
 import nbc.chillguys.nebulazone.domain.auction.service.AutoAuctionDomainService;
@@ -17,7 +22,9 @@ import nbc.chillguys.nebulazone.domain.product.service.ProductDomainService;
 import nbc.chillguys.nebulazone.domain.transaction.dto.TransactionCreateCommand;
 import nbc.chillguys.nebulazone.domain.transaction.entity.UserType;
 import nbc.chillguys.nebulazone.domain.transaction.service.TransactionDomainService;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AutoAuctionService {
@@ -27,19 +34,44 @@ public class AutoAuctionService {
 	private final ProductDomainService productDomainService;
 	private final AutoAuctionDomainService autoAuctionDomainService;
 	private final BidDomainService bidDomainService;
+	private final UserDomainService userDomainService;
+	private final BidEngine bidEngine;
+	private final AuctionRankingService auctionRankingService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final EscrowService escrowService;
 
 	/**
-	 * 자동 낙찰 시 자동으로 거래내역을 생성하는 로직
+	 * 정산 트랜잭션을 열기 전에 엔진의 경매를 마감하고, 접수된 입찰이 DB에 반영될 때까지 대기<br>
+	 * 대기하는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출하며, 반영되지 않으면 예외가 전파되어 정산하지 않음
+	 * @param auctionIds 종료할 경매 id 목록
+	 */
+	public void closeAndAwaitPersisted(List<Long> auctionIds) {
+		auctionIds.forEach(bidEngine::closeAuction);
+		auctionIds.forEach(bidEngine::awaitPersisted);
+	}
+
+	/**
+	 * 자동 낙찰 시 자동으로 거래내역을 생성하는 로직<br>
+	 * 종료 대기열과 정산 재시도는 같은 경매를 다시 전달할 수 있으므로 이미 종료된 경매는 처리하지 않음<br>
+	 * 패찰자 예치금 해제와 입찰 상태 변경은 입찰자 수와 관계없이 한 번씩 처리하고, 낙찰자만 포인트 차감<br>
+	 * 비동기 실행, 재시도, 제한 시간은 AuctionSettlementExecutor가 담당하며, 호출 전에 closeAndAwaitPersisted가 끝나 있어야 함
 	 * @param auctionId 종료된 경매 id
 	 * @param productId 경매 상품 id
 	 * @author 전나겸
 	 */
-	@Async
 	@Transactional
 	public void autoEndAuctionAndCreateTransaction(Long auctionId, Long productId) {
 
+		auctionRankingService.remove(List.of(auctionId));
+
 		Auction auction = auctionDomainService.findActiveAuctionById(auctionId);
 		Product product = productDomainService.findActiveProductById(productId);
+
+		if (auction.isWon() || product.isSold()) {
+			log.info("이미 종료된 경매 - auctionId: {}", auctionId);
+			return;
+		}
+
 		product.purchase();
 
 		productDomainService.saveProductToEs(product);
@@ -51,21 +83,82 @@ public class AutoAuctionService {
 			return;
 		}
 
-		List<Bid> bidList = bidDomainService.findBidsByAuctionIdAndStatusBid(auctionId);
-		bidList.forEach(bid -> bid.getUser().addPoint(bid.getPrice()));
+		auctionDetailCacheService.markWon(auctionId, null);
 
-		product.getSeller().addPoint(wonBid.getPrice());
+		escrowService.settle(List.of(auctionId), Map.of(auctionId, wonBid.getUser().getId()));
+		userDomainService.deductPoint(wonBid.getUser().getId(), wonBid.getPrice());
+		bidDomainService.markLosingBids(List.of(auctionId), List.of(wonBid.getId()));
+
+		// 판매자가 다른 경로로 이미 갱신된 포인트를 엔티티 값으로 덮어쓰지 않도록 UPDATE로 적립
+		userDomainService.depositPoint(product.getSellerId(), wonBid.getPrice());
 
 		TransactionCreateCommand buyerTxCreateCommand =
 			TransactionCreateCommand.of(wonBid.getUser(), UserType.BUYER,
 				product, product.getTxMethod().name(), wonBid.getPrice());
 
-		txDomainService.createTransaction(buyerTxCreateCommand);
-
 		TransactionCreateCommand sellerTxCreateCommand =
 			TransactionCreateCommand.of(product.getSeller(), UserType.SELLER, product, product.getTxMethod().name(),
 				wonBid.getPrice());
 
-		txDomainService.createTransaction(sellerTxCreateCommand);
+		txDomainService.createTransactions(List.of(buyerTxCreateCommand, sellerTxCreateCommand));
+	}
+
+	/**
+	 * 같은 시간대에 종료된 경매들을 한 트랜잭션으로 일괄 낙찰 처리<br>
+	 * 최고가 입찰 조회, 예치금 정산, 입찰 상태 변경, 거래내역 저장, ES 판매 여부 갱신을 경매 수와 관계없이 한 번씩 수행<br>
+	 * 이미 종료된 경매는 조회 단계에서 제외되며, 호출 전에 closeAndAwaitPersisted가 끝나 있어야 함
+	 * @param auctionIds 종료된 경매 id 목록
+	 */
+	@Transactional
+	public void autoEndAuctionsAndCreateTransactions(List<Long> auctionIds) {
+		auctionRankingService.remove(auctionIds);
+
+		List<Auction> auctions = auctionDomainService.findEndableAuctionsWithProductAndSeller(auctionIds);
+		if (auctions.isEmpty()) {
+			return;
+		}
+
+		List<Long> endedAuctionIds = auctions.stream().map(Auction::getId).toList();
+		Map<Long, Bid> wonBids = bidDomainService.findHighBidsByAuctionIds(endedAuctionIds);
+
+		List<Long> wonBidIds = new ArrayList<>();
+		Map<Long, Long> winnerIds = new HashMap<>();
+		List<Long> soldProductIds = new ArrayList<>();
+		List<TransactionCreateCommand> txCreateCommands = new ArrayList<>();
+
+		for (Auction auction : auctions) {
+			Product product = auction.getProduct();
+			product.purchase();
+			soldProductIds.add(product.getId());
+
+			Bid wonBid = wonBids.get(auction.getId());
+			if (wonBid == null) {
+				log.info("유찰 - 경매 id: {}", auction.getId());
+				continue;
+			}
+
+			wonBid.wonBid();
+			auction.wonAuction();
+			wonBidIds.add(wonBid.getId());
+			winnerIds.put(auction.getId(), wonBid.getUser().getId());
+			auctionDetailCacheService.markWon(auction.getId(), null);
+
+			// 같은 유저가 배치 안에서 판매자이면서 다른 경매의 낙찰자일 수 있으므로 엔티티 대신 UPDATE로 증감
+			userDomainService.deductPoint(wonBid.getUser().getId(), wonBid.getPrice());
+			userDomainService.depositPoint(product.getSellerId(), wonBid.getPrice());
+
+			txCreateCommands.add(TransactionCreateCommand.of(wonBid.getUser(), UserType.BUYER,
+				product, product.getTxMethod().name(), wonBid.getPrice()));
+			txCreateCommands.add(TransactionCreateCommand.of(product.getSeller(), UserType.SELLER,
+				product, product.getTxMethod().name(), wonBid.getPrice()));
+		}
+
+		escrowService.settle(endedAuctionIds, winnerIds);
+		bidDomainService.markLosingBids(endedAuctionIds, wonBidIds);
+		txDomainService.createTransactions(txCreateCommands);
+
+		productDomainService.markProductsSoldInEs(soldProductIds);
+
+		log.info("경매 일괄 종료 - 요청: {}, 종료: {}, 낙찰: {}", auctionIds.size(), auctions.size(), wonBidIds.size());
 	}
 }
@@ -0,0 +1,68 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.util.function.BiConsumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import nbc.chillguys.nebulazone.common.scheduler.HashedTimingWheel;
+
+/**
+ * 노드 메모리의 타이밍 휠에 종료 시각을 보관하는 대기열(단일 노드용)<br>
+ * 재시작 시 상태가 사라지므로 매번 DB 기준 복구가 필요함
+ */
+@Component
+@ConditionalOnProperty(name = "auction.scheduler.mode", havingValue = "local", matchIfMissing = true)
+public class LocalAuctionEndQueue implements AuctionEndQueue {
+
+	private static final int WHEEL_SIZE = 3600;
+	private static final int TICK_THREADS = 2;
+
+	private final HashedTimingWheel<Long> timingWheel =
+		new HashedTimingWheel<>("auction-end", WHEEL_SIZE, TICK_THREADS, this::expire);
+
+	private volatile BiConsumer<Long, Long> expiredHandler;
+
+	@Override
+	public void start(BiConsumer<Long, Long> expiredHandler) {
+		this.expiredHandler = expiredHandler;
+		timingWheel.start();
+	}
+
+	@Override
+	public void add(Long auctionId, Long productId, long endEpochSecond) {
+		timingWheel.schedule(auctionId, endEpochSecond, productId);
+	}
+
+	@Override
+	public void remove(Long auctionId) {
+		timingWheel.cancel(auctionId);
+	}
+
+	@Override
+	public boolean requiresRecovery() {
+		return true;
+	}
+
+	@Override
+	public long size() {
+		return timingWheel.size();
+	}
+
+	@Override
+	public void stop() {
+		timingWheel.stop();
+	}
+
+	public boolean contains(Long auctionId) {
+		return timingWheel.contains(auctionId);
+	}
+
+	private void expire(Long auctionId, Long productId) {
+		BiConsumer<Long, Long> handler = expiredHandler;
+
+		if (handler != null) {
+			handler.accept(auctionId, productId);
+		}
+	}
+}
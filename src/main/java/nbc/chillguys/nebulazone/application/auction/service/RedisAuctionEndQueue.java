@@ -0,0 +1,118 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionEndEntry;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionEndRedisService;
+
+/**
+ * Redis sorted set에 종료 시각을 보관하는 대기열(다중 노드용)<br>
+ * 모든 노드가 주기적으로 종료 시각이 지난 경매를 Lua 스크립트로 원자적으로 가져가므로 한 경매는 한 노드에서만 처리됨<br>
+ * 가져간 경매는 처리 완료(complete) 전까지 처리 중 목록에 남고, 제한 시간이 지나면 다시 대기열로 돌아감<br>
+ * DB 기준 복구는 lease를 잡은 한 노드만 수행하며, 그 노드가 복구 중 죽으면 lease가 만료된 뒤 다른 노드가 이어받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.scheduler.mode", havingValue = "redis")
+public class RedisAuctionEndQueue implements AuctionEndQueue {
+
+	private final AuctionEndRedisService auctionEndRedisService;
+
+	@Value("${auction.scheduler.claim-batch-size:100}")
+	private int claimBatchSize;
+
+	@Value("${auction.scheduler.visibility-timeout-seconds:300}")
+	private long visibilityTimeoutSeconds;
+
+	@Value("${auction.scheduler.recovery-lease-seconds:600}")
+	private long recoveryLeaseSeconds;
+
+	private volatile BiConsumer<Long, Long> expiredHandler;
+
+	@Override
+	public void start(BiConsumer<Long, Long> expiredHandler) {
+		this.expiredHandler = expiredHandler;
+	}
+
+	@Override
+	public void add(Long auctionId, Long productId, long endEpochSecond) {
+		auctionEndRedisService.schedule(auctionId, productId, endEpochSecond);
+	}
+
+	@Override
+	public void remove(Long auctionId) {
+		auctionEndRedisService.cancel(auctionId);
+	}
+
+	@Override
+	public void complete(Long auctionId) {
+		auctionEndRedisService.complete(auctionId);
+	}
+
+	/**
+	 * 복구가 끝나지 않았고 복구 lease를 잡은 노드만 DB 기준 복구를 수행
+	 */
+	@Override
+	public boolean requiresRecovery() {
+		return auctionEndRedisService.acquireRecoveryLease(Duration.ofSeconds(recoveryLeaseSeconds));
+	}
+
+	@Override
+	public void completeRecovery() {
+		auctionEndRedisService.markRecovered();
+	}
+
+	@Override
+	public void failRecovery() {
+		auctionEndRedisService.releaseRecoveryLease();
+	}
+
+	@Override
+	public boolean isRecoveryPending() {
+		return !auctionEndRedisService.isRecovered();
+	}
+
+	@Override
+	public long size() {
+		return auctionEndRedisService.size();
+	}
+
+	@Override
+	public void stop() {
+		expiredHandler = null;
+	}
+
+	/**
+	 * 종료 시각이 지난 경매를 가져가 handler로 넘김<br>
+	 * 한 번에 가져간 수가 배치 크기와 같으면 남은 경매가 있다고 보고 이어서 가져감
+	 */
+	@Scheduled(fixedDelayString = "${auction.scheduler.poll-interval-ms:1000}")
+	public void pollDueAuctions() {
+		BiConsumer<Long, Long> handler = expiredHandler;
+
+		if (handler == null) {
+			return;
+		}
+
+		try {
+			List<AuctionEndEntry> claimed;
+			do {
+				long now = System.currentTimeMillis() / 1000;
+				claimed = auctionEndRedisService.claimDue(now, now + visibilityTimeoutSeconds, claimBatchSize);
+				claimed.forEach(entry -> handler.accept(entry.auctionId(), entry.productId()));
+			} while (claimed.size() >= claimBatchSize);
+		} catch (Exception e) {
+			log.error("경매 종료 대기열 조회 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+}
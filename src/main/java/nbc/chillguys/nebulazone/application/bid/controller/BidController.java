@@ -18,6 +18,7 @@ import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
 import nbc.chillguys.nebulazone.application.bid.dto.response.DeleteBidResponse;
 import nbc.chillguys.nebulazone.application.bid.dto.response.FindBidResponse;
 import nbc.chillguys.nebulazone.application.bid.service.BidService;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 
@@ -49,6 +50,17 @@ public class BidController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping(value = "/auctions/{auctionId}/bids", params = "cursor")
+	public ResponseEntity<CommonCursorResponse<FindBidResponse>> findBidsByCursor(
+		@PathVariable("auctionId") Long auctionId,
+		@RequestParam(value = "cursor") String cursor,
+		@RequestParam(defaultValue = "20", value = "size") int size) {
+
+		CommonCursorResponse<FindBidResponse> response = bidService.findBidsByCursor(auctionId, cursor, size);
+
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/bids/me")
 	public ResponseEntity<CommonPageResponse<FindBidResponse>> findMyBids(
 		@AuthenticationPrincipal User user,
@@ -60,6 +72,17 @@ public class BidController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping(value = "/bids/me", params = "cursor")
+	public ResponseEntity<CommonCursorResponse<FindBidResponse>> findMyBidsByCursor(
+		@AuthenticationPrincipal User user,
+		@RequestParam(value = "cursor") String cursor,
+		@RequestParam(defaultValue = "20", value = "size") int size) {
+
+		CommonCursorResponse<FindBidResponse> response = bidService.findMyBidsByCursor(user, cursor, size);
+
+		return ResponseEntity.ok(response);
+	}
+
 	@DeleteMapping("/auctions/{auctionId}/bids/{bidId}")
 	public ResponseEntity<DeleteBidResponse> statusBid(
 		@AuthenticationPrincipal User user,
@@ -0,0 +1,77 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.infra.redis.service.BidArchiveRedisService;
+
+/**
+ * 종료 후 retention-days가 지난 경매의 입찰 내역을 bids 테이블에서 bid_archives 테이블로 이동<br>
+ * bids 테이블에는 진행 중이거나 최근 종료된 경매의 입찰만 남아 인덱스와 집계 조회 범위가 작게 유지됨<br>
+ * 경매 batch-size 개씩 한 트랜잭션으로 옮기며, 여러 노드가 떠 있어도 한 노드만 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidArchiveService {
+
+	private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+	private final BidDomainService bidDomainService;
+	private final BidArchiveRedisService bidArchiveRedisService;
+
+	@Value("${bid.archive.enabled:true}")
+	private boolean enabled;
+
+	@Value("${bid.archive.retention-days:30}")
+	private int retentionDays;
+
+	@Value("${bid.archive.batch-size:100}")
+	private int batchSize;
+
+	@Scheduled(cron = "${bid.archive.cron:0 0 4 * * *}")
+	public void archive() {
+		if (!enabled || !bidArchiveRedisService.tryLockArchive(LOCK_TTL)) {
+			return;
+		}
+
+		try {
+			archiveClosedBefore(LocalDateTime.now().minusDays(retentionDays));
+		} catch (Exception e) {
+			log.error("입찰 내역 보관 실패 - error: {}", e.getMessage(), e);
+		} finally {
+			bidArchiveRedisService.unlockArchive();
+		}
+	}
+
+	/**
+	 * 보관 대상 경매를 id 기준 keyset 페이징으로 조회하여 batchSize 개씩 이동
+	 * @param closedBefore 보관 기준 시각
+	 * @return 이동한 입찰 수
+	 */
+	long archiveClosedBefore(LocalDateTime closedBefore) {
+		long archivedAuctions = 0;
+		long archivedBids = 0;
+
+		Long lastAuctionId = null;
+		List<Long> auctionIds;
+		do {
+			auctionIds = bidDomainService.findArchivableAuctionIds(lastAuctionId, closedBefore, batchSize);
+			archivedBids += bidDomainService.archiveBids(auctionIds);
+			archivedAuctions += auctionIds.size();
+			lastAuctionId = auctionIds.isEmpty() ? lastAuctionId : auctionIds.get(auctionIds.size() - 1);
+		} while (auctionIds.size() == batchSize);
+
+		log.info("입찰 내역 보관 완료 - 경매 수: {}, 입찰 수: {}", archivedAuctions, archivedBids);
+
+		return archivedBids;
+	}
+}
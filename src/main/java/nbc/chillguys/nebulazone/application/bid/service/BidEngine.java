@@ -0,0 +1,55 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.util.Optional;
+
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+
+/**
+ * 입찰 접수 엔진<br>
+ * bid.mode 설정값(lock, optimistic, redis, sequencer)에 해당하는 구현체 하나만 빈으로 등록됨
+ */
+public interface BidEngine {
+
+	/**
+	 * 경매에 기존 입찰 내역이 없다면 입찰 생성, 있다면 입찰 수정
+	 * @param auctionId 대상 경매
+	 * @param loggedInUser 로그인 유저
+	 * @param price 입찰가
+	 * @return 입찰 후 반환값
+	 */
+	CreateBidResponse upsertBid(Long auctionId, User loggedInUser, Long price);
+
+	/**
+	 * 내 입찰 취소
+	 * @param user 로그인 유저
+	 * @param auctionId 대상 경매
+	 * @param bidId 취소할 입찰 id
+	 * @return 취소한 입찰 id
+	 */
+	Long cancelBid(User user, Long auctionId, Long bidId);
+
+	/**
+	 * 엔진 기준 실시간 경매 정보(현재가, 입찰 건수, 종료 시각) 조회
+	 * @param auctionId 대상 경매
+	 * @return 실시간 경매 정보, 조회할 수 없는 경매면 empty
+	 */
+	Optional<AuctionLiveInfo> findLiveInfo(Long auctionId);
+
+	/**
+	 * 경매 마감 처리<br>
+	 * 이후 들어오는 입찰은 엔진에서 거절
+	 * @param auctionId 마감할 경매 id
+	 */
+	default void closeAuction(Long auctionId) {
+	}
+
+	/**
+	 * 엔진에 접수되었지만 아직 DB에 반영되지 않은 입찰이 모두 반영될 때까지 대기<br>
+	 * DB 커넥션을 잡은 채 대기하지 않도록 트랜잭션 밖에서 호출하고, 반영되지 않으면 예외를 던짐
+	 * @param auctionId 대상 경매 id
+	 */
+	default void awaitPersisted(Long auctionId) {
+	}
+}
@@ -0,0 +1,82 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.infra.redis.dto.TokenBucket;
+import nbc.chillguys.nebulazone.infra.redis.service.BidRateLimitRedisService;
+
+/**
+ * 입찰 요청 처리율 제한<br>
+ * 전체, 경매별, 사용자별 토큰 버킷을 Redis에서 한 번에 확인하여 하나라도 비어 있으면 DB에 접근하기 전에 429로 거부<br>
+ * Redis 장애 시에는 입찰 자체를 막지 않도록 제한 없이 통과
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidRateLimiter {
+
+	private static final String REJECTED_METRIC = "bid.rate-limit.rejected";
+	private static final String ERROR_METRIC = "bid.rate-limit.error";
+	private static final String[] SCOPES = {"global", "auction", "user"};
+
+	private final BidRateLimitRedisService bidRateLimitRedisService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${bid.rate-limit.enabled:true}")
+	private boolean enabled;
+
+	@Value("${bid.rate-limit.global.capacity:2000}")
+	private long globalCapacity;
+
+	@Value("${bid.rate-limit.global.refill-per-second:1000}")
+	private double globalRefillPerSecond;
+
+	@Value("${bid.rate-limit.auction.capacity:50}")
+	private long auctionCapacity;
+
+	@Value("${bid.rate-limit.auction.refill-per-second:20}")
+	private double auctionRefillPerSecond;
+
+	@Value("${bid.rate-limit.user.capacity:5}")
+	private long userCapacity;
+
+	@Value("${bid.rate-limit.user.refill-per-second:1}")
+	private double userRefillPerSecond;
+
+	/**
+	 * 입찰 요청 토큰 획득
+	 * @param auctionId 대상 경매
+	 * @param userId 입찰 유저
+	 * @throws BidException 토큰이 부족한 경우 BID_RATE_LIMITED
+	 */
+	public void acquire(Long auctionId, Long userId) {
+		if (!enabled) {
+			return;
+		}
+
+		long rejected;
+		try {
+			rejected = bidRateLimitRedisService.tryAcquire(auctionId, userId,
+				new TokenBucket(globalCapacity, globalRefillPerSecond),
+				new TokenBucket(auctionCapacity, auctionRefillPerSecond),
+				new TokenBucket(userCapacity, userRefillPerSecond));
+		} catch (Exception e) {
+			meterRegistry.counter(ERROR_METRIC).increment();
+			log.warn("입찰 처리율 제한 확인 실패, 제한 없이 통과 - auctionId: {}, error: {}", auctionId, e.getMessage());
+			return;
+		}
+
+		if (rejected == 0) {
+			return;
+		}
+
+		meterRegistry.counter(REJECTED_METRIC, "scope", SCOPES[(int)rejected - 1]).increment();
+		throw new BidException(BidErrorCode.BID_RATE_LIMITED);
+	}
+}
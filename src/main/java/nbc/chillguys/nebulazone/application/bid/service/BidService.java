@@ -1,51 +1,53 @@
 package nbc.chillguys.nebulazone.application.bid.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionLiveService;
 import nbc.chillguys.nebulazone.application.bid.dto.request.CreateBidRequest;
 import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
 import nbc.chillguys.nebulazone.application.bid.dto.response.DeleteBidResponse;
 import nbc.chillguys.nebulazone.application.bid.dto.response.FindBidResponse;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
 import nbc.chillguys.nebulazone.domain.bid.dto.FindBidInfo;
-import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
 import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
-import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
 @Service
 @RequiredArgsConstructor
 public class BidService {
 
 	private final BidDomainService bidDomainService;
-	private final UserDomainService userDomainService;
 	private final AuctionDomainService auctionDomainService;
+	private final BidEngine bidEngine;
+	private final AuctionLiveService auctionLiveService;
+	private final BidRateLimiter bidRateLimiter;
 
 	/**
-	 * 경매에 기존 입찰 내역이 없다면 입찰 생성, 있다면 입찰 수정
+	 * 경매에 기존 입찰 내역이 없다면 입찰 생성, 있다면 입찰 수정<br>
+	 * 실제 처리는 bid.mode 설정에 맞는 BidEngine이 담당하며, 접수된 입찰은 경매 구독자에게 전달<br>
+	 * 처리율 제한을 넘은 요청은 BidEngine에 넘기기 전에 거부
 	 * @param auctionId 대상 경매
 	 * @param loggedInUser 로그인 유저
 	 * @param request 입찰 정보
 	 * @return 입찰 후 반환값
 	 * @author 전나겸
 	 */
-	@Transactional
 	public CreateBidResponse upsertBid(Long auctionId, User loggedInUser, CreateBidRequest request) {
-		Auction lockAuction = auctionDomainService.findActiveAuctionWithProductAndSellerLock(auctionId);
-
-		User user = userDomainService.findActiveUserById(loggedInUser.getId());
+		bidRateLimiter.acquire(auctionId, loggedInUser.getId());
 
-		Bid resultBid = bidDomainService.findBidByAuctionIdAndUserId(lockAuction.getId(), user.getId())
-			.map(findBid -> bidDomainService.updateBid(lockAuction, findBid, user, request.price()))
-			.orElseGet(() -> bidDomainService.createBid(lockAuction, user, request.price()));
+		CreateBidResponse response = bidEngine.upsertBid(auctionId, loggedInUser, request.price());
 
-		return CreateBidResponse.from(resultBid);
+		auctionLiveService.markUpdated(auctionId);
 
+		return response;
 	}
 
 	public CommonPageResponse<FindBidResponse> findBids(Long auctionId, int page, int size) {
@@ -57,6 +59,21 @@ public class BidService {
 		return CommonPageResponse.from(response);
 	}
 
+	/**
+	 * 특정 경매의 입찰 내역 조회(cursor 페이징, 전체 건수 미포함)
+	 * @param auctionId 대상 경매
+	 * @param cursor 이전 응답의 nextCursor(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 입찰 내역과 다음 cursor
+	 */
+	public CommonCursorResponse<FindBidResponse> findBidsByCursor(Long auctionId, String cursor, int size) {
+		Auction auction = auctionDomainService.findActiveAuctionById(auctionId);
+
+		List<FindBidInfo> findBids = bidDomainService.findBidsByCursor(auction, Cursor.decode(cursor), size);
+
+		return CommonCursorResponse.of(findBids, size, BidService::cursorOf).map(FindBidResponse::from);
+	}
+
 	public CommonPageResponse<FindBidResponse> findMyBids(User user, int page, int size) {
 		Page<FindBidInfo> findBids = bidDomainService.findMyBids(user, page, size);
 		Page<FindBidResponse> response = findBids.map(FindBidResponse::from);
@@ -64,12 +81,28 @@ public class BidService {
 		return CommonPageResponse.from(response);
 	}
 
-	@Transactional
+	/**
+	 * 내 입찰 내역 조회(cursor 페이징, 전체 건수 미포함)
+	 * @param user 로그인 유저
+	 * @param cursor 이전 응답의 nextCursor(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 입찰 내역과 다음 cursor
+	 */
+	public CommonCursorResponse<FindBidResponse> findMyBidsByCursor(User user, String cursor, int size) {
+		List<FindBidInfo> findBids = bidDomainService.findMyBidsByCursor(user, Cursor.decode(cursor), size);
+
+		return CommonCursorResponse.of(findBids, size, BidService::cursorOf).map(FindBidResponse::from);
+	}
+
 	public DeleteBidResponse statusBid(User user, Long auctionId, Long bidId) {
-		Auction auction = auctionDomainService.findActiveAuctionWithProductAndSellerLock(auctionId);
+		Long deletedBidId = bidEngine.cancelBid(user, auctionId, bidId);
+
+		auctionLiveService.markUpdated(auctionId);
 
-		Long deletedBidId = bidDomainService.statusBid(auction, user, bidId);
 		return DeleteBidResponse.from(deletedBidId);
+	}
 
+	private static Cursor cursorOf(FindBidInfo info) {
+		return new Cursor(info.bidTime(), info.bidId());
 	}
 }
@@ -0,0 +1,64 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidWriteBehindEvent;
+
+/**
+ * Redis에서 접수된 입찰 이벤트를 DB에 일괄 반영
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bid.mode", havingValue = "redis")
+public class BidWriteBehindService {
+
+	private final AuctionDomainService auctionDomainService;
+	private final BidDomainService bidDomainService;
+	private final UserDomainService userDomainService;
+	private final EscrowService escrowService;
+
+	/**
+	 * 이벤트 묶음을 하나의 트랜잭션으로 반영<br>
+	 * 경매 현재가는 조건부 UPDATE로 갱신하고 입찰 금액은 예치금 원장에 기록하여, 그 사이 낙찰되거나 삭제된 경매의 이벤트는 반영되지 않음
+	 * @param events stream 순서대로 정렬된 이벤트
+	 */
+	@Transactional
+	public void persist(List<BidWriteBehindEvent> events) {
+		Map<Long, Auction> auctions = new HashMap<>();
+
+		for (BidWriteBehindEvent event : events) {
+			Auction auction = auctions.computeIfAbsent(event.auctionId(), auctionDomainService::findActiveAuctionById);
+			auctionDomainService.updateCurrentPriceIfOpen(auction.getId(), event.topPriceOrNull());
+
+			switch (event.type()) {
+				case UPSERT -> {
+					escrowService.record(event.userId(), auction.getId(), event.delta(),
+						event.isNewBid() ? EscrowHoldType.RESERVE : EscrowHoldType.ADJUST);
+					bidDomainService.applyAcceptedBid(auction, userDomainService.getUserReference(event.userId()),
+						event.price());
+					if (event.isNewBid()) {
+						auctionDomainService.increaseBidCount(auction.getId());
+					}
+				}
+				case CANCEL -> {
+					bidDomainService.applyCancelledBid(auction.getId(), event.userId());
+					auctionDomainService.decreaseBidCount(auction.getId());
+					escrowService.release(event.userId(), auction.getId());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+
+/**
+ * 경매 row에 비관적 락을 걸고 입찰을 처리하는 기본 엔진<br>
+ * 경매 row 락을 얻기까지 걸린 시간(조회 포함)은 bid.lock.wait 지표로 기록<br>
+ * 입찰 금액은 유저 포인트 대신 예치금 원장에 기록하므로 유저 row에는 쓰지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bid.mode", havingValue = "lock", matchIfMissing = true)
+public class LockBidEngine implements BidEngine {
+
+	private static final String LOCK_WAIT_METRIC = "bid.lock.wait";
+
+	private final BidDomainService bidDomainService;
+	private final UserDomainService userDomainService;
+	private final AuctionDomainService auctionDomainService;
+	private final EscrowService escrowService;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	@Transactional
+	public CreateBidResponse upsertBid(Long auctionId, User loggedInUser, Long price) {
+		Auction lockAuction = lockAuction(auctionId, "upsert");
+
+		User user = userDomainService.findActiveUserById(loggedInUser.getId());
+
+		Bid resultBid = bidDomainService.findBidByAuctionIdAndUserId(lockAuction.getId(), user.getId())
+			.map(findBid -> {
+				boolean cancelled = findBid.isCancelled();
+				long delta = price - findBid.getPrice();
+				Bid updatedBid = bidDomainService.updateBid(lockAuction, findBid, user, price);
+
+				if (cancelled) {
+					// 취소 시 예치금이 모두 해제되었으므로 새 입찰처럼 입찰가 전체를 예치
+					escrowService.reserve(user, lockAuction.getId(), price, EscrowHoldType.RESERVE);
+					auctionDomainService.increaseBidCount(lockAuction.getId());
+				} else {
+					escrowService.reserve(user, lockAuction.getId(), delta, EscrowHoldType.ADJUST);
+				}
+				return updatedBid;
+			})
+			.orElseGet(() -> {
+				Bid createdBid = bidDomainService.createBid(lockAuction, user, price);
+				escrowService.reserve(user, lockAuction.getId(), price, EscrowHoldType.RESERVE);
+				auctionDomainService.increaseBidCount(lockAuction.getId());
+				return createdBid;
+			});
+
+		return CreateBidResponse.from(resultBid);
+	}
+
+	@Override
+	@Transactional
+	public Long cancelBid(User user, Long auctionId, Long bidId) {
+		Auction auction = lockAuction(auctionId, "cancel");
+
+		Long cancelledBidId = bidDomainService.statusBid(auction, user, bidId);
+		auctionDomainService.decreaseBidCount(auction.getId());
+		escrowService.release(user.getId(), auction.getId());
+
+		return cancelledBidId;
+	}
+
+	@Override
+	public Optional<AuctionLiveInfo> findLiveInfo(Long auctionId) {
+		return auctionDomainService.findAuctionLiveInfo(auctionId);
+	}
+
+	private Auction lockAuction(Long auctionId, String operation) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		try {
+			return auctionDomainService.findActiveAuctionWithProductAndSellerLock(auctionId);
+		} finally {
+			sample.stop(meterRegistry.timer(LOCK_WAIT_METRIC, "operation", operation));
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+
+/**
+ * 경매 row 락 없이 조건부 UPDATE와 @Version으로 입찰을 처리하는 엔진<br>
+ * 같은 유저의 동시 첫 입찰은 bids(auction_id, user_id) unique 제약으로, 동시 입찰가 수정은 Bid의 @Version으로 충돌시켜
+ * 입찰이 두 건 생기거나 오래된 입찰가로 계산한 예치금이 반영되지 않게 함<br>
+ * 충돌 시 트랜잭션 단위로 재시도하며, 재시도마다 최신 현재가로 다시 검증
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bid.mode", havingValue = "optimistic")
+public class OptimisticBidEngine implements BidEngine {
+
+	private static final String CONFLICT_METRIC = "bid.optimistic.conflict";
+	private static final String RETRY_METRIC = "bid.optimistic.retry";
+	private static final String EXHAUSTED_METRIC = "bid.optimistic.exhausted";
+
+	private final BidDomainService bidDomainService;
+	private final UserDomainService userDomainService;
+	private final AuctionDomainService auctionDomainService;
+	private final EscrowService escrowService;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${bid.optimistic.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${bid.optimistic.backoff-ms:10}")
+	private long backoffMillis;
+
+	@Override
+	public CreateBidResponse upsertBid(Long auctionId, User loggedInUser, Long price) {
+		return executeWithRetry("upsert", () -> tryUpsertBid(auctionId, loggedInUser, price));
+	}
+
+	@Override
+	public Long cancelBid(User user, Long auctionId, Long bidId) {
+		return executeWithRetry("cancel", () -> {
+			Auction auction = auctionDomainService.findActiveAuctionWithProductAndSeller(auctionId);
+
+			Long cancelledBidId = bidDomainService.statusBid(auction, user, bidId);
+			auctionDomainService.decreaseBidCount(auction.getId());
+			escrowService.release(user.getId(), auction.getId());
+
+			return cancelledBidId;
+		});
+	}
+
+	@Override
+	public Optional<AuctionLiveInfo> findLiveInfo(Long auctionId) {
+		return auctionDomainService.findAuctionLiveInfo(auctionId);
+	}
+
+	private CreateBidResponse tryUpsertBid(Long auctionId, User loggedInUser, Long price) {
+		Auction auction = auctionDomainService.findActiveAuctionWithProductAndSeller(auctionId);
+
+		User user = userDomainService.findActiveUserById(loggedInUser.getId());
+
+		Optional<Bid> findBid = bidDomainService.findBidByAuctionIdAndUserId(auction.getId(), user.getId());
+
+		if (findBid.isPresent()) {
+			bidDomainService.validateUpdateBid(auction, findBid.get(), user, price);
+		} else {
+			bidDomainService.validateCreateBid(auction, user, price);
+		}
+
+		auctionDomainService.updateCurrentPriceIfHigher(auction.getId(), price);
+
+		Bid resultBid = findBid
+			.map(bid -> {
+				if (bid.isCancelled()) {
+					// 취소 시 예치금이 모두 해제되었으므로 새 입찰처럼 입찰가 전체를 예치
+					escrowService.reserve(user, auction.getId(), price, EscrowHoldType.RESERVE);
+					auctionDomainService.increaseBidCount(auction.getId());
+					bid.reactivate(price);
+					return bid;
+				}
+
+				escrowService.reserve(user, auction.getId(), price - bid.getPrice(), EscrowHoldType.ADJUST);
+				bid.updateBidPrice(price);
+				return bid;
+			})
+			.orElseGet(() -> {
+				escrowService.reserve(user, auction.getId(), price, EscrowHoldType.RESERVE);
+				auctionDomainService.increaseBidCount(auction.getId());
+				return saveBid(auction, user, price);
+			});
+
+		return CreateBidResponse.from(resultBid);
+	}
+
+	/**
+	 * 같은 유저의 첫 입찰이 동시에 들어와 unique 제약을 위반하면 재시도하여 먼저 저장된 입찰을 수정
+	 */
+	private Bid saveBid(Auction auction, User user, Long price) {
+		try {
+			return bidDomainService.saveBid(auction, user, price);
+		} catch (DataIntegrityViolationException e) {
+			throw new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT);
+		}
+	}
+
+	private <T> T executeWithRetry(String operation, Supplier<T> action) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> action.get());
+			} catch (RuntimeException e) {
+				if (!isConflict(e)) {
+					throw e;
+				}
+
+				meterRegistry.counter(CONFLICT_METRIC, "operation", operation).increment();
+
+				if (attempt >= maxAttempts) {
+					meterRegistry.counter(EXHAUSTED_METRIC, "operation", operation).increment();
+					log.warn("낙관적 입찰 재시도 횟수 초과 - operation: {}, attempts: {}", operation, attempt);
+					throw new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT);
+				}
+
+				meterRegistry.counter(RETRY_METRIC, "operation", operation).increment();
+				backoff(attempt);
+			}
+		}
+	}
+
+	private boolean isConflict(RuntimeException e) {
+		if (e instanceof ConcurrencyFailureException) {
+			return true;
+		}
+
+		return e instanceof AuctionException auctionException
+			&& auctionException.getErrorCode() == AuctionErrorCode.AUCTION_BID_CONFLICT;
+	}
+
+	private void backoff(int attempt) {
+		long delay = backoffMillis * (1L << (attempt - 1)) + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT);
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.exception.UserException;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidBookResult;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidBookSnapshot;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidWriteBehindEvent;
+import nbc.chillguys.nebulazone.infra.redis.service.BidBookRedisService;
+
+/**
+ * Redis 호가창에서 입찰을 접수하고 DB에는 write-behind로 반영하는 엔진<br>
+ * 입찰 요청 경로에서는 경매 row 락을 잡지 않으며, 호가창이 없으면(재시작, 만료) DB 상태로 다시 적재
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bid.mode", havingValue = "redis")
+public class RedisBidEngine implements BidEngine {
+
+	private static final long CANCEL_LIMIT_MILLIS = Duration.ofMinutes(30).toMillis();
+	private static final Duration WRITE_BEHIND_LEASE = Duration.ofSeconds(10);
+	private static final long PERSIST_WAIT_MILLIS = 5_000L;
+	private static final long PERSIST_POLL_MILLIS = 50L;
+
+	private final BidBookRedisService bidBookRedisService;
+	private final BidWriteBehindService bidWriteBehindService;
+	private final AuctionDomainService auctionDomainService;
+	private final BidDomainService bidDomainService;
+	private final UserDomainService userDomainService;
+	private final EscrowService escrowService;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@Value("${bid.write-behind.batch-size:500}")
+	private int batchSize;
+
+	@Override
+	public CreateBidResponse upsertBid(Long auctionId, User loggedInUser, Long price) {
+		User user = userDomainService.findActiveUserById(loggedInUser.getId());
+
+		BidBookResult result = placeBid(auctionId, user, price);
+
+		if (result.status() == BidBookResult.Status.BOOK_NOT_LOADED) {
+			result = placeBid(auctionId, user, price);
+		}
+
+		validateResult(result);
+
+		return new CreateBidResponse(null, price);
+	}
+
+	@Override
+	public Long cancelBid(User user, Long auctionId, Long bidId) {
+		Bid findBid = bidDomainService.findBid(bidId);
+
+		if (!findBid.getUser().getId().equals(user.getId())) {
+			throw new BidException(BidErrorCode.BID_NOT_OWNER);
+		}
+
+		if (!findBid.getAuction().getId().equals(auctionId)) {
+			throw new BidException(BidErrorCode.BID_AUCTION_MISMATCH);
+		}
+
+		if (findBid.getStatus() == BidStatus.WON) {
+			throw new BidException(BidErrorCode.CANNOT_CANCEL_WON_BID);
+		}
+
+		loadBookIfAbsent(auctionId);
+
+		BidBookResult result = bidBookRedisService.cancelBid(auctionId, user.getId(), System.currentTimeMillis(),
+			CANCEL_LIMIT_MILLIS);
+
+		validateResult(result);
+
+		return findBid.getId();
+	}
+
+	/**
+	 * 호가창이 적재되어 있으면 호가창 기준으로, 없으면 DB 기준으로 조회<br>
+	 * 호가창에는 write-behind로 아직 DB에 반영되지 않은 입찰까지 포함됨
+	 */
+	@Override
+	public Optional<AuctionLiveInfo> findLiveInfo(Long auctionId) {
+		return bidBookRedisService.findBookSnapshot(auctionId)
+			.map(snapshot -> toLiveInfo(auctionId, snapshot))
+			.or(() -> auctionDomainService.findAuctionLiveInfo(auctionId));
+	}
+
+	/**
+	 * 호가창을 마감하여 이후 입찰을 거절<br>
+	 * DB에 반영하지 못한 입찰이 있는 경매는 호가창만 마감하고 종료 처리는 실패시킴
+	 * @throws BidException dead letter로 이동한 입찰이 있는 경우 BID_NOT_PERSISTED
+	 */
+	@Override
+	public void closeAuction(Long auctionId) {
+		bidBookRedisService.closeBook(auctionId);
+		validateNotPoisoned(auctionId);
+	}
+
+	/**
+	 * 트랜잭션 밖에서 호출해야 하며, 대기 시간 안에 반영되지 않으면 예외를 던져 정산을 재시도하게 함
+	 * @throws BidException dead letter로 이동한 입찰이 있는 경우 BID_NOT_PERSISTED
+	 * @throws IllegalStateException 대기 시간 안에 반영되지 않았거나 대기 중 인터럽트된 경우
+	 */
+	@Override
+	public void awaitPersisted(Long auctionId) {
+		long deadline = System.currentTimeMillis() + PERSIST_WAIT_MILLIS;
+
+		validateNotPoisoned(auctionId);
+		while (!bidBookRedisService.isPersisted(auctionId)) {
+			if (System.currentTimeMillis() >= deadline) {
+				log.warn("입찰 write-behind 반영 대기 시간 초과 - auctionId: {}", auctionId);
+				throw new IllegalStateException("입찰 write-behind 반영 대기 시간 초과 - auctionId: " + auctionId);
+			}
+
+			try {
+				Thread.sleep(PERSIST_POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("입찰 write-behind 반영 대기 중 인터럽트 - auctionId: " + auctionId, e);
+			}
+			validateNotPoisoned(auctionId);
+		}
+	}
+
+	/**
+	 * write-behind stream을 소비하여 DB에 반영<br>
+	 * 일괄 반영이 실패하면 건별로 재시도하고, 그래도 실패한 이벤트는 dead letter stream으로 이동<br>
+	 * dead letter로 이동한 이벤트는 미반영 포인트와 반영 순번을 그대로 두고, 해당 경매는 마감, 정산되지 않도록 표시
+	 */
+	@Scheduled(fixedDelayString = "${bid.write-behind.flush-interval-ms:200}")
+	public void flushWriteBehind() {
+		if (!bidBookRedisService.tryAcquireWriteBehindLease(nodeId, WRITE_BEHIND_LEASE)) {
+			return;
+		}
+
+		List<BidWriteBehindEvent> events = bidBookRedisService.readWriteBehindEvents(batchSize);
+
+		if (events.isEmpty()) {
+			return;
+		}
+
+		List<BidWriteBehindEvent> deadLettered = List.of();
+		try {
+			bidWriteBehindService.persist(events);
+		} catch (Exception e) {
+			log.warn("입찰 write-behind 일괄 반영 실패, 건별 반영으로 전환 - 건수: {}, error: {}", events.size(), e.getMessage());
+			deadLettered = persistOneByOne(events);
+		}
+
+		complete(events, deadLettered);
+	}
+
+	/**
+	 * 호가창에 입찰 접수<br>
+	 * 사용 가능 포인트는 스크립트 안에서 예치금 합계와 미반영 포인트로 확인하므로 DB 포인트만 전달하고,
+	 * 예치금 합계 캐시가 없으면 원장 합계로 적재한 뒤 한 번 더 시도
+	 */
+	private BidBookResult placeBid(Long auctionId, User user, Long price) {
+		loadBookIfAbsent(auctionId);
+
+		BidBookResult result = bidBookRedisService.placeBid(auctionId, user.getId(), price, user.getPoint(),
+			System.currentTimeMillis());
+
+		if (result.status() == BidBookResult.Status.HELD_NOT_LOADED) {
+			escrowService.loadHeld(user.getId());
+			result = bidBookRedisService.placeBid(auctionId, user.getId(), price, user.getPoint(),
+				System.currentTimeMillis());
+		}
+
+		return result;
+	}
+
+	private void loadBookIfAbsent(Long auctionId) {
+		if (bidBookRedisService.existsBook(auctionId)) {
+			return;
+		}
+
+		Auction auction = auctionDomainService.findActiveAuctionWithProductAndSeller(auctionId);
+
+		Map<Long, Long> activeBids = bidDomainService.findBidsByAuctionIdAndStatusBid(auctionId).stream()
+			.collect(Collectors.toMap(bid -> bid.getUser().getId(), Bid::getPrice));
+
+		bidBookRedisService.initBook(
+			auctionId,
+			auction.getStartPrice(),
+			auction.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+			auction.getProduct().getSellerId(),
+			auction.isWon(),
+			activeBids
+		);
+	}
+
+	/**
+	 * 이벤트를 한 건씩 반영
+	 * @return dead letter로 이동한 이벤트
+	 */
+	private List<BidWriteBehindEvent> persistOneByOne(List<BidWriteBehindEvent> events) {
+		List<BidWriteBehindEvent> deadLettered = new ArrayList<>();
+
+		for (BidWriteBehindEvent event : events) {
+			try {
+				bidWriteBehindService.persist(List.of(event));
+			} catch (Exception e) {
+				log.error("입찰 write-behind 반영 실패, dead letter로 이동 - auctionId: {}, userId: {}, seq: {}, error: {}",
+					event.auctionId(), event.userId(), event.seq(), e.getMessage());
+				bidBookRedisService.moveToDeadLetter(event);
+				bidBookRedisService.markPoisoned(event.auctionId());
+				deadLettered.add(event);
+			}
+		}
+
+		return deadLettered;
+	}
+
+	/**
+	 * 반영된 이벤트만 미반영 포인트 해제와 반영 순번 갱신에 포함하고, stream에서는 dead letter로 옮긴 이벤트까지 ack
+	 */
+	private void complete(List<BidWriteBehindEvent> events, List<BidWriteBehindEvent> deadLettered) {
+		Map<Long, Long> lastSeqByAuction = new HashMap<>();
+
+		for (BidWriteBehindEvent event : events) {
+			if (deadLettered.contains(event)) {
+				continue;
+			}
+			if (event.type() == BidWriteBehindEvent.Type.UPSERT) {
+				bidBookRedisService.releasePendingPoint(event.userId(), event.delta());
+			}
+			lastSeqByAuction.merge(event.auctionId(), event.seq(), Math::max);
+		}
+
+		lastSeqByAuction.forEach(bidBookRedisService::markPersisted);
+		bidBookRedisService.acknowledge(events);
+	}
+
+	private void validateNotPoisoned(Long auctionId) {
+		if (bidBookRedisService.isPoisoned(auctionId)) {
+			log.error("DB에 반영되지 않은 입찰이 있는 경매 - auctionId: {}", auctionId);
+			throw new BidException(BidErrorCode.BID_NOT_PERSISTED);
+		}
+	}
+
+	private void validateResult(BidBookResult result) {
+		switch (result.status()) {
+			case ACCEPTED -> {
+			}
+			case CLOSED -> throw new AuctionException(AuctionErrorCode.ALREADY_WON_AUCTION);
+			case ENDED -> throw new AuctionException(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
+			case OWN_AUCTION -> throw new BidException(BidErrorCode.CANNOT_BID_OWN_AUCTION);
+			case BELOW_START_PRICE -> throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_START_PRICE);
+			case BELOW_CURRENT_PRICE -> throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
+			case INSUFFICIENT_POINT -> throw new UserException(UserErrorCode.INSUFFICIENT_BALANCE);
+			case CANCEL_TIME_LIMIT_EXCEEDED -> throw new BidException(BidErrorCode.BID_CANCEL_TIME_LIMIT_EXCEEDED);
+			case NO_ACTIVE_BID -> throw new BidException(BidErrorCode.ALREADY_BID_CANCELLED);
+			case BOOK_NOT_LOADED -> throw new AuctionException(AuctionErrorCode.AUCTION_NOT_FOUND);
+			case HELD_NOT_LOADED -> throw new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT);
+		}
+	}
+
+	private AuctionLiveInfo toLiveInfo(Long auctionId, BidBookSnapshot snapshot) {
+		Long currentPrice = snapshot.topPrice() > 0 ? snapshot.topPrice() : null;
+		LocalDateTime endTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.endTimeMillis()),
+			ZoneId.systemDefault());
+
+		return new AuctionLiveInfo(auctionId, currentPrice, snapshot.bidCount(), endTime);
+	}
+}
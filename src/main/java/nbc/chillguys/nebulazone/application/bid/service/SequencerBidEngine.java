@@ -0,0 +1,406 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.common.exception.BaseException;
+import nbc.chillguys.nebulazone.common.sequencer.MailboxSequencer;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.exception.UserException;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+
+/**
+ * 경매별 메일박스에 입찰을 쌓고, 경매마다 하나의 가상 스레드가 순서대로 처리하는 엔진<br>
+ * 입찰 검증은 메모리에 적재한 경매 상태(시작가, 종료 시각, 판매자, 현재가, 입찰자별 입찰가)로 하고,
+ * 한 번에 꺼낸 입찰들은 하나의 트랜잭션으로 반영(group commit)하므로 요청 스레드끼리 경매 row 락을 두고 경쟁하지 않음<br>
+ * 다른 노드가 같은 경매에 먼저 반영했다면 현재가 조건부 UPDATE가 실패하므로, 해당 배치를 롤백하고 경매 상태를 다시 적재<br>
+ * 마감 여부는 다시 적재하는 경매 상태와 별도로 보관하므로, 취소나 충돌로 상태를 버려도 마감 이후 입찰은 계속 거절됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bid.mode", havingValue = "sequencer")
+public class SequencerBidEngine implements BidEngine {
+
+	private static final long PERSIST_WAIT_MILLIS = 5_000L;
+	private static final long PERSIST_POLL_MILLIS = 10L;
+
+	private final BidDomainService bidDomainService;
+	private final UserDomainService userDomainService;
+	private final AuctionDomainService auctionDomainService;
+	private final EscrowService escrowService;
+	private final TransactionTemplate transactionTemplate;
+
+	private final ExecutorService sequencerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Map<Long, SequencedAuction> auctions = new ConcurrentHashMap<>();
+	private final Map<Long, Long> closedAuctions = new ConcurrentHashMap<>();
+
+	private MailboxSequencer<BidCommand> sequencer;
+
+	@Value("${bid.sequencer.batch-size:32}")
+	private int batchSize;
+
+	@Value("${bid.sequencer.timeout-ms:3000}")
+	private long timeoutMillis;
+
+	@Value("${bid.sequencer.closed-retention-ms:600000}")
+	private long closedRetentionMillis;
+
+	@PostConstruct
+	public void init() {
+		sequencer = new MailboxSequencer<>("bid-sequencer", batchSize, sequencerExecutor, this::handleBatch);
+	}
+
+	/**
+	 * 경매 메일박스에 입찰을 넣고 반영될 때까지 대기<br>
+	 * 대기 시간이 지나면 아직 처리되지 않은 입찰은 건너뛰지만, 이미 반영 중이던 입찰은 반영될 수 있음
+	 */
+	@Override
+	public CreateBidResponse upsertBid(Long auctionId, User loggedInUser, Long price) {
+		User user = userDomainService.findActiveUserById(loggedInUser.getId());
+
+		CompletableFuture<CreateBidResponse> result = new CompletableFuture<>();
+		sequencer.submit(auctionId, new PlaceBid(user, price, result));
+
+		return await(result);
+	}
+
+	@Override
+	public Long cancelBid(User user, Long auctionId, Long bidId) {
+		CompletableFuture<Long> result = new CompletableFuture<>();
+		sequencer.submit(auctionId, new CancelBid(user, bidId, result));
+
+		return await(result);
+	}
+
+	@Override
+	public Optional<AuctionLiveInfo> findLiveInfo(Long auctionId) {
+		return auctionDomainService.findAuctionLiveInfo(auctionId);
+	}
+
+	/**
+	 * 메일박스에 마감을 넣어 이후 순서의 입찰을 거절<br>
+	 * 마감 이전에 들어온 입찰은 그대로 처리
+	 */
+	@Override
+	public void closeAuction(Long auctionId) {
+		sequencer.submit(auctionId, new CloseAuction());
+	}
+
+	/**
+	 * 트랜잭션 밖에서 호출해야 하며, 대기 시간 안에 메일박스가 비지 않으면 예외를 던져 정산을 재시도하게 함
+	 * @throws IllegalStateException 대기 시간 안에 반영되지 않았거나 대기 중 인터럽트된 경우
+	 */
+	@Override
+	public void awaitPersisted(Long auctionId) {
+		long deadline = System.currentTimeMillis() + PERSIST_WAIT_MILLIS;
+
+		while (!sequencer.isIdle(auctionId)) {
+			if (System.currentTimeMillis() >= deadline) {
+				log.warn("입찰 시퀀서 반영 대기 시간 초과 - auctionId: {}", auctionId);
+				throw new IllegalStateException("입찰 시퀀서 반영 대기 시간 초과 - auctionId: " + auctionId);
+			}
+
+			try {
+				Thread.sleep(PERSIST_POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("입찰 시퀀서 반영 대기 중 인터럽트 - auctionId: " + auctionId, e);
+			}
+		}
+	}
+
+	/**
+	 * 종료되었거나 마감된 경매의 상태와 처리할 입찰이 없는 메일박스 정리<br>
+	 * 마감 표시는 정산이 끝나 DB의 경매 상태만으로 입찰을 거절할 수 있을 만큼(closed-retention-ms) 유지한 뒤 정리
+	 */
+	@Scheduled(fixedDelayString = "${bid.sequencer.evict-interval-ms:60000}")
+	public void evictIdle() {
+		LocalDateTime now = LocalDateTime.now();
+		long closedBefore = System.currentTimeMillis() - closedRetentionMillis;
+
+		auctions.entrySet().removeIf(entry -> isClosed(entry.getKey(), entry.getValue(), now)
+			&& sequencer.isIdle(entry.getKey()));
+		closedAuctions.entrySet().removeIf(entry -> entry.getValue() < closedBefore
+			&& sequencer.isIdle(entry.getKey()));
+		sequencer.removeIdle();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		sequencerExecutor.shutdown();
+		try {
+			if (!sequencerExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+				sequencerExecutor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			sequencerExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 메일박스에서 꺼낸 작업을 순서대로 처리<br>
+	 * 연속된 입찰은 한 트랜잭션으로 묶고, 취소와 마감은 그 사이에서 순서를 지켜 처리
+	 */
+	void handleBatch(Long auctionId, List<BidCommand> commands) {
+		List<PlaceBid> placeBids = new ArrayList<>();
+
+		for (BidCommand command : commands) {
+			if (command instanceof PlaceBid placeBid) {
+				placeBids.add(placeBid);
+				continue;
+			}
+
+			applyPlaceBids(auctionId, placeBids);
+			placeBids = new ArrayList<>();
+
+			if (command instanceof CancelBid cancelBid) {
+				applyCancelBid(auctionId, cancelBid);
+			} else if (command instanceof CloseAuction) {
+				closedAuctions.putIfAbsent(auctionId, System.currentTimeMillis());
+			}
+		}
+
+		applyPlaceBids(auctionId, placeBids);
+	}
+
+	private void applyPlaceBids(Long auctionId, List<PlaceBid> placeBids) {
+		// 대기 시간이 지나 호출자가 이미 포기한 입찰은 반영하지 않음
+		List<PlaceBid> pending = placeBids.stream()
+			.filter(placeBid -> !placeBid.result().isDone())
+			.toList();
+
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		if (closedAuctions.containsKey(auctionId)) {
+			pending.forEach(placeBid -> placeBid.result()
+				.completeExceptionally(new AuctionException(AuctionErrorCode.ALREADY_CLOSED_AUCTION)));
+			return;
+		}
+
+		SequencedAuction sequencedAuction;
+		try {
+			sequencedAuction = auctions.computeIfAbsent(auctionId, this::loadAuction);
+		} catch (RuntimeException e) {
+			pending.forEach(placeBid -> placeBid.result().completeExceptionally(e));
+			return;
+		}
+
+		Map<PlaceBid, Bid> accepted = new LinkedHashMap<>();
+		Map<PlaceBid, RuntimeException> rejected = new LinkedHashMap<>();
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				for (PlaceBid placeBid : pending) {
+					apply(sequencedAuction, placeBid, accepted, rejected);
+				}
+			});
+		} catch (RuntimeException e) {
+			// 배치 전체가 롤백되었으므로 메모리 상태도 버리고 다음 배치에서 DB 기준으로 다시 적재
+			auctions.remove(auctionId);
+			pending.forEach(placeBid -> placeBid.result().completeExceptionally(e));
+			return;
+		}
+
+		accepted.forEach((placeBid, bid) -> placeBid.result().complete(CreateBidResponse.from(bid)));
+		rejected.forEach((placeBid, e) -> placeBid.result().completeExceptionally(e));
+	}
+
+	private void apply(SequencedAuction sequencedAuction, PlaceBid placeBid, Map<PlaceBid, Bid> accepted,
+		Map<PlaceBid, RuntimeException> rejected) {
+		User user = placeBid.user();
+		Long price = placeBid.price();
+
+		try {
+			sequencedAuction.validate(user.getId(), price, LocalDateTime.now());
+		} catch (BaseException e) {
+			rejected.put(placeBid, e);
+			return;
+		}
+
+		EscrowHoldType holdType = sequencedAuction.isNewBidder(user.getId())
+			? EscrowHoldType.RESERVE : EscrowHoldType.ADJUST;
+		long delta = price - sequencedAuction.bidPriceOf(user.getId());
+		if (!escrowService.tryReserve(user, sequencedAuction.auction.getId(), delta, holdType)) {
+			rejected.put(placeBid, new UserException(UserErrorCode.INSUFFICIENT_BALANCE));
+			return;
+		}
+
+		auctionDomainService.updateCurrentPriceIfHigher(sequencedAuction.auction.getId(), price);
+		if (sequencedAuction.isNewBidder(user.getId())) {
+			auctionDomainService.increaseBidCount(sequencedAuction.auction.getId());
+		}
+		Bid bid = bidDomainService.applyAcceptedBid(sequencedAuction.auction, user, price);
+
+		sequencedAuction.accept(user.getId(), price);
+		accepted.put(placeBid, bid);
+	}
+
+	private void applyCancelBid(Long auctionId, CancelBid cancelBid) {
+		if (cancelBid.result().isDone()) {
+			return;
+		}
+
+		try {
+			Long cancelledBidId = transactionTemplate.execute(status -> {
+				Auction auction = auctionDomainService.findActiveAuctionWithProductAndSeller(auctionId);
+
+				Long bidId = bidDomainService.statusBid(auction, cancelBid.user(), cancelBid.bidId());
+				auctionDomainService.decreaseBidCount(auctionId);
+				escrowService.release(cancelBid.user().getId(), auctionId);
+
+				return bidId;
+			});
+			cancelBid.result().complete(cancelledBidId);
+		} catch (RuntimeException e) {
+			cancelBid.result().completeExceptionally(e);
+		} finally {
+			// 취소로 현재가가 다시 계산되므로 다음 입찰 때 DB 기준으로 다시 적재
+			auctions.remove(auctionId);
+		}
+	}
+
+	private boolean isClosed(Long auctionId, SequencedAuction sequencedAuction, LocalDateTime now) {
+		return closedAuctions.containsKey(auctionId) || sequencedAuction.isEnded(now);
+	}
+
+	private SequencedAuction loadAuction(Long auctionId) {
+		Auction auction = auctionDomainService.findActiveAuctionWithProductAndSeller(auctionId);
+
+		Map<Long, Long> bidPrices = bidDomainService.findBidsByAuctionIdAndStatusBid(auctionId).stream()
+			.collect(Collectors.toMap(bid -> bid.getUser().getId(), Bid::getPrice));
+
+		return new SequencedAuction(auction, bidPrices);
+	}
+
+	private <T> T await(CompletableFuture<T> result) {
+		try {
+			return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			if (result.completeExceptionally(new AuctionException(AuctionErrorCode.AUCTION_BID_TIMEOUT))) {
+				throw new AuctionException(AuctionErrorCode.AUCTION_BID_TIMEOUT);
+			}
+
+			return await(result);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.completeExceptionally(new AuctionException(AuctionErrorCode.AUCTION_BID_TIMEOUT));
+			throw new AuctionException(AuctionErrorCode.AUCTION_BID_TIMEOUT);
+		}
+	}
+
+	sealed interface BidCommand permits PlaceBid, CancelBid, CloseAuction {
+	}
+
+	record PlaceBid(User user, Long price, CompletableFuture<CreateBidResponse> result) implements BidCommand {
+	}
+
+	record CancelBid(User user, Long bidId, CompletableFuture<Long> result) implements BidCommand {
+	}
+
+	record CloseAuction() implements BidCommand {
+	}
+
+	/**
+	 * 시퀀서 스레드만 읽고 쓰는 경매 상태
+	 */
+	private static final class SequencedAuction {
+
+		private final Auction auction;
+		private final Long sellerId;
+		private final Long startPrice;
+		private final LocalDateTime endTime;
+		private final Map<Long, Long> bidPrices;
+		private final boolean won;
+		private Long currentPrice;
+
+		private SequencedAuction(Auction auction, Map<Long, Long> bidPrices) {
+			this.auction = auction;
+			this.sellerId = auction.getProduct().getSellerId();
+			this.startPrice = auction.getStartPrice();
+			this.endTime = auction.getEndTime();
+			this.bidPrices = bidPrices;
+			this.won = auction.isWon();
+			this.currentPrice = auction.getCurrentPrice();
+		}
+
+		private void validate(Long userId, Long price, LocalDateTime now) {
+			if (isEnded(now)) {
+				throw new AuctionException(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
+			}
+
+			if (sellerId.equals(userId)) {
+				throw new BidException(BidErrorCode.CANNOT_BID_OWN_AUCTION);
+			}
+
+			if (!bidPrices.containsKey(userId) && startPrice > price) {
+				throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_START_PRICE);
+			}
+
+			if (currentPrice != null && currentPrice >= price) {
+				throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
+			}
+		}
+
+		private boolean isNewBidder(Long userId) {
+			return !bidPrices.containsKey(userId);
+		}
+
+		private long bidPriceOf(Long userId) {
+			return bidPrices.getOrDefault(userId, 0L);
+		}
+
+		private void accept(Long userId, Long price) {
+			bidPrices.put(userId, price);
+			currentPrice = price;
+		}
+
+		private boolean isEnded(LocalDateTime now) {
+			return won || !now.isBefore(endTime);
+		}
+	}
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import nbc.chillguys.nebulazone.application.chat.dto.response.CreateChatRoomResp
 import nbc.chillguys.nebulazone.application.chat.dto.response.FindChatHistoryResponse;
 import nbc.chillguys.nebulazone.application.chat.dto.response.FindChatRoomResponses;
 import nbc.chillguys.nebulazone.application.chat.service.ChatService;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 
 @RequiredArgsConstructor
@@ -53,6 +55,18 @@ public class ChatController {
 		return ResponseEntity.ok(chatHistories);
 	}
 
+	@GetMapping(value = "/rooms/history/{roomId}", params = "cursor")
+	public ResponseEntity<CommonCursorResponse<FindChatHistoryResponse>> findChatHistoriesByCursor(
+		@AuthenticationPrincipal User user,
+		@PathVariable("roomId") Long roomId,
+		@RequestParam(value = "cursor") String cursor,
+		@RequestParam(defaultValue = "50", value = "size") int size
+	) {
+		CommonCursorResponse<FindChatHistoryResponse> chatHistories =
+			chatService.findChatHistoriesByCursor(user, roomId, cursor, size);
+		return ResponseEntity.ok(chatHistories);
+	}
+
 	@DeleteMapping("/rooms/{roomId}")
 	public ResponseEntity<String> leaveChatRoom(
 		@AuthenticationPrincipal User user,
@@ -2,6 +2,7 @@ package nbc.chillguys.nebulazone.application.chat.dto.response;
 
 import java.time.LocalDateTime;
 
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatHistoryInfo;
 import nbc.chillguys.nebulazone.domain.chat.entity.ChatHistory;
 
 public record FindChatHistoryResponse(
@@ -16,4 +17,12 @@ public record FindChatHistoryResponse(
 			chatHistory.getSendTime()
 		);
 	}
+
+	public static FindChatHistoryResponse from(ChatHistoryInfo chatHistoryInfo) {
+		return new FindChatHistoryResponse(
+			chatHistoryInfo.senderId(),
+			chatHistoryInfo.message(),
+			chatHistoryInfo.sendTime()
+		);
+	}
 }
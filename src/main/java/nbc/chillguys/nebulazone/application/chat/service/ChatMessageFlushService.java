@@ -0,0 +1,179 @@
+package nbc.chillguys.nebulazone.application.chat.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.common.exception.BaseException;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.infra.redis.dto.ChatStreamRecord;
+
+/**
+ * 채팅방 stream에 쌓인 채팅 메시지를 chat_histories에 일괄 저장(write-behind)<br>
+ * 각 노드가 같은 컨슈머 그룹의 컨슈머로 flush-interval-ms마다 최대 batch-size 건을 읽어 한 트랜잭션으로 저장하고,
+ * 커밋된 뒤에 ack 하므로 저장 전에 노드가 죽어도 메시지는 stream에 남음(at-least-once)<br>
+ * 죽은 노드가 읽고 ack 하지 못한 메시지는 claim-idle-ms가 지나면 다른 노드가 가져가 저장<br>
+ * 일괄 저장이 실패하면 채팅방별로 저장하고, 비즈니스 예외(삭제된 채팅방 등)로 실패한 메시지는 dead letter stream으로 옮김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageFlushService {
+
+	private static final String PERSISTED_METRIC = "chat.write-behind.persisted";
+	private static final String DEAD_LETTER_METRIC = "chat.write-behind.dead-letter";
+	private static final String FAILURE_METRIC = "chat.write-behind.failure";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final ChatMessageRedisService chatMessageRedisService;
+	private final ChatMessageService chatMessageService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.write-behind.batch-size:500}")
+	private int batchSize;
+
+	@Value("${chat.write-behind.rooms-per-flush:100}")
+	private int roomsPerFlush;
+
+	@Value("${chat.write-behind.claim-idle-ms:60000}")
+	private long claimIdleMs;
+
+	/**
+	 * 저장 대기 채팅방에서 메시지를 읽어 DB에 저장하고 ack<br>
+	 * 한 번에 batch-size 건을 채우면 밀린 메시지가 있다고 보고 바로 다음 묶음을 처리
+	 */
+	@Scheduled(fixedDelayString = "${chat.write-behind.flush-interval-ms:1000}")
+	public void flush() {
+		try {
+			int flushed;
+			do {
+				flushed = flushOnce();
+			} while (flushed >= batchSize);
+		} catch (Exception e) {
+			log.error("채팅 write-behind 처리 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 다른 노드가 읽고 오래 ack 하지 못한 메시지를 이 노드로 가져옴
+	 */
+	@Scheduled(fixedDelayString = "${chat.write-behind.claim-interval-ms:30000}")
+	public void claimStale() {
+		try {
+			Duration minIdle = Duration.ofMillis(claimIdleMs);
+			int claimed = 0;
+
+			for (Long roomId : chatMessageRedisService.sampleRoomIds(roomsPerFlush)) {
+				claimed += chatMessageRedisService.claimStale(roomId, nodeId, minIdle, batchSize);
+			}
+
+			if (claimed > 0) {
+				log.info("채팅 write-behind 미처리 메시지 회수 - 건수: {}", claimed);
+			}
+		} catch (Exception e) {
+			log.error("채팅 write-behind 미처리 메시지 회수 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 이전 버전이 채팅방 list에 남겨 둔 메시지를 채팅방 stream으로 옮김<br>
+	 * 메시지를 꺼내면서 옮기므로 여러 노드가 동시에 실행해도 한 번씩만 옮겨짐
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateLegacyMessages() {
+		try {
+			for (Long roomId : chatMessageRedisService.findLegacyRoomIds()) {
+				List<ChatMessageInfo> messages;
+				do {
+					messages = chatMessageRedisService.popLegacyMessages(roomId, batchSize);
+					messages.forEach(message -> chatMessageRedisService.saveMessageToRedis(roomId, message));
+				} while (!messages.isEmpty());
+			}
+		} catch (Exception e) {
+			log.error("이전 채팅 기록 이전 실패 - error: {}", e.getMessage(), e);
+		}
+	}
+
+	private int flushOnce() {
+		List<ChatStreamRecord> records = new ArrayList<>();
+
+		for (Long roomId : chatMessageRedisService.sampleRoomIds(roomsPerFlush)) {
+			if (records.size() >= batchSize) {
+				break;
+			}
+
+			records.addAll(chatMessageRedisService.readMessages(roomId, nodeId, batchSize - records.size()));
+		}
+
+		if (records.isEmpty()) {
+			return 0;
+		}
+
+		Map<Long, List<ChatStreamRecord>> recordsByRoom = records.stream()
+			.collect(Collectors.groupingBy(ChatStreamRecord::roomId, LinkedHashMap::new, Collectors.toList()));
+
+		try {
+			chatMessageService.saveMessagesToDb(toMessages(recordsByRoom));
+		} catch (Exception e) {
+			log.warn("채팅 기록 일괄 저장 실패, 채팅방별 저장으로 전환 - 건수: {}, error: {}", records.size(), e.getMessage());
+			return flushByRoom(recordsByRoom);
+		}
+
+		recordsByRoom.forEach(chatMessageRedisService::acknowledge);
+		meterRegistry.counter(PERSISTED_METRIC).increment(records.size());
+
+		return records.size();
+	}
+
+	// 일시적인 오류로 실패한 채팅방은 ack 하지 않고 두어 다음 flush에서 다시 저장
+	private int flushByRoom(Map<Long, List<ChatStreamRecord>> recordsByRoom) {
+		int flushed = 0;
+
+		for (Map.Entry<Long, List<ChatStreamRecord>> entry : recordsByRoom.entrySet()) {
+			Long roomId = entry.getKey();
+			List<ChatStreamRecord> roomRecords = entry.getValue();
+
+			try {
+				chatMessageService.saveMessagesToDb(toMessages(Map.of(roomId, roomRecords)));
+				meterRegistry.counter(PERSISTED_METRIC).increment(roomRecords.size());
+			} catch (BaseException e) {
+				log.error("채팅 기록 저장 실패, dead letter로 이동 - roomId: {}, 건수: {}, error: {}",
+					roomId, roomRecords.size(), e.getMessage());
+				roomRecords.forEach(chatMessageRedisService::moveToDeadLetter);
+				meterRegistry.counter(DEAD_LETTER_METRIC).increment(roomRecords.size());
+			} catch (Exception e) {
+				log.error("채팅 기록 저장 실패, 다음 flush에서 재시도 - roomId: {}, error: {}", roomId, e.getMessage());
+				meterRegistry.counter(FAILURE_METRIC).increment();
+				continue;
+			}
+
+			chatMessageRedisService.acknowledge(roomId, roomRecords);
+			flushed += roomRecords.size();
+		}
+
+		// 재시도할 채팅방이 남아 있으면 이번 flush는 여기서 멈춤
+		return flushed == recordsByRoom.values().stream().mapToInt(List::size).sum() ? flushed : 0;
+	}
+
+	private Map<Long, List<ChatMessageInfo>> toMessages(Map<Long, List<ChatStreamRecord>> recordsByRoom) {
+		Map<Long, List<ChatMessageInfo>> messages = new LinkedHashMap<>();
+		recordsByRoom.forEach((roomId, roomRecords) ->
+			messages.put(roomId, roomRecords.stream().map(ChatStreamRecord::message).toList()));
+
+		return messages;
+	}
+}
@@ -1,55 +1,242 @@
 package nbc.chillguys.nebulazone.application.chat.service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatException;
+import nbc.chillguys.nebulazone.infra.redis.dto.ChatStreamRecord;
 
+/**
+ * 채팅방별 Redis Stream(chat:stream:{roomId})에 채팅 메시지를 쌓아 두고 DB 저장 후 ack 하는 서비스<br>
+ * 모든 노드가 같은 컨슈머 그룹의 컨슈머로 stream을 나눠 읽고, 저장이 끝난 메시지는 ack와 함께 stream에서 삭제<br>
+ * 메시지가 남아 있는 채팅방은 저장 대기 채팅방 set에 등록되어 있음
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageRedisService {
 
+	private static final String STREAM_KEY_PREFIX = "chat:stream:";
+	private static final String ROOMS_KEY = "chat:stream:rooms";
+	private static final String DEAD_LETTER_KEY = "chat:stream:dead";
+	private static final String GROUP = "chat-writer";
+	private static final String LEGACY_KEY_PREFIX = "chat:message:";
+
+	private static final RedisScript<String> APPEND_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-append.lua"), String.class);
+	private static final RedisScript<Long> ACK_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-ack.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
 	private final RedisTemplate<String, Object> redisTemplate;
 	private final ObjectMapper objectMapper;
-	private static final String CHAT_MESSAGE_KEY_PREFIX = "chat:message:";
 
 	/**
-	 * 채팅 메시지 Redis에 저장
+	 * 채팅 메시지를 채팅방 stream에 추가
+	 * @throws ChatException Redis 저장에 실패한 경우 CHAT_SEND_FAILED
 	 */
 	public void saveMessageToRedis(Long roomId, ChatMessageInfo messageInfo) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(roomId));
+		args.add(GROUP);
+		ChatStreamRecord.toFields(messageInfo).forEach((field, value) -> {
+			args.add(field);
+			args.add(value);
+		});
+
 		try {
-			String key = CHAT_MESSAGE_KEY_PREFIX + roomId;
-			redisTemplate.opsForList().rightPush(key, messageInfo);
+			stringRedisTemplate.execute(APPEND_SCRIPT, List.of(getStreamKey(roomId), ROOMS_KEY), args.toArray());
 		} catch (Exception e) {
-			throw new RuntimeException("Redis에 저장 중 오류 발생", e);
+			log.error("채팅 메시지 Redis 저장 실패 - roomId: {}, error: {}", roomId, e.getMessage(), e);
+			throw new ChatException(ChatErrorCode.CHAT_SEND_FAILED);
 		}
 	}
 
 	/**
-	 * 채팅방 메시지 전체 조회
+	 * 저장할 메시지가 남아 있는 채팅방을 임의로 골라 조회
+	 * @param count 최대 채팅방 수
 	 */
-	public List<ChatMessageInfo> getMessagesFromRedis(Long roomId) {
-		String key = CHAT_MESSAGE_KEY_PREFIX + roomId;
+	public Set<Long> sampleRoomIds(int count) {
+		Set<String> roomIds = stringRedisTemplate.opsForSet().distinctRandomMembers(ROOMS_KEY, count);
+
+		if (roomIds == null) {
+			return Set.of();
+		}
 
-		List<Object> raw = Optional.ofNullable(redisTemplate.opsForList().range(key, 0, -1)).orElse(List.of());
+		return roomIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+	}
 
-		return raw.stream()
-			.map(o -> objectMapper.convertValue(o,
-				ChatMessageInfo.class)) // ObjectMapper.convertValue를 통해 ChatMessageInfo객체로 변환
+	/**
+	 * 이 컨슈머가 저장할 채팅 메시지 조회<br>
+	 * 이전에 읽고 ack 하지 못한 메시지를 먼저 다시 읽고, 없으면 새 메시지를 읽음
+	 * @param consumerName 컨슈머(노드) 이름
+	 * @param count 최대 조회 건수
+	 */
+	public List<ChatStreamRecord> readMessages(Long roomId, String consumerName, int count) {
+		StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+		Consumer consumer = Consumer.from(GROUP, consumerName);
+		StreamReadOptions options = StreamReadOptions.empty().count(count);
+		String key = getStreamKey(roomId);
+
+		List<MapRecord<String, Object, Object>> records;
+		try {
+			records = streamOps.read(consumer, options, StreamOffset.create(key, ReadOffset.from("0")));
+
+			if (records == null || records.isEmpty()) {
+				records = streamOps.read(consumer, options, StreamOffset.create(key, ReadOffset.lastConsumed()));
+			}
+		} catch (DataAccessException e) {
+			// 다른 노드가 비워진 stream을 막 삭제한 경우(NOGROUP)
+			log.debug("채팅 stream 조회 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+			return List.of();
+		}
+
+		if (records == null) {
+			return List.of();
+		}
+
+		return records.stream()
+			.map(record -> ChatStreamRecord.of(record.getId().getValue(), record.getValue()))
 			.toList();
 	}
 
 	/**
-	 * 채팅방 메시지 삭제
+	 * DB에 저장된 메시지를 ack 하고 stream에서 삭제
 	 */
-	public void deleteMessagesInRedis(Long roomId) {
-		redisTemplate.delete(CHAT_MESSAGE_KEY_PREFIX + roomId);
+	public void acknowledge(Long roomId, List<ChatStreamRecord> records) {
+		if (records.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(roomId));
+		args.add(GROUP);
+		records.forEach(record -> args.add(record.recordId()));
+
+		stringRedisTemplate.execute(ACK_SCRIPT, List.of(getStreamKey(roomId), ROOMS_KEY), args.toArray());
 	}
 
+	/**
+	 * 다른 컨슈머가 읽고 오래 ack 하지 못한 메시지를 이 컨슈머로 가져옴(노드 장애 대비)<br>
+	 * 가져온 메시지는 다음 readMessages에서 다시 읽힘
+	 * @param consumerName 가져올 컨슈머(노드) 이름
+	 * @param minIdle 이 시간 이상 ack 되지 않은 메시지만 가져옴
+	 * @param count 최대 건수
+	 * @return 가져온 건수
+	 */
+	public int claimStale(Long roomId, String consumerName, Duration minIdle, int count) {
+		String key = getStreamKey(roomId);
+
+		PendingMessages pending;
+		try {
+			pending = stringRedisTemplate.opsForStream().pending(key, GROUP, Range.unbounded(), count);
+		} catch (DataAccessException e) {
+			log.debug("채팅 stream 미처리 메시지 조회 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+			return 0;
+		}
+
+		RecordId[] staleIds = pending.stream()
+			.filter(message -> !consumerName.equals(message.getConsumerName()))
+			.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+			.map(PendingMessage::getId)
+			.toArray(RecordId[]::new);
+
+		if (staleIds.length == 0) {
+			return 0;
+		}
+
+		return stringRedisTemplate.opsForStream().claim(key, GROUP, consumerName, minIdle, staleIds).size();
+	}
+
+	public void moveToDeadLetter(ChatStreamRecord record) {
+		stringRedisTemplate.opsForStream()
+			.add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(ChatStreamRecord.toFields(record.message())));
+	}
+
+	/**
+	 * 채팅방 stream에 남아 있는(아직 DB 저장 후 삭제되지 않은) 최신 메시지 조회<br>
+	 * Redis 장애 시에는 빈 목록을 반환하여 DB 기록만으로 응답할 수 있게 함
+	 * @param count 최대 건수
+	 * @return 최신순 채팅 메시지
+	 */
+	public List<ChatMessageInfo> findRecentMessages(Long roomId, int count) {
+		List<MapRecord<String, Object, Object>> records;
+		try {
+			records = stringRedisTemplate.opsForStream()
+				.reverseRange(getStreamKey(roomId), Range.unbounded(), Limit.limit().count(count));
+		} catch (DataAccessException e) {
+			log.warn("채팅 stream 최신 메시지 조회 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+			return List.of();
+		}
+
+		if (records == null) {
+			return List.of();
+		}
+
+		return records.stream()
+			.map(record -> ChatStreamRecord.of(record.getId().getValue(), record.getValue()).message())
+			.toList();
+	}
+
+	/**
+	 * 이전 버전이 채팅방별 list(chat:message:{roomId})에 쌓아 둔 채팅방 id 조회
+	 */
+	public List<Long> findLegacyRoomIds() {
+		List<Long> roomIds = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PREFIX + "*").count(100).build();
+
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(key -> roomIds.add(Long.valueOf(key.substring(LEGACY_KEY_PREFIX.length()))));
+		}
+
+		return roomIds;
+	}
+
+	/**
+	 * 이전 버전의 채팅방 list에서 메시지를 앞에서부터 꺼냄(꺼낸 메시지는 list에서 제거됨)
+	 * @param count 최대 건수
+	 */
+	public List<ChatMessageInfo> popLegacyMessages(Long roomId, int count) {
+		List<Object> raw = Optional.ofNullable(redisTemplate.opsForList().leftPop(LEGACY_KEY_PREFIX + roomId, count))
+			.orElse(List.of());
+
+		return raw.stream()
+			.map(o -> objectMapper.convertValue(o, ChatMessageInfo.class))
+			.toList();
+	}
+
+	private String getStreamKey(Long roomId) {
+		return STREAM_KEY_PREFIX + roomId;
+	}
 }
@@ -1,7 +1,9 @@
 package nbc.chillguys.nebulazone.application.chat.service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,7 +20,7 @@ import nbc.chillguys.nebulazone.domain.chat.service.ChatDomainService;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 import nbc.chillguys.nebulazone.infra.aws.s3.S3Service;
 import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
-import nbc.chillguys.nebulazone.infra.redis.service.WebSocketSessionRedisService;
+import nbc.chillguys.nebulazone.infra.websocket.WebSocketSessionRegistry;
 import nbc.chillguys.nebulazone.infra.websocket.dto.SessionUser;
 
 @Slf4j
@@ -30,15 +32,16 @@ public class ChatMessageService {
 	private final S3Service s3Service;
 	private final RedisMessagePublisher redisMessagePublisher;
 	private final ChatDomainService chatDomainService;
-	private final WebSocketSessionRedisService webSocketSessionRedisService;
+	private final WebSocketSessionRegistry webSocketSessionRegistry;
 
 	/**
-	 * 현재 접속한 유저가 방에 참여중인지 확인
+	 * 현재 접속한 유저가 방에 참여중인지 확인(이 노드의 세션 매핑으로 확인하므로 Redis 조회 없음)
 	 */
 	private SessionUser validateSessionUserInRoom(String sessionId, Long roomId) {
-		SessionUser sessionUser = webSocketSessionRedisService.getUserIdBySessionId(sessionId);
-		Long roomIdBySessionId = webSocketSessionRedisService.getRoomIdBySessionId(sessionId);
-		if (sessionUser.id() == null || roomIdBySessionId == null || !roomIdBySessionId.equals(roomId)) {
+		SessionUser sessionUser = webSocketSessionRegistry.getUser(sessionId);
+		Long roomIdBySessionId = webSocketSessionRegistry.getRoomId(sessionId);
+		if (sessionUser == null || sessionUser.id() == null
+			|| roomIdBySessionId == null || !roomIdBySessionId.equals(roomId)) {
 			throw new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
 		}
 		return sessionUser;
@@ -85,40 +88,30 @@ public class ChatMessageService {
 	 * @param sessionUser 로그인한 유저 인증 객체
 	 */
 	private void sendAndSaveMessage(Long roomId, String message, MessageType messageType, SessionUser sessionUser) {
-		// 메시지 본문 작성
+		// 메시지 본문 작성 (stream과 DB(datetime(6))에 같은 보낸 시각이 남도록 마이크로초 단위로 자름)
 		ChatMessageInfo content = ChatMessageInfo.of(
 			roomId,
 			sessionUser,
 			message,
 			messageType,
-			LocalDateTime.now()
+			LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
 		);
 
 		// Redis Pub/Sub을 통해 모든 인스턴스에 메시지 발행
 		redisMessagePublisher.publishChatMessage(roomId, content);
 
-		// 레디스 저장 (채팅 기록 임시 저장)
+		// 채팅방 stream에 추가 (DB 저장은 ChatMessageFlushService가 일괄 처리)
 		chatMessageRedisService.saveMessageToRedis(roomId, content);
 	}
 
-	/** 채팅방 Id를 기준으로 레디스에서 채팅기록 꺼내와서 db에 저장<br/>
-	 * 이벤트 형식으로 STOMP DISCONNET면 redis -> db 저장
+	/**
+	 * 채팅방 stream에서 읽은 채팅 기록을 한 트랜잭션으로 DB에 저장
 	 *
-	 * @param roomId 채팅방 id
+	 * @param messagesByRoom 채팅방 id별 채팅 기록
 	 */
 	@Transactional
-	public void saveMessagesToDb(Long roomId) {
-		// 채팅방Id를 기준으로 레디스에 있는 채팅기록들 불러오기
-		List<ChatMessageInfo> messagesFromRedis = chatMessageRedisService.getMessagesFromRedis(roomId);
-		if (messagesFromRedis.isEmpty()) {
-			return;
-		}
-
-		// 레디스에서 가져온 메시지들 db에 저장
-		chatDomainService.saveChatHistories(roomId, messagesFromRedis);
-
-		// db에 저장이 끝난 레디스 데이터 삭제
-		chatMessageRedisService.deleteMessagesInRedis(roomId);
+	public void saveMessagesToDb(Map<Long, List<ChatMessageInfo>> messagesByRoom) {
+		chatDomainService.saveChatHistories(messagesByRoom);
 	}
 
 }
@@ -1,8 +1,13 @@
 package nbc.chillguys.nebulazone.application.chat.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +19,9 @@ import nbc.chillguys.nebulazone.application.chat.dto.response.CreateChatRoomResp
 import nbc.chillguys.nebulazone.application.chat.dto.response.FindChatHistoryResponse;
 import nbc.chillguys.nebulazone.application.chat.dto.response.FindChatRoomResponses;
 import nbc.chillguys.nebulazone.application.notification.service.NotificationService;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatHistoryInfo;
 import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatRoomInfo;
 import nbc.chillguys.nebulazone.domain.chat.entity.ChatRoom;
 import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
@@ -31,11 +39,22 @@ import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 @RequiredArgsConstructor
 public class ChatService {
 
+	/**
+	 * 최신순(보낸 시각 내림차순, 같은 시각이면 아직 DB에 없는 메시지 먼저, 그다음 id 내림차순)
+	 */
+	private static final Comparator<ChatHistoryInfo> LATEST_FIRST = Comparator
+		.comparing(ChatHistoryInfo::sendTime, Comparator.reverseOrder())
+		.thenComparing(ChatHistoryInfo::chatHistoryId, Comparator.nullsFirst(Comparator.reverseOrder()));
+
 	private final ChatDomainService chatDomainService;
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ProductDomainService productDomainService;
 	private final UserDomainService userDomainService;
 	private final NotificationService notificationService;
+	private final ChatMessageRedisService chatMessageRedisService;
+
+	@Value("${chat.history.hot-tail-limit:1000}")
+	private int hotTailLimit;
 
 	/**
 	 * 채팅방 생성 또는 기존에 채팅방 조회.<br/>
@@ -127,6 +146,67 @@ public class ChatService {
 		return responses;
 	}
 
+	/**
+	 * 채팅 기록 조회(cursor 페이징, 최신순)<br>
+	 * 아직 DB에 저장되지 않은 최신 메시지는 채팅방 stream(Redis)에서, 나머지는 DB에서 같은 cursor로 각각 조회해 합침<br>
+	 * DB 저장 직후 stream에서 삭제되기 전의 메시지는 양쪽에 모두 있으므로 보낸 사람과 보낸 시각이 같은 DB 기록은 제외
+	 *
+	 * @param user the auth user
+	 * @param roomId the room id
+	 * @param cursor 이전 응답의 nextCursor(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 채팅 기록과 다음 cursor
+	 */
+	public CommonCursorResponse<FindChatHistoryResponse> findChatHistoriesByCursor(User user, Long roomId,
+		String cursor, int size) {
+
+		chatDomainService.validateUserAccessToChatRoom(user, roomId);
+
+		Cursor decoded = Cursor.decode(cursor);
+
+		List<ChatHistoryInfo> unsaved = chatMessageRedisService.findRecentMessages(roomId, hotTailLimit).stream()
+			.filter(message -> decoded == null || message.sendTime().isBefore(decoded.createdAt()))
+			.map(ChatHistoryInfo::from)
+			.sorted(LATEST_FIRST)
+			.limit(size + 1L)
+			.toList();
+
+		List<ChatHistoryInfo> saved = chatDomainService.findChatHistoriesByCursor(roomId, decoded, size);
+
+		return CommonCursorResponse.of(mergeLatest(unsaved, saved, size + 1), size, ChatService::cursorOf)
+			.map(FindChatHistoryResponse::from);
+	}
+
+	/**
+	 * stream의 메시지는 DB id가 없으므로 id 0으로 cursor를 만들어, 다음 페이지에서 같은 시각의 DB 기록(자기 자신)이 다시 나오지 않게 함
+	 */
+	private static Cursor cursorOf(ChatHistoryInfo info) {
+		return new Cursor(info.sendTime(), info.chatHistoryId() == null ? 0L : info.chatHistoryId());
+	}
+
+	private List<ChatHistoryInfo> mergeLatest(List<ChatHistoryInfo> unsaved, List<ChatHistoryInfo> saved,
+		int limit) {
+		if (unsaved.isEmpty()) {
+			return saved;
+		}
+
+		Set<String> unsavedKeys = unsaved.stream()
+			.map(ChatService::messageKey)
+			.collect(Collectors.toSet());
+
+		List<ChatHistoryInfo> merged = new ArrayList<>(unsaved);
+		saved.stream()
+			.filter(info -> !unsavedKeys.contains(messageKey(info)))
+			.forEach(merged::add);
+		merged.sort(LATEST_FIRST);
+
+		return merged.subList(0, Math.min(limit, merged.size()));
+	}
+
+	private static String messageKey(ChatHistoryInfo info) {
+		return info.senderId() + "|" + info.sendTime();
+	}
+
 	/**
 	 * 채팅방 나가기
 	 * @param user the auth user
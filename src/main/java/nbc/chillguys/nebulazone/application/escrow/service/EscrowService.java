@@ -0,0 +1,225 @@
+package nbc.chillguys.nebulazone.application.escrow.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.escrow.dto.EscrowHoldInfo;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.escrow.service.EscrowDomainService;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.exception.UserException;
+import nbc.chillguys.nebulazone.infra.redis.service.EscrowHoldRedisService;
+
+/**
+ * 입찰 예치금 관리<br>
+ * 입찰은 유저 포인트를 수정하지 않고 예치금 원장에 INSERT만 하며, 사용 가능 포인트는 유저 포인트에서 예치금 합계를 뺀 값<br>
+ * 예치금 합계는 Redis에 캐시하여 같은 유저의 동시 입찰도 유저 row 락 없이 원자적으로 확인하고,
+ * 캐시가 없으면 원장 합계로 다시 적재<br>
+ * 원장을 바꾼 트랜잭션은 커밋 후(Redis로 먼저 예치한 경우는 롤백 후) 캐시를 증감하지 않고 지움.
+ * 원장 합계로 다시 적재하는 사이에 커밋된 증감이 따로 더해져 같은 금액이 두 번 반영되지 않도록, 다음 조회가 원장 합계로 적재하게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EscrowService {
+
+	private final EscrowDomainService escrowDomainService;
+	private final EscrowHoldRedisService escrowHoldRedisService;
+
+	@Value("${escrow.held-cache-ttl-seconds:86400}")
+	private long heldCacheTtlSeconds;
+
+	/**
+	 * 사용 가능 포인트(유저 포인트 - 예치금 합계) 조회
+	 * @param user DB에서 조회한 유저
+	 * @return 사용 가능 포인트
+	 */
+	public long findAvailablePoint(User user) {
+		return user.getPoint() - findHeld(user.getId());
+	}
+
+	/**
+	 * 예치금 합계 캐시가 없으면 원장 합계로 적재
+	 */
+	public void loadHeld(Long userId) {
+		findHeld(userId);
+	}
+
+	/**
+	 * 입찰 외의 포인트 사용(구매, 환전) 전 사용 가능 포인트 검증
+	 * @param user DB에서 조회한 유저
+	 * @param amount 사용할 포인트
+	 * @throws UserException 사용 가능 포인트 부족 시 INSUFFICIENT_BALANCE
+	 */
+	public void validateAvailablePoint(User user, long amount) {
+		if (findAvailablePoint(user) < amount) {
+			throw new UserException(UserErrorCode.INSUFFICIENT_BALANCE);
+		}
+	}
+
+	/**
+	 * 사용 가능 포인트를 확인하고 예치
+	 * @param user DB에서 조회한 입찰자
+	 * @param auctionId 경매 id
+	 * @param amount 예치할 금액(입찰가를 올린 경우 차액)
+	 * @param type RESERVE(최초 입찰) 또는 ADJUST(입찰가 변경)
+	 * @throws UserException 사용 가능 포인트 부족 시 INSUFFICIENT_BALANCE
+	 */
+	public void reserve(User user, Long auctionId, long amount, EscrowHoldType type) {
+		if (!tryReserve(user, auctionId, amount, type)) {
+			throw new UserException(UserErrorCode.INSUFFICIENT_BALANCE);
+		}
+	}
+
+	/**
+	 * 사용 가능 포인트를 확인하고 예치(부족 시 예외 없이 false 반환)<br>
+	 * 여러 입찰을 한 트랜잭션에서 처리할 때 한 건의 포인트 부족으로 전체가 롤백되지 않도록 사용
+	 * @return 예치 여부
+	 */
+	public boolean tryReserve(User user, Long auctionId, long amount, EscrowHoldType type) {
+		if (amount <= 0) {
+			return true;
+		}
+
+		boolean cached;
+		boolean reserved;
+		try {
+			reserved = reserveHeld(user, amount);
+			cached = true;
+		} catch (Exception e) {
+			log.warn("예치금 캐시 확인 실패, DB 합계로 확인 - userId: {}, error: {}", user.getId(), e.getMessage());
+			reserved = user.getPoint() - escrowDomainService.sumOpenHolds(user.getId()) >= amount;
+			cached = false;
+		}
+
+		if (!reserved) {
+			return false;
+		}
+
+		if (cached) {
+			afterRollback(() -> evictHeld(user.getId()));
+		} else {
+			afterCommit(() -> evictHeld(user.getId()));
+		}
+		escrowDomainService.hold(user.getId(), auctionId, amount, type);
+
+		return true;
+	}
+
+	/**
+	 * 이미 검증이 끝난 입찰의 예치 기록(Redis 호가창 write-behind)<br>
+	 * 캐시는 커밋 후 삭제
+	 */
+	public void record(Long userId, Long auctionId, long amount, EscrowHoldType type) {
+		if (amount <= 0) {
+			return;
+		}
+
+		escrowDomainService.hold(userId, auctionId, amount, type);
+		afterCommit(() -> evictHeld(userId));
+	}
+
+	/**
+	 * 입찰 취소 시 해당 경매에 예치한 금액 전체 해제
+	 */
+	public void release(Long userId, Long auctionId) {
+		long released = escrowDomainService.release(userId, auctionId);
+
+		if (released > 0) {
+			afterCommit(() -> evictHeld(userId));
+		}
+	}
+
+	/**
+	 * 종료되거나 삭제된 경매들의 예치금을 한 번에 정산<br>
+	 * 낙찰자는 예치금이 결제로 바뀌고(포인트 차감은 호출하는 쪽에서 처리), 나머지 입찰자는 예치금이 해제됨
+	 * @param auctionIds 경매 id 목록
+	 * @param winnerIds 경매 id, 낙찰자 id
+	 */
+	public void settle(List<Long> auctionIds, Map<Long, Long> winnerIds) {
+		List<EscrowHoldInfo> settled = escrowDomainService.settle(auctionIds, winnerIds);
+
+		Set<Long> settledUserIds = settled.stream().map(EscrowHoldInfo::userId).collect(Collectors.toSet());
+
+		if (!settledUserIds.isEmpty()) {
+			afterCommit(() -> settledUserIds.forEach(this::evictHeld));
+		}
+	}
+
+	private boolean reserveHeld(User user, long amount) {
+		long result = escrowHoldRedisService.reserve(user.getId(), amount, user.getPoint(), getTtl());
+
+		if (result < 0) {
+			escrowHoldRedisService.load(user.getId(), escrowDomainService.sumOpenHolds(user.getId()), getTtl());
+			result = escrowHoldRedisService.reserve(user.getId(), amount, user.getPoint(), getTtl());
+		}
+
+		return result > 0;
+	}
+
+	private long findHeld(Long userId) {
+		try {
+			return escrowHoldRedisService.findHeld(userId)
+				.orElseGet(() -> {
+					long held = escrowDomainService.sumOpenHolds(userId);
+					escrowHoldRedisService.load(userId, held, getTtl());
+					return held;
+				});
+		} catch (Exception e) {
+			log.warn("예치금 캐시 조회 실패, DB 합계로 조회 - userId: {}, error: {}", userId, e.getMessage());
+			return escrowDomainService.sumOpenHolds(userId);
+		}
+	}
+
+	private void evictHeld(Long userId) {
+		try {
+			escrowHoldRedisService.evict(userId);
+		} catch (Exception e) {
+			log.warn("예치금 캐시 삭제 실패 - userId: {}, error: {}", userId, e.getMessage());
+		}
+	}
+
+	private void afterRollback(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					action.run();
+				}
+			}
+		});
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private Duration getTtl() {
+		return Duration.ofSeconds(heldCacheTtlSeconds);
+	}
+}
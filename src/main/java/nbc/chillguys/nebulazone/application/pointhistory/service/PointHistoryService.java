@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.application.pointhistory.dto.request.PointRequest;
 import nbc.chillguys.nebulazone.application.pointhistory.dto.response.PointHistoryResponse;
 import nbc.chillguys.nebulazone.application.pointhistory.dto.response.PointResponse;
@@ -20,19 +21,18 @@ import nbc.chillguys.nebulazone.domain.pointhistory.entity.PointHistoryStatus;
 import nbc.chillguys.nebulazone.domain.pointhistory.entity.PointHistoryType;
 import nbc.chillguys.nebulazone.domain.pointhistory.service.PointHistoryDomainService;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
-import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
 @Service
 @RequiredArgsConstructor
 public class PointHistoryService {
 
 	private final PointHistoryDomainService pointHistoryDomainService;
-	private final UserDomainService userDomainService;
+	private final EscrowService escrowService;
 
 	public PointResponse createPointHistory(PointRequest request, User user) {
-		// 환전일 경우 포인트 충분한지 검증 매서드
+		// 환전일 경우 입찰 예치금을 제외한 사용 가능 포인트가 충분한지 검증
 		if (request.type() == PointHistoryType.EXCHANGE) {
-			userDomainService.validEnoughPoint(user, request.price());
+			escrowService.validateAvailablePoint(user, request.price());
 		}
 
 		PointHistoryCommand command = PointHistoryCommand.of(request, user);
@@ -9,6 +9,7 @@ import nbc.chillguys.nebulazone.application.product.dto.request.ProductAdminSear
 import nbc.chillguys.nebulazone.application.product.dto.request.ProductAdminUpdateRequest;
 import nbc.chillguys.nebulazone.application.product.dto.response.ProductAdminResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
 import nbc.chillguys.nebulazone.domain.product.dto.ProductAdminInfo;
 import nbc.chillguys.nebulazone.domain.product.dto.ProductAdminSearchQueryCommand;
 import nbc.chillguys.nebulazone.domain.product.service.ProductAdminDomainService;
@@ -17,6 +18,7 @@ import nbc.chillguys.nebulazone.domain.product.service.ProductAdminDomainService
 @RequiredArgsConstructor
 public class ProductAdminService {
 	private final ProductAdminDomainService productAdminDomainService;
+	private final AuctionDomainService auctionDomainService;
 
 	public CommonPageResponse<ProductAdminResponse> findProducts(ProductAdminSearchRequest request, Pageable pageable) {
 		ProductAdminSearchQueryCommand command = new ProductAdminSearchQueryCommand(
@@ -35,6 +37,7 @@ public class ProductAdminService {
 
 	public void updateProduct(Long productId, ProductAdminUpdateRequest request) {
 		productAdminDomainService.updateProduct(productId, request);
+		auctionDomainService.updateThumbnailUrl(productId, request.productImageUrls());
 	}
 
 	public void deleteProduct(Long productId) {
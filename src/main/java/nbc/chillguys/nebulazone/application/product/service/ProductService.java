@@ -10,7 +10,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionDeletionService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionDetailCacheService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionRankingService;
 import nbc.chillguys.nebulazone.application.auction.service.AuctionSchedulerService;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.application.product.dto.request.ChangeToAuctionTypeRequest;
 import nbc.chillguys.nebulazone.application.product.dto.request.CreateProductRequest;
 import nbc.chillguys.nebulazone.application.product.dto.request.UpdateProductRequest;
@@ -52,6 +56,10 @@ public class ProductService {
 	private final AuctionDomainService auctionDomainService;
 	private final TransactionDomainService transactionDomainService;
 	private final AuctionSchedulerService auctionSchedulerService;
+	private final AuctionRankingService auctionRankingService;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final AuctionDeletionService auctionDeletionService;
+	private final EscrowService escrowService;
 	private final CatalogDomainService catalogDomainService;
 	private final S3Service s3Service;
 
@@ -77,6 +85,7 @@ public class ProductService {
 			AuctionCreateCommand auctionCreateCommand = AuctionCreateCommand.of(createdProduct, productEndTime);
 			Auction savedAuction = auctionDomainService.createAuction(auctionCreateCommand);
 			auctionSchedulerService.autoAuctionEndSchedule(savedAuction, createdProduct.getId());
+			auctionRankingService.register(savedAuction);
 			createdProduct.updateAuctionId(savedAuction.getId());
 		}
 
@@ -111,6 +120,11 @@ public class ProductService {
 		ProductUpdateCommand command = request.toCommand(user, catalog, productId, imageUrls);
 		Product updatedProduct = productDomainService.updateProduct(command);
 
+		if (updatedProduct.getTxMethod() == ProductTxMethod.AUCTION) {
+			auctionDomainService.updateThumbnailUrl(productId, imageUrls);
+			auctionDetailCacheService.evict(auctionDomainService.findAuctionByProductId(productId).getId());
+		}
+
 		productDomainService.saveProductToEs(updatedProduct);
 
 		return ProductResponse.from(updatedProduct);
@@ -130,7 +144,9 @@ public class ProductService {
 
 		productDomainService.saveProductToEs(product);
 
-		auctionDomainService.createAuction(AuctionCreateCommand.of(product, request.getProductEndTime()));
+		Auction auction = auctionDomainService.createAuction(
+			AuctionCreateCommand.of(product, request.getProductEndTime()));
+		auctionRankingService.register(auction);
 
 		return ProductResponse.from(product, request.getProductEndTime());
 	}
@@ -147,6 +163,7 @@ public class ProductService {
 		if (Objects.equals(product.getTxMethod(), ProductTxMethod.AUCTION)) {
 			Auction auction = auctionDomainService.findAuctionByProductId(productId);
 			auction.delete();
+			auctionDeletionService.closeDeletedAuction(auction.getId());
 		}
 
 		return DeleteProductResponse.from(productId);
@@ -159,6 +176,7 @@ public class ProductService {
 		Catalog catalog = catalogDomainService.getCatalogById(catalogId);
 
 		product.validPurchasable(user.getId());
+		escrowService.validateAvailablePoint(user, product.getPrice());
 		user.usePoint(product.getPrice());
 
 		ProductPurchaseCommand command = ProductPurchaseCommand.of(user, catalog, productId);
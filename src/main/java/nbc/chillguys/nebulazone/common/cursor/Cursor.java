@@ -0,0 +1,49 @@
+package nbc.chillguys.nebulazone.common.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 생성 시각 내림차순, 같은 시각이면 id 내림차순으로 정렬된 목록의 다음 페이지 시작 위치(keyset)<br>
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64(URL-safe)로 인코딩한 문자열로 전달
+ * @param createdAt 이전 페이지 마지막 항목의 생성 시각
+ * @param id 이전 페이지 마지막 항목의 id
+ */
+public record Cursor(
+	LocalDateTime createdAt,
+	Long id
+) {
+
+	private static final String DELIMITER = "|";
+
+	/**
+	 * 요청 파라미터의 cursor 문자열 해석
+	 * @param token cursor 문자열(첫 페이지는 null 또는 빈 문자열)
+	 * @return cursor, 첫 페이지면 null
+	 * @throws CursorException 해석할 수 없는 cursor면 INVALID_CURSOR
+	 */
+	public static Cursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+			return new Cursor(
+				LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.parseLong(decoded.substring(delimiterIndex + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new CursorException(CursorErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,16 @@
+package nbc.chillguys.nebulazone.common.cursor;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.exception.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum CursorErrorCode implements ErrorCode {
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 cursor 입니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
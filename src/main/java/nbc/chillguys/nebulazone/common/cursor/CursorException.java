@@ -0,0 +1,11 @@
+package nbc.chillguys.nebulazone.common.cursor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.exception.BaseException;
+
+@Getter
+@RequiredArgsConstructor
+public class CursorException extends BaseException {
+	private final CursorErrorCode errorCode;
+}
@@ -0,0 +1,47 @@
+package nbc.chillguys.nebulazone.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Builder;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+
+/**
+ * cursor 기반 페이지 응답<br>
+ * 전체 건수를 세지 않으며, 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회
+ */
+@Builder
+public record CommonCursorResponse<T>(
+	List<T> content,
+	int size,
+	boolean hasNext,
+	String nextCursor
+) {
+
+	/**
+	 * size + 1 건까지 조회한 결과로 응답 생성(초과분이 있으면 다음 페이지 존재)
+	 * @param rows size + 1 건까지 조회한 결과
+	 * @param size 페이지 크기
+	 * @param cursorOf 항목의 cursor
+	 */
+	public static <T> CommonCursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+		boolean hasNext = rows.size() > size;
+		List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+		return CommonCursorResponse.<T>builder()
+			.content(content)
+			.size(size)
+			.hasNext(hasNext)
+			.nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null)
+			.build();
+	}
+
+	public <R> CommonCursorResponse<R> map(Function<T, R> mapper) {
+		return CommonCursorResponse.<R>builder()
+			.content(content.stream().map(mapper).toList())
+			.size(size)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.build();
+	}
+}
@@ -0,0 +1,215 @@
+package nbc.chillguys.nebulazone.common.scheduler;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 초 단위 버킷을 가진 해시 타이밍 휠<br>
+ * 등록, 취소는 O(1)이며, 소수의 tick 스레드가 매 초 현재 버킷만 확인하여 만료된 항목을 handler로 넘김<br>
+ * id를 기준으로 tick 스레드 수만큼 휠을 나누어 각 tick 스레드가 자신의 휠만 처리
+ * @param <T> 만료 시 함께 전달할 값
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+
+	private final String name;
+	private final int wheelSize;
+	private final Shard<T>[] shards;
+	private final Map<Long, Timeout<T>> timeouts = new ConcurrentHashMap<>();
+	private final BiConsumer<Long, T> expiredHandler;
+	private final LongSupplier epochSecondClock;
+
+	private ScheduledExecutorService ticker;
+
+	public HashedTimingWheel(String name, int wheelSize, int tickThreads, BiConsumer<Long, T> expiredHandler) {
+		this(name, wheelSize, tickThreads, expiredHandler, () -> System.currentTimeMillis() / 1000);
+	}
+
+	@SuppressWarnings("unchecked")
+	HashedTimingWheel(String name, int wheelSize, int tickThreads, BiConsumer<Long, T> expiredHandler,
+		LongSupplier epochSecondClock) {
+		this.name = name;
+		this.wheelSize = wheelSize;
+		this.expiredHandler = expiredHandler;
+		this.epochSecondClock = epochSecondClock;
+		this.shards = new Shard[tickThreads];
+
+		long now = epochSecondClock.getAsLong();
+		for (int i = 0; i < tickThreads; i++) {
+			shards[i] = new Shard<>(wheelSize, now);
+		}
+	}
+
+	/**
+	 * tick 스레드 시작(중복 호출 시 무시)
+	 */
+	public synchronized void start() {
+		if (ticker != null) {
+			return;
+		}
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		ticker = Executors.newScheduledThreadPool(shards.length, runnable -> {
+			Thread thread = new Thread(runnable, name + "-tick-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		long initialDelay = 1000 - System.currentTimeMillis() % 1000;
+		for (Shard<T> shard : shards) {
+			ticker.scheduleAtFixedRate(() -> advance(shard, epochSecondClock.getAsLong()),
+				initialDelay, 1000, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 만료 시각 등록. 같은 id가 이미 있으면 새 만료 시각으로 교체<br>
+	 * 이미 지난 시각이면 즉시 handler 호출
+	 * @param id 항목 id
+	 * @param deadlineEpochSecond 만료 시각(epoch second)
+	 * @param payload 만료 시 함께 전달할 값
+	 */
+	public void schedule(long id, long deadlineEpochSecond, T payload) {
+		Timeout<T> timeout = new Timeout<>(id, deadlineEpochSecond, payload);
+
+		Timeout<T> previous = timeouts.put(id, timeout);
+		if (previous != null) {
+			bucketOf(previous).remove(previous);
+		}
+
+		Shard<T> shard = shardOf(id);
+		if (deadlineEpochSecond > shard.lastTick) {
+			bucketOf(timeout).add(timeout);
+		}
+
+		// 등록 도중 tick이 해당 버킷을 지나쳤다면 한 바퀴를 기다리지 않고 바로 만료
+		if (deadlineEpochSecond <= shard.lastTick && timeouts.remove(id, timeout)) {
+			bucketOf(timeout).remove(timeout);
+			expire(timeout);
+		}
+	}
+
+	/**
+	 * 등록된 항목 취소
+	 * @param id 항목 id
+	 * @return 취소 여부
+	 */
+	public boolean cancel(long id) {
+		Timeout<T> timeout = timeouts.remove(id);
+
+		if (timeout == null) {
+			return false;
+		}
+
+		bucketOf(timeout).remove(timeout);
+		return true;
+	}
+
+	public boolean contains(long id) {
+		return timeouts.containsKey(id);
+	}
+
+	public int size() {
+		return timeouts.size();
+	}
+
+	public synchronized void stop() {
+		if (ticker == null) {
+			return;
+		}
+
+		ticker.shutdownNow();
+		ticker = null;
+	}
+
+	/**
+	 * 모든 휠을 현재 시각까지 진행(테스트, 벤치마크용)
+	 */
+	void advanceAll() {
+		long now = epochSecondClock.getAsLong();
+		for (Shard<T> shard : shards) {
+			advance(shard, now);
+		}
+	}
+
+	private void advance(Shard<T> shard, long nowSecond) {
+		try {
+			long from = Math.max(shard.lastTick + 1, nowSecond - wheelSize + 1);
+
+			for (long second = from; second <= nowSecond; second++) {
+				expireBucket(shard.buckets[slot(second)], nowSecond);
+			}
+
+			if (nowSecond > shard.lastTick) {
+				shard.lastTick = nowSecond;
+			}
+		} catch (Exception e) {
+			log.error("타이밍 휠 tick 처리 실패 - name: {}, error: {}", name, e.getMessage(), e);
+		}
+	}
+
+	private void expireBucket(Set<Timeout<T>> bucket, long nowSecond) {
+		Iterator<Timeout<T>> iterator = bucket.iterator();
+
+		while (iterator.hasNext()) {
+			Timeout<T> timeout = iterator.next();
+
+			if (timeout.deadlineEpochSecond() > nowSecond) {
+				continue;
+			}
+
+			iterator.remove();
+			if (timeouts.remove(timeout.id(), timeout)) {
+				expire(timeout);
+			}
+		}
+	}
+
+	private void expire(Timeout<T> timeout) {
+		try {
+			expiredHandler.accept(timeout.id(), timeout.payload());
+		} catch (Exception e) {
+			log.error("타이밍 휠 만료 처리 실패 - name: {}, id: {}, error: {}", name, timeout.id(), e.getMessage(), e);
+		}
+	}
+
+	private Set<Timeout<T>> bucketOf(Timeout<T> timeout) {
+		return shardOf(timeout.id()).buckets[slot(timeout.deadlineEpochSecond())];
+	}
+
+	private Shard<T> shardOf(long id) {
+		return shards[Math.floorMod(Long.hashCode(id), shards.length)];
+	}
+
+	private int slot(long epochSecond) {
+		return (int)Math.floorMod(epochSecond, (long)wheelSize);
+	}
+
+	private record Timeout<T>(long id, long deadlineEpochSecond, T payload) {
+	}
+
+	private static final class Shard<T> {
+
+		private final Set<Timeout<T>>[] buckets;
+		private volatile long lastTick;
+
+		@SuppressWarnings("unchecked")
+		private Shard(int wheelSize, long startSecond) {
+			this.buckets = new Set[wheelSize];
+			for (int i = 0; i < wheelSize; i++) {
+				buckets[i] = ConcurrentHashMap.newKeySet();
+			}
+			this.lastTick = startSecond;
+		}
+	}
+}
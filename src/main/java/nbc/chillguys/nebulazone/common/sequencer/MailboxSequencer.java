@@ -0,0 +1,132 @@
+package nbc.chillguys.nebulazone.common.sequencer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키별 메일박스에 쌓인 작업을 키마다 하나의 drain 작업만 순서대로 처리하는 시퀀서<br>
+ * 메일박스에 작업이 들어오면 drain 작업을 executor에 넘기고, 메일박스가 비면 drain 작업은 종료<br>
+ * drain 작업은 한 번에 최대 maxBatchSize개씩 꺼내 batchHandler로 넘김
+ * @param <T> 작업 타입
+ */
+@Slf4j
+public class MailboxSequencer<T> {
+
+	private final String name;
+	private final int maxBatchSize;
+	private final Executor executor;
+	private final BiConsumer<Long, List<T>> batchHandler;
+	private final Map<Long, Mailbox<T>> mailboxes = new ConcurrentHashMap<>();
+
+	public MailboxSequencer(String name, int maxBatchSize, Executor executor, BiConsumer<Long, List<T>> batchHandler) {
+		this.name = name;
+		this.maxBatchSize = maxBatchSize;
+		this.executor = executor;
+		this.batchHandler = batchHandler;
+	}
+
+	/**
+	 * 키의 메일박스에 작업 추가<br>
+	 * 처리 중인 drain 작업이 없으면 새로 시작
+	 * @param key 메일박스 키
+	 * @param command 작업
+	 */
+	public void submit(long key, T command) {
+		// 유휴 메일박스 제거와 겹치지 않도록 추가까지 compute 안에서 처리
+		Mailbox<T> mailbox = mailboxes.compute(key, (k, existing) -> {
+			Mailbox<T> target = existing == null ? new Mailbox<>() : existing;
+			target.queue.offer(command);
+			return target;
+		});
+
+		scheduleDrain(key, mailbox);
+	}
+
+	/**
+	 * 키의 메일박스에 남은 작업과 처리 중인 작업이 없는지 확인
+	 */
+	public boolean isIdle(long key) {
+		Mailbox<T> mailbox = mailboxes.get(key);
+
+		return mailbox == null || mailbox.isIdle();
+	}
+
+	/**
+	 * 처리할 작업이 없는 메일박스 제거
+	 * @return 제거한 메일박스 수
+	 */
+	public int removeIdle() {
+		int removed = 0;
+
+		for (Long key : mailboxes.keySet()) {
+			if (mailboxes.computeIfPresent(key, (k, mailbox) -> mailbox.isIdle() ? null : mailbox) == null) {
+				removed++;
+			}
+		}
+
+		return removed;
+	}
+
+	public int size() {
+		return mailboxes.size();
+	}
+
+	private void scheduleDrain(long key, Mailbox<T> mailbox) {
+		if (mailbox.draining.compareAndSet(false, true)) {
+			executor.execute(() -> drain(key, mailbox));
+		}
+	}
+
+	private void drain(long key, Mailbox<T> mailbox) {
+		try {
+			List<T> batch = mailbox.poll(maxBatchSize);
+
+			while (!batch.isEmpty()) {
+				try {
+					batchHandler.accept(key, batch);
+				} catch (Exception e) {
+					log.error("시퀀서 작업 처리 실패 - name: {}, key: {}, error: {}", name, key, e.getMessage(), e);
+				}
+
+				batch = mailbox.poll(maxBatchSize);
+			}
+		} finally {
+			mailbox.draining.set(false);
+		}
+
+		// drain 종료 직전에 들어온 작업은 submit에서 drain을 시작하지 못했으므로 다시 확인
+		if (!mailbox.queue.isEmpty()) {
+			scheduleDrain(key, mailbox);
+		}
+	}
+
+	private static final class Mailbox<T> {
+
+		private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean draining = new AtomicBoolean();
+
+		private List<T> poll(int maxSize) {
+			List<T> batch = new ArrayList<>();
+
+			T command;
+			while (batch.size() < maxSize && (command = queue.poll()) != null) {
+				batch.add(command);
+			}
+
+			return batch;
+		}
+
+		private boolean isIdle() {
+			return !draining.get() && queue.isEmpty();
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package nbc.chillguys.nebulazone.domain.auction.dto;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 import com.querydsl.core.annotations.QueryProjection;
 
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
+
 public record AuctionFindDetailInfo(
 	Long auctionId,
 	Long sellerId,
@@ -17,10 +20,58 @@ public record AuctionFindDetailInfo(
 	String productName,
 	String productImageUrl,
 	LocalDateTime productCreatedAt,
-	Long bidCount
+	Long bidCount,
+	TopBidInfo topBid
 ) {
 
+	/**
+	 * 경매 상세 조회용(최고가 입찰은 withTopBid로 채움)
+	 */
 	@QueryProjection
-	public AuctionFindDetailInfo {
+	public AuctionFindDetailInfo(Long auctionId, Long sellerId, String sellerNickname, String sellerEmail,
+		Long startPrice, Long currentPrice, boolean isWon, LocalDateTime endTime, Long productId,
+		String productName, String productImageUrl, LocalDateTime productCreatedAt, Long bidCount) {
+		this(auctionId, sellerId, sellerNickname, sellerEmail, startPrice, currentPrice, isWon, endTime, productId,
+			productName, productImageUrl, productCreatedAt, bidCount, null);
+	}
+
+	/**
+	 * 입찰로 바뀐 현재가, 입찰 건수, 종료 시각을 반영한 상세 정보
+	 * @param liveInfo 실시간 경매 정보
+	 * @return 갱신된 상세 정보
+	 */
+	public AuctionFindDetailInfo withLiveInfo(AuctionLiveInfo liveInfo) {
+		return new AuctionFindDetailInfo(auctionId, sellerId, sellerNickname, sellerEmail, startPrice,
+			liveInfo.currentPrice(), isWon, liveInfo.endTime(), productId, productName, productImageUrl,
+			productCreatedAt, liveInfo.bidCount(), topBid);
+	}
+
+	/**
+	 * 최고가 입찰을 반영한 상세 정보
+	 * @param topBid 최고가 입찰, 입찰이 없으면 null
+	 * @return 갱신된 상세 정보
+	 */
+	public AuctionFindDetailInfo withTopBid(TopBidInfo topBid) {
+		return new AuctionFindDetailInfo(auctionId, sellerId, sellerNickname, sellerEmail, startPrice,
+			currentPrice, isWon, endTime, productId, productName, productImageUrl, productCreatedAt, bidCount,
+			topBid);
+	}
+
+	/**
+	 * 낙찰 처리된 상세 정보
+	 * @param wonTime 낙찰 시각(수동 낙찰로 종료 시각이 바뀐 경우), null이면 기존 종료 시각 유지
+	 * @return 갱신된 상세 정보
+	 */
+	public AuctionFindDetailInfo toWon(LocalDateTime wonTime) {
+		return new AuctionFindDetailInfo(auctionId, sellerId, sellerNickname, sellerEmail, startPrice,
+			currentPrice, true, wonTime == null ? endTime : wonTime, productId, productName, productImageUrl,
+			productCreatedAt, bidCount, topBid);
+	}
+
+	/**
+	 * 현재가가 실시간 정보와 같은지 확인(다르면 최고가 입찰도 바뀌었을 수 있음)
+	 */
+	public boolean hasSamePrice(AuctionLiveInfo liveInfo) {
+		return Objects.equals(currentPrice, liveInfo.currentPrice());
 	}
 }
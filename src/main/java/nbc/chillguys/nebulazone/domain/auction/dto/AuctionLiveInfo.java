@@ -0,0 +1,17 @@
+package nbc.chillguys.nebulazone.domain.auction.dto;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record AuctionLiveInfo(
+	Long auctionId,
+	Long currentPrice,
+	Long bidCount,
+	LocalDateTime endTime
+) {
+
+	@QueryProjection
+	public AuctionLiveInfo {
+	}
+}
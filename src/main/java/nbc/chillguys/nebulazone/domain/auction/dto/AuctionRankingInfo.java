@@ -0,0 +1,16 @@
+package nbc.chillguys.nebulazone.domain.auction.dto;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record AuctionRankingInfo(
+	Long auctionId,
+	LocalDateTime endTime,
+	Long bidCount
+) {
+
+	@QueryProjection
+	public AuctionRankingInfo {
+	}
+}
@@ -2,6 +2,8 @@ package nbc.chillguys.nebulazone.domain.auction.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +24,7 @@ import nbc.chillguys.nebulazone.domain.user.entity.User;
 
 @Getter
 @Entity
+@DynamicUpdate
 @Table(name = "auctions")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Auction extends BaseEntity {
@@ -48,13 +52,28 @@ public class Auction extends BaseEntity {
 	@Column(name = "is_deleted")
 	private boolean deleted;
 
+	/**
+	 * 취소되지 않은 입찰 건수(입찰 생성, 취소 시 조건부 UPDATE로 갱신)
+	 */
+	@Column(nullable = false)
+	private Long bidCount;
+
+	/**
+	 * 상품 대표 이미지(상품 이미지 수정 시 UPDATE로 갱신)
+	 */
+	private String thumbnailUrl;
+
 	private LocalDateTime deletedAt;
 
+	@Version
+	@Column(nullable = false)
+	private Long version;
+
 	@Builder
 	private Auction(
 		Product product, Long startPrice, Long currentPrice,
 		LocalDateTime endTime, boolean isWon,
-		boolean isDeleted, LocalDateTime deletedAt
+		boolean isDeleted, LocalDateTime deletedAt, String thumbnailUrl
 	) {
 		this.product = product;
 		this.startPrice = startPrice;
@@ -63,6 +82,8 @@ public class Auction extends BaseEntity {
 		this.isWon = isWon;
 		this.deleted = isDeleted;
 		this.deletedAt = deletedAt;
+		this.bidCount = 0L;
+		this.thumbnailUrl = thumbnailUrl;
 	}
 
 	public Long delete() {
@@ -17,7 +17,10 @@ public enum AuctionErrorCode implements ErrorCode {
 	AUCTION_NOT_OWNER(HttpStatus.FORBIDDEN, "본인이 등록한 경매만 삭제할 수 있습니다."),
 	AUCTION_NOT_CLOSED(HttpStatus.CONFLICT, "경매가 종료되어야 삭제할 수 있습니다."),
 	AUCTION_END_TIME_INVALID(HttpStatus.BAD_REQUEST, "경매 종료 시간이 현재 시간보다 늦어야 합니다."),
-	MISMATCH_BID_PRICE(HttpStatus.BAD_REQUEST, "입찰 가격이 일치하지 않습니다. 최고가만 낙찰할 수 있습니다.");
+	MISMATCH_BID_PRICE(HttpStatus.BAD_REQUEST, "입찰 가격이 일치하지 않습니다. 최고가만 낙찰할 수 있습니다."),
+	AUCTION_BID_CONFLICT(HttpStatus.CONFLICT, "동시에 입찰이 몰려 처리하지 못했습니다. 다시 시도해주세요."),
+	AUCTION_BID_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "입찰 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+	AUCTION_STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "실시간 경매 연결이 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 	private final HttpStatus status;
 	private final String message;
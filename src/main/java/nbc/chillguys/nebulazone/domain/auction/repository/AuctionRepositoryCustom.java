@@ -1,12 +1,17 @@
 package nbc.chillguys.nebulazone.domain.auction.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionEndScheduleInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionRankingInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
 
@@ -17,8 +22,34 @@ public interface AuctionRepositoryCustom {
 
 	Optional<Auction> findAuctionWithProductAndSellerLock(Long auctionId);
 
-	List<Auction> findAuctionsByNotDeletedAndIsWonFalse();
+	Optional<Auction> findAuctionWithProductAndSeller(Long auctionId);
+
+	List<Auction> findEndableAuctionsWithProductAndSeller(List<Long> auctionIds);
+
+	long updateCurrentPriceIfOpen(Long auctionId, Long currentPrice);
+
+	long updateCurrentPriceIfHigher(Long auctionId, Long price);
+
+	List<AuctionEndScheduleInfo> findUpcomingAuctionEndSchedules(Long lastAuctionId, LocalDateTime now, int size);
+
+	List<AuctionEndScheduleInfo> findOverdueAuctionEndSchedules(Long lastAuctionId, LocalDateTime now, int size);
 
 	Optional<AuctionFindDetailInfo> findAuctionDetail(Long auctionId);
 
+	Optional<AuctionLiveInfo> findAuctionLiveInfo(Long auctionId);
+
+	long adjustBidCount(Long auctionId, long delta);
+
+	long updateThumbnailUrlByProductId(Long productId, String thumbnailUrl);
+
+	List<Long> findAuctionIdsAfter(Long lastAuctionId, int size);
+
+	long recalculateBidCountAndThumbnail(List<Long> auctionIds);
+
+	List<AuctionFindAllInfo> findAuctionsByIds(List<Long> auctionIds);
+
+	List<AuctionRankingInfo> findOpenAuctionRankings(Long lastAuctionId, LocalDateTime now, int size);
+
+	List<AuctionFindAllInfo> findAuctionsWithProductByCursor(Cursor cursor, int limit);
+
 }
@@ -6,6 +6,7 @@ import static nbc.chillguys.nebulazone.domain.product.entity.QProduct.*;
 import static nbc.chillguys.nebulazone.domain.product.entity.QProductImage.*;
 import static nbc.chillguys.nebulazone.domain.user.entity.QUser.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,18 +17,29 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 
 import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionEndScheduleInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionRankingInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.QAuctionEndScheduleInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.QAuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.QAuctionRankingInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.QAuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.QAuctionFindDetailInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
 import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
+import nbc.chillguys.nebulazone.domain.product.entity.QProduct;
 
 @Repository
 @RequiredArgsConstructor
@@ -50,21 +62,16 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
 				auction.createdAt,
 				product.id,
 				product.name,
-				productImage.url.min(),
-				bid.auction.id.count()
+				auction.thumbnailUrl,
+				auction.bidCount
 			))
 			.from(auction)
 			.join(auction.product, product)
-			.leftJoin(auction.product.productImages, productImage)
-			.leftJoin(bid)
-			.on(bid.auction.eq(auction),
-				bid.status.notIn(BidStatus.CANCEL))
 			.where(
 				auction.deleted.eq(false),
 				auction.deletedAt.isNull(),
 				product.isDeleted.eq(false),
 				product.deletedAt.isNull())
-			.groupBy(auction.id, product.id)
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.orderBy(auction.createdAt.desc())
@@ -88,8 +95,8 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
 	public List<AuctionFindAllInfo> finAuctionsBySortType(AuctionSortType sortType) {
 
 		OrderSpecifier<?> orderType = switch (sortType) {
-			case POPULAR -> bid.id.count().desc();
-			case CLOSING -> auction.endTime.desc();
+			case POPULAR -> auction.bidCount.desc();
+			case CLOSING -> auction.endTime.asc();
 		};
 
 		return jpaQueryFactory
@@ -102,22 +109,18 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
 				auction.createdAt,
 				product.id,
 				product.name,
-				productImage.url.min(),
-				bid.auction.id.count()
+				auction.thumbnailUrl,
+				auction.bidCount
 			))
 			.from(auction)
 			.join(auction.product, product)
-			.leftJoin(auction.product.productImages, productImage)
-			.leftJoin(bid)
-			.on(bid.auction.eq(auction),
-				bid.status.notIn(BidStatus.CANCEL))
 			.where(
 				auction.isWon.eq(false),
 				auction.deleted.eq(false),
 				auction.deletedAt.isNull(),
+				auction.endTime.after(LocalDateTime.now()),
 				product.isDeleted.eq(false),
 				product.deletedAt.isNull())
-			.groupBy(auction.id, product.id)
 			.limit(5)
 			.orderBy(orderType)
 			.fetch();
@@ -138,14 +141,92 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
 	}
 
 	@Override
-	public List<Auction> findAuctionsByNotDeletedAndIsWonFalse() {
+	public Optional<Auction> findAuctionWithProductAndSeller(Long auctionId) {
+
+		return Optional.ofNullable(jpaQueryFactory
+			.selectFrom(auction)
+			.join(auction.product, product).fetchJoin()
+			.join(product.seller, user).fetchJoin()
+			.where(auction.id.eq(auctionId),
+				auction.deleted.eq(false),
+				product.isDeleted.eq(false))
+			.fetchOne());
+	}
+
+	@Override
+	public List<Auction> findEndableAuctionsWithProductAndSeller(List<Long> auctionIds) {
 
 		return jpaQueryFactory
 			.selectFrom(auction)
 			.join(auction.product, product).fetchJoin()
 			.join(product.seller, user).fetchJoin()
-			.where(auction.deleted.eq(false),
+			.where(auction.id.in(auctionIds),
+				auction.deleted.eq(false),
+				auction.isWon.eq(false),
+				product.isDeleted.eq(false),
+				product.isSold.eq(false))
+			.fetch();
+	}
+
+	@Override
+	public long updateCurrentPriceIfOpen(Long auctionId, Long currentPrice) {
+
+		JPAUpdateClause update = jpaQueryFactory.update(auction);
+
+		if (currentPrice == null) {
+			update.setNull(auction.currentPrice);
+		} else {
+			update.set(auction.currentPrice, currentPrice);
+		}
+
+		return update
+			.set(auction.version, auction.version.add(1L))
+			.where(auction.id.eq(auctionId),
+				auction.deleted.eq(false),
 				auction.isWon.eq(false))
+			.execute();
+	}
+
+	@Override
+	public long updateCurrentPriceIfHigher(Long auctionId, Long price) {
+
+		return jpaQueryFactory
+			.update(auction)
+			.set(auction.currentPrice, price)
+			.set(auction.version, auction.version.add(1L))
+			.where(auction.id.eq(auctionId),
+				auction.deleted.eq(false),
+				auction.isWon.eq(false),
+				auction.currentPrice.isNull().or(auction.currentPrice.lt(price)))
+			.execute();
+	}
+
+	@Override
+	public List<AuctionEndScheduleInfo> findUpcomingAuctionEndSchedules(Long lastAuctionId, LocalDateTime now,
+		int size) {
+		return findAuctionEndSchedules(lastAuctionId, auction.endTime.after(now), size);
+	}
+
+	@Override
+	public List<AuctionEndScheduleInfo> findOverdueAuctionEndSchedules(Long lastAuctionId, LocalDateTime now,
+		int size) {
+		return findAuctionEndSchedules(lastAuctionId, auction.endTime.loe(now), size);
+	}
+
+	private List<AuctionEndScheduleInfo> findAuctionEndSchedules(Long lastAuctionId, BooleanExpression endTimeCondition,
+		int size) {
+		return jpaQueryFactory
+			.select(new QAuctionEndScheduleInfo(
+				auction.id,
+				auction.product.id,
+				auction.endTime))
+			.from(auction)
+			.where(auction.deleted.eq(false),
+				auction.isWon.eq(false),
+				endTimeCondition,
+				lastAuctionId == null ? null : auction.id.gt(lastAuctionId))
+			.orderBy(auction.id.asc())
+			.limit(size)
 			.fetch();
 	}
 
@@ -163,21 +244,171 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
 					auction.endTime,
 					product.id,
 					product.name,
-					productImage.url.min(),
+					auction.thumbnailUrl,
 					product.createdAt,
-					bid.auction.id.count()
+					auction.bidCount
 				))
 			.from(auction)
 			.join(auction.product, product)
 			.join(product.seller, user)
-			.leftJoin(auction.product.productImages, productImage)
-			.leftJoin(bid)
-			.on(bid.auction.eq(auction),
-				bid.status.notIn(BidStatus.CANCEL))
 			.where(auction.id.eq(auctionId),
 				auction.deleted.eq(false),
 				product.isDeleted.eq(false))
 			.fetchOne());
 	}
 
+	@Override
+	public Optional<AuctionLiveInfo> findAuctionLiveInfo(Long auctionId) {
+		return Optional.ofNullable(jpaQueryFactory.select(
+				new QAuctionLiveInfo(
+					auction.id,
+					auction.currentPrice,
+					auction.bidCount,
+					auction.endTime
+				))
+			.from(auction)
+			.where(auction.id.eq(auctionId),
+				auction.deleted.eq(false))
+			.fetchOne());
+	}
+
+	@Override
+	public long adjustBidCount(Long auctionId, long delta) {
+
+		return jpaQueryFactory
+			.update(auction)
+			.set(auction.bidCount, auction.bidCount.add(delta))
+			.where(auction.id.eq(auctionId),
+				auction.bidCount.add(delta).goe(0L))
+			.execute();
+	}
+
+	@Override
+	public long updateThumbnailUrlByProductId(Long productId, String thumbnailUrl) {
+		JPAUpdateClause update = jpaQueryFactory.update(auction);
+
+		if (thumbnailUrl == null) {
+			update.setNull(auction.thumbnailUrl);
+		} else {
+			update.set(auction.thumbnailUrl, thumbnailUrl);
+		}
+
+		return update
+			.where(auction.product.id.eq(productId))
+			.execute();
+	}
+
+	@Override
+	public List<Long> findAuctionIdsAfter(Long lastAuctionId, int size) {
+
+		return jpaQueryFactory
+			.select(auction.id)
+			.from(auction)
+			.where(lastAuctionId == null ? null : auction.id.gt(lastAuctionId))
+			.orderBy(auction.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	@Override
+	public long recalculateBidCountAndThumbnail(List<Long> auctionIds) {
+		QProduct subProduct = new QProduct("subProduct");
+
+		return jpaQueryFactory
+			.update(auction)
+			.set(auction.bidCount, JPAExpressions
+				.select(bid.count())
+				.from(bid)
+				.where(bid.auction.id.eq(auction.id),
+					bid.status.ne(BidStatus.CANCEL)))
+			.set(auction.thumbnailUrl, JPAExpressions
+				.select(productImage.url.min())
+				.from(subProduct)
+				.join(subProduct.productImages, productImage)
+				.where(subProduct.id.eq(auction.product.id)))
+			.where(auction.id.in(auctionIds))
+			.execute();
+	}
+
+	@Override
+	public List<AuctionFindAllInfo> findAuctionsByIds(List<Long> auctionIds) {
+
+		return jpaQueryFactory
+			.select(new QAuctionFindAllInfo(
+				auction.id,
+				auction.startPrice,
+				auction.currentPrice,
+				auction.isWon,
+				auction.endTime,
+				auction.createdAt,
+				product.id,
+				product.name,
+				auction.thumbnailUrl,
+				auction.bidCount
+			))
+			.from(auction)
+			.join(auction.product, product)
+			.where(
+				auction.id.in(auctionIds),
+				auction.deleted.eq(false),
+				product.isDeleted.eq(false))
+			.fetch();
+	}
+
+	@Override
+	public List<AuctionRankingInfo> findOpenAuctionRankings(Long lastAuctionId, LocalDateTime now, int size) {
+
+		return jpaQueryFactory
+			.select(new QAuctionRankingInfo(
+				auction.id,
+				auction.endTime,
+				auction.bidCount))
+			.from(auction)
+			.where(auction.deleted.eq(false),
+				auction.isWon.eq(false),
+				auction.endTime.after(now),
+				lastAuctionId == null ? null : auction.id.gt(lastAuctionId))
+			.orderBy(auction.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	@Override
+	public List<AuctionFindAllInfo> findAuctionsWithProductByCursor(Cursor cursor, int limit) {
+
+		return jpaQueryFactory
+			.select(new QAuctionFindAllInfo(
+				auction.id,
+				auction.startPrice,
+				auction.currentPrice,
+				auction.isWon,
+				auction.endTime,
+				auction.createdAt,
+				product.id,
+				product.name,
+				auction.thumbnailUrl,
+				auction.bidCount
+			))
+			.from(auction)
+			.join(auction.product, product)
+			.where(
+				auction.deleted.eq(false),
+				auction.deletedAt.isNull(),
+				product.isDeleted.eq(false),
+				product.deletedAt.isNull(),
+				auctionCursorCondition(cursor))
+			.orderBy(auction.createdAt.desc(), auction.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	private BooleanExpression auctionCursorCondition(Cursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return auction.createdAt.lt(cursor.createdAt())
+			.or(auction.createdAt.eq(cursor.createdAt()).and(auction.id.lt(cursor.id())));
+	}
+
 }
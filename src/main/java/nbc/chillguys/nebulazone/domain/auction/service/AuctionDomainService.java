@@ -1,16 +1,23 @@
 package nbc.chillguys.nebulazone.domain.auction.service;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionCreateCommand;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionEndScheduleInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionRankingInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.ManualEndAuctionInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
@@ -18,6 +25,7 @@ import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
 import nbc.chillguys.nebulazone.domain.auction.repository.AuctionRepository;
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.product.entity.ProductImage;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 
 @Service
@@ -35,10 +43,15 @@ public class AuctionDomainService {
 	@Transactional
 	public Auction createAuction(AuctionCreateCommand command) {
 
+		List<String> imageUrls = command.product().getProductImages().stream()
+			.map(ProductImage::getUrl)
+			.toList();
+
 		Auction auction = Auction.builder()
 			.product(command.product())
 			.startPrice(command.product().getPrice())
 			.endTime(command.endTime())
+			.thumbnailUrl(thumbnailOf(imageUrls))
 			.build();
 
 		return auctionRepository.save(auction);
@@ -57,9 +70,22 @@ public class AuctionDomainService {
 
 	}
 
+	/**
+	 * 경매 전체 조회(cursor 페이징)<br>
+	 * 생성 시각, id 내림차순으로 cursor 다음 위치부터 조회하므로 페이지가 깊어져도 조회 비용이 같고 전체 건수는 세지 않음
+	 * @param cursor 이전 페이지 마지막 경매 위치(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 다음 페이지 존재 여부 확인을 위해 최대 size + 1 건 조회한 AuctionFindInfo
+	 */
+	public List<AuctionFindAllInfo> findAuctionsByCursor(Cursor cursor, int size) {
+
+		return auctionRepository.findAuctionsWithProductByCursor(cursor, size + 1);
+
+	}
+
 	/**
 	 * 경매 정렬 조건으로 조회<br>
-	 * 마감 임박순 5개 조회, 경매 입찰 건수 많은 순 5개 조회
+	 * 종료 전 경매 중 마감 임박순 5개 조회, 경매 입찰 건수 많은 순 5개 조회
 	 * @param sortType 정렬 조건(closing, popular)
 	 * @return 리스트 AuctionFindInfo
 	 */
@@ -69,6 +95,20 @@ public class AuctionDomainService {
 
 	}
 
+	/**
+	 * 경매 id 목록으로 경매 조회<br>
+	 * 순위 목록의 경매를 한 번에 조회하며, 결과 순서는 id 목록 순서와 무관
+	 * @param auctionIds 경매 id 목록
+	 * @return 리스트 AuctionFindInfo(삭제된 경매 제외)
+	 */
+	public List<AuctionFindAllInfo> findAuctionsByIds(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return List.of();
+		}
+
+		return auctionRepository.findAuctionsByIds(auctionIds);
+	}
+
 	/**
 	 * 경매 상세 조회
 	 * @param auctionId 조회할 경매
@@ -177,12 +217,162 @@ public class AuctionDomainService {
 	}
 
 	/**
-	 * 삭제 되지 않은 경매 리스트 조회
-	 * @return 삭제 되지 않은 경매 리스트
-	 * @author 전나겸
+	 * 삭제되지 않은 경매 조회(상품, 판매자 정보 한번에 조회, 락 미적용)
+	 * @param auctionId 조회할 AuctionId
+	 * @return 상품, 판매자 정보가 포함된 auction
+	 */
+	public Auction findActiveAuctionWithProductAndSeller(Long auctionId) {
+		return auctionRepository.findAuctionWithProductAndSeller(auctionId)
+			.orElseThrow(() -> new AuctionException(AuctionErrorCode.AUCTION_NOT_FOUND));
+	}
+
+	/**
+	 * 진행 중인 경매의 현재가만 조건부 UPDATE로 갱신<br>
+	 * 이미 낙찰되었거나 삭제된 경매라면 갱신하지 않고 예외 발생
+	 * @param auctionId 갱신할 경매 id
+	 * @param currentPrice 현재가(입찰이 없으면 null)
+	 */
+	@Transactional
+	public void updateCurrentPriceIfOpen(Long auctionId, Long currentPrice) {
+		if (auctionRepository.updateCurrentPriceIfOpen(auctionId, currentPrice) == 0) {
+			throw new AuctionException(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
+		}
+	}
+
+	/**
+	 * 현재가보다 높은 입찰가일 때만 조건부 UPDATE로 현재가 갱신(낙관적 입찰)<br>
+	 * 조회 이후 다른 입찰이 먼저 반영되었거나 경매가 종료되었다면 갱신되지 않음
+	 * @param auctionId 갱신할 경매 id
+	 * @param price 입찰가
+	 * @throws AuctionException 갱신된 row가 없을 시 AUCTION_BID_CONFLICT
+	 */
+	@Transactional
+	public void updateCurrentPriceIfHigher(Long auctionId, Long price) {
+		if (auctionRepository.updateCurrentPriceIfHigher(auctionId, price) == 0) {
+			throw new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT);
+		}
+	}
+
+	/**
+	 * 아직 낙찰, 삭제, 판매되지 않아 종료 처리할 수 있는 경매 목록 조회(상품, 판매자 정보 한번에 조회)<br>
+	 * 이미 종료된 경매는 결과에서 빠지므로 같은 경매가 다시 전달되어도 중복 처리되지 않음
+	 * @param auctionIds 경매 id 목록
+	 * @return 종료 처리할 경매 목록
+	 */
+	public List<Auction> findEndableAuctionsWithProductAndSeller(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return List.of();
+		}
+
+		return auctionRepository.findEndableAuctionsWithProductAndSeller(auctionIds);
+	}
+
+	/**
+	 * 종료 시각이 아직 지나지 않은 진행 중 경매의 종료 스케줄을 id 순으로 조회(keyset 페이징)
+	 * @param lastAuctionId 이전 페이지의 마지막 경매 id(첫 페이지는 null)
+	 * @param now 기준 시각
+	 * @param size 페이지 크기
+	 * @return 경매 id, 상품 id, 종료 시각 목록
+	 */
+	public List<AuctionEndScheduleInfo> findUpcomingAuctionEndSchedules(Long lastAuctionId, LocalDateTime now,
+		int size) {
+		return auctionRepository.findUpcomingAuctionEndSchedules(lastAuctionId, now, size);
+	}
+
+	/**
+	 * 종료 시각이 지났지만 아직 종료 처리되지 않은 경매의 종료 스케줄을 id 순으로 조회(keyset 페이징)
+	 * @param lastAuctionId 이전 페이지의 마지막 경매 id(첫 페이지는 null)
+	 * @param now 기준 시각
+	 * @param size 페이지 크기
+	 * @return 경매 id, 상품 id, 종료 시각 목록
+	 */
+	public List<AuctionEndScheduleInfo> findOverdueAuctionEndSchedules(Long lastAuctionId, LocalDateTime now,
+		int size) {
+		return auctionRepository.findOverdueAuctionEndSchedules(lastAuctionId, now, size);
+	}
+
+	/**
+	 * 실시간 경매 정보(현재가, 입찰 건수, 종료 시각) 조회<br>
+	 * 상세 조회와 달리 상품, 판매자, 이미지를 조인하지 않음
+	 * @param auctionId 경매 id
+	 * @return 실시간 경매 정보, 삭제된 경매면 empty
+	 */
+	public Optional<AuctionLiveInfo> findAuctionLiveInfo(Long auctionId) {
+		return auctionRepository.findAuctionLiveInfo(auctionId);
+	}
+
+	/**
+	 * 입찰 생성 시 경매의 입찰 건수 1 증가(조건부 UPDATE)
+	 * @param auctionId 경매 id
+	 */
+	@Transactional
+	public void increaseBidCount(Long auctionId) {
+		auctionRepository.adjustBidCount(auctionId, 1L);
+	}
+
+	/**
+	 * 입찰 취소 시 경매의 입찰 건수 1 감소(조건부 UPDATE, 0 미만으로 내려가지 않음)
+	 * @param auctionId 경매 id
+	 */
+	@Transactional
+	public void decreaseBidCount(Long auctionId) {
+		auctionRepository.adjustBidCount(auctionId, -1L);
+	}
+
+	/**
+	 * 상품 이미지가 변경되었을 때 해당 상품 경매의 대표 이미지 갱신
+	 * @param productId 상품 id
+	 * @param imageUrls 변경된 상품 이미지 url 목록
 	 */
-	public List<Auction> findActiveAuctionsWithProductAndSeller() {
-		return auctionRepository.findAuctionsByNotDeletedAndIsWonFalse();
+	@Transactional
+	public void updateThumbnailUrl(Long productId, List<String> imageUrls) {
+		auctionRepository.updateThumbnailUrlByProductId(productId, thumbnailOf(imageUrls));
+	}
+
+	/**
+	 * 입찰 건수, 대표 이미지 재계산 대상 경매 id를 id 순으로 조회(keyset 페이징)
+	 * @param lastAuctionId 이전 페이지의 마지막 경매 id(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 경매 id 목록
+	 */
+	public List<Long> findAuctionIdsAfter(Long lastAuctionId, int size) {
+		return auctionRepository.findAuctionIdsAfter(lastAuctionId, size);
+	}
+
+	/**
+	 * 입찰, 상품 이미지 테이블 기준으로 경매의 입찰 건수와 대표 이미지를 다시 계산
+	 * @param auctionIds 재계산할 경매 id 목록
+	 * @return 갱신된 경매 수
+	 */
+	@Transactional
+	public long recalculateBidCountAndThumbnail(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return 0L;
+		}
+
+		return auctionRepository.recalculateBidCountAndThumbnail(auctionIds);
+	}
+
+	/**
+	 * 순위 재구성용 진행 중 경매의 종료 시각, 입찰 건수를 id 순으로 조회(keyset 페이징)
+	 * @param lastAuctionId 이전 페이지의 마지막 경매 id(첫 페이지는 null)
+	 * @param now 기준 시각
+	 * @param size 페이지 크기
+	 * @return 경매 id, 종료 시각, 입찰 건수 목록
+	 */
+	public List<AuctionRankingInfo> findOpenAuctionRankings(Long lastAuctionId, LocalDateTime now, int size) {
+		return auctionRepository.findOpenAuctionRankings(lastAuctionId, now, size);
+	}
+
+	private static String thumbnailOf(List<String> imageUrls) {
+		if (imageUrls == null) {
+			return null;
+		}
+
+		return imageUrls.stream()
+			.filter(Objects::nonNull)
+			.min(Comparator.naturalOrder())
+			.orElse(null);
 	}
 
 }
@@ -0,0 +1,33 @@
+package nbc.chillguys.nebulazone.domain.bid.dto;
+
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+
+/**
+ * 경매의 최고가 입찰 정보(경매 상세 캐시에 함께 저장)
+ * @param bidId 입찰 id
+ * @param price 입찰가
+ * @param userId 입찰자 id
+ * @param nickname 입찰자 닉네임
+ * @param email 입찰자 이메일
+ */
+public record TopBidInfo(
+	Long bidId,
+	Long price,
+	Long userId,
+	String nickname,
+	String email
+) {
+
+	/**
+	 * @param bid 유저를 함께 조회한 최고가 입찰
+	 * @return 입찰이 없으면 null
+	 */
+	public static TopBidInfo from(Bid bid) {
+		if (bid == null) {
+			return null;
+		}
+
+		return new TopBidInfo(bid.getId(), bid.getPrice(), bid.getUser().getId(), bid.getUser().getNickname(),
+			bid.getUser().getEmail());
+	}
+}
@@ -11,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +23,9 @@ import nbc.chillguys.nebulazone.domain.user.entity.User;
 
 @Getter
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_bids_auction_user", columnNames = {"auction_id", "user_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bid extends BaseEntity {
 
@@ -45,6 +49,10 @@ public class Bid extends BaseEntity {
 	@Column(nullable = false)
 	private BidStatus status;
 
+	@Version
+	@Column(nullable = false)
+	private Long version;
+
 	@Builder
 	private Bid(Auction auction, User user, Long price) {
 		this.auction = auction;
@@ -77,4 +85,16 @@ public class Bid extends BaseEntity {
 		this.price = price;
 	}
 
+	public boolean isCancelled() {
+		return this.status == BidStatus.CANCEL;
+	}
+
+	/**
+	 * 취소한 입찰에 다시 입찰(입찰가 변경 후 입찰 상태로 복구)
+	 */
+	public void reactivate(Long price) {
+		this.price = price;
+		this.status = BidStatus.BID;
+	}
+
 }
@@ -0,0 +1,44 @@
+package nbc.chillguys.nebulazone.domain.bid.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료 후 보관 기간이 지난 경매의 입찰 내역<br>
+ * bids 테이블에서 INSERT ... SELECT로 옮겨 온 뒤 수정하지 않으며, 연관관계 없이 id만 보관
+ */
+@Getter
+@Entity
+@Table(name = "bid_archives")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BidArchive {
+
+	@Id
+	@Column(name = "bid_id")
+	private Long id;
+
+	@Column(nullable = false)
+	private Long auctionId;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private Long price;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private BidStatus status;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
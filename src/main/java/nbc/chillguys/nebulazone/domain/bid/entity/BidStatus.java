@@ -8,6 +8,7 @@ import lombok.Getter;
 public enum BidStatus {
 	WON("낙찰"),
 	BID("입찰"),
+	LOST("패찰"),
 	CANCEL("입찰취소");
 
 	private final String message;
@@ -17,7 +17,9 @@ public enum BidErrorCode implements ErrorCode {
 	BID_PRICE_TOO_LOW_START_PRICE(HttpStatus.BAD_REQUEST, "입찰 시 시작가보다 높거나 같아야 합니다."),
 	BID_NOT_OWNER(HttpStatus.FORBIDDEN, "내 입찰 내역이 아닙니다."),
 	BID_CANCEL_TIME_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "경매 종료 30분 전부터는 입찰을 취소할 수 없습니다."),
-	BID_AUCTION_MISMATCH(HttpStatus.FORBIDDEN, "해당 경매의 입찰이 아닙니다.");
+	BID_AUCTION_MISMATCH(HttpStatus.FORBIDDEN, "해당 경매의 입찰이 아닙니다."),
+	BID_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+	BID_NOT_PERSISTED(HttpStatus.CONFLICT, "반영되지 않은 입찰이 있어 경매를 종료할 수 없습니다.");
 
 	private final HttpStatus status;
 	private final String message;
@@ -0,0 +1,12 @@
+package nbc.chillguys.nebulazone.domain.bid.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import nbc.chillguys.nebulazone.domain.bid.entity.BidArchive;
+
+public interface BidArchiveRepository extends JpaRepository<BidArchive, Long>, BidArchiveRepositoryCustom {
+
+	boolean existsByAuctionId(Long auctionId);
+
+	long countByUserId(Long userId);
+}
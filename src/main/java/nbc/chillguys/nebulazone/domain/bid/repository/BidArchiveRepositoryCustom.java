@@ -0,0 +1,19 @@
+package nbc.chillguys.nebulazone.domain.bid.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.bid.dto.FindBidInfo;
+
+public interface BidArchiveRepositoryCustom {
+
+	Page<FindBidInfo> findBidsWithUserByAuctionId(Long auctionId, int page, int size);
+
+	List<FindBidInfo> findBidsWithUserByAuctionIdAndCursor(Long auctionId, Cursor cursor, int limit);
+
+	List<FindBidInfo> findMyBidsByCursor(Long userId, Cursor cursor, int limit);
+
+	long insertBidsByAuctionIds(List<Long> auctionIds);
+}
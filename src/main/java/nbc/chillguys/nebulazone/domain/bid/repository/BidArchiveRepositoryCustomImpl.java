@@ -0,0 +1,99 @@
+package nbc.chillguys.nebulazone.domain.bid.repository;
+
+import static nbc.chillguys.nebulazone.domain.auction.entity.QAuction.*;
+import static nbc.chillguys.nebulazone.domain.bid.entity.QBid.*;
+import static nbc.chillguys.nebulazone.domain.bid.entity.QBidArchive.*;
+import static nbc.chillguys.nebulazone.domain.product.entity.QProduct.*;
+import static nbc.chillguys.nebulazone.domain.user.entity.QUser.*;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.bid.dto.FindBidInfo;
+import nbc.chillguys.nebulazone.domain.bid.dto.QFindBidInfo;
+
+@Repository
+@RequiredArgsConstructor
+public class BidArchiveRepositoryCustomImpl implements BidArchiveRepositoryCustom {
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public Page<FindBidInfo> findBidsWithUserByAuctionId(Long auctionId, int page, int size) {
+		Pageable pageable = PageRequest.of(page, size);
+
+		List<FindBidInfo> contents = selectFindBidInfo()
+			.where(bidArchive.auctionId.eq(auctionId))
+			.orderBy(bidArchive.createdAt.desc(), bidArchive.id.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		JPAQuery<Long> countQuery = jpaQueryFactory.select(bidArchive.count())
+			.from(bidArchive)
+			.where(bidArchive.auctionId.eq(auctionId));
+
+		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+	}
+
+	@Override
+	public List<FindBidInfo> findBidsWithUserByAuctionIdAndCursor(Long auctionId, Cursor cursor, int limit) {
+
+		return selectFindBidInfo()
+			.where(bidArchive.auctionId.eq(auctionId), bidArchiveCursorCondition(cursor))
+			.orderBy(bidArchive.createdAt.desc(), bidArchive.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public List<FindBidInfo> findMyBidsByCursor(Long userId, Cursor cursor, int limit) {
+
+		return selectFindBidInfo()
+			.where(bidArchive.userId.eq(userId), bidArchiveCursorCondition(cursor))
+			.orderBy(bidArchive.createdAt.desc(), bidArchive.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public long insertBidsByAuctionIds(List<Long> auctionIds) {
+		return jpaQueryFactory.insert(bidArchive)
+			.columns(bidArchive.id, bidArchive.auctionId, bidArchive.userId, bidArchive.price,
+				bidArchive.status, bidArchive.createdAt)
+			.select(JPAExpressions.select(bid.id, bid.auction.id, bid.user.id, bid.price, bid.status, bid.createdAt)
+				.from(bid)
+				.where(bid.auction.id.in(auctionIds)))
+			.execute();
+	}
+
+	private JPAQuery<FindBidInfo> selectFindBidInfo() {
+		return jpaQueryFactory.select(new QFindBidInfo(bidArchive.id, bidArchive.price, bidArchive.createdAt,
+				bidArchive.status, user.nickname, product.name))
+			.from(bidArchive)
+			.join(user).on(user.id.eq(bidArchive.userId))
+			.join(auction).on(auction.id.eq(bidArchive.auctionId))
+			.join(auction.product, product);
+	}
+
+	private BooleanExpression bidArchiveCursorCondition(Cursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return bidArchive.createdAt.lt(cursor.createdAt())
+			.or(bidArchive.createdAt.eq(cursor.createdAt()).and(bidArchive.id.lt(cursor.id())));
+	}
+}
@@ -3,7 +3,9 @@ package nbc.chillguys.nebulazone.domain.bid.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
 
 public interface BidRepository extends JpaRepository<Bid, Long>, BidRepositoryCustom, BidAdminRepositoryCustom {
 
+	long countByUser(User user);
 }
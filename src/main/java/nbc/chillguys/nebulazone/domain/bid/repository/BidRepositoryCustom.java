@@ -1,10 +1,12 @@
 package nbc.chillguys.nebulazone.domain.bid.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.bid.dto.FindBidInfo;
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
@@ -16,6 +18,10 @@ public interface BidRepositoryCustom {
 
 	Page<FindBidInfo> findMyBids(User user, int page, int size);
 
+	List<FindBidInfo> findBidsWithUserByAuctionAndCursor(Auction auction, Cursor cursor, int limit);
+
+	List<FindBidInfo> findMyBidsByCursor(User user, Cursor cursor, int limit);
+
 	Optional<Long> findActiveBidHighestPriceByAuction(Auction auction);
 
 	Bid findHighestPriceBidByAuctionWithUser(Long auctionId);
@@ -25,4 +31,12 @@ public interface BidRepositoryCustom {
 	Optional<Bid> findBidByAuctionIdAndUserId(Long auctionId, Long userId);
 
 	List<Bid> findBidsByAuctionIdAndStatusBid(Long auctionId);
+
+	List<Bid> findHighestPriceBidsByAuctionIdsWithUser(List<Long> auctionIds);
+
+	long updateLosingBidsStatusLost(List<Long> auctionIds, List<Long> wonBidIds);
+
+	List<Long> findArchivableAuctionIds(Long lastAuctionId, LocalDateTime closedBefore, int limit);
+
+	long deleteBidsByAuctionIds(List<Long> auctionIds);
 }
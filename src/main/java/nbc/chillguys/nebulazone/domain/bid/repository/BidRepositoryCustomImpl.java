@@ -1,9 +1,11 @@
 package nbc.chillguys.nebulazone.domain.bid.repository;
 
+import static nbc.chillguys.nebulazone.domain.auction.entity.QAuction.*;
 import static nbc.chillguys.nebulazone.domain.bid.entity.QBid.*;
 import static nbc.chillguys.nebulazone.domain.product.entity.QProduct.*;
 import static nbc.chillguys.nebulazone.domain.user.entity.QUser.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,15 +15,19 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.bid.dto.FindBidInfo;
 import nbc.chillguys.nebulazone.domain.bid.dto.QFindBidInfo;
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
 import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
+import nbc.chillguys.nebulazone.domain.bid.entity.QBid;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 
 @Repository
@@ -73,6 +79,35 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
 		return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
 	}
 
+	@Override
+	public List<FindBidInfo> findBidsWithUserByAuctionAndCursor(Auction auction, Cursor cursor, int limit) {
+
+		return jpaQueryFactory.select(
+				new QFindBidInfo(bid.id, bid.price, bid.createdAt, bid.status, user.nickname, product.name))
+			.from(bid)
+			.join(bid.user, user)
+			.join(bid.auction.product, product)
+			.where(bid.auction.eq(auction), bidCursorCondition(cursor))
+			.orderBy(bid.createdAt.desc(), bid.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public List<FindBidInfo> findMyBidsByCursor(User loginUser, Cursor cursor, int limit) {
+
+		return jpaQueryFactory
+			.select(
+				new QFindBidInfo(bid.id, bid.price, bid.createdAt, bid.status, user.nickname, product.name))
+			.from(bid)
+			.join(bid.user, user)
+			.join(bid.auction.product, product)
+			.where(bid.user.eq(loginUser), bidCursorCondition(cursor))
+			.orderBy(bid.createdAt.desc(), bid.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
 	@Override
 	public Optional<Long> findActiveBidHighestPriceByAuction(Auction auction) {
 
@@ -129,4 +164,75 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
 			.where(bid.auction.id.eq(auctionId), bid.status.eq(BidStatus.BID))
 			.fetch();
 	}
+
+	@Override
+	public List<Bid> findHighestPriceBidsByAuctionIdsWithUser(List<Long> auctionIds) {
+		QBid subBid = new QBid("subBid");
+
+		return jpaQueryFactory
+			.selectFrom(bid)
+			.join(bid.user, user).fetchJoin()
+			.where(
+				bid.auction.id.in(auctionIds),
+				bid.status.eq(BidStatus.BID),
+				bid.price.eq(JPAExpressions.select(subBid.price.max())
+					.from(subBid)
+					.where(subBid.auction.id.eq(bid.auction.id), subBid.status.eq(BidStatus.BID)))
+			)
+			.fetch();
+	}
+
+	@Override
+	public long updateLosingBidsStatusLost(List<Long> auctionIds, List<Long> wonBidIds) {
+		return jpaQueryFactory.update(bid)
+			.set(bid.status, BidStatus.LOST)
+			.where(
+				bid.auction.id.in(auctionIds),
+				bid.status.eq(BidStatus.BID),
+				bid.id.notIn(wonBidIds)
+			)
+			.execute();
+	}
+
+	@Override
+	public List<Long> findArchivableAuctionIds(Long lastAuctionId, LocalDateTime closedBefore, int limit) {
+		QBid activeBid = new QBid("activeBid");
+
+		return jpaQueryFactory
+			.select(auction.id)
+			.from(auction)
+			.where(
+				lastAuctionId == null ? null : auction.id.gt(lastAuctionId),
+				auction.endTime.lt(closedBefore),
+				auction.isWon.isTrue()
+					.or(auction.deleted.isTrue())
+					.or(JPAExpressions.selectOne()
+						.from(activeBid)
+						.where(activeBid.auction.id.eq(auction.id), activeBid.status.eq(BidStatus.BID))
+						.notExists()),
+				JPAExpressions.selectOne()
+					.from(bid)
+					.where(bid.auction.id.eq(auction.id))
+					.exists()
+			)
+			.orderBy(auction.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public long deleteBidsByAuctionIds(List<Long> auctionIds) {
+		return jpaQueryFactory.delete(bid)
+			.where(bid.auction.id.in(auctionIds))
+			.execute();
+	}
+
+	private BooleanExpression bidCursorCondition(Cursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return bid.createdAt.lt(cursor.createdAt())
+			.or(bid.createdAt.eq(cursor.createdAt()).and(bid.id.lt(cursor.id())));
+	}
 }
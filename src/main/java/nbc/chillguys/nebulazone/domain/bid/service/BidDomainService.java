@@ -2,14 +2,23 @@ package nbc.chillguys.nebulazone.domain.bid.service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
@@ -18,6 +27,7 @@ import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
 import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.domain.bid.repository.BidArchiveRepository;
 import nbc.chillguys.nebulazone.domain.bid.repository.BidRepository;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 
@@ -26,10 +36,15 @@ import nbc.chillguys.nebulazone.domain.user.entity.User;
 @Transactional(readOnly = true)
 public class BidDomainService {
 
+	private static final Comparator<FindBidInfo> LATEST_FIRST =
+		Comparator.comparing(FindBidInfo::bidTime).thenComparing(FindBidInfo::bidId).reversed();
+
 	private final BidRepository bidRepository;
+	private final BidArchiveRepository bidArchiveRepository;
 
 	/**
-	 * 특정 경매의 입찰 생성 - 최초 입찰
+	 * 특정 경매의 입찰 생성 - 최초 입찰<br>
+	 * 입찰 금액 예치는 호출하는 쪽에서 예치금 원장에 기록
 	 * @param lockAuction 삭제되지 않은 비관적 락이 적용된 Auction(상품, 셀러 정보 포함)
 	 * @param user 입찰자
 	 * @param price 입찰 가격
@@ -39,53 +54,77 @@ public class BidDomainService {
 	@Transactional
 	public Bid createBid(Auction lockAuction, User user, Long price) {
 
-		if (Duration.between(LocalDateTime.now(), lockAuction.getEndTime()).isNegative()) {
+		validateCreateBid(lockAuction, user, price);
+
+		lockAuction.updateBidPrice(price);
+
+		return saveBid(lockAuction, user, price);
+	}
+
+	/**
+	 * 특정 경매의 입찰 수정 - 기존 입찰이 존재할 때<br>
+	 * 이전 입찰가와의 차액 예치는 호출하는 쪽에서 예치금 원장에 기록<br>
+	 * 취소한 입찰이면 입찰 상태로 복구하며, 취소 시 예치금이 모두 해제되었으므로 호출하는 쪽에서 입찰가 전체를 예치
+	 * @param lockAuction 경매
+	 * @param findBid 기존 입찰 내역
+	 * @param user 로그인 유저
+	 * @param price 입찰가
+	 * @return bid
+	 * @author 전나겸
+	 */
+	@Transactional
+	public Bid updateBid(Auction lockAuction, Bid findBid, User user, Long price) {
+
+		validateUpdateBid(lockAuction, findBid, user, price);
+
+		lockAuction.updateBidPrice(price);
+		if (findBid.isCancelled()) {
+			findBid.reactivate(price);
+		} else {
+			findBid.updateBidPrice(price);
+		}
+		return findBid;
+	}
+
+	/**
+	 * 최초 입찰 검증<br>
+	 * 최고가는 경매에 유지되는 현재가로 비교
+	 * @param auction 경매(상품, 셀러 정보 포함)
+	 * @param user 입찰자
+	 * @param price 입찰 가격
+	 */
+	public void validateCreateBid(Auction auction, User user, Long price) {
+
+		if (Duration.between(LocalDateTime.now(), auction.getEndTime()).isNegative()) {
 			throw new AuctionException(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
 		}
 
-		if (lockAuction.isAuctionOwner(user)) {
+		if (auction.isAuctionOwner(user)) {
 			throw new BidException(BidErrorCode.CANNOT_BID_OWN_AUCTION);
 		}
 
-		if (lockAuction.getStartPrice() > price) {
+		if (auction.getStartPrice() > price) {
 			throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_START_PRICE);
 		}
 
-		if (lockAuction.isWon()) {
+		if (auction.isWon()) {
 			throw new AuctionException(AuctionErrorCode.ALREADY_WON_AUCTION);
 		}
 
-		Optional<Long> highestPrice = bidRepository.findActiveBidHighestPriceByAuction(lockAuction);
-
-		if (highestPrice.isPresent() && highestPrice.get() >= price) {
-			throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
-		}
-
-		lockAuction.updateBidPrice(price);
-		user.usePoint(price);
-
-		Bid bid = Bid.builder()
-			.auction(lockAuction)
-			.user(user)
-			.price(price)
-			.build();
-
-		return bidRepository.save(bid);
+		validateHigherThanCurrentPrice(auction, price);
 	}
 
 	/**
-	 * 특정 경매의 입찰 수정 - 기존 입찰이 존재할 때
-	 * @param lockAuction 경매
+	 * 입찰 수정 검증<br>
+	 * 최고가는 경매에 유지되는 현재가로 비교하고, 취소한 입찰에 다시 입찰하면 시작가도 확인
+	 * @param auction 경매(상품, 셀러 정보 포함)
 	 * @param findBid 기존 입찰 내역
 	 * @param user 로그인 유저
 	 * @param price 입찰가
-	 * @return bid
-	 * @author 전나겸
 	 */
-	@Transactional
-	public Bid updateBid(Auction lockAuction, Bid findBid, User user, Long price) {
+	public void validateUpdateBid(Auction auction, Bid findBid, User user, Long price) {
 
-		if (Duration.between(LocalDateTime.now(), lockAuction.getEndTime()).isNegative()) {
+		if (Duration.between(LocalDateTime.now(), auction.getEndTime()).isNegative()) {
 			throw new AuctionException(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
 		}
 
@@ -93,32 +132,46 @@ public class BidDomainService {
 			throw new BidException(BidErrorCode.BID_NOT_OWNER);
 		}
 
-		if (findBid.isDifferentAuction(lockAuction)) {
+		if (findBid.isDifferentAuction(auction)) {
 			throw new BidException(BidErrorCode.BID_AUCTION_MISMATCH);
 		}
 
-		if (lockAuction.isAuctionOwner(user)) {
+		if (auction.isAuctionOwner(user)) {
 			throw new BidException(BidErrorCode.CANNOT_BID_OWN_AUCTION);
 		}
 
-		if (lockAuction.isWon()) {
+		if (findBid.isCancelled() && auction.getStartPrice() > price) {
+			throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_START_PRICE);
+		}
+
+		if (auction.isWon()) {
 			throw new AuctionException(AuctionErrorCode.ALREADY_WON_AUCTION);
 		}
 
-		Optional<Long> highestPrice = bidRepository.findActiveBidHighestPriceByAuction(lockAuction);
+		validateHigherThanCurrentPrice(auction, price);
+	}
 
-		if (highestPrice.isPresent() && highestPrice.get() >= price) {
-			throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
-		}
+	/**
+	 * 검증이 끝난 신규 입찰 저장
+	 * @param auction 경매
+	 * @param user 입찰자
+	 * @param price 입찰 가격
+	 * @return 저장된 Bid
+	 */
+	@Transactional
+	public Bid saveBid(Auction auction, User user, Long price) {
+		Bid bid = Bid.builder()
+			.auction(auction)
+			.user(user)
+			.price(price)
+			.build();
 
-		lockAuction.updateBidPrice(price);
-		user.updatePoint(findBid.getPrice(), price);
-		findBid.updateBidPrice(price);
-		return findBid;
+		return bidRepository.save(bid);
 	}
 
 	/**
-	 * 특정 경매의 입찰 내역 조회
+	 * 특정 경매의 입찰 내역 조회<br>
+	 * 입찰 내역이 보관 테이블로 옮겨진 경매는 보관 테이블에서 조회
 	 * @param auction 조회할 삭제되지 않은 경매
 	 * @param page 페이지
 	 * @param size 출력 개수
@@ -127,11 +180,16 @@ public class BidDomainService {
 	 */
 	public Page<FindBidInfo> findBids(Auction auction, int page, int size) {
 
+		if (isArchived(auction)) {
+			return bidArchiveRepository.findBidsWithUserByAuctionId(auction.getId(), page, size);
+		}
+
 		return bidRepository.findBidsWithUserByAuction(auction, page, size);
 	}
 
 	/**
-	 * 내 입찰 내역 조회
+	 * 내 입찰 내역 조회<br>
+	 * 보관된 입찰이 있으면 두 테이블에서 각각 page * size + size 건씩 최신순으로 조회해 합친 뒤 잘라서 반환
 	 * @param user 로그인 유저
 	 * @param page 페이지
 	 * @param size 출력 개수
@@ -140,7 +198,85 @@ public class BidDomainService {
 	 */
 	public Page<FindBidInfo> findMyBids(User user, int page, int size) {
 
-		return bidRepository.findMyBids(user, page, size);
+		long archivedCount = bidArchiveRepository.countByUserId(user.getId());
+		if (archivedCount == 0) {
+			return bidRepository.findMyBids(user, page, size);
+		}
+
+		Pageable pageable = PageRequest.of(page, size);
+		int limit = (int)pageable.getOffset() + size;
+
+		List<FindBidInfo> latest = mergeLatest(
+			bidRepository.findMyBidsByCursor(user, null, limit),
+			bidArchiveRepository.findMyBidsByCursor(user.getId(), null, limit),
+			limit);
+		List<FindBidInfo> contents = latest.subList(Math.min((int)pageable.getOffset(), latest.size()), latest.size());
+
+		return PageableExecutionUtils.getPage(contents, pageable,
+			() -> bidRepository.countByUser(user) + archivedCount);
+	}
+
+	/**
+	 * 특정 경매의 입찰 내역 조회(cursor 페이징)<br>
+	 * 입찰 내역이 보관 테이블로 옮겨진 경매는 보관 테이블에서 조회
+	 * @param auction 조회할 삭제되지 않은 경매
+	 * @param cursor 이전 페이지 마지막 입찰 위치(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 다음 페이지 존재 여부 확인을 위해 최대 size + 1 건 조회한 FindBidInfo
+	 */
+	public List<FindBidInfo> findBidsByCursor(Auction auction, Cursor cursor, int size) {
+
+		if (isArchived(auction)) {
+			return bidArchiveRepository.findBidsWithUserByAuctionIdAndCursor(auction.getId(), cursor, size + 1);
+		}
+
+		return bidRepository.findBidsWithUserByAuctionAndCursor(auction, cursor, size + 1);
+	}
+
+	/**
+	 * 내 입찰 내역 조회(cursor 페이징)<br>
+	 * 진행 중 입찰과 보관된 입찰을 같은 cursor로 각각 조회해 최신순으로 합침
+	 * @param user 로그인 유저
+	 * @param cursor 이전 페이지 마지막 입찰 위치(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 다음 페이지 존재 여부 확인을 위해 최대 size + 1 건 조회한 FindBidInfo
+	 */
+	public List<FindBidInfo> findMyBidsByCursor(User user, Cursor cursor, int size) {
+
+		return mergeLatest(
+			bidRepository.findMyBidsByCursor(user, cursor, size + 1),
+			bidArchiveRepository.findMyBidsByCursor(user.getId(), cursor, size + 1),
+			size + 1);
+	}
+
+	/**
+	 * 보관 대상 경매 조회<br>
+	 * 종료 시각이 closedBefore 이전이고 정산이 끝났으며(낙찰, 삭제 또는 남은 입찰 없음) bids 테이블에 입찰이 남아 있는 경매
+	 * @param lastAuctionId 이전 페이지 마지막 경매 id(첫 페이지는 null)
+	 * @param closedBefore 보관 기준 시각
+	 * @param limit 최대 조회 수
+	 * @return id 오름차순 경매 id 목록
+	 */
+	public List<Long> findArchivableAuctionIds(Long lastAuctionId, LocalDateTime closedBefore, int limit) {
+		return bidRepository.findArchivableAuctionIds(lastAuctionId, closedBefore, limit);
+	}
+
+	/**
+	 * 경매들의 입찰 내역을 보관 테이블로 이동<br>
+	 * INSERT ... SELECT 후 DELETE를 한 트랜잭션으로 수행하여 경매의 입찰은 항상 한쪽 테이블에만 존재
+	 * @param auctionIds 보관할 경매 id 목록
+	 * @return 이동한 입찰 수
+	 */
+	@Transactional
+	public long archiveBids(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return 0;
+		}
+
+		long archived = bidArchiveRepository.insertBidsByAuctionIds(auctionIds);
+		bidRepository.deleteBidsByAuctionIds(auctionIds);
+
+		return archived;
 	}
 
 	/**
@@ -236,5 +372,91 @@ public class BidDomainService {
 	public List<Bid> findBidsByAuctionIdAndStatusBid(Long auctionId) {
 		return bidRepository.findBidsByAuctionIdAndStatusBid(auctionId);
 	}
-}
 
+	/**
+	 * 여러 경매의 최고가 입찰을 한 번에 조회<br>
+	 * 유저를 함께 조회
+	 * @param auctionIds 경매 id 목록
+	 * @return 경매 id, 최고가 입찰(입찰이 없는 경매는 포함되지 않음)
+	 */
+	public Map<Long, Bid> findHighBidsByAuctionIds(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return Map.of();
+		}
+
+		return bidRepository.findHighestPriceBidsByAuctionIdsWithUser(auctionIds).stream()
+			.collect(Collectors.toMap(bid -> bid.getAuction().getId(), Function.identity(), (first, second) -> first));
+	}
+
+	/**
+	 * 낙찰되지 않은 입찰을 UPDATE 한 번으로 패찰 처리
+	 * @param auctionIds 종료된 경매 id 목록
+	 * @param wonBidIds 낙찰된 입찰 id 목록
+	 * @return 패찰 처리된 입찰 수
+	 */
+	@Transactional
+	public long markLosingBids(List<Long> auctionIds, List<Long> wonBidIds) {
+		if (auctionIds.isEmpty() || wonBidIds.isEmpty()) {
+			return 0;
+		}
+
+		return bidRepository.updateLosingBidsStatusLost(auctionIds, wonBidIds);
+	}
+
+	/**
+	 * Redis에서 접수가 확정된 입찰 반영(write-behind)<br>
+	 * 검증은 접수 시점에 끝났으므로 기존 입찰이 있으면 가격을 갱신하고, 없으면 새로 생성
+	 * @param auction 경매
+	 * @param user 입찰자
+	 * @param price 입찰가
+	 * @return 반영된 Bid
+	 */
+	@Transactional
+	public Bid applyAcceptedBid(Auction auction, User user, Long price) {
+		return bidRepository.findBidByAuctionIdAndUserId(auction.getId(), user.getId())
+			.map(findBid -> {
+				findBid.updateBidPrice(price);
+				findBid.updateStatus(BidStatus.BID);
+				return findBid;
+			})
+			.orElseGet(() -> bidRepository.save(Bid.builder()
+				.auction(auction)
+				.user(user)
+				.price(price)
+				.build()));
+	}
+
+	/**
+	 * Redis에서 접수가 확정된 입찰 취소 반영(write-behind)
+	 * @param auctionId 경매 id
+	 * @param userId 입찰자 id
+	 */
+	@Transactional
+	public void applyCancelledBid(Long auctionId, Long userId) {
+		bidRepository.findBidByAuctionIdAndUserId(auctionId, userId)
+			.ifPresent(Bid::cancelBid);
+	}
+
+	private boolean isArchived(Auction auction) {
+		return auction.getEndTime().isBefore(LocalDateTime.now())
+			&& bidArchiveRepository.existsByAuctionId(auction.getId());
+	}
+
+	private List<FindBidInfo> mergeLatest(List<FindBidInfo> bids, List<FindBidInfo> archivedBids, int limit) {
+		if (archivedBids.isEmpty()) {
+			return bids;
+		}
+
+		List<FindBidInfo> merged = new ArrayList<>(bids);
+		merged.addAll(archivedBids);
+		merged.sort(LATEST_FIRST);
+
+		return merged.subList(0, Math.min(limit, merged.size()));
+	}
+
+	private void validateHigherThanCurrentPrice(Auction auction, Long price) {
+		if (auction.getCurrentPrice() != null && auction.getCurrentPrice() >= price) {
+			throw new BidException(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package nbc.chillguys.nebulazone.domain.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+
+/**
+ * 채팅 기록 조회 결과
+ * @param chatHistoryId DB 채팅 기록 id(아직 DB에 저장되지 않은 Redis stream의 메시지는 null)
+ */
+public record ChatHistoryInfo(
+	Long chatHistoryId,
+	Long senderId,
+	String message,
+	MessageType type,
+	LocalDateTime sendTime
+) {
+
+	@QueryProjection
+	public ChatHistoryInfo {
+	}
+
+	public static ChatHistoryInfo from(ChatMessageInfo messageInfo) {
+		return new ChatHistoryInfo(
+			null,
+			messageInfo.senderId(),
+			messageInfo.message(),
+			messageInfo.type(),
+			messageInfo.sendTime()
+		);
+	}
+}
@@ -0,0 +1,40 @@
+package nbc.chillguys.nebulazone.domain.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+
+/**
+ * 채팅 기록을 JDBC batch insert로 저장하는 저장소<br>
+ * IDENTITY 전략 엔티티의 saveAll은 메시지마다 INSERT를 한 번씩 보내므로, 채팅방 엔티티를 조회하지 않고 id만으로 묶어서 저장<br>
+ * rewriteBatchedStatements=true 설정으로 드라이버가 multi-row INSERT로 합쳐 보냄
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatHistoryBulkRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO chat_histories (chat_room_id, user_id, message, send_time, message_type, created_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void saveAll(List<ChatMessageInfo> messages) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+			ps.setLong(1, message.roomId());
+			ps.setLong(2, message.senderId());
+			ps.setString(3, message.message());
+			ps.setTimestamp(4, Timestamp.valueOf(message.sendTime()));
+			ps.setString(5, message.type().name());
+			ps.setTimestamp(6, now);
+		});
+	}
+}
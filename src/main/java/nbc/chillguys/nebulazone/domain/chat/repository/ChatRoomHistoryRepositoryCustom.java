@@ -2,8 +2,12 @@ package nbc.chillguys.nebulazone.domain.chat.repository;
 
 import java.util.List;
 
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatHistoryInfo;
 import nbc.chillguys.nebulazone.domain.chat.entity.ChatHistory;
 
 public interface ChatRoomHistoryRepositoryCustom {
 	List<ChatHistory> findAllByChatRoomIdOrderBySendTimeAsc(Long chatRoomId);
+
+	List<ChatHistoryInfo> findChatHistoriesByCursor(Long chatRoomId, Cursor cursor, int limit);
 }
@@ -4,9 +4,13 @@ import static nbc.chillguys.nebulazone.domain.chat.entity.QChatHistory.*;
 
 import java.util.List;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatHistoryInfo;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.QChatHistoryInfo;
 import nbc.chillguys.nebulazone.domain.chat.entity.ChatHistory;
 
 @RequiredArgsConstructor
@@ -23,4 +27,28 @@ public class ChatRoomHistoryRepositoryImpl implements ChatRoomHistoryRepositoryC
 			.orderBy(chatHistory.sendTime.asc())
 			.fetch();
 	}
+
+	@Override
+	public List<ChatHistoryInfo> findChatHistoriesByCursor(Long chatRoomId, Cursor cursor, int limit) {
+		return jpaQueryFactory
+			.select(new QChatHistoryInfo(chatHistory.id, chatHistory.userId, chatHistory.message,
+				chatHistory.messageType, chatHistory.sendTime))
+			.from(chatHistory)
+			.where(
+				chatHistory.chatRoom.id.eq(chatRoomId),
+				chatHistoryCursorCondition(cursor)
+			)
+			.orderBy(chatHistory.sendTime.desc(), chatHistory.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	private BooleanExpression chatHistoryCursorCondition(Cursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		return chatHistory.sendTime.lt(cursor.createdAt())
+			.or(chatHistory.sendTime.eq(cursor.createdAt()).and(chatHistory.id.lt(cursor.id())));
+	}
 }
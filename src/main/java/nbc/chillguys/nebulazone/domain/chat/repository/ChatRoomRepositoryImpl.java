@@ -6,6 +6,7 @@ import static nbc.chillguys.nebulazone.domain.chat.entity.QChatRoomUser.*;
 import static nbc.chillguys.nebulazone.domain.product.entity.QProduct.*;
 import static nbc.chillguys.nebulazone.domain.user.entity.QUser.*;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.querydsl.core.types.Projections;
@@ -40,4 +41,13 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 			.where(chatRoomUser.user.id.eq(userId))
 			.fetch();
 	}
+
+	@Override
+	public List<Long> findExistingIds(Collection<Long> roomIds) {
+		return jpaQueryFactory
+			.select(chatRoom.id)
+			.from(chatRoom)
+			.where(chatRoom.id.in(roomIds))
+			.fetch();
+	}
 }
@@ -1,7 +1,7 @@
 package nbc.chillguys.nebulazone.domain.chat.service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
@@ -9,6 +9,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import nbc.chillguys.nebulazone.application.chat.dto.response.FindChatHistoryResponse;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatHistoryInfo;
 import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
 import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatRoomInfo;
 import nbc.chillguys.nebulazone.domain.chat.entity.ChatHistory;
@@ -16,6 +18,7 @@ import nbc.chillguys.nebulazone.domain.chat.entity.ChatRoom;
 import nbc.chillguys.nebulazone.domain.chat.entity.ChatRoomUser;
 import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
 import nbc.chillguys.nebulazone.domain.chat.exception.ChatException;
+import nbc.chillguys.nebulazone.domain.chat.repository.ChatHistoryBulkRepository;
 import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomHistoryRepository;
 import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomRepository;
 import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomUserRepository;
@@ -35,6 +38,7 @@ public class ChatDomainService {
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomUserRepository chatRoomUserRepository;
 	private final ChatRoomHistoryRepository chatRoomHistoryRepository;
+	private final ChatHistoryBulkRepository chatHistoryBulkRepository;
 
 	/**
 	 * 기존 채팅방을 Optional로 조회
@@ -92,6 +96,20 @@ public class ChatDomainService {
 		return responses;
 	}
 
+	/**
+	 * 채팅방의 DB 채팅 기록 조회(cursor 페이징)<br>
+	 * (chat_room_id, send_time, chat_history_id) 인덱스를 따라 최신순으로 읽으므로 채팅방의 기록 수와 무관하게 일정한 비용
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param cursor 이전 페이지 마지막 메시지 위치(첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 다음 페이지 존재 여부 확인을 위해 최대 size + 1 건 조회한 ChatHistoryInfo
+	 */
+	@Transactional(readOnly = true)
+	public List<ChatHistoryInfo> findChatHistoriesByCursor(Long roomId, Cursor cursor, int size) {
+		return chatRoomHistoryRepository.findChatHistoriesByCursor(roomId, cursor, size + 1);
+	}
+
 	/**
 	 * 채팅방 및 참가자 저장
 	 * @param product 판매중인 상품
@@ -142,32 +160,27 @@ public class ChatDomainService {
 	}
 
 	/**
-	 * 채팅 기록 저장
+	 * 채팅 기록 일괄 저장<br>
+	 * 채팅방 존재 여부는 id만 한 번에 조회하여 확인하고, 기록은 JDBC batch insert로 저장
 	 *
-	 * @param roomId 저장할 채팅방 ID
-	 * @param messagesFromRedis 레디스에서 가져온 메시지들
-	 * @throws ChatErrorCode CHAT_ROOM_NOT_FOUND
+	 * @param messagesByRoom 채팅방 id별 레디스에서 가져온 메시지들
+	 * @throws ChatException 존재하지 않는 채팅방이 있으면 CHAT_ROOM_NOT_FOUND
 	 */
-	public void saveChatHistories(Long roomId, List<ChatMessageInfo> messagesFromRedis) {
-
-		ChatRoom chatRoom = findChatRoom(roomId);
-
-		List<ChatHistory> histories = new ArrayList<>();
+	public void saveChatHistories(Map<Long, List<ChatMessageInfo>> messagesByRoom) {
+		if (messagesByRoom.isEmpty()) {
+			return;
+		}
 
-		// 레디스에서 불러온 채팅기록들을 for문을 돌면서 채팅기록 테이블에 저장할 리스트에 추가
-		for (ChatMessageInfo messages : messagesFromRedis) {
+		List<Long> existingRoomIds = chatRoomRepository.findExistingIds(messagesByRoom.keySet());
+		if (existingRoomIds.size() != messagesByRoom.size()) {
+			throw new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND);
+		}
 
-			ChatHistory history = ChatHistory.builder()
-				.chatRoom(chatRoom)
-				.userId(messages.senderId())
-				.message(messages.message())
-				.messageType(messages.type())
-				.sendtime(messages.sendTime())
-				.build();
+		List<ChatMessageInfo> messages = messagesByRoom.values().stream()
+			.flatMap(List::stream)
+			.toList();
 
-			histories.add(history);
-		}
-		chatRoomHistoryRepository.saveAll(histories);
+		chatHistoryBulkRepository.saveAll(messages);
 	}
 
 	/**
@@ -0,0 +1,14 @@
+package nbc.chillguys.nebulazone.domain.escrow.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record EscrowHoldInfo(
+	Long userId,
+	Long auctionId,
+	Long amount
+) {
+
+	@QueryProjection
+	public EscrowHoldInfo {
+	}
+}
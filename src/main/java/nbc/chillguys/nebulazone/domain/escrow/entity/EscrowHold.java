@@ -0,0 +1,52 @@
+package nbc.chillguys.nebulazone.domain.escrow.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import nbc.chillguys.nebulazone.domain.common.audit.BaseEntity;
+
+/**
+ * 입찰 예치금 원장<br>
+ * 수정 없이 INSERT만 하며, 유저의 경매별 예치 금액은 amount 합계(예치는 양수, 해제와 결제는 음수)
+ */
+@Getter
+@Entity
+@Table(name = "escrow_holds")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EscrowHold extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "escrow_hold_id")
+	private Long id;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private Long auctionId;
+
+	@Column(nullable = false)
+	private Long amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private EscrowHoldType type;
+
+	@Builder
+	private EscrowHold(Long userId, Long auctionId, Long amount, EscrowHoldType type) {
+		this.userId = userId;
+		this.auctionId = auctionId;
+		this.amount = amount;
+		this.type = type;
+	}
+}
@@ -0,0 +1,16 @@
+package nbc.chillguys.nebulazone.domain.escrow.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EscrowHoldType {
+	RESERVE("입찰 예치"),
+	ADJUST("입찰가 변경"),
+	RELEASE("예치 해제"),
+	CAPTURE("낙찰 결제");
+
+	private final String message;
+
+}
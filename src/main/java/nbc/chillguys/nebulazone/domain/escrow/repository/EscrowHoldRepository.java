@@ -0,0 +1,9 @@
+package nbc.chillguys.nebulazone.domain.escrow.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHold;
+
+public interface EscrowHoldRepository extends JpaRepository<EscrowHold, Long>, EscrowHoldRepositoryCustom {
+
+}
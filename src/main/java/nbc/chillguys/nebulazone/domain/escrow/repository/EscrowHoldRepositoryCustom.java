@@ -0,0 +1,14 @@
+package nbc.chillguys.nebulazone.domain.escrow.repository;
+
+import java.util.List;
+
+import nbc.chillguys.nebulazone.domain.escrow.dto.EscrowHoldInfo;
+
+public interface EscrowHoldRepositoryCustom {
+
+	long sumAmountByUserId(Long userId);
+
+	long sumAmountByUserIdAndAuctionId(Long userId, Long auctionId);
+
+	List<EscrowHoldInfo> findOpenHoldsByAuctionIds(List<Long> auctionIds);
+}
@@ -0,0 +1,61 @@
+package nbc.chillguys.nebulazone.domain.escrow.repository;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.domain.escrow.dto.EscrowHoldInfo;
+import nbc.chillguys.nebulazone.domain.escrow.dto.QEscrowHoldInfo;
+import nbc.chillguys.nebulazone.domain.escrow.entity.QEscrowHold;
+
+@Repository
+@RequiredArgsConstructor
+public class EscrowHoldRepositoryCustomImpl implements EscrowHoldRepositoryCustom {
+
+	private final JPAQueryFactory jpaQueryFactory;
+
+	@Override
+	public long sumAmountByUserId(Long userId) {
+		QEscrowHold escrowHold = QEscrowHold.escrowHold;
+
+		Long sum = jpaQueryFactory
+			.select(escrowHold.amount.sum())
+			.from(escrowHold)
+			.where(escrowHold.userId.eq(userId))
+			.fetchOne();
+
+		return sum == null ? 0L : sum;
+	}
+
+	@Override
+	public long sumAmountByUserIdAndAuctionId(Long userId, Long auctionId) {
+		QEscrowHold escrowHold = QEscrowHold.escrowHold;
+
+		Long sum = jpaQueryFactory
+			.select(escrowHold.amount.sum())
+			.from(escrowHold)
+			.where(
+				escrowHold.userId.eq(userId),
+				escrowHold.auctionId.eq(auctionId)
+			)
+			.fetchOne();
+
+		return sum == null ? 0L : sum;
+	}
+
+	@Override
+	public List<EscrowHoldInfo> findOpenHoldsByAuctionIds(List<Long> auctionIds) {
+		QEscrowHold escrowHold = QEscrowHold.escrowHold;
+
+		return jpaQueryFactory
+			.select(new QEscrowHoldInfo(escrowHold.userId, escrowHold.auctionId, escrowHold.amount.sum()))
+			.from(escrowHold)
+			.where(escrowHold.auctionId.in(auctionIds))
+			.groupBy(escrowHold.userId, escrowHold.auctionId)
+			.having(escrowHold.amount.sum().gt(0L))
+			.fetch();
+	}
+}
@@ -0,0 +1,103 @@
+package nbc.chillguys.nebulazone.domain.escrow.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.domain.escrow.dto.EscrowHoldInfo;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHold;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.escrow.repository.EscrowHoldRepository;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EscrowDomainService {
+
+	private final EscrowHoldRepository escrowHoldRepository;
+
+	/**
+	 * 입찰 예치 또는 입찰가 변경분 예치 기록(INSERT만 수행)
+	 * @param userId 입찰자 id
+	 * @param auctionId 경매 id
+	 * @param amount 예치할 금액(입찰가를 올린 경우 차액)
+	 * @param type RESERVE(최초 입찰) 또는 ADJUST(입찰가 변경)
+	 */
+	@Transactional
+	public void hold(Long userId, Long auctionId, long amount, EscrowHoldType type) {
+		if (amount == 0) {
+			return;
+		}
+
+		escrowHoldRepository.save(EscrowHold.builder()
+			.userId(userId)
+			.auctionId(auctionId)
+			.amount(amount)
+			.type(type)
+			.build());
+	}
+
+	/**
+	 * 유저가 특정 경매에 예치한 금액 전체 해제(입찰 취소)
+	 * @param userId 입찰자 id
+	 * @param auctionId 경매 id
+	 * @return 해제된 금액, 예치 금액이 없으면 0
+	 */
+	@Transactional
+	public long release(Long userId, Long auctionId) {
+		long amount = escrowHoldRepository.sumAmountByUserIdAndAuctionId(userId, auctionId);
+
+		if (amount <= 0) {
+			return 0L;
+		}
+
+		escrowHoldRepository.save(EscrowHold.builder()
+			.userId(userId)
+			.auctionId(auctionId)
+			.amount(-amount)
+			.type(EscrowHoldType.RELEASE)
+			.build());
+
+		return amount;
+	}
+
+	/**
+	 * 종료된 경매들의 남은 예치금을 한 번에 정산<br>
+	 * 낙찰자의 예치금은 결제(CAPTURE), 나머지 입찰자의 예치금은 해제(RELEASE)로 기록하며 유저 포인트는 수정하지 않음
+	 * @param auctionIds 종료된 경매 id 목록
+	 * @param winnerIds 경매 id, 낙찰자 id(유찰된 경매는 포함되지 않음)
+	 * @return 정산 전 남아 있던 유저, 경매별 예치 금액
+	 */
+	@Transactional
+	public List<EscrowHoldInfo> settle(List<Long> auctionIds, Map<Long, Long> winnerIds) {
+		if (auctionIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<EscrowHoldInfo> openHolds = escrowHoldRepository.findOpenHoldsByAuctionIds(auctionIds);
+
+		escrowHoldRepository.saveAll(openHolds.stream()
+			.map(openHold -> EscrowHold.builder()
+				.userId(openHold.userId())
+				.auctionId(openHold.auctionId())
+				.amount(-openHold.amount())
+				.type(openHold.userId().equals(winnerIds.get(openHold.auctionId()))
+					? EscrowHoldType.CAPTURE : EscrowHoldType.RELEASE)
+				.build())
+			.toList());
+
+		return openHolds;
+	}
+
+	/**
+	 * 유저의 해제되지 않은 예치금 합계
+	 * @param userId 유저 id
+	 * @return 예치금 합계
+	 */
+	public long sumOpenHolds(Long userId) {
+		return escrowHoldRepository.sumAmountByUserId(userId);
+	}
+}
@@ -1,5 +1,7 @@
 package nbc.chillguys.nebulazone.domain.product.repository;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,4 +11,6 @@ public interface ProductEsRepositoryCustom {
 	Page<ProductDocument> searchProduct(String productName, String sellerNickname, String txMethod, Long priceFrom,
 		Long priceTo,
 		Pageable pageable);
+
+	void bulkUpdateSold(List<Long> productIds);
 }
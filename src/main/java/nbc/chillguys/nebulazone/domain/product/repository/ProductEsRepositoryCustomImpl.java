@@ -1,5 +1,7 @@
 package nbc.chillguys.nebulazone.domain.product.repository;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +10,8 @@ import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -71,4 +75,20 @@ public class ProductEsRepositoryCustomImpl implements ProductEsRepositoryCustom
 			hits.getTotalHits()
 		);
 	}
+
+	@Override
+	public void bulkUpdateSold(List<Long> productIds) {
+		List<UpdateQuery> queries = productIds.stream()
+			.map(productId -> {
+				Document document = Document.create();
+				document.put("isSold", true);
+
+				return UpdateQuery.builder(String.valueOf(productId))
+					.withDocument(document)
+					.build();
+			})
+			.toList();
+
+		elasticsearchOperations.bulkUpdate(queries, ProductDocument.class);
+	}
 }
@@ -153,6 +153,18 @@ public class ProductDomainService {
 		productEsRepository.save(ProductDocument.from(product));
 	}
 
+	/**
+	 * Elasticsearch 상품 문서의 판매 여부를 bulk 요청 한 번으로 갱신
+	 * @param productIds 판매된 상품 id 목록
+	 */
+	public void markProductsSoldInEs(List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+
+		productEsRepository.bulkUpdateSold(productIds);
+	}
+
 	/**
 	 * 상품 검색
 	 * @param command keyword, txMethod, priceFrom, priceTo, page, size
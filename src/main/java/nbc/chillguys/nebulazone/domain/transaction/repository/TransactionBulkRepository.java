@@ -0,0 +1,41 @@
+package nbc.chillguys.nebulazone.domain.transaction.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.domain.transaction.dto.TransactionCreateCommand;
+import nbc.chillguys.nebulazone.domain.transaction.entity.TransactionMethod;
+
+/**
+ * 거래내역을 JDBC batch insert로 저장하는 저장소<br>
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 IDENTITY 전략에서도 한 번에 묶어서 저장됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBulkRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO transactions (price, method, user_type, user_id, product_id, created_at, modified_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void saveAll(List<TransactionCreateCommand> commands) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, commands, commands.size(), (ps, command) -> {
+			ps.setLong(1, command.price());
+			ps.setString(2, TransactionMethod.of(command.txMethod()).name());
+			ps.setString(3, command.userType().name());
+			ps.setLong(4, command.user().getId());
+			ps.setLong(5, command.product().getId());
+			ps.setTimestamp(6, now);
+			ps.setTimestamp(7, now);
+		});
+	}
+}
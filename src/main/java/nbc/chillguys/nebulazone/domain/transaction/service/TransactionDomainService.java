@@ -1,5 +1,7 @@
 package nbc.chillguys.nebulazone.domain.transaction.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +14,7 @@ import nbc.chillguys.nebulazone.domain.transaction.entity.Transaction;
 import nbc.chillguys.nebulazone.domain.transaction.entity.TransactionMethod;
 import nbc.chillguys.nebulazone.domain.transaction.exception.TransactionErrorCode;
 import nbc.chillguys.nebulazone.domain.transaction.exception.TransactionException;
+import nbc.chillguys.nebulazone.domain.transaction.repository.TransactionBulkRepository;
 import nbc.chillguys.nebulazone.domain.transaction.repository.TransactionRepository;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 
@@ -21,6 +24,7 @@ import nbc.chillguys.nebulazone.domain.user.entity.User;
 public class TransactionDomainService {
 
 	private final TransactionRepository transactionRepository;
+	private final TransactionBulkRepository transactionBulkRepository;
 
 	/**
 	 * 거래내역 저장
@@ -40,6 +44,21 @@ public class TransactionDomainService {
 		return transactionRepository.save(tx);
 	}
 
+	/**
+	 * 거래내역 일괄 저장(JDBC batch insert)<br>
+	 * 저장 전에 모든 거래 방법을 검증하여 일부만 저장되지 않도록 함
+	 * @param commands 저장할 거래내역 목록
+	 */
+	@Transactional
+	public void createTransactions(List<TransactionCreateCommand> commands) {
+		if (commands.isEmpty()) {
+			return;
+		}
+
+		commands.forEach(command -> TransactionMethod.of(command.txMethod()));
+		transactionBulkRepository.saveAll(commands);
+	}
+
 	/**
 	 * 내 거래내역 전체 조회3
 	 * @param user 로그인 user
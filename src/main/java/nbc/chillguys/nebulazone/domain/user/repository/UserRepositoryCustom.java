@@ -15,4 +15,8 @@ public interface UserRepositoryCustom {
 	Optional<User> findUserById(Long userId);
 
 	boolean existsByEmailAndOAuthType(String email, OAuthType oAuthType);
+
+	long decreasePoint(Long userId, long amount);
+
+	long increasePoint(Long userId, long amount);
 }
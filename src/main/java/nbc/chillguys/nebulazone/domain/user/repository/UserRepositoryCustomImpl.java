@@ -79,4 +79,27 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 			.fetchOne() != null;
 	}
 
+	@Override
+	public long decreasePoint(Long userId, long amount) {
+		QUser user = QUser.user;
+
+		return jpaQueryFactory.update(user)
+			.set(user.point, user.point.subtract(amount))
+			.where(
+				user.id.eq(userId),
+				user.point.goe(amount)
+			)
+			.execute();
+	}
+
+	@Override
+	public long increasePoint(Long userId, long amount) {
+		QUser user = QUser.user;
+
+		return jpaQueryFactory.update(user)
+			.set(user.point, user.point.add(amount))
+			.where(user.id.eq(userId))
+			.execute();
+	}
+
 }
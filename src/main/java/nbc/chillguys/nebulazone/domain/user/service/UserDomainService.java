@@ -168,19 +168,6 @@ public class UserDomainService {
 			.orElseThrow(() -> new UserException(UserErrorCode.ALREADY_EXISTS_EMAIL));
 	}
 
-	/**
-	 * 포인 환전시 포인트가 충분한지 조회
-	 *
-	 * @param user 유저
-	 * @param price 요청 포인트
-	 * @author 정석현
-	 */
-	public void validEnoughPoint(User user, Long price) {
-		if (user.hasNotEnoughPoint(price)) {
-			throw new UserException(UserErrorCode.INSUFFICIENT_BALANCE);
-		}
-	}
-
 	/**
 	 * 닉네임 또는 비밀번호 수정
 	 * @param userUpdateCommand 유저 수정(userId, nickname, oldPassword, newPassword)
@@ -248,4 +235,58 @@ public class UserDomainService {
 		return userRepository.existsByEmailAndOAuthType(email, oAuthType);
 	}
 
+	/**
+	 * 조건부 UPDATE로 유저 포인트 차감<br>
+	 * 엔티티를 조회하지 않고 잔액이 충분할 때만 차감
+	 * @param userId 유저 id
+	 * @param amount 차감할 포인트
+	 * @throws UserException 잔액 부족 시 예외 발생
+	 */
+	@Transactional
+	public void deductPoint(Long userId, long amount) {
+		if (!tryDeductPoint(userId, amount)) {
+			throw new UserException(UserErrorCode.INSUFFICIENT_BALANCE);
+		}
+	}
+
+	/**
+	 * 조건부 UPDATE로 유저 포인트 차감(잔액 부족 시 예외 없이 false 반환)<br>
+	 * 여러 입찰을 한 트랜잭션에서 처리할 때 한 건의 잔액 부족으로 전체가 롤백되지 않도록 사용
+	 * @param userId 유저 id
+	 * @param amount 차감할 포인트
+	 * @return 차감 여부
+	 */
+	@Transactional
+	public boolean tryDeductPoint(Long userId, long amount) {
+		if (amount <= 0) {
+			return true;
+		}
+
+		return userRepository.decreasePoint(userId, amount) > 0;
+	}
+
+	/**
+	 * 엔티티를 조회하지 않고 UPDATE로 유저 포인트 적립<br>
+	 * 같은 트랜잭션에서 다른 UPDATE로 포인트가 바뀔 수 있을 때 엔티티 값으로 덮어쓰지 않도록 사용
+	 * @param userId 유저 id
+	 * @param amount 적립할 포인트
+	 */
+	@Transactional
+	public void depositPoint(Long userId, long amount) {
+		if (amount <= 0) {
+			return;
+		}
+
+		userRepository.increasePoint(userId, amount);
+	}
+
+	/**
+	 * 조회 쿼리 없이 유저 참조 획득(연관관계 설정용)
+	 * @param userId 유저 id
+	 * @return user 프록시
+	 */
+	public User getUserReference(Long userId) {
+		return userRepository.getReferenceById(userId);
+	}
+
 }
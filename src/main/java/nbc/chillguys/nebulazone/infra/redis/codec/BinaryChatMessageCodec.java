@@ -0,0 +1,226 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+
+/**
+ * 필드 이름과 타입 정보 없이 값만 순서대로 쓰는 채팅 메시지 바이너리 형식<br>
+ * MAGIC, 버전, roomId, senderId, 보낸 시각(epoch 초, 나노초), 메시지 타입, senderEmail, message 순서<br>
+ * 정수는 zigzag varint, 문자열은 UTF-8 바이트 길이 + 1(null이면 0) 뒤에 내용을 씀<br>
+ * 인코딩은 스레드마다 재사용하는 버퍼에 UTF-8을 직접 써서 결과 배열 하나만 할당하고,
+ * 디코딩은 받은 바이트 배열에서 바로 필드 값을 읽음
+ */
+public class BinaryChatMessageCodec implements ChatMessageCodec {
+
+	/**
+	 * JSON('{')과 겹치지 않는 첫 바이트
+	 */
+	public static final byte MAGIC = (byte)0xC7;
+
+	private static final byte VERSION = 1;
+	private static final int INITIAL_BUFFER_SIZE = 256;
+	private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+	private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+
+	private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(() -> new Buffer(INITIAL_BUFFER_SIZE));
+
+	@Override
+	public ChatCodecType type() {
+		return ChatCodecType.BINARY;
+	}
+
+	@Override
+	public byte[] encode(ChatMessageInfo message) {
+		Buffer buffer = buffers.get();
+		buffer.position = 0;
+
+		buffer.put(MAGIC);
+		buffer.put(VERSION);
+		buffer.putVarLong(message.roomId());
+		buffer.putVarLong(message.senderId());
+		buffer.putVarLong(message.sendTime().toEpochSecond(ZoneOffset.UTC));
+		buffer.putVarLong(message.sendTime().getNano());
+		buffer.put((byte)message.type().ordinal());
+		buffer.putString(message.senderEmail());
+		buffer.putString(message.message());
+
+		byte[] encoded = Arrays.copyOf(buffer.bytes, buffer.position);
+
+		if (buffer.bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+			buffers.remove();
+		}
+
+		return encoded;
+	}
+
+	@Override
+	public ChatMessageInfo decode(byte[] bytes) {
+		Reader reader = new Reader(bytes);
+
+		try {
+			if (reader.get() != MAGIC || reader.get() != VERSION) {
+				throw new IllegalArgumentException("지원하지 않는 채팅 메시지 형식");
+			}
+
+			Long roomId = reader.getVarLong();
+			Long senderId = reader.getVarLong();
+			LocalDateTime sendTime = LocalDateTime.ofEpochSecond(
+				reader.getVarLong(), (int)reader.getVarLong(), ZoneOffset.UTC);
+			MessageType type = MESSAGE_TYPES[reader.get()];
+			String senderEmail = reader.getString();
+			String message = reader.getString();
+
+			return ChatMessageInfo.of(roomId, senderId, senderEmail, message, type, sendTime);
+		} catch (IndexOutOfBoundsException | DateTimeException e) {
+			throw new IllegalArgumentException("채팅 메시지 바이너리 해석 실패", e);
+		}
+	}
+
+	private static final class Buffer {
+
+		private byte[] bytes;
+		private int position;
+
+		private Buffer(int capacity) {
+			this.bytes = new byte[capacity];
+		}
+
+		private void put(byte value) {
+			ensureCapacity(1);
+			bytes[position++] = value;
+		}
+
+		private void putVarLong(long value) {
+			ensureCapacity(10);
+
+			long zigzag = (value << 1) ^ (value >> 63);
+			while ((zigzag & ~0x7FL) != 0) {
+				bytes[position++] = (byte)((zigzag & 0x7F) | 0x80);
+				zigzag >>>= 7;
+			}
+			bytes[position++] = (byte)zigzag;
+		}
+
+		private void putString(String value) {
+			if (value == null) {
+				putVarLong(0);
+				return;
+			}
+
+			int length = utf8Length(value);
+			putVarLong(length + 1L);
+			ensureCapacity(length);
+
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+
+				if (c < 0x80) {
+					bytes[position++] = (byte)c;
+				} else if (c < 0x800) {
+					bytes[position++] = (byte)(0xC0 | (c >> 6));
+					bytes[position++] = (byte)(0x80 | (c & 0x3F));
+				} else if (isSurrogatePair(value, i)) {
+					int codePoint = Character.toCodePoint(c, value.charAt(++i));
+					bytes[position++] = (byte)(0xF0 | (codePoint >> 18));
+					bytes[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+					bytes[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+					bytes[position++] = (byte)(0x80 | (codePoint & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					// 짝이 없는 surrogate는 String.getBytes(UTF_8)와 같이 '?'로 씀
+					bytes[position++] = '?';
+				} else {
+					bytes[position++] = (byte)(0xE0 | (c >> 12));
+					bytes[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+					bytes[position++] = (byte)(0x80 | (c & 0x3F));
+				}
+			}
+		}
+
+		private void ensureCapacity(int required) {
+			if (position + required > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + required));
+			}
+		}
+
+		private static int utf8Length(String value) {
+			int length = 0;
+
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+
+				if (c < 0x80) {
+					length += 1;
+				} else if (c < 0x800) {
+					length += 2;
+				} else if (isSurrogatePair(value, i)) {
+					length += 4;
+					i++;
+				} else if (Character.isSurrogate(c)) {
+					length += 1;
+				} else {
+					length += 3;
+				}
+			}
+
+			return length;
+		}
+
+		private static boolean isSurrogatePair(String value, int index) {
+			return Character.isHighSurrogate(value.charAt(index))
+				&& index + 1 < value.length()
+				&& Character.isLowSurrogate(value.charAt(index + 1));
+		}
+	}
+
+	private static final class Reader {
+
+		private final byte[] bytes;
+		private int position;
+
+		private Reader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private byte get() {
+			return bytes[position++];
+		}
+
+		private long getVarLong() {
+			long zigzag = 0;
+
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = bytes[position++];
+				zigzag |= (long)(b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0) {
+					return (zigzag >>> 1) ^ -(zigzag & 1);
+				}
+			}
+
+			throw new IllegalArgumentException("잘못된 varint");
+		}
+
+		private String getString() {
+			long length = getVarLong() - 1;
+
+			if (length < 0) {
+				return null;
+			}
+
+			if (length > bytes.length - position) {
+				throw new IllegalArgumentException("잘못된 문자열 길이");
+			}
+
+			String value = new String(bytes, position, (int)length, StandardCharsets.UTF_8);
+			position += (int)length;
+
+			return value;
+		}
+	}
+}
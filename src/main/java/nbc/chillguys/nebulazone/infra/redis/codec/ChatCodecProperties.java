@@ -0,0 +1,26 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅 메시지 직렬화 방식 설정(chat.codec)<br>
+ * 기본 설정은 모든 키/채널에 json을 쓰며, chat:room: 을 binary로 바꾸는 것은 배포와 분리된 설정 단계로 진행<br>
+ * 1. binary를 읽을 수 있는 버전을 모든 노드에 배포(쓰기는 계속 json)<br>
+ * 2. 배포가 끝난 뒤 CHAT_ROOM_CODEC=binary로 노드를 재시작(읽기는 첫 바이트로 판별하므로 섞여 있어도 됨)<br>
+ * 되돌릴 때는 CHAT_ROOM_CODEC=json으로 재시작하며, 이미 binary로 저장된 메시지도 그대로 읽힘
+ * @param defaultType 일치하는 prefix가 없을 때 쓰는 방식
+ * @param prefixes Redis 키/채널 prefix별 방식(가장 긴 prefix 우선)
+ */
+@ConfigurationProperties(prefix = "chat.codec")
+public record ChatCodecProperties(
+	ChatCodecType defaultType,
+	Map<String, ChatCodecType> prefixes
+) {
+
+	public ChatCodecProperties {
+		defaultType = defaultType == null ? ChatCodecType.JSON : defaultType;
+		prefixes = prefixes == null ? Map.of() : Map.copyOf(prefixes);
+	}
+}
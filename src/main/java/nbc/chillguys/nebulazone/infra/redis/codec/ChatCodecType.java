@@ -0,0 +1,5 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+public enum ChatCodecType {
+	JSON, BINARY
+}
@@ -0,0 +1,21 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+
+/**
+ * Redis에 싣는 채팅 메시지 직렬화 방식
+ */
+public interface ChatMessageCodec {
+
+	ChatCodecType type();
+
+	/**
+	 * @throws IllegalArgumentException 변환할 수 없는 메시지인 경우
+	 */
+	byte[] encode(ChatMessageInfo message);
+
+	/**
+	 * @throws IllegalArgumentException 해석할 수 없는 바이트인 경우
+	 */
+	ChatMessageInfo decode(byte[] bytes);
+}
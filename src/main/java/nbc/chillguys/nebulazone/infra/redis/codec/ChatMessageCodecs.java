@@ -0,0 +1,55 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+
+/**
+ * Redis 키/채널 prefix에 맞는 채팅 메시지 codec 선택<br>
+ * 쓸 때는 설정된 prefix별 방식을 따르고, 읽을 때는 첫 바이트로 형식을 판별하므로
+ * 설정을 바꾸는 중에 두 형식이 섞여 있어도 모두 읽을 수 있음
+ */
+public class ChatMessageCodecs {
+
+	private final Map<ChatCodecType, ChatMessageCodec> codecs = new EnumMap<>(ChatCodecType.class);
+	private final List<Map.Entry<String, ChatCodecType>> prefixes;
+	private final ChatCodecType defaultType;
+
+	public ChatMessageCodecs(List<ChatMessageCodec> codecs, ChatCodecProperties properties) {
+		codecs.forEach(codec -> this.codecs.put(codec.type(), codec));
+		this.prefixes = properties.prefixes().entrySet().stream()
+			.sorted(Comparator.comparingInt((Map.Entry<String, ChatCodecType> entry) -> entry.getKey().length())
+				.reversed())
+			.toList();
+		this.defaultType = properties.defaultType();
+	}
+
+	/**
+	 * 키/채널에 쓸 codec
+	 * @param key Redis 키 또는 채널 이름
+	 */
+	public ChatMessageCodec forKey(String key) {
+		for (Map.Entry<String, ChatCodecType> prefix : prefixes) {
+			if (key.startsWith(prefix.getKey())) {
+				return codecs.get(prefix.getValue());
+			}
+		}
+
+		return codecs.get(defaultType);
+	}
+
+	/**
+	 * 형식을 판별하여 해석
+	 * @throws IllegalArgumentException 해석할 수 없는 바이트인 경우
+	 */
+	public ChatMessageInfo decode(byte[] bytes) {
+		if (bytes.length > 0 && bytes[0] == BinaryChatMessageCodec.MAGIC) {
+			return codecs.get(ChatCodecType.BINARY).decode(bytes);
+		}
+
+		return codecs.get(ChatCodecType.JSON).decode(bytes);
+	}
+}
@@ -0,0 +1,42 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.infra.redis.dto.ChatPubSubMessage;
+
+/**
+ * ChatPubSubMessage JSON 형식(이전 버전 노드와 호환)<br>
+ * 타입 정보(@class) 없이 쓰고, 바이트에서 바로 읽어 중간 String을 만들지 않음
+ */
+@RequiredArgsConstructor
+public class JsonChatMessageCodec implements ChatMessageCodec {
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public ChatCodecType type() {
+		return ChatCodecType.JSON;
+	}
+
+	@Override
+	public byte[] encode(ChatMessageInfo message) {
+		try {
+			return objectMapper.writeValueAsBytes(ChatPubSubMessage.from(message.roomId(), message));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("채팅 메시지 JSON 변환 실패", e);
+		}
+	}
+
+	@Override
+	public ChatMessageInfo decode(byte[] bytes) {
+		try {
+			return objectMapper.readValue(bytes, ChatPubSubMessage.class).toChatMessageInfo();
+		} catch (IOException e) {
+			throw new IllegalArgumentException("채팅 메시지 JSON 해석 실패", e);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package nbc.chillguys.nebulazone.infra.redis.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import nbc.chillguys.nebulazone.infra.redis.codec.BinaryChatMessageCodec;
+import nbc.chillguys.nebulazone.infra.redis.codec.ChatCodecProperties;
+import nbc.chillguys.nebulazone.infra.redis.codec.ChatMessageCodecs;
+import nbc.chillguys.nebulazone.infra.redis.codec.JsonChatMessageCodec;
+
+/**
+ * 채팅 메시지 codec 설정(chat.codec)
+ */
+@Configuration
+@EnableConfigurationProperties(ChatCodecProperties.class)
+public class ChatCodecConfig {
+
+	@Bean
+	public ChatMessageCodecs chatMessageCodecs(ObjectMapper objectMapper, ChatCodecProperties properties) {
+		return new ChatMessageCodecs(
+			List.of(new JsonChatMessageCodec(objectMapper), new BinaryChatMessageCodec()), properties);
+	}
+}
@@ -8,6 +8,8 @@ import org.springframework.data.redis.listener.Topic;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 
 import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionClosedPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailEvictPubSubMessage;
 import nbc.chillguys.nebulazone.infra.redis.subscriber.RedisMessageSubscriber;
 
 /**
@@ -40,8 +42,16 @@ public class RedisPubSubConfig {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
 
-		// 채팅방 관련 모든 채널 구독 (chat:room:*)
-		container.addMessageListener(listenerAdapter, Topic.pattern("chat:room:*"));
+		// 채팅방 채널(chat:room:{roomId})은 이 노드에 구독자가 있는 채팅방만 ChatRoomSubscriptionService가 구독
+
+		// 실시간 경매 정보 채널 구독 (auction:live:*)
+		container.addMessageListener(listenerAdapter, Topic.pattern("auction:live:*"));
+
+		// 경매 상세 캐시 무효화 채널 구독 (auction:detail:evict)
+		container.addMessageListener(listenerAdapter, Topic.channel(AuctionDetailEvictPubSubMessage.CHANNEL));
+
+		// 경매 종료 채널 구독 (auction:closed)
+		container.addMessageListener(listenerAdapter, Topic.channel(AuctionClosedPubSubMessage.CHANNEL));
 
 		return container;
 	}
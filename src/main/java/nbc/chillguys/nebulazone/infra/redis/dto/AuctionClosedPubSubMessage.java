@@ -0,0 +1,12 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+/**
+ * 경매 종료(낙찰, 유찰, 삭제)를 각 노드의 실시간 경매 스트림에 알리는 Redis Pub/Sub 메시지
+ * @param auctionId 종료된 경매 id
+ */
+public record AuctionClosedPubSubMessage(
+	Long auctionId
+) {
+
+	public static final String CHANNEL = "auction:closed";
+}
@@ -0,0 +1,18 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+
+/**
+ * 경매 상세 캐시 항목
+ * @param detail 경매 상세 정보
+ * @param refreshedAt 원본 데이터를 마지막으로 반영한 시각(epoch milli)
+ */
+public record AuctionDetailCacheEntry(
+	AuctionFindDetailInfo detail,
+	Long refreshedAt
+) {
+
+	public static AuctionDetailCacheEntry of(AuctionFindDetailInfo detail) {
+		return new AuctionDetailCacheEntry(detail, System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,14 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+/**
+ * 다른 노드의 로컬 경매 상세 캐시 항목 제거를 요청하는 Redis Pub/Sub 메시지
+ * @param auctionId 경매 id
+ * @param nodeId 발행한 노드 id(자기 자신이 발행한 메시지는 무시)
+ */
+public record AuctionDetailEvictPubSubMessage(
+	Long auctionId,
+	String nodeId
+) {
+
+	public static final String CHANNEL = "auction:detail:evict";
+}
@@ -0,0 +1,12 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+/**
+ * 종료 시각이 지나 대기열에서 가져간 경매
+ * @param auctionId 경매 id
+ * @param productId 상품 id
+ */
+public record AuctionEndEntry(
+	Long auctionId,
+	Long productId
+) {
+}
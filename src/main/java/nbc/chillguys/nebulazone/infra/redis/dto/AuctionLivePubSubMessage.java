@@ -0,0 +1,41 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+
+/**
+ * Redis Pub/Sub으로 전송할 실시간 경매 정보 DTO
+ */
+public record AuctionLivePubSubMessage(
+	Long auctionId,
+	Long currentPrice,
+	Long bidCount,
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	LocalDateTime endTime
+) {
+
+	public static final String CHANNEL_PREFIX = "auction:live:";
+
+	public static AuctionLivePubSubMessage from(AuctionLiveInfo auctionLiveInfo) {
+		return new AuctionLivePubSubMessage(
+			auctionLiveInfo.auctionId(),
+			auctionLiveInfo.currentPrice(),
+			auctionLiveInfo.bidCount(),
+			auctionLiveInfo.endTime()
+		);
+	}
+
+	public AuctionLiveInfo toAuctionLiveInfo() {
+		return new AuctionLiveInfo(auctionId, currentPrice, bidCount, endTime);
+	}
+
+	/**
+	 * Redis 채널명 생성
+	 */
+	public static String getChannelName(Long auctionId) {
+		return CHANNEL_PREFIX + auctionId;
+	}
+}
@@ -0,0 +1,56 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 호가창 Lua 스크립트 실행 결과
+ * @param status 처리 결과
+ * @param price 입찰 시 이전 내 입찰가, 취소 시 취소 후 최고가
+ * @param bidCount 처리 후 활성 입찰 건수
+ */
+public record BidBookResult(
+	Status status,
+	long price,
+	long bidCount
+) {
+
+	public static BidBookResult from(List<?> scriptResult) {
+		return new BidBookResult(
+			Status.of(toLong(scriptResult.get(0))),
+			toLong(scriptResult.get(1)),
+			toLong(scriptResult.get(2))
+		);
+	}
+
+	private static long toLong(Object value) {
+		return ((Number)value).longValue();
+	}
+
+	public enum Status {
+		ACCEPTED(1),
+		CLOSED(-1),
+		ENDED(-2),
+		OWN_AUCTION(-3),
+		BELOW_START_PRICE(-4),
+		BELOW_CURRENT_PRICE(-5),
+		INSUFFICIENT_POINT(-6),
+		CANCEL_TIME_LIMIT_EXCEEDED(-7),
+		NO_ACTIVE_BID(-8),
+		BOOK_NOT_LOADED(-100),
+		HELD_NOT_LOADED(-101);
+
+		private final long code;
+
+		Status(long code) {
+			this.code = code;
+		}
+
+		public static Status of(long code) {
+			return Arrays.stream(values())
+				.filter(status -> status.code == code)
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("알 수 없는 호가창 처리 결과: " + code));
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+/**
+ * 호가창의 현재 상태
+ * @param topPrice 최고가(입찰이 없으면 0)
+ * @param bidCount 활성 입찰 건수
+ * @param endTimeMillis 종료 시각(epoch ms)
+ */
+public record BidBookSnapshot(
+	long topPrice,
+	long bidCount,
+	long endTimeMillis
+) {
+}
@@ -0,0 +1,70 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+import java.util.Map;
+
+/**
+ * Redis에서 접수된 입찰을 DB에 반영하기 위한 write-behind 이벤트
+ * @param recordId stream 레코드 id
+ * @param type 이벤트 유형
+ * @param auctionId 경매 id
+ * @param userId 입찰자 id
+ * @param price 입찰가(취소 시 0)
+ * @param delta 이번 입찰로 추가 차감할 포인트
+ * @param topPrice 이벤트 반영 후 경매 최고가(입찰이 없으면 0)
+ * @param seq 경매별 이벤트 순번
+ */
+public record BidWriteBehindEvent(
+	String recordId,
+	Type type,
+	Long auctionId,
+	Long userId,
+	Long price,
+	Long delta,
+	Long topPrice,
+	Long seq
+) {
+
+	public static BidWriteBehindEvent of(String recordId, Map<?, ?> fields) {
+		return new BidWriteBehindEvent(
+			recordId,
+			Type.valueOf(String.valueOf(fields.get("type"))),
+			toLong(fields.get("auctionId")),
+			toLong(fields.get("userId")),
+			toLong(fields.get("price")),
+			toLong(fields.get("delta")),
+			toLong(fields.get("topPrice")),
+			toLong(fields.get("seq"))
+		);
+	}
+
+	public Map<String, String> toFields() {
+		return Map.of(
+			"type", type.name(),
+			"auctionId", String.valueOf(auctionId),
+			"userId", String.valueOf(userId),
+			"price", String.valueOf(price),
+			"delta", String.valueOf(delta),
+			"topPrice", String.valueOf(topPrice),
+			"seq", String.valueOf(seq)
+		);
+	}
+
+	public Long topPriceOrNull() {
+		return topPrice == 0 ? null : topPrice;
+	}
+
+	/**
+	 * 기존 입찰이 없던 입찰자의 입찰인지 여부(차감 포인트가 입찰가 전체)
+	 */
+	public boolean isNewBid() {
+		return type == Type.UPSERT && delta.equals(price);
+	}
+
+	private static Long toLong(Object value) {
+		return Long.valueOf(String.valueOf(value));
+	}
+
+	public enum Type {
+		UPSERT, CANCEL
+	}
+}
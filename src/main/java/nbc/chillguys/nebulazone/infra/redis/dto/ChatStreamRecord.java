@@ -0,0 +1,49 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+
+/**
+ * DB 저장을 기다리는 채팅방 stream의 채팅 메시지
+ * @param recordId stream 레코드 id
+ * @param message 채팅 메시지
+ */
+public record ChatStreamRecord(
+	String recordId,
+	ChatMessageInfo message
+) {
+
+	public static ChatStreamRecord of(String recordId, Map<?, ?> fields) {
+		return new ChatStreamRecord(
+			recordId,
+			ChatMessageInfo.of(
+				Long.valueOf(String.valueOf(fields.get("roomId"))),
+				Long.valueOf(String.valueOf(fields.get("senderId"))),
+				String.valueOf(fields.get("senderEmail")),
+				String.valueOf(fields.get("message")),
+				MessageType.valueOf(String.valueOf(fields.get("type"))),
+				LocalDateTime.parse(String.valueOf(fields.get("sendTime")))
+			)
+		);
+	}
+
+	public static Map<String, String> toFields(ChatMessageInfo message) {
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put("roomId", String.valueOf(message.roomId()));
+		fields.put("senderId", String.valueOf(message.senderId()));
+		fields.put("senderEmail", String.valueOf(message.senderEmail()));
+		fields.put("message", message.message());
+		fields.put("type", message.type().name());
+		fields.put("sendTime", message.sendTime().toString());
+
+		return fields;
+	}
+
+	public Long roomId() {
+		return message.roomId();
+	}
+}
@@ -0,0 +1,12 @@
+package nbc.chillguys.nebulazone.infra.redis.dto;
+
+/**
+ * 토큰 버킷 설정
+ * @param capacity 최대 토큰 수(한 번에 몰려도 허용하는 요청 수)
+ * @param refillPerSecond 초당 충전되는 토큰 수(계속 허용하는 초당 요청 수)
+ */
+public record TokenBucket(
+	long capacity,
+	double refillPerSecond
+) {
+}
@@ -1,15 +1,23 @@
 package nbc.chillguys.nebulazone.infra.redis.publisher;
 
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
 import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionClosedPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailEvictPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionLivePubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.codec.ChatMessageCodecs;
 import nbc.chillguys.nebulazone.infra.redis.dto.ChatPubSubMessage;
 
 /**
- * Redis Pub/Sub을 통해 채팅 메시지를 발행하는 서비스
+ * Redis Pub/Sub을 통해 채팅 메시지, 실시간 경매 정보, 경매 종료, 경매 상세 캐시 무효화를 발행하는 서비스
  */
 @Slf4j
 @Service
@@ -17,26 +25,71 @@ import nbc.chillguys.nebulazone.infra.redis.dto.ChatPubSubMessage;
 public class RedisMessagePublisher {
 
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final ChatMessageCodecs chatMessageCodecs;
 
 	/**
-	 * 채팅 메시지를 Redis 채널로 발행
+	 * 채팅 메시지를 Redis 채널로 발행<br>
+	 * 채널 prefix에 설정된 codec으로 직렬화한 바이트를 그대로 발행
 	 *
 	 * @param roomId 채팅방 ID
 	 * @param chatMessageInfo 발행할 채팅 메시지 정보
 	 */
 	public void publishChatMessage(Long roomId, ChatMessageInfo chatMessageInfo) {
 		try {
-			// ChatMessageInfo를 ChatPubSubMessage로 변환
-			ChatPubSubMessage pubSubMessage = ChatPubSubMessage.from(roomId, chatMessageInfo);
-
 			// 채널명 생성 (chat:room:{roomId})
 			String channelName = ChatPubSubMessage.getChannelName(roomId);
+			byte[] payload = chatMessageCodecs.forKey(channelName).encode(chatMessageInfo);
 
 			// Redis 채널로 메시지 발행
-			redisTemplate.convertAndSend(channelName, pubSubMessage);
+			redisTemplate.execute((RedisCallback<Long>)connection ->
+				connection.publish(channelName.getBytes(StandardCharsets.UTF_8), payload));
 		} catch (Exception e) {
 			log.error("Redis 메시지 발행 중 오류 발생 - roomId: {}, error: {}", roomId, e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * 실시간 경매 정보를 Redis 채널로 발행
+	 *
+	 * @param auctionLiveInfo 발행할 실시간 경매 정보
+	 */
+	public void publishAuctionLiveInfo(AuctionLiveInfo auctionLiveInfo) {
+		try {
+			redisTemplate.convertAndSend(AuctionLivePubSubMessage.getChannelName(auctionLiveInfo.auctionId()),
+				AuctionLivePubSubMessage.from(auctionLiveInfo));
+		} catch (Exception e) {
+			log.error("Redis 경매 정보 발행 중 오류 발생 - auctionId: {}, error: {}",
+				auctionLiveInfo.auctionId(), e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 경매 종료를 Redis 채널로 발행
+	 *
+	 * @param auctionId 종료된 경매 id
+	 */
+	public void publishAuctionClosed(Long auctionId) {
+		try {
+			redisTemplate.convertAndSend(AuctionClosedPubSubMessage.CHANNEL, new AuctionClosedPubSubMessage(auctionId));
+		} catch (Exception e) {
+			log.error("Redis 경매 종료 발행 중 오류 발생 - auctionId: {}, error: {}", auctionId, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 다른 노드의 로컬 경매 상세 캐시 항목 제거 요청을 Redis 채널로 발행
+	 *
+	 * @param auctionId 경매 id
+	 * @param nodeId 발행하는 노드 id
+	 */
+	public void publishAuctionDetailEviction(Long auctionId, String nodeId) {
+		try {
+			redisTemplate.convertAndSend(AuctionDetailEvictPubSubMessage.CHANNEL,
+				new AuctionDetailEvictPubSubMessage(auctionId, nodeId));
+		} catch (Exception e) {
+			log.error("Redis 경매 상세 캐시 무효화 발행 중 오류 발생 - auctionId: {}, error: {}",
+				auctionId, e.getMessage(), e);
+		}
+	}
+
 }
@@ -0,0 +1,43 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailCacheEntry;
+
+/**
+ * 경매 상세 정보를 노드 간에 공유하는 Redis 캐시(auction:detail:{auctionId})
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionDetailRedisService {
+
+	private static final String DETAIL_KEY_PREFIX = "auction:detail:";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public Optional<AuctionDetailCacheEntry> find(Long auctionId) {
+		Object cachedValue = redisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + auctionId);
+
+		if (cachedValue == null) {
+			return Optional.empty();
+		}
+
+		return Optional.of(objectMapper.convertValue(cachedValue, AuctionDetailCacheEntry.class));
+	}
+
+	public void save(AuctionDetailCacheEntry entry, Duration ttl) {
+		redisTemplate.opsForValue().set(DETAIL_KEY_PREFIX + entry.detail().auctionId(), entry, ttl);
+	}
+
+	public void delete(Long auctionId) {
+		redisTemplate.delete(DETAIL_KEY_PREFIX + auctionId);
+	}
+}
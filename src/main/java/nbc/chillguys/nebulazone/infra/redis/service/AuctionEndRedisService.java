@@ -0,0 +1,128 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionEndEntry;
+
+/**
+ * 경매 종료 시각 대기열을 관리하는 Redis 서비스<br>
+ * 종료 대기열은 경매 id를 member, 종료 시각(epoch second)을 score로 하는 sorted set이며,
+ * 가져간 경매는 처리 제한 시각을 score로 하는 처리 중 sorted set으로 옮겨짐<br>
+ * DB 기준 복구는 TTL이 있는 lease를 잡은 노드가 수행하고, 복구가 끝난 뒤에만 완료 표시를 남김
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionEndRedisService {
+
+	private static final String SCHEDULE_KEY = "auction:end:schedule";
+	private static final String PROCESSING_KEY = "auction:end:processing";
+	private static final String PRODUCT_KEY = "auction:end:product";
+	private static final String RECOVERED_KEY = "auction:end:recovery-done";
+	private static final String RECOVERY_LEASE_KEY = "auction:end:recovery-lease";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/auction-end-claim.lua"), List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 종료 시각 등록(이미 있으면 종료 시각만 갱신)
+	 */
+	public void schedule(Long auctionId, Long productId, long endEpochSecond) {
+		String member = String.valueOf(auctionId);
+
+		stringRedisTemplate.opsForHash().put(PRODUCT_KEY, member, String.valueOf(productId));
+		stringRedisTemplate.opsForZSet().add(SCHEDULE_KEY, member, endEpochSecond);
+	}
+
+	public void cancel(Long auctionId) {
+		String member = String.valueOf(auctionId);
+
+		stringRedisTemplate.opsForZSet().remove(SCHEDULE_KEY, member);
+		stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+		stringRedisTemplate.opsForHash().delete(PRODUCT_KEY, member);
+	}
+
+	/**
+	 * 종료 처리가 끝난 경매를 처리 중 목록에서 제거
+	 */
+	public void complete(Long auctionId) {
+		String member = String.valueOf(auctionId);
+
+		stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+		stringRedisTemplate.opsForHash().delete(PRODUCT_KEY, member);
+	}
+
+	/**
+	 * 종료 시각이 지난 경매를 원자적으로 가져감
+	 * @param nowEpochSecond 현재 시각
+	 * @param visibleAtEpochSecond 이 시각까지 완료되지 않으면 다시 대기열로 돌아감
+	 * @param limit 최대 개수
+	 * @return 가져간 경매 목록
+	 */
+	public List<AuctionEndEntry> claimDue(long nowEpochSecond, long visibleAtEpochSecond, int limit) {
+		List<?> result = stringRedisTemplate.execute(CLAIM_SCRIPT,
+			List.of(SCHEDULE_KEY, PROCESSING_KEY, PRODUCT_KEY),
+			String.valueOf(nowEpochSecond), String.valueOf(visibleAtEpochSecond), String.valueOf(limit));
+
+		if (result == null || result.isEmpty()) {
+			return List.of();
+		}
+
+		List<AuctionEndEntry> claimed = new ArrayList<>(result.size() / 2);
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			claimed.add(new AuctionEndEntry(
+				Long.parseLong(String.valueOf(result.get(i))),
+				Long.parseLong(String.valueOf(result.get(i + 1)))));
+		}
+		return claimed;
+	}
+
+	/**
+	 * 대기열 복구 lease 획득<br>
+	 * 복구가 끝나지 않았고 다른 노드가 lease를 갖고 있지 않을 때만 획득하며,
+	 * 복구 중인 노드가 죽어도 ttl이 지나면 다른 노드가 다시 획득할 수 있음
+	 * @param ttl lease 유지 시간
+	 * @return 획득한 경우 true(복구를 수행해야 하는 노드)
+	 */
+	public boolean acquireRecoveryLease(Duration ttl) {
+		if (isRecovered()) {
+			return false;
+		}
+
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(RECOVERY_LEASE_KEY, "1", ttl));
+	}
+
+	/**
+	 * 복구 실패 시 lease를 반납하여 다른 노드가 바로 복구할 수 있게 함
+	 */
+	public void releaseRecoveryLease() {
+		stringRedisTemplate.delete(RECOVERY_LEASE_KEY);
+	}
+
+	/**
+	 * 대기열 복구 완료 표시 후 lease 반납
+	 */
+	public void markRecovered() {
+		stringRedisTemplate.opsForValue().set(RECOVERED_KEY, "1");
+		stringRedisTemplate.delete(RECOVERY_LEASE_KEY);
+	}
+
+	public boolean isRecovered() {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(RECOVERED_KEY));
+	}
+
+	public long size() {
+		Long size = stringRedisTemplate.opsForZSet().zCard(SCHEDULE_KEY);
+		return size == null ? 0L : size;
+	}
+}
@@ -0,0 +1,137 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 진행 중 경매의 순위를 관리하는 Redis 서비스<br>
+ * 마감 임박 순위는 종료 시각(epoch milli), 인기 순위는 취소되지 않은 입찰 건수를 score로 하는 sorted set이며,
+ * 두 순위 모두 경매 id를 member로 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionRankingRedisService {
+
+	private static final String CLOSING_KEY = "auction:ranking:closing";
+	private static final String POPULAR_KEY = "auction:ranking:popular";
+	private static final String REBUILD_SUFFIX = ":rebuild";
+	private static final String REBUILD_LOCK_KEY = "auction:ranking:rebuild:lock";
+
+	private static final RedisScript<Long> UPDATE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/auction-ranking-update.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 순위에 경매 추가(인기 순위 점수는 이미 있으면 유지)
+	 * @param auctionId 경매 id
+	 * @param endEpochMilli 종료 시각
+	 */
+	public void add(Long auctionId, long endEpochMilli) {
+		String member = String.valueOf(auctionId);
+
+		stringRedisTemplate.opsForZSet().add(CLOSING_KEY, member, endEpochMilli);
+		stringRedisTemplate.opsForZSet().addIfAbsent(POPULAR_KEY, member, 0);
+	}
+
+	public void remove(List<Long> auctionIds) {
+		if (auctionIds.isEmpty()) {
+			return;
+		}
+
+		Object[] members = auctionIds.stream().map(String::valueOf).toArray();
+
+		stringRedisTemplate.opsForZSet().remove(CLOSING_KEY, members);
+		stringRedisTemplate.opsForZSet().remove(POPULAR_KEY, members);
+	}
+
+	/**
+	 * 인기 순위에 남아 있는 경매의 입찰 건수 갱신
+	 * @return 갱신 여부(순위에 없는 경매면 false)
+	 */
+	public boolean updateBidCount(Long auctionId, long bidCount) {
+		Long updated = stringRedisTemplate.execute(UPDATE_SCRIPT, List.of(POPULAR_KEY),
+			String.valueOf(auctionId), String.valueOf(bidCount));
+
+		return updated != null && updated == 1L;
+	}
+
+	/**
+	 * 종료 시각이 지나지 않은 경매를 종료 시각이 가까운 순으로 조회
+	 * @param nowEpochMilli 현재 시각
+	 * @param limit 최대 개수
+	 * @return 경매 id 목록
+	 */
+	public List<Long> findClosingAuctionIds(long nowEpochMilli, int limit) {
+		Set<String> members = stringRedisTemplate.opsForZSet()
+			.rangeByScore(CLOSING_KEY, nowEpochMilli, Double.POSITIVE_INFINITY, 0, limit);
+
+		return toAuctionIds(members);
+	}
+
+	/**
+	 * 입찰 건수가 많은 순으로 조회
+	 * @param limit 최대 개수
+	 * @return 경매 id 목록
+	 */
+	public List<Long> findPopularAuctionIds(int limit) {
+		Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(POPULAR_KEY, 0, limit - 1);
+
+		return toAuctionIds(members);
+	}
+
+	/**
+	 * 두 순위를 DB 기준 값으로 통째로 교체<br>
+	 * 임시 key에 채운 뒤 RENAME으로 바꾸므로 조회 중에 순위가 비어 보이지 않음
+	 * @param closingScores 경매 id별 종료 시각
+	 * @param popularScores 경매 id별 입찰 건수
+	 */
+	public void replaceAll(Map<Long, Long> closingScores, Map<Long, Long> popularScores) {
+		replace(CLOSING_KEY, closingScores);
+		replace(POPULAR_KEY, popularScores);
+	}
+
+	/**
+	 * 여러 노드 중 한 노드만 순위를 재구성하도록 잠금 획득
+	 * @param ttl 잠금 유지 시간
+	 * @return 획득 여부
+	 */
+	public boolean tryLockRebuild(Duration ttl) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", ttl));
+	}
+
+	private void replace(String key, Map<Long, Long> scores) {
+		if (scores.isEmpty()) {
+			stringRedisTemplate.delete(key);
+			return;
+		}
+
+		String rebuildKey = key + REBUILD_SUFFIX;
+		Set<TypedTuple<String>> tuples = new HashSet<>(scores.size());
+		scores.forEach((auctionId, score) ->
+			tuples.add(TypedTuple.of(String.valueOf(auctionId), score.doubleValue())));
+
+		stringRedisTemplate.delete(rebuildKey);
+		stringRedisTemplate.opsForZSet().add(rebuildKey, tuples);
+		stringRedisTemplate.rename(rebuildKey, key);
+	}
+
+	private List<Long> toAuctionIds(Set<String> members) {
+		if (members == null) {
+			return List.of();
+		}
+
+		return members.stream().map(Long::valueOf).toList();
+	}
+}
@@ -0,0 +1,110 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionEndEntry;
+
+/**
+ * 실패한 경매 정산의 재시도 대기열과 dead letter를 관리하는 Redis 서비스<br>
+ * 재시도 대기열은 경매 id를 member, 다음 시도 시각(epoch second)을 score로 하는 sorted set이며,
+ * 종료 대기열과 같은 Lua 스크립트로 가져가므로 처리 도중 노드가 죽어도 제한 시간이 지나면 다시 대기열로 돌아감
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionSettlementRedisService {
+
+	private static final String RETRY_KEY = "auction:settlement:retry";
+	private static final String PROCESSING_KEY = "auction:settlement:processing";
+	private static final String PRODUCT_KEY = "auction:settlement:product";
+	private static final String ATTEMPTS_KEY = "auction:settlement:attempts";
+	private static final String DEAD_LETTER_KEY = "auction:settlement:dead";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/auction-end-claim.lua"), List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 정산 실패 횟수 증가
+	 * @return 증가된 실패 횟수
+	 */
+	public long incrementAttempts(Long auctionId) {
+		Long attempts = stringRedisTemplate.opsForHash().increment(ATTEMPTS_KEY, String.valueOf(auctionId), 1);
+		return attempts == null ? 1L : attempts;
+	}
+
+	/**
+	 * 재시도 등록(처리 중 목록에 있으면 대기열로 옮김)
+	 */
+	public void scheduleRetry(Long auctionId, Long productId, long retryAtEpochSecond) {
+		String member = String.valueOf(auctionId);
+
+		stringRedisTemplate.opsForHash().put(PRODUCT_KEY, member, String.valueOf(productId));
+		stringRedisTemplate.opsForZSet().add(RETRY_KEY, member, retryAtEpochSecond);
+		stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+	}
+
+	/**
+	 * 재시도 시각이 지난 경매를 원자적으로 가져감
+	 * @param nowEpochSecond 현재 시각
+	 * @param visibleAtEpochSecond 이 시각까지 완료되지 않으면 다시 대기열로 돌아감
+	 * @param limit 최대 개수
+	 * @return 가져간 경매 목록
+	 */
+	public List<AuctionEndEntry> claimDue(long nowEpochSecond, long visibleAtEpochSecond, int limit) {
+		List<?> result = stringRedisTemplate.execute(CLAIM_SCRIPT,
+			List.of(RETRY_KEY, PROCESSING_KEY, PRODUCT_KEY),
+			String.valueOf(nowEpochSecond), String.valueOf(visibleAtEpochSecond), String.valueOf(limit));
+
+		if (result == null || result.isEmpty()) {
+			return List.of();
+		}
+
+		List<AuctionEndEntry> claimed = new ArrayList<>(result.size() / 2);
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			claimed.add(new AuctionEndEntry(
+				Long.parseLong(String.valueOf(result.get(i))),
+				Long.parseLong(String.valueOf(result.get(i + 1)))));
+		}
+		return claimed;
+	}
+
+	/**
+	 * 재시도가 끝난 경매의 재시도 정보 제거
+	 */
+	public void complete(Long auctionId) {
+		String member = String.valueOf(auctionId);
+
+		stringRedisTemplate.opsForZSet().remove(RETRY_KEY, member);
+		stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+		stringRedisTemplate.opsForHash().delete(PRODUCT_KEY, member);
+		stringRedisTemplate.opsForHash().delete(ATTEMPTS_KEY, member);
+	}
+
+	/**
+	 * 재시도 횟수를 넘긴 경매를 dead letter로 옮김(운영자가 확인 후 처리)
+	 * @param reason 마지막 실패 사유
+	 */
+	public void deadLetter(Long auctionId, Long productId, String reason) {
+		stringRedisTemplate.opsForHash().put(DEAD_LETTER_KEY, String.valueOf(auctionId), productId + "|" + reason);
+		complete(auctionId);
+	}
+
+	public long retrySize() {
+		Long size = stringRedisTemplate.opsForZSet().zCard(RETRY_KEY);
+		return size == null ? 0L : size;
+	}
+
+	public long deadLetterSize() {
+		Long size = stringRedisTemplate.opsForHash().size(DEAD_LETTER_KEY);
+		return size == null ? 0L : size;
+	}
+}
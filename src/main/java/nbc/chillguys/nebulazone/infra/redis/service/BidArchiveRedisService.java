@@ -0,0 +1,33 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입찰 내역 보관 작업을 여러 노드 중 한 노드만 수행하도록 관리하는 Redis 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class BidArchiveRedisService {
+
+	private static final String ARCHIVE_LOCK_KEY = "bid:archive:lock";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 보관 작업 잠금 획득
+	 * @param ttl 잠금 유지 시간
+	 * @return 획득 여부
+	 */
+	public boolean tryLockArchive(Duration ttl) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(ARCHIVE_LOCK_KEY, "1", ttl));
+	}
+
+	public void unlockArchive() {
+		stringRedisTemplate.delete(ARCHIVE_LOCK_KEY);
+	}
+}
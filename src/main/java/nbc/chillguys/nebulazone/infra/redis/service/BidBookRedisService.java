@@ -0,0 +1,301 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidBookResult;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidBookSnapshot;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidWriteBehindEvent;
+
+/**
+ * 경매별 호가창(최고가, 입찰자별 입찰가)과 입찰 write-behind stream을 관리하는 Redis 서비스<br>
+ * 입찰 검증과 최고가 갱신은 Lua 스크립트 하나로 원자적으로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidBookRedisService {
+
+	private static final String BOOK_KEY_PREFIX = "bid:book:";
+	private static final String BOOK_BIDS_KEY_SUFFIX = ":bids";
+	private static final String BOOK_POISONED_KEY_SUFFIX = ":poisoned";
+	private static final String PENDING_POINT_KEY_PREFIX = "bid:pending-point:";
+	private static final String WRITE_BEHIND_STREAM_KEY = "bid:write-behind";
+	private static final String WRITE_BEHIND_DEAD_LETTER_KEY = "bid:write-behind:dead";
+	private static final String WRITE_BEHIND_LEASE_KEY = "bid:write-behind:lease";
+	private static final String WRITE_BEHIND_GROUP = "bid-writer";
+	private static final String WRITE_BEHIND_CONSUMER = "writer";
+	private static final Duration CLOSED_BOOK_TTL = Duration.ofDays(1);
+
+	private static final RedisScript<Long> INIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bid-book-init.lua"), Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> PLACE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bid-place.lua"), List.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CANCEL_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bid-cancel.lua"), List.class);
+	private static final RedisScript<Long> PERSISTED_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bid-book-persisted.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final EscrowHoldRedisService escrowHoldRedisService;
+
+	private volatile boolean writeBehindGroupReady;
+
+	public boolean existsBook(Long auctionId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getBookKey(auctionId)));
+	}
+
+	/**
+	 * DB 기준 경매 상태로 호가창 초기화(이미 존재하면 무시)
+	 * @param activeBids 입찰자 id, 입찰가
+	 */
+	public void initBook(Long auctionId, long startPrice, long endTimeMillis, Long sellerId, boolean closed,
+		Map<Long, Long> activeBids) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(startPrice));
+		args.add(String.valueOf(endTimeMillis));
+		args.add(String.valueOf(sellerId));
+		args.add(closed ? "1" : "0");
+		activeBids.forEach((userId, price) -> {
+			args.add(String.valueOf(userId));
+			args.add(String.valueOf(price));
+		});
+
+		stringRedisTemplate.execute(INIT_SCRIPT,
+			List.of(getBookKey(auctionId), getBookBidsKey(auctionId)), args.toArray());
+	}
+
+	/**
+	 * 입찰 접수(검증, 최고가 갱신, 미반영 포인트 누적, write-behind 이벤트 발행)<br>
+	 * 사용 가능 포인트는 예치금 합계 캐시와 미반영 포인트를 스크립트 안에서 함께 읽어 확인
+	 * @param balance DB 기준 유저 포인트(예치금을 빼지 않은 값)
+	 * @return 예치금 합계 캐시가 없으면 HELD_NOT_LOADED
+	 */
+	public BidBookResult placeBid(Long auctionId, Long userId, Long price, long balance, long nowMillis) {
+		List<?> result = stringRedisTemplate.execute(PLACE_SCRIPT,
+			List.of(getBookKey(auctionId), getBookBidsKey(auctionId), getPendingPointKey(userId),
+				WRITE_BEHIND_STREAM_KEY, escrowHoldRedisService.getHeldKey(userId)),
+			String.valueOf(auctionId), String.valueOf(userId), String.valueOf(price),
+			String.valueOf(nowMillis), String.valueOf(balance));
+
+		return BidBookResult.from(result);
+	}
+
+	/**
+	 * 입찰 취소 접수(검증, 최고가 재계산, write-behind 이벤트 발행)
+	 * @param cancelLimitMillis 경매 종료 전 취소 불가 시간
+	 */
+	public BidBookResult cancelBid(Long auctionId, Long userId, long nowMillis, long cancelLimitMillis) {
+		List<?> result = stringRedisTemplate.execute(CANCEL_SCRIPT,
+			List.of(getBookKey(auctionId), getBookBidsKey(auctionId), WRITE_BEHIND_STREAM_KEY),
+			String.valueOf(auctionId), String.valueOf(userId), String.valueOf(nowMillis),
+			String.valueOf(cancelLimitMillis));
+
+		return BidBookResult.from(result);
+	}
+
+	/**
+	 * 호가창 마감 처리 후 만료 시간 설정<br>
+	 * 마감 이후 들어온 입찰은 CLOSED로 거절
+	 */
+	public void closeBook(Long auctionId) {
+		String bookKey = getBookKey(auctionId);
+
+		if (!existsBook(auctionId)) {
+			return;
+		}
+
+		stringRedisTemplate.opsForHash().put(bookKey, "closed", "1");
+		stringRedisTemplate.expire(bookKey, CLOSED_BOOK_TTL);
+		stringRedisTemplate.expire(getBookBidsKey(auctionId), CLOSED_BOOK_TTL);
+	}
+
+	/**
+	 * 호가창의 현재 최고가, 입찰 건수, 종료 시각 조회
+	 * @return 호가창이 적재되지 않았으면 empty
+	 */
+	public Optional<BidBookSnapshot> findBookSnapshot(Long auctionId) {
+		List<Object> values = stringRedisTemplate.opsForHash()
+			.multiGet(getBookKey(auctionId), List.of("topPrice", "bidCount", "endTime"));
+
+		if (values.get(2) == null) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new BidBookSnapshot(
+			values.get(0) == null ? 0L : Long.parseLong(String.valueOf(values.get(0))),
+			values.get(1) == null ? 0L : Long.parseLong(String.valueOf(values.get(1))),
+			Long.parseLong(String.valueOf(values.get(2)))
+		));
+	}
+
+	/**
+	 * 호가창에 접수된 이벤트가 모두 DB에 반영되었는지 확인
+	 */
+	public boolean isPersisted(Long auctionId) {
+		List<Object> values = stringRedisTemplate.opsForHash()
+			.multiGet(getBookKey(auctionId), List.of("seq", "persistedSeq"));
+
+		if (values.get(0) == null) {
+			return true;
+		}
+
+		long persistedSeq = values.get(1) == null ? 0L : Long.parseLong(String.valueOf(values.get(1)));
+		return Long.parseLong(String.valueOf(values.get(0))) <= persistedSeq;
+	}
+
+	public void markPersisted(Long auctionId, long seq) {
+		stringRedisTemplate.execute(PERSISTED_SCRIPT, List.of(getBookKey(auctionId)), String.valueOf(seq));
+	}
+
+	/**
+	 * DB에 반영하지 못한 이벤트가 있는 경매로 표시<br>
+	 * 호가창과 DB가 어긋났으므로 운영자가 dead letter를 처리하고 표시를 지우기 전까지 마감, 정산하지 않음<br>
+	 * 호가창이 만료되어도 남도록 별도 키에 만료 시간 없이 저장
+	 */
+	public void markPoisoned(Long auctionId) {
+		stringRedisTemplate.opsForValue().set(getBookPoisonedKey(auctionId), "1");
+	}
+
+	public boolean isPoisoned(Long auctionId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getBookPoisonedKey(auctionId)));
+	}
+
+	public void releasePendingPoint(Long userId, long delta) {
+		if (delta <= 0) {
+			return;
+		}
+
+		stringRedisTemplate.opsForValue().decrement(getPendingPointKey(userId), delta);
+	}
+
+	/**
+	 * write-behind 처리 권한(lease) 획득 또는 연장<br>
+	 * 여러 노드 중 lease를 가진 노드 하나만 stream을 소비하여 경매별 순서를 보장
+	 * @param nodeId 노드 식별자
+	 * @param leaseTime lease 유지 시간
+	 * @return 획득 여부
+	 */
+	public boolean tryAcquireWriteBehindLease(String nodeId, Duration leaseTime) {
+		if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+			.setIfAbsent(WRITE_BEHIND_LEASE_KEY, nodeId, leaseTime))) {
+			return true;
+		}
+
+		if (nodeId.equals(stringRedisTemplate.opsForValue().get(WRITE_BEHIND_LEASE_KEY))) {
+			stringRedisTemplate.expire(WRITE_BEHIND_LEASE_KEY, leaseTime);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * 처리할 write-behind 이벤트 조회<br>
+	 * 이전에 읽고 ack 하지 못한 이벤트를 먼저 재처리한 뒤 새 이벤트를 조회
+	 * @param count 최대 조회 건수
+	 */
+	public List<BidWriteBehindEvent> readWriteBehindEvents(int count) {
+		if (!ensureWriteBehindGroup()) {
+			return List.of();
+		}
+
+		StreamOperations<String, Object, Object> streamOps = stringRedisTemplate.opsForStream();
+		Consumer consumer = Consumer.from(WRITE_BEHIND_GROUP, WRITE_BEHIND_CONSUMER);
+		StreamReadOptions options = StreamReadOptions.empty().count(count);
+
+		List<MapRecord<String, Object, Object>> records = streamOps.read(consumer, options,
+			StreamOffset.create(WRITE_BEHIND_STREAM_KEY, ReadOffset.from("0")));
+
+		if (records == null || records.isEmpty()) {
+			records = streamOps.read(consumer, options,
+				StreamOffset.create(WRITE_BEHIND_STREAM_KEY, ReadOffset.lastConsumed()));
+		}
+
+		if (records == null) {
+			return List.of();
+		}
+
+		return records.stream()
+			.map(record -> BidWriteBehindEvent.of(record.getId().getValue(), record.getValue()))
+			.toList();
+	}
+
+	public void acknowledge(List<BidWriteBehindEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+
+		String[] recordIds = events.stream()
+			.map(BidWriteBehindEvent::recordId)
+			.toArray(String[]::new);
+
+		stringRedisTemplate.opsForStream().acknowledge(WRITE_BEHIND_STREAM_KEY, WRITE_BEHIND_GROUP, recordIds);
+		stringRedisTemplate.opsForStream().delete(WRITE_BEHIND_STREAM_KEY, recordIds);
+	}
+
+	public void moveToDeadLetter(BidWriteBehindEvent event) {
+		stringRedisTemplate.opsForStream()
+			.add(StreamRecords.newRecord().in(WRITE_BEHIND_DEAD_LETTER_KEY).ofMap(event.toFields()));
+	}
+
+	private boolean ensureWriteBehindGroup() {
+		if (writeBehindGroupReady) {
+			return true;
+		}
+
+		if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(WRITE_BEHIND_STREAM_KEY))) {
+			return false;
+		}
+
+		try {
+			stringRedisTemplate.opsForStream().createGroup(WRITE_BEHIND_STREAM_KEY, ReadOffset.from("0"),
+				WRITE_BEHIND_GROUP);
+		} catch (DataAccessException e) {
+			String message = e.getMostSpecificCause().getMessage();
+			if (message == null || !message.contains("BUSYGROUP")) {
+				log.warn("입찰 write-behind 컨슈머 그룹 생성 실패: {}", message);
+				return false;
+			}
+		}
+
+		writeBehindGroupReady = true;
+		return true;
+	}
+
+	private String getBookKey(Long auctionId) {
+		return BOOK_KEY_PREFIX + auctionId;
+	}
+
+	private String getBookBidsKey(Long auctionId) {
+		return BOOK_KEY_PREFIX + auctionId + BOOK_BIDS_KEY_SUFFIX;
+	}
+
+	private String getBookPoisonedKey(Long auctionId) {
+		return BOOK_KEY_PREFIX + auctionId + BOOK_POISONED_KEY_SUFFIX;
+	}
+
+	private String getPendingPointKey(Long userId) {
+		return PENDING_POINT_KEY_PREFIX + userId;
+	}
+}
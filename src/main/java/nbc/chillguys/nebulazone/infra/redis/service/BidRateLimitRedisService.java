@@ -0,0 +1,47 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.infra.redis.dto.TokenBucket;
+
+/**
+ * 입찰 요청 토큰 버킷을 관리하는 Redis 서비스<br>
+ * 전체, 경매별, 사용자별 버킷 확인과 차감은 Lua 스크립트 하나로 원자적으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class BidRateLimitRedisService {
+
+	private static final String GLOBAL_KEY = "bid:rate:global";
+	private static final String AUCTION_KEY_PREFIX = "bid:rate:auction:";
+	private static final String USER_KEY_PREFIX = "bid:rate:user:";
+
+	private static final RedisScript<Long> RATE_LIMIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/bid-rate-limit.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 전체, 경매, 사용자 순서로 버킷을 확인하여 모두 토큰이 있으면 하나씩 차감
+	 * @param global 전체 버킷 설정
+	 * @param auction 경매별 버킷 설정
+	 * @param user 사용자별 버킷 설정
+	 * @return 허용 시 0, 거부 시 토큰이 부족한 버킷 번호(1: 전체, 2: 경매, 3: 사용자)
+	 */
+	public long tryAcquire(Long auctionId, Long userId, TokenBucket global, TokenBucket auction,
+		TokenBucket user) {
+		Long result = stringRedisTemplate.execute(RATE_LIMIT_SCRIPT,
+			List.of(GLOBAL_KEY, AUCTION_KEY_PREFIX + auctionId, USER_KEY_PREFIX + userId),
+			String.valueOf(global.capacity()), String.valueOf(global.refillPerSecond()),
+			String.valueOf(auction.capacity()), String.valueOf(auction.refillPerSecond()),
+			String.valueOf(user.capacity()), String.valueOf(user.refillPerSecond()));
+
+		return result == null ? 0 : result;
+	}
+}
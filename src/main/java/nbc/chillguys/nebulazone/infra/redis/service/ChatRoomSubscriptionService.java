@@ -0,0 +1,110 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.infra.redis.dto.ChatPubSubMessage;
+
+/**
+ * 이 노드의 STOMP 세션이 구독 중인 채팅방의 Redis 채널(chat:room:{roomId})만 구독하도록 관리<br>
+ * 채팅방별 로컬 구독 수를 세어 첫 구독에 채널을 구독하고, 마지막 구독이 해제되면 채널 구독을 해제<br>
+ * 노드가 받는 채팅 메시지는 클러스터 전체가 아니라 이 노드에 구독자가 있는 채팅방의 메시지로 한정됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionService {
+
+	private final Map<Long, Integer> subscriberCounts = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, Long>> roomsBySession = new ConcurrentHashMap<>();
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MessageListenerAdapter listenerAdapter;
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	void init() {
+		meterRegistry.gauge("chat.pubsub.subscribed-rooms", subscriberCounts, Map::size);
+	}
+
+	/**
+	 * 세션의 채팅방 구독 등록(채팅방의 첫 로컬 구독이면 Redis 채널 구독)
+	 * @param sessionId STOMP 세션 id
+	 * @param subscriptionId STOMP 구독 id
+	 * @param roomId 채팅방 id
+	 */
+	public void subscribe(String sessionId, String subscriptionId, Long roomId) {
+		Long previous = roomsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+			.put(subscriptionId, roomId);
+
+		if (roomId.equals(previous)) {
+			return;
+		}
+
+		if (previous != null) {
+			release(previous);
+		}
+
+		subscriberCounts.compute(roomId, (key, count) -> {
+			if (count == null) {
+				redisMessageListenerContainer.addMessageListener(listenerAdapter, topic(roomId));
+				log.debug("채팅방 채널 구독 - roomId: {}", roomId);
+				return 1;
+			}
+
+			return count + 1;
+		});
+	}
+
+	/**
+	 * 세션의 채팅방 구독 하나 해제(채팅방의 마지막 로컬 구독이면 Redis 채널 구독 해제)
+	 */
+	public void unsubscribe(String sessionId, String subscriptionId) {
+		Map<String, Long> rooms = roomsBySession.get(sessionId);
+		if (rooms == null) {
+			return;
+		}
+
+		Long roomId = rooms.remove(subscriptionId);
+		if (roomId != null) {
+			release(roomId);
+		}
+	}
+
+	/**
+	 * 연결이 끊긴 세션의 채팅방 구독 모두 해제
+	 */
+	public void unsubscribeAll(String sessionId) {
+		Map<String, Long> rooms = roomsBySession.remove(sessionId);
+		if (rooms == null) {
+			return;
+		}
+
+		rooms.values().forEach(this::release);
+	}
+
+	private void release(Long roomId) {
+		subscriberCounts.computeIfPresent(roomId, (key, count) -> {
+			if (count > 1) {
+				return count - 1;
+			}
+
+			redisMessageListenerContainer.removeMessageListener(listenerAdapter, topic(roomId));
+			log.debug("채팅방 채널 구독 해제 - roomId: {}", roomId);
+			return null;
+		});
+	}
+
+	private ChannelTopic topic(Long roomId) {
+		return ChannelTopic.of(ChatPubSubMessage.getChannelName(roomId));
+	}
+}
@@ -0,0 +1,66 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저별 입찰 예치금 합계 캐시를 관리하는 Redis 서비스<br>
+ * 원본은 DB 예치금 원장이며, 캐시가 없으면 DB 합계로 다시 적재
+ */
+@Service
+@RequiredArgsConstructor
+public class EscrowHoldRedisService {
+
+	private static final String HELD_KEY_PREFIX = "escrow:held:";
+
+	private static final RedisScript<Long> RESERVE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/escrow-reserve.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 사용 가능 포인트가 충분하면 예치금 합계 증가
+	 * @param balance DB 기준 유저 포인트
+	 * @return 예치 시 1, 사용 가능 포인트 부족 시 0, 캐시가 없으면 -1
+	 */
+	public long reserve(Long userId, long amount, long balance, Duration ttl) {
+		Long result = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(getHeldKey(userId)),
+			String.valueOf(amount), String.valueOf(balance), String.valueOf(ttl.toMillis()));
+
+		return result == null ? -1L : result;
+	}
+
+	/**
+	 * 예치금 합계 캐시 삭제(다음 조회 때 DB 합계로 다시 적재)
+	 */
+	public void evict(Long userId) {
+		stringRedisTemplate.delete(getHeldKey(userId));
+	}
+
+	public Optional<Long> findHeld(Long userId) {
+		return Optional.ofNullable(stringRedisTemplate.opsForValue().get(getHeldKey(userId)))
+			.map(Long::parseLong);
+	}
+
+	/**
+	 * DB 합계로 캐시 적재(다른 노드가 먼저 적재했으면 유지)
+	 */
+	public void load(Long userId, long held, Duration ttl) {
+		stringRedisTemplate.opsForValue().setIfAbsent(getHeldKey(userId), String.valueOf(held), ttl);
+	}
+
+	/**
+	 * 예치금 합계 키(입찰 호가창 스크립트에서 사용 가능 포인트를 함께 확인할 때 사용)
+	 */
+	public String getHeldKey(Long userId) {
+		return HELD_KEY_PREFIX + userId;
+	}
+}
@@ -12,8 +12,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionDetailCacheService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionStreamService;
 import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
-import nbc.chillguys.nebulazone.infra.redis.dto.ChatPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.codec.ChatMessageCodecs;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionClosedPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailEvictPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionLivePubSubMessage;
 
 /**
  * Redis Pub/Sub 메시지를 구독하여 WebSocket으로 브로드캐스트하는 서비스
@@ -25,6 +30,9 @@ public class RedisMessageSubscriber implements MessageListener {
 
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ObjectMapper objectMapper;
+	private final AuctionDetailCacheService auctionDetailCacheService;
+	private final AuctionStreamService auctionStreamService;
+	private final ChatMessageCodecs chatMessageCodecs;
 
 	/**
 	 * Redis에서 발행된 메시지를 수신하여 WebSocket으로 브로드캐스트
@@ -35,17 +43,39 @@ public class RedisMessageSubscriber implements MessageListener {
 	@Override
 	public void onMessage(Message message, byte[] pattern) {
 		try {
-			// Redis 메시지를 문자열로 변환
-			String messageBody = new String(message.getBody(), StandardCharsets.UTF_8);
+			// 메시지 본문은 String으로 바꾸지 않고 바이트에서 바로 읽음
+			byte[] messageBody = message.getBody();
 
-			// JSON을 ChatPubSubMessage 객체로 역직렬화
-			ChatPubSubMessage pubSubMessage = objectMapper.readValue(messageBody, ChatPubSubMessage.class);
+			// 실시간 경매 채널(auction:live:{auctionId})은 로컬 경매 상세 캐시와 SSE 스트림에 반영하고 경매 구독자들에게 브로드캐스트
+			String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+			if (channel.startsWith(AuctionLivePubSubMessage.CHANNEL_PREFIX)) {
+				AuctionLivePubSubMessage liveMessage =
+					objectMapper.readValue(messageBody, AuctionLivePubSubMessage.class);
+				auctionDetailCacheService.applyLocalLiveInfo(liveMessage.toAuctionLiveInfo());
+				auctionStreamService.applyLiveInfo(liveMessage.toAuctionLiveInfo());
+				messagingTemplate.convertAndSend("/topic/auction/" + liveMessage.auctionId(), liveMessage);
+				return;
+			}
 
-			// ChatPubSubMessage를 ChatMessageInfo로 변환
-			ChatMessageInfo chatMessageInfo = pubSubMessage.toChatMessageInfo();
+			// 경매 종료 채널은 이 노드의 SSE 스트림에 종료 상태를 보내고 연결을 닫음
+			if (channel.equals(AuctionClosedPubSubMessage.CHANNEL)) {
+				auctionStreamService.close(
+					objectMapper.readValue(messageBody, AuctionClosedPubSubMessage.class).auctionId());
+				return;
+			}
+
+			// 경매 상세 캐시 무효화 채널은 로컬 캐시 항목만 제거
+			if (channel.equals(AuctionDetailEvictPubSubMessage.CHANNEL)) {
+				auctionDetailCacheService.evictLocal(
+					objectMapper.readValue(messageBody, AuctionDetailEvictPubSubMessage.class));
+				return;
+			}
+
+			// 채팅 메시지는 형식(JSON, 바이너리)을 판별하여 ChatMessageInfo로 역직렬화
+			ChatMessageInfo chatMessageInfo = chatMessageCodecs.decode(messageBody);
 
 			// WebSocket 구독자들에게 브로드캐스트
-			String destination = "/topic/chat/" + pubSubMessage.getRoomId();
+			String destination = "/topic/chat/" + chatMessageInfo.roomId();
 			messagingTemplate.convertAndSend(destination, chatMessageInfo);
 
 		} catch (Exception e) {
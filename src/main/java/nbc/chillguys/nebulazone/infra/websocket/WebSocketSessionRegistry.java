@@ -0,0 +1,60 @@
+package nbc.chillguys.nebulazone.infra.websocket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import nbc.chillguys.nebulazone.infra.websocket.dto.SessionUser;
+
+/**
+ * 이 노드에 연결된 STOMP 세션의 유저, 채팅방 매핑<br>
+ * 세션은 소켓을 가진 노드에서만 유효하므로 메시지마다 하는 세션 조회는 Redis 대신 여기서 처리하고,
+ * Redis에는 다른 노드가 보는 온라인 상태만 둠(WebSocketSessionRedisService)
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketSessionRegistry {
+
+	private final Map<String, SessionUser> usersBySession = new ConcurrentHashMap<>();
+	private final Map<String, Long> roomsBySession = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	void init() {
+		meterRegistry.gauge("websocket.sessions.local", usersBySession, Map::size);
+	}
+
+	// 세션ID : user 매핑
+	public void registerUser(String sessionId, SessionUser sessionUser) {
+		usersBySession.put(sessionId, sessionUser);
+	}
+
+	// 세션ID : roomId 매핑
+	public void registerRoom(String sessionId, long roomId) {
+		roomsBySession.put(sessionId, roomId);
+	}
+
+	// 세션ID로 SessionUser 찾기
+	public SessionUser getUser(String sessionId) {
+		return usersBySession.get(sessionId);
+	}
+
+	// 세션ID로 roomId찾기
+	public Long getRoomId(String sessionId) {
+		return roomsBySession.get(sessionId);
+	}
+
+	/**
+	 * 세션 종료 시 삭제
+	 * @return 세션의 유저, 이미 삭제된 세션이면 null
+	 */
+	public SessionUser unregister(String sessionId) {
+		roomsBySession.remove(sessionId);
+		return usersBySession.remove(sessionId);
+	}
+}
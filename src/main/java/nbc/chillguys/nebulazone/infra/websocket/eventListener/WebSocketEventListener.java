@@ -4,33 +4,74 @@ import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 import lombok.RequiredArgsConstructor;
-import nbc.chillguys.nebulazone.application.chat.service.ChatMessageService;
+import lombok.extern.slf4j.Slf4j;
+import nbc.chillguys.nebulazone.infra.redis.service.ChatRoomSubscriptionService;
 import nbc.chillguys.nebulazone.infra.redis.service.WebSocketSessionRedisService;
-import nbc.chillguys.nebulazone.infra.websocket.SessionUtil;
+import nbc.chillguys.nebulazone.infra.websocket.WebSocketSessionRegistry;
+import nbc.chillguys.nebulazone.infra.websocket.dto.SessionUser;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-	private final ChatMessageService chatMessageService;
+	private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+
 	private final WebSocketSessionRedisService webSocketSessionRedisService;
+	private final ChatRoomSubscriptionService chatRoomSubscriptionService;
+	private final WebSocketSessionRegistry webSocketSessionRegistry;
 
+	/**
+	 * 채팅방 구독 시 이 노드의 채팅방 채널 구독 등록<br>
+	 * AuthenticationChannelInterceptor의 권한 검증을 통과한 SUBSCRIBE만 이벤트로 발행됨
+	 */
+	@EventListener
+	public void handleWebSocketSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = accessor.getDestination();
+
+		if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+			return;
+		}
+
+		try {
+			Long roomId = Long.valueOf(destination.substring(CHAT_TOPIC_PREFIX.length()));
+			chatRoomSubscriptionService.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+		} catch (NumberFormatException e) {
+			log.warn("방번호 추출 실패: {}", destination);
+		}
+	}
+
+	/**
+	 * 구독 해제 시 이 노드의 채팅방 채널 구독 해제
+	 */
+	@EventListener
+	public void handleWebSocketUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+
+		chatRoomSubscriptionService.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	/**
+	 * STOMP 연결 종료 시 세션 정보, 온라인 상태와 세션의 채팅방 채널 구독 제거<br>
+	 * 채팅 기록은 ChatMessageFlushService가 연결과 관계없이 주기적으로 저장
+	 */
 	@EventListener
 	public void handleWebSocketDisconnect(SessionDisconnectEvent event) {
 		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
 		String sessionId = accessor.getSessionId();
 
-		Long roomId = webSocketSessionRedisService.getRoomIdBySessionId(sessionId);
+		chatRoomSubscriptionService.unsubscribeAll(sessionId);
 
-		if (roomId != null) {
-			// redis -> DB
-			chatMessageService.saveMessagesToDb(roomId);
+		SessionUser sessionUser = webSocketSessionRegistry.unregister(sessionId);
+		if (sessionUser != null) {
+			webSocketSessionRedisService.unregisterOnlineUser(sessionUser.id());
 		}
 
-		webSocketSessionRedisService.unregisterSession(sessionId);
-
 	}
 
 }
@@ -17,6 +17,7 @@ import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomUserRepository;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 import nbc.chillguys.nebulazone.infra.redis.service.WebSocketSessionRedisService;
 import nbc.chillguys.nebulazone.infra.security.JwtUtil;
+import nbc.chillguys.nebulazone.infra.websocket.WebSocketSessionRegistry;
 import nbc.chillguys.nebulazone.infra.websocket.dto.SessionUser;
 
 @Slf4j
@@ -28,6 +29,7 @@ public class AuthenticationChannelInterceptor implements ChannelInterceptor {
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomUserRepository chatRoomUserRepository;
 	private final WebSocketSessionRedisService webSocketSessionRedisService;
+	private final WebSocketSessionRegistry webSocketSessionRegistry;
 
 	/**
 	 * WebSocket STOMP 인바운드 메시지 인증 및 권한 검증 인터셉터 <br>
@@ -59,8 +61,9 @@ public class AuthenticationChannelInterceptor implements ChannelInterceptor {
 				User userFromToken = jwtUtil.getUserFromToken(token);
 				SessionUser user = SessionUser.from(userFromToken);
 
-				// 세션과 유저 매핑 (메모리 or Redis 등)
-				webSocketSessionRedisService.registerUser(accessor.getSessionId(), user);
+				// 세션과 유저 매핑은 이 노드에, 온라인 상태는 Redis에 등록
+				webSocketSessionRegistry.registerUser(accessor.getSessionId(), user);
+				webSocketSessionRedisService.registerOnlineUser(user.id(), accessor.getSessionId());
 
 			} catch (Exception e) {
 				log.warn("JWT 파싱 또는 Principal 세팅 예외: {}", e);
@@ -73,7 +76,7 @@ public class AuthenticationChannelInterceptor implements ChannelInterceptor {
 		if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
 
 			String destination = accessor.getDestination();
-			SessionUser user = webSocketSessionRedisService.getUserIdBySessionId(accessor.getSessionId());
+			SessionUser user = webSocketSessionRegistry.getUser(accessor.getSessionId());
 
 			if (user == null) {
 				throw new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
@@ -99,7 +102,7 @@ public class AuthenticationChannelInterceptor implements ChannelInterceptor {
 					}
 
 					// 세션과 채팅방 매핑
-					webSocketSessionRedisService.registerRoom(accessor.getSessionId(), roomId);
+					webSocketSessionRegistry.registerRoom(accessor.getSessionId(), roomId);
 				} catch (NumberFormatException e) {
 					log.warn("방번호 추출 실패: {}", roomIdStr);
 				}
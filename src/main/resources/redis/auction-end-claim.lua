@@ -0,0 +1,20 @@
+-- 종료 시각이 지난 경매를 처리 중 목록으로 옮기고 (경매 id, 상품 id) 목록 반환
+-- 처리 제한 시간이 지난 처리 중 경매는 먼저 대기열로 되돌림(처리 도중 노드 장애 대비)
+-- KEYS[1] 종료 대기열 zset, KEYS[2] 처리 중 zset, KEYS[3] 경매별 상품 id hash
+-- ARGV[1] 현재 시각(epoch second), ARGV[2] 처리 제한 시각(epoch second), ARGV[3] 최대 개수
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+for _, auctionId in ipairs(expired) do
+	redis.call('ZREM', KEYS[2], auctionId)
+	redis.call('ZADD', KEYS[1], ARGV[1], auctionId)
+end
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+local claimed = {}
+for _, auctionId in ipairs(due) do
+	redis.call('ZREM', KEYS[1], auctionId)
+	redis.call('ZADD', KEYS[2], ARGV[2], auctionId)
+	claimed[#claimed + 1] = auctionId
+	claimed[#claimed + 1] = redis.call('HGET', KEYS[3], auctionId) or '0'
+end
+
+return claimed
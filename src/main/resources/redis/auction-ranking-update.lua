@@ -0,0 +1,9 @@
+-- 순위에 남아 있는 경매의 점수만 갱신(종료, 삭제되어 순위에서 빠진 경매는 다시 추가하지 않음)
+-- KEYS[1] 순위 zset
+-- ARGV[1] 경매 id, ARGV[2] 점수
+if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+	redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+	return 1
+end
+
+return 0
@@ -0,0 +1,33 @@
+-- 경매 호가창(top-of-book) 초기화
+-- KEYS[1] 호가창 hash, KEYS[2] 입찰자별 입찰가 hash
+-- ARGV[1] 시작가, ARGV[2] 종료 시각(epoch ms), ARGV[3] 판매자 id, ARGV[4] 종료 여부(0/1)
+-- ARGV[5..] 입찰자 id, 입찰가 쌍
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+
+redis.call('DEL', KEYS[2])
+
+local topPrice = 0
+local topUserId = ''
+for i = 5, #ARGV, 2 do
+	local price = tonumber(ARGV[i + 1])
+	redis.call('HSET', KEYS[2], ARGV[i], price)
+	if price > topPrice then
+		topPrice = price
+		topUserId = ARGV[i]
+	end
+end
+
+redis.call('HSET', KEYS[1],
+	'startPrice', ARGV[1],
+	'endTime', ARGV[2],
+	'sellerId', ARGV[3],
+	'closed', ARGV[4],
+	'topPrice', topPrice,
+	'topUserId', topUserId,
+	'bidCount', (#ARGV - 4) / 2,
+	'seq', 0,
+	'persistedSeq', 0)
+
+return 1
@@ -0,0 +1,15 @@
+-- 호가창의 DB 반영 완료 순번 갱신(순번이 뒤로 가지 않도록 큰 값만 반영)
+-- KEYS[1] 호가창 hash
+-- ARGV[1] DB 반영이 끝난 이벤트 순번
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return 0
+end
+
+local persistedSeq = tonumber(redis.call('HGET', KEYS[1], 'persistedSeq') or '0')
+local seq = tonumber(ARGV[1])
+
+if seq > persistedSeq then
+	redis.call('HSET', KEYS[1], 'persistedSeq', seq)
+end
+
+return 1
@@ -0,0 +1,56 @@
+-- 입찰 취소
+-- KEYS[1] 호가창 hash, KEYS[2] 입찰자별 입찰가 hash, KEYS[3] write-behind stream
+-- ARGV[1] 경매 id, ARGV[2] 입찰자 id, ARGV[3] 현재 시각(epoch ms), ARGV[4] 종료 전 취소 제한 시간(ms)
+-- 반환: {결과 코드, 취소 후 최고가, 입찰 건수}
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return {-100, 0, 0}
+end
+
+local userId = ARGV[2]
+local now = tonumber(ARGV[3])
+local cancelLimit = tonumber(ARGV[4])
+
+local book = redis.call('HMGET', KEYS[1], 'endTime', 'closed')
+local endTime = tonumber(book[1])
+
+if book[2] == '1' then
+	return {-1, 0, 0}
+end
+
+if now >= endTime then
+	return {-2, 0, 0}
+end
+
+if endTime - now < cancelLimit then
+	return {-7, 0, 0}
+end
+
+if redis.call('HDEL', KEYS[2], userId) == 0 then
+	return {-8, 0, 0}
+end
+
+local topPrice = 0
+local topUserId = ''
+local entries = redis.call('HGETALL', KEYS[2])
+for i = 1, #entries, 2 do
+	local price = tonumber(entries[i + 1])
+	if price > topPrice then
+		topPrice = price
+		topUserId = entries[i]
+	end
+end
+
+local bidCount = #entries / 2
+local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1)
+redis.call('HSET', KEYS[1], 'topPrice', topPrice, 'topUserId', topUserId, 'bidCount', bidCount)
+
+redis.call('XADD', KEYS[3], '*',
+	'type', 'CANCEL',
+	'auctionId', ARGV[1],
+	'userId', userId,
+	'price', 0,
+	'delta', 0,
+	'topPrice', topPrice,
+	'seq', seq)
+
+return {1, topPrice, bidCount}
@@ -0,0 +1,72 @@
+-- 입찰 접수(생성/수정)
+-- KEYS[1] 호가창 hash, KEYS[2] 입찰자별 입찰가 hash, KEYS[3] 유저 미반영 차감 포인트, KEYS[4] write-behind stream
+-- KEYS[5] 유저 예치금 합계
+-- ARGV[1] 경매 id, ARGV[2] 입찰자 id, ARGV[3] 입찰가, ARGV[4] 현재 시각(epoch ms), ARGV[5] DB 기준 유저 포인트
+-- 사용 가능 포인트는 유저 포인트 - 예치금 합계 - 미반영 차감 포인트이며, 예치금 합계와 미반영 포인트를 이 스크립트 안에서 함께 읽어
+-- write-behind 반영 중에도 같은 금액이 빠지지 않는 시점이 없음(반영은 예치금 캐시 삭제 후 미반영 포인트 감소 순서라 잠시 두 번 빠질 수는 있음)
+-- 반환: {결과 코드, 이전 입찰가, 입찰 건수}
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return {-100, 0, 0}
+end
+
+local userId = ARGV[2]
+local price = tonumber(ARGV[3])
+local now = tonumber(ARGV[4])
+local balance = tonumber(ARGV[5])
+
+local book = redis.call('HMGET', KEYS[1], 'startPrice', 'endTime', 'sellerId', 'topPrice', 'closed')
+local startPrice = tonumber(book[1])
+local endTime = tonumber(book[2])
+local topPrice = tonumber(book[4])
+
+if book[5] == '1' then
+	return {-1, 0, 0}
+end
+
+if now >= endTime then
+	return {-2, 0, 0}
+end
+
+if book[3] == userId then
+	return {-3, 0, 0}
+end
+
+local previousPrice = tonumber(redis.call('HGET', KEYS[2], userId) or '0')
+
+if previousPrice == 0 and startPrice > price then
+	return {-4, 0, 0}
+end
+
+if topPrice >= price then
+	return {-5, 0, 0}
+end
+
+local held = redis.call('GET', KEYS[5])
+if not held then
+	return {-101, 0, 0}
+end
+
+local delta = price - previousPrice
+local pendingPoint = tonumber(redis.call('GET', KEYS[3]) or '0')
+
+if balance - tonumber(held) - pendingPoint < delta then
+	return {-6, 0, 0}
+end
+
+redis.call('INCRBY', KEYS[3], delta)
+redis.call('HSET', KEYS[2], userId, price)
+
+local bidCount = redis.call('HLEN', KEYS[2])
+local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1)
+redis.call('HSET', KEYS[1], 'topPrice', price, 'topUserId', userId, 'bidCount', bidCount)
+
+redis.call('XADD', KEYS[4], '*',
+	'type', 'UPSERT',
+	'auctionId', ARGV[1],
+	'userId', userId,
+	'price', price,
+	'delta', delta,
+	'topPrice', price,
+	'seq', seq)
+
+return {1, previousPrice, bidCount}
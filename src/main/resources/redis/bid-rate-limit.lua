@@ -0,0 +1,37 @@
+-- 전체, 경매별, 사용자별 입찰 토큰 버킷을 한 번에 확인하고 모든 버킷에 토큰이 있을 때만 하나씩 차감
+-- 하나라도 부족하면 어느 버킷도 차감하지 않고 부족한 버킷 번호(1부터) 반환, 허용 시 0 반환
+-- 노드 간 시계 차이가 없도록 현재 시각은 Redis TIME 사용
+-- KEYS[n] 버킷 hash(tokens: 남은 토큰, ts: 마지막 차감 시각 epoch milli)
+-- ARGV[2n-1] 버킷 n의 용량, ARGV[2n] 버킷 n의 초당 충전량
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tokens = {}
+for i, key in ipairs(KEYS) do
+	local capacity = tonumber(ARGV[i * 2 - 1])
+	local refillPerSecond = tonumber(ARGV[i * 2])
+	local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+	local current = tonumber(bucket[1])
+
+	if current == nil then
+		current = capacity
+	else
+		local elapsed = math.max(0, now - tonumber(bucket[2]))
+		current = math.min(capacity, current + elapsed * refillPerSecond / 1000)
+	end
+
+	if current < 1 then
+		return i
+	end
+	tokens[i] = current
+end
+
+for i, key in ipairs(KEYS) do
+	local capacity = tonumber(ARGV[i * 2 - 1])
+	local refillPerSecond = tonumber(ARGV[i * 2])
+	redis.call('HSET', key, 'tokens', tostring(tokens[i] - 1), 'ts', now)
+	-- 가득 찰 때까지 차감이 없으면 버킷을 지워도 결과가 같으므로 그 시간 뒤 만료
+	redis.call('PEXPIRE', key, math.ceil(capacity * 1000 / refillPerSecond))
+end
+
+return 0
@@ -0,0 +1,13 @@
+-- DB에 저장된 채팅 메시지를 ack 하고 stream에서 삭제
+-- stream이 비면 stream(컨슈머 그룹 포함)을 지우고 저장 대기 채팅방 목록에서 제거
+-- KEYS[1] 채팅방 stream, KEYS[2] 저장 대기 채팅방 set
+-- ARGV[1] 채팅방 id, ARGV[2] 컨슈머 그룹, ARGV[3..] 레코드 id
+redis.call('XACK', KEYS[1], ARGV[2], unpack(ARGV, 3))
+redis.call('XDEL', KEYS[1], unpack(ARGV, 3))
+
+if redis.call('XLEN', KEYS[1]) == 0 then
+	redis.call('DEL', KEYS[1])
+	redis.call('SREM', KEYS[2], ARGV[1])
+end
+
+return 1
@@ -0,0 +1,12 @@
+-- 채팅 메시지를 채팅방 stream에 추가하고 저장 대기 채팅방 목록에 등록
+-- stream이 없으면 컨슈머 그룹과 함께 생성(저장이 끝나 비워진 stream은 chat-ack.lua가 삭제)
+-- KEYS[1] 채팅방 stream, KEYS[2] 저장 대기 채팅방 set
+-- ARGV[1] 채팅방 id, ARGV[2] 컨슈머 그룹, ARGV[3..] 메시지 필드, 값
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	redis.call('XGROUP', 'CREATE', KEYS[1], ARGV[2], '0', 'MKSTREAM')
+end
+
+local recordId = redis.call('XADD', KEYS[1], '*', unpack(ARGV, 3))
+redis.call('SADD', KEYS[2], ARGV[1])
+
+return recordId
@@ -0,0 +1,17 @@
+-- 유저 예치금 합계 캐시에서 사용 가능 포인트(잔액 - 예치금 합계)를 확인하고 충분할 때만 예치금 합계 증가
+-- KEYS[1] 유저 예치금 합계
+-- ARGV[1] 예치할 금액, ARGV[2] DB 기준 유저 포인트, ARGV[3] 만료 시간(ms)
+-- 반환: 예치 시 1, 사용 가능 포인트 부족 시 0, 캐시가 없으면 -1(DB 합계로 적재 후 재시도)
+local held = redis.call('GET', KEYS[1])
+if not held then
+	return -1
+end
+
+local amount = tonumber(ARGV[1])
+if tonumber(ARGV[2]) - tonumber(held) < amount then
+	return 0
+end
+
+redis.call('INCRBY', KEYS[1], amount)
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
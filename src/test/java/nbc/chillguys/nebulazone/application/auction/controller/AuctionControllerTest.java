@@ -30,6 +30,8 @@ import nbc.chillguys.nebulazone.application.auction.dto.response.FindAllAuctionR
 import nbc.chillguys.nebulazone.application.auction.dto.response.FindDetailAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.dto.response.ManualEndAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.service.AuctionService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionStreamService;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.config.TestSecurityConfig;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
@@ -50,6 +52,9 @@ class AuctionControllerTest {
 	@MockitoBean
 	AuctionService auctionService;
 
+	@MockitoBean
+	AuctionStreamService auctionStreamService;
+
 	private static final Long AUCTION_ID = 1L;
 	private static final Long BID_ID = 100L;
 	private static final Long PRODUCT_ID = 50L;
@@ -187,6 +192,42 @@ class AuctionControllerTest {
 				);
 
 		}
+
+		@Test
+		@DisplayName("경매 전체 조회 성공 - cursor 페이징")
+		@WithCustomMockUser
+		void success_findAuctionsByCursor() throws Exception {
+			// given
+			FindAllAuctionResponse auctionContent = new FindAllAuctionResponse(
+				AUCTION_ID, START_PRICE, CURRENT_PRICE, false,
+				endTime, PRODUCT_ID, PRODUCT_NAME, PRODUCT_IMAGE_URL, BID_COUNT
+			);
+			CommonCursorResponse<FindAllAuctionResponse> expectedResponse = CommonCursorResponse
+				.<FindAllAuctionResponse>builder()
+				.content(List.of(auctionContent))
+				.size(1)
+				.hasNext(true)
+				.nextCursor("next")
+				.build();
+
+			given(auctionService.findAuctionsByCursor("", 1)).willReturn(expectedResponse);
+
+			// when & then
+			mockMvc.perform(get("/auctions")
+					.param("cursor", "")
+					.param("size", "1"))
+				.andDo(print())
+				.andExpectAll(
+					status().isOk(),
+					jsonPath("$.content.length()").value(1),
+					jsonPath("$.content[0].auctionId").value(AUCTION_ID),
+					jsonPath("$.hasNext").value(true),
+					jsonPath("$.nextCursor").value("next"),
+					jsonPath("$.totalElements").doesNotExist()
+				);
+
+			verify(auctionService, never()).findAuctions(anyInt(), anyInt());
+		}
 	}
 
 	@Nested
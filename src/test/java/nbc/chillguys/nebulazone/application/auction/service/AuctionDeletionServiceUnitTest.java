@@ -0,0 +1,85 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+
+@DisplayName("경매 삭제 마감 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuctionDeletionServiceUnitTest {
+
+	@Mock
+	AuctionSchedulerService auctionSchedulerService;
+
+	@Mock
+	BidEngine bidEngine;
+
+	@Mock
+	AuctionRankingService auctionRankingService;
+
+	@Mock
+	AuctionDetailCacheService auctionDetailCacheService;
+
+	@Mock
+	EscrowService escrowService;
+
+	@Mock
+	AuctionStreamService auctionStreamService;
+
+	@InjectMocks
+	AuctionDeletionService auctionDeletionService;
+
+	@Nested
+	@DisplayName("삭제된 경매 마감")
+	class CloseDeletedAuctionTest {
+
+		@Test
+		@DisplayName("삭제된 경매 마감 성공 - 엔진 마감과 반영 대기 뒤에 예치금을 해제하고 종료를 알림")
+		void success_closeDeletedAuction() {
+			// given
+			Long auctionId = 1L;
+
+			// when
+			auctionDeletionService.closeDeletedAuction(auctionId);
+
+			// then
+			InOrder inOrder = inOrder(auctionSchedulerService, bidEngine, escrowService, auctionStreamService);
+			inOrder.verify(auctionSchedulerService).cancelSchedule(auctionId);
+			inOrder.verify(bidEngine).closeAuction(auctionId);
+			inOrder.verify(bidEngine).awaitPersisted(auctionId);
+			inOrder.verify(escrowService).settle(List.of(auctionId), Map.of());
+			inOrder.verify(auctionStreamService).publishClosed(auctionId);
+			verify(auctionRankingService).remove(List.of(auctionId));
+			verify(auctionDetailCacheService).evict(auctionId);
+		}
+
+		@Test
+		@DisplayName("삭제된 경매 마감 실패 - 반영 대기 시간 초과 시 예치금을 해제하지 않음")
+		void fail_closeDeletedAuction_awaitTimeout() {
+			// given
+			Long auctionId = 1L;
+
+			willThrow(new IllegalStateException("timeout")).given(bidEngine).awaitPersisted(auctionId);
+
+			// when & then
+			assertThatThrownBy(() -> auctionDeletionService.closeDeletedAuction(auctionId))
+				.isInstanceOf(IllegalStateException.class);
+			verify(escrowService, never()).settle(anyList(), anyMap());
+			verify(auctionStreamService, never()).publishClosed(anyLong());
+		}
+	}
+}
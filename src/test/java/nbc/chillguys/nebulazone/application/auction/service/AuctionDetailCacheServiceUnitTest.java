@@ -0,0 +1,298 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailCacheEntry;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionDetailEvictPubSubMessage;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionDetailRedisService;
+
+@DisplayName("경매 상세 캐시 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuctionDetailCacheServiceUnitTest {
+
+	private static final Long AUCTION_ID = 1L;
+	private static final LocalDateTime END_TIME = LocalDateTime.of(2026, 10, 20, 12, 0);
+
+	@Mock
+	AuctionDetailRedisService auctionDetailRedisService;
+
+	@Mock
+	RedisMessagePublisher redisMessagePublisher;
+
+	SimpleMeterRegistry meterRegistry;
+
+	AuctionDetailCacheService auctionDetailCacheService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		auctionDetailCacheService = new AuctionDetailCacheService(auctionDetailRedisService, redisMessagePublisher,
+			meterRegistry, 10, 100, 300);
+	}
+
+	@Nested
+	@DisplayName("경매 상세 조회")
+	class GetOrLoadTest {
+
+		@Test
+		@DisplayName("L1, L2에 모두 없으면 DB에서 조회하여 두 단계에 저장하고 이후 조회는 L1에서 응답")
+		void success_getOrLoad_loadOnce() {
+			// given
+			AtomicInteger loadCount = new AtomicInteger();
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+
+			// when
+			AuctionFindDetailInfo first = auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> {
+				loadCount.incrementAndGet();
+				return createDetail(10000L, 0L);
+			});
+			AuctionFindDetailInfo second = auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> {
+				loadCount.incrementAndGet();
+				return createDetail(10000L, 0L);
+			});
+
+			// then
+			assertThat(first).isEqualTo(second);
+			assertThat(loadCount.get()).isEqualTo(1);
+			verify(auctionDetailRedisService, times(1)).find(AUCTION_ID);
+			verify(auctionDetailRedisService, times(1)).save(any(AuctionDetailCacheEntry.class),
+				eq(Duration.ofSeconds(300)));
+			assertThat(meterRegistry.get("auction.detail.cache.redis").tag("result", "miss").counter().count())
+				.isEqualTo(1.0);
+			assertThat(meterRegistry.get("auction.detail.cache.staleness").timer().count()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("L2에 있으면 DB를 조회하지 않음")
+		void success_getOrLoad_redisHit() {
+			// given
+			AuctionFindDetailInfo cached = createDetail(20000L, 2L);
+			given(auctionDetailRedisService.find(AUCTION_ID))
+				.willReturn(Optional.of(AuctionDetailCacheEntry.of(cached)));
+
+			// when
+			AuctionFindDetailInfo result = auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> {
+				throw new IllegalStateException("DB 조회 불가");
+			});
+
+			// then
+			assertThat(result).isEqualTo(cached);
+			verify(auctionDetailRedisService, never()).save(any(), any());
+			assertThat(meterRegistry.get("auction.detail.cache.redis").tag("result", "hit").counter().count())
+				.isEqualTo(1.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("캐시 항목 갱신")
+	class UpdateTest {
+
+		@Test
+		@DisplayName("입찰로 바뀐 현재가, 입찰 건수와 최고가 입찰을 L2, L1 항목에 반영")
+		void success_applyLiveInfo() {
+			// given
+			AuctionFindDetailInfo cached = createDetail(10000L, 0L);
+			given(auctionDetailRedisService.find(AUCTION_ID))
+				.willReturn(Optional.empty(), Optional.of(AuctionDetailCacheEntry.of(cached)));
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> cached);
+
+			AuctionLiveInfo liveInfo = new AuctionLiveInfo(AUCTION_ID, 15000L, 1L, END_TIME);
+			TopBidInfo topBid = new TopBidInfo(50L, 15000L, 20L, "입찰자", "bidder@test.com");
+
+			// when
+			auctionDetailCacheService.applyLiveInfo(liveInfo, topBid);
+
+			// then
+			ArgumentCaptor<AuctionDetailCacheEntry> captor = ArgumentCaptor.forClass(AuctionDetailCacheEntry.class);
+			verify(auctionDetailRedisService, times(2)).save(captor.capture(), any());
+			assertThat(captor.getValue().detail().currentPrice()).isEqualTo(15000L);
+			assertThat(captor.getValue().detail().bidCount()).isEqualTo(1L);
+			assertThat(captor.getValue().detail().topBid()).isEqualTo(topBid);
+
+			AuctionFindDetailInfo result = auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> cached);
+			assertThat(result.currentPrice()).isEqualTo(15000L);
+			assertThat(result.bidCount()).isEqualTo(1L);
+			assertThat(result.topBid()).isEqualTo(topBid);
+		}
+
+		@Test
+		@DisplayName("캐시에 없는 경매의 실시간 정보는 저장하지 않음")
+		void success_applyLiveInfo_notCached() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+
+			// when
+			auctionDetailCacheService.applyLiveInfo(new AuctionLiveInfo(AUCTION_ID, 15000L, 1L, END_TIME), null);
+
+			// then
+			verify(auctionDetailRedisService, never()).save(any(), any());
+		}
+
+		@Test
+		@DisplayName("다른 노드의 실시간 정보로 현재가가 바뀌면 L1 항목을 제거하여 L2에서 다시 읽음")
+		void success_applyLocalLiveInfo_priceChanged() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			// when
+			auctionDetailCacheService.applyLocalLiveInfo(new AuctionLiveInfo(AUCTION_ID, 15000L, 1L, END_TIME));
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			// then
+			verify(auctionDetailRedisService, times(2)).find(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("다른 노드의 실시간 정보로 현재가가 그대로면 L1 항목을 그 자리에서 갱신")
+		void success_applyLocalLiveInfo_samePrice() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 1L));
+
+			// when
+			auctionDetailCacheService.applyLocalLiveInfo(new AuctionLiveInfo(AUCTION_ID, 10000L, 2L, END_TIME));
+			AuctionFindDetailInfo result = auctionDetailCacheService.getOrLoad(AUCTION_ID,
+				() -> createDetail(10000L, 1L));
+
+			// then
+			assertThat(result.bidCount()).isEqualTo(2L);
+			verify(auctionDetailRedisService, times(1)).find(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("낙찰 시 L1 항목을 낙찰 상태로 갱신하고 다른 노드에 무효화 발행")
+		void success_markWon() {
+			// given
+			AuctionFindDetailInfo cached = createDetail(10000L, 1L);
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> cached);
+
+			LocalDateTime wonTime = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+			// when
+			auctionDetailCacheService.markWon(AUCTION_ID, wonTime);
+
+			// then
+			AuctionFindDetailInfo result = auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> cached);
+			assertThat(result.isWon()).isTrue();
+			assertThat(result.endTime()).isEqualTo(wonTime);
+			verify(redisMessagePublisher, times(1)).publishAuctionDetailEviction(eq(AUCTION_ID), anyString());
+		}
+	}
+
+	@Nested
+	@DisplayName("트랜잭션 안에서 호출")
+	class AfterCommitTest {
+
+		@Test
+		@DisplayName("낙찰, 삭제 반영은 커밋 전에는 실행하지 않고 커밋 후 실행")
+		void success_markWonAndEvict_afterCommit() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 1L));
+
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				auctionDetailCacheService.markWon(AUCTION_ID, null);
+				auctionDetailCacheService.evict(AUCTION_ID);
+
+				// then
+				verify(redisMessagePublisher, never()).publishAuctionDetailEviction(any(), any());
+				verify(auctionDetailRedisService, never()).delete(AUCTION_ID);
+
+				TransactionSynchronizationManager.getSynchronizations()
+					.forEach(TransactionSynchronization::afterCommit);
+
+				verify(redisMessagePublisher, times(2)).publishAuctionDetailEviction(eq(AUCTION_ID), anyString());
+				verify(auctionDetailRedisService, times(1)).delete(AUCTION_ID);
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("캐시 항목 제거")
+	class EvictTest {
+
+		@Test
+		@DisplayName("삭제 시 L2, L1 항목을 제거하고 다른 노드에 무효화 발행")
+		void success_evict() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			// when
+			auctionDetailCacheService.evict(AUCTION_ID);
+
+			// then
+			verify(auctionDetailRedisService, times(1)).delete(AUCTION_ID);
+			verify(redisMessagePublisher, times(1)).publishAuctionDetailEviction(eq(AUCTION_ID), anyString());
+
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+			verify(auctionDetailRedisService, times(2)).find(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("자신이 발행한 무효화 메시지는 무시")
+		void success_evictLocal_ignoreOwnMessage() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			String nodeId = (String)ReflectionTestUtils.getField(auctionDetailCacheService, "nodeId");
+
+			// when
+			auctionDetailCacheService.evictLocal(new AuctionDetailEvictPubSubMessage(AUCTION_ID, nodeId));
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			// then
+			verify(auctionDetailRedisService, times(1)).find(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("다른 노드가 발행한 무효화 메시지를 받으면 L1 항목 제거")
+		void success_evictLocal() {
+			// given
+			given(auctionDetailRedisService.find(AUCTION_ID)).willReturn(Optional.empty());
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			// when
+			auctionDetailCacheService.evictLocal(new AuctionDetailEvictPubSubMessage(AUCTION_ID, "other-node"));
+			auctionDetailCacheService.getOrLoad(AUCTION_ID, () -> createDetail(10000L, 0L));
+
+			// then
+			verify(auctionDetailRedisService, times(2)).find(AUCTION_ID);
+		}
+	}
+
+	private AuctionFindDetailInfo createDetail(Long currentPrice, Long bidCount) {
+		return new AuctionFindDetailInfo(AUCTION_ID, 10L, "판매자", "seller@test.com", 10000L, currentPrice, false,
+			END_TIME, 100L, "상품", "https://image.test/1.png", LocalDateTime.of(2026, 10, 1, 0, 0), bidCount);
+	}
+}
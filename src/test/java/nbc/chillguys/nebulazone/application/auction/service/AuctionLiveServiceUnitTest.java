@@ -0,0 +1,156 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+
+@DisplayName("실시간 경매 정보 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuctionLiveServiceUnitTest {
+
+	@Mock
+	BidEngine bidEngine;
+
+	@Mock
+	BidDomainService bidDomainService;
+
+	@Mock
+	RedisMessagePublisher redisMessagePublisher;
+
+	@Mock
+	AuctionRankingService auctionRankingService;
+
+	@Mock
+	AuctionDetailCacheService auctionDetailCacheService;
+
+	@InjectMocks
+	AuctionLiveService auctionLiveService;
+
+	@Nested
+	@DisplayName("실시간 경매 정보 발행")
+	class FlushTest {
+
+		@Test
+		@DisplayName("한 주기 안의 여러 입찰은 경매별로 한 번만 발행")
+		void success_flush_coalesced() {
+			// given
+			AuctionLiveInfo firstInfo = new AuctionLiveInfo(1L, 30000L, 3L, LocalDateTime.now());
+			AuctionLiveInfo secondInfo = new AuctionLiveInfo(2L, 50000L, 1L, LocalDateTime.now());
+
+			given(bidEngine.findLiveInfo(1L)).willReturn(Optional.of(firstInfo));
+			given(bidEngine.findLiveInfo(2L)).willReturn(Optional.of(secondInfo));
+
+			auctionLiveService.markUpdated(1L);
+			auctionLiveService.markUpdated(1L);
+			auctionLiveService.markUpdated(2L);
+			auctionLiveService.markUpdated(1L);
+
+			// when
+			auctionLiveService.flush();
+
+			// then
+			verify(bidEngine, times(1)).findLiveInfo(1L);
+			verify(redisMessagePublisher, times(1)).publishAuctionLiveInfo(firstInfo);
+			verify(redisMessagePublisher, times(1)).publishAuctionLiveInfo(secondInfo);
+			verify(auctionRankingService, times(1)).updateBidCount(firstInfo);
+			verify(auctionRankingService, times(1)).updateBidCount(secondInfo);
+			verify(auctionDetailCacheService, times(1)).applyLiveInfo(firstInfo, null);
+			verify(auctionDetailCacheService, times(1)).applyLiveInfo(secondInfo, null);
+		}
+
+		@Test
+		@DisplayName("발행한 경매는 다시 변경되기 전까지 발행하지 않음")
+		void success_flush_onlyUpdated() {
+			// given
+			AuctionLiveInfo liveInfo = new AuctionLiveInfo(1L, 30000L, 3L, LocalDateTime.now());
+
+			given(bidEngine.findLiveInfo(1L)).willReturn(Optional.of(liveInfo));
+
+			auctionLiveService.markUpdated(1L);
+			auctionLiveService.flush();
+
+			// when
+			auctionLiveService.flush();
+
+			// then
+			verify(redisMessagePublisher, times(1)).publishAuctionLiveInfo(liveInfo);
+		}
+
+		@Test
+		@DisplayName("최고가 입찰이 현재가와 맞을 때까지 다음 flush에서 캐시의 최고가 입찰만 다시 반영")
+		void success_flush_refreshStaleTopBid() {
+			// given
+			AuctionLiveInfo liveInfo = new AuctionLiveInfo(1L, 30000L, 3L, LocalDateTime.now());
+			Bid staleBid = createBid(10L, 20000L);
+			Bid topBid = createBid(11L, 30000L);
+
+			given(bidEngine.findLiveInfo(1L)).willReturn(Optional.of(liveInfo));
+			given(bidDomainService.findHighBidByAuction(1L)).willReturn(staleBid, topBid);
+
+			auctionLiveService.markUpdated(1L);
+			auctionLiveService.flush();
+
+			// when
+			auctionLiveService.flush();
+			auctionLiveService.flush();
+
+			// then
+			verify(auctionDetailCacheService).applyLiveInfo(liveInfo, TopBidInfo.from(staleBid));
+			verify(auctionDetailCacheService).applyLiveInfo(liveInfo, TopBidInfo.from(topBid));
+			verify(bidDomainService, times(2)).findHighBidByAuction(1L);
+			verify(redisMessagePublisher, times(1)).publishAuctionLiveInfo(liveInfo);
+		}
+
+		@Test
+		@DisplayName("조회 실패한 경매가 있어도 나머지 경매는 발행")
+		void success_flush_skipFailed() {
+			// given
+			AuctionLiveInfo liveInfo = new AuctionLiveInfo(2L, 50000L, 1L, LocalDateTime.now());
+
+			given(bidEngine.findLiveInfo(1L)).willThrow(new IllegalStateException("조회 실패"));
+			given(bidEngine.findLiveInfo(2L)).willReturn(Optional.of(liveInfo));
+
+			auctionLiveService.markUpdated(1L);
+			auctionLiveService.markUpdated(2L);
+
+			// when
+			auctionLiveService.flush();
+
+			// then
+			verify(redisMessagePublisher).publishAuctionLiveInfo(liveInfo);
+		}
+	}
+
+	private Bid createBid(Long bidId, Long price) {
+		User user = User.builder()
+			.email("bidder@test.com")
+			.nickname("입찰자")
+			.build();
+		ReflectionTestUtils.setField(user, "id", 20L);
+
+		Bid bid = Bid.builder()
+			.user(user)
+			.price(price)
+			.build();
+		ReflectionTestUtils.setField(bid, "id", bidId);
+		return bid;
+	}
+}
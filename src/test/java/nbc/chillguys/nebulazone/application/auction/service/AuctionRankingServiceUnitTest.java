@@ -0,0 +1,144 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionRankingInfo;
+import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionRankingRedisService;
+
+@DisplayName("경매 순위 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuctionRankingServiceUnitTest {
+
+	@Mock
+	AuctionDomainService auctionDomainService;
+
+	@Mock
+	AuctionRankingRedisService auctionRankingRedisService;
+
+	@InjectMocks
+	AuctionRankingService auctionRankingService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(auctionRankingService, "rebuildPageSize", 2);
+		ReflectionTestUtils.setField(auctionRankingService, "rebuildIntervalMillis", 600000L);
+	}
+
+	@Nested
+	@DisplayName("순위 조회")
+	class FindTopAuctionsTest {
+
+		@Test
+		@DisplayName("인기 순위의 경매 id 순서대로 경매 목록 반환")
+		void success_findTopAuctions_popular() {
+			// given
+			given(auctionRankingRedisService.findPopularAuctionIds(5)).willReturn(List.of(3L, 1L));
+			given(auctionDomainService.findAuctionsByIds(List.of(3L, 1L)))
+				.willReturn(List.of(createAuctionFindAllInfo(1L, 2L), createAuctionFindAllInfo(3L, 7L)));
+
+			// when
+			List<AuctionFindAllInfo> result = auctionRankingService.findTopAuctions(AuctionSortType.POPULAR);
+
+			// then
+			assertThat(result).extracting(AuctionFindAllInfo::auctionId).containsExactly(3L, 1L);
+			verify(auctionDomainService, never()).findAuctionsBySortType(any());
+		}
+
+		@Test
+		@DisplayName("순위 사이에 삭제된 경매는 제외")
+		void success_findTopAuctions_skipDeleted() {
+			// given
+			given(auctionRankingRedisService.findClosingAuctionIds(anyLong(), eq(5))).willReturn(List.of(2L, 4L));
+			given(auctionDomainService.findAuctionsByIds(List.of(2L, 4L)))
+				.willReturn(List.of(createAuctionFindAllInfo(4L, 0L)));
+
+			// when
+			List<AuctionFindAllInfo> result = auctionRankingService.findTopAuctions(AuctionSortType.CLOSING);
+
+			// then
+			assertThat(result).extracting(AuctionFindAllInfo::auctionId).containsExactly(4L);
+		}
+
+		@Test
+		@DisplayName("순위가 비어 있으면 DB 정렬 조회로 대체")
+		void success_findTopAuctions_fallback() {
+			// given
+			List<AuctionFindAllInfo> auctions = List.of(createAuctionFindAllInfo(1L, 0L));
+			given(auctionRankingRedisService.findClosingAuctionIds(anyLong(), eq(5))).willReturn(List.of());
+			given(auctionDomainService.findAuctionsBySortType(AuctionSortType.CLOSING)).willReturn(auctions);
+
+			// when
+			List<AuctionFindAllInfo> result = auctionRankingService.findTopAuctions(AuctionSortType.CLOSING);
+
+			// then
+			assertThat(result).isEqualTo(auctions);
+			verify(auctionDomainService, never()).findAuctionsByIds(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("순위 재구성")
+	class RebuildTest {
+
+		@Test
+		@DisplayName("진행 중 경매를 페이지 단위로 모아 두 순위를 교체")
+		void success_rebuild() {
+			// given
+			LocalDateTime endTime = LocalDateTime.now().plusHours(1);
+			long endEpochMilli = endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+			given(auctionRankingRedisService.tryLockRebuild(any())).willReturn(true);
+			given(auctionDomainService.findOpenAuctionRankings(isNull(), any(), eq(2))).willReturn(List.of(
+				new AuctionRankingInfo(1L, endTime, 3L),
+				new AuctionRankingInfo(2L, endTime, 0L)));
+			given(auctionDomainService.findOpenAuctionRankings(eq(2L), any(), eq(2))).willReturn(List.of(
+				new AuctionRankingInfo(5L, endTime, 1L)));
+
+			// when
+			auctionRankingService.rebuild();
+
+			// then
+			verify(auctionRankingRedisService).replaceAll(
+				Map.of(1L, endEpochMilli, 2L, endEpochMilli, 5L, endEpochMilli),
+				Map.of(1L, 3L, 2L, 0L, 5L, 1L));
+		}
+
+		@Test
+		@DisplayName("다른 노드가 재구성 중이면 생략")
+		void success_rebuild_locked() {
+			// given
+			given(auctionRankingRedisService.tryLockRebuild(any())).willReturn(false);
+
+			// when
+			auctionRankingService.rebuild();
+
+			// then
+			verify(auctionDomainService, never()).findOpenAuctionRankings(any(), any(), anyInt());
+			verify(auctionRankingRedisService, never()).replaceAll(any(), any());
+		}
+	}
+
+	private AuctionFindAllInfo createAuctionFindAllInfo(Long auctionId, Long bidCount) {
+		return new AuctionFindAllInfo(auctionId, 10000L, 20000L, false, LocalDateTime.now().plusHours(1),
+			LocalDateTime.now(), auctionId * 10, "상품" + auctionId, null, bidCount);
+	}
+}
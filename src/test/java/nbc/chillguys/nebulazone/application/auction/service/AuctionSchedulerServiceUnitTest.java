@@ -7,21 +7,20 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionEndScheduleInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
@@ -42,7 +41,10 @@ class AuctionSchedulerServiceUnitTest {
 	AuctionDomainService auctionDomainService;
 
 	@Mock
-	ScheduledExecutorService scheduler;
+	AuctionEndQueue auctionEndQueue;
+
+	@Mock
+	AuctionSettlementExecutor auctionSettlementExecutor;
 
 	@InjectMocks
 	AuctionSchedulerService auctionSchedulerService;
@@ -57,17 +59,15 @@ class AuctionSchedulerServiceUnitTest {
 	private User seller;
 	private Catalog catalog;
 	private Product product;
-	private Map<Long, ScheduledFuture<?>> tasks;
 
 	@BeforeEach
 	void setUp() {
 		seller = createUser(1L, SELLER_EMAIL, SELLER_NICKNAME);
 		catalog = createCatalog(1L, CATALOG);
 		product = createProduct(1L, PRODUCT_NAME, seller, catalog);
-		tasks = new ConcurrentHashMap<>();
 
-		ReflectionTestUtils.setField(auctionSchedulerService, "scheduler", scheduler);
-		ReflectionTestUtils.setField(auctionSchedulerService, "tasks", tasks);
+		ReflectionTestUtils.setField(auctionSchedulerService, "recoveryPageSize", 2);
+		ReflectionTestUtils.setField(auctionSchedulerService, "batchSize", 2);
 	}
 
 	@Nested
@@ -82,16 +82,11 @@ class AuctionSchedulerServiceUnitTest {
 			Auction auction = createAuction(1L, product, endTime, false, false);
 			Long productId = product.getId();
 
-			// doReturn-when 패턴으로 제네릭 타입 문제 해결
-			ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-			doReturn(mockFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
-
 			// when
 			auctionSchedulerService.autoAuctionEndSchedule(auction, productId);
 
 			// then
-			assertThat(tasks).containsKey(auction.getId());
-			assertThat(tasks).hasSize(1);
+			verify(auctionEndQueue).add(eq(auction.getId()), eq(productId), anyLong());
 		}
 
 		@Test
@@ -108,7 +103,7 @@ class AuctionSchedulerServiceUnitTest {
 				.extracting("errorCode")
 				.isEqualTo(AuctionErrorCode.AUCTION_END_TIME_INVALID);
 
-			assertThat(tasks).isEmpty();
+			verify(auctionEndQueue, never()).add(any(), any(), anyLong());
 		}
 	}
 
@@ -121,60 +116,175 @@ class AuctionSchedulerServiceUnitTest {
 		void success_cancelSchedule() {
 			// given
 			Long auctionId = 1L;
-			ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-			tasks.put(auctionId, mockFuture);
 
 			// when
 			auctionSchedulerService.cancelSchedule(auctionId);
 
 			// then
-			assertThat(tasks).doesNotContainKey(auctionId);
-			assertThat(tasks).isEmpty();
+			verify(auctionEndQueue).remove(auctionId);
 		}
+	}
+
+	@Nested
+	@DisplayName("스케줄 복구")
+	class RecoverSchedulesTest {
 
 		@Test
-		@DisplayName("스케줄 취소 - 존재하지 않는 스케줄")
-		void success_cancelSchedule_notExist() {
+		@DisplayName("스케줄 복구 성공 - 남은 경매는 페이지 단위로 등록, 지난 경매는 일괄 종료 대상에 추가")
+		void success_recoverFromDatabase() {
 			// given
-			Long auctionId = 999L;
+			LocalDateTime now = LocalDateTime.now();
+			LocalDateTime futureTime = now.plusDays(1);
+			AuctionEndScheduleInfo first = new AuctionEndScheduleInfo(1L, 11L, futureTime);
+			AuctionEndScheduleInfo second = new AuctionEndScheduleInfo(2L, 12L, futureTime);
+			AuctionEndScheduleInfo third = new AuctionEndScheduleInfo(3L, 13L, futureTime);
+			AuctionEndScheduleInfo overdue = new AuctionEndScheduleInfo(4L, 14L, now.minusMinutes(5));
+
+			given(auctionDomainService.findUpcomingAuctionEndSchedules(null, now, 2))
+				.willReturn(List.of(first, second));
+			given(auctionDomainService.findUpcomingAuctionEndSchedules(2L, now, 2)).willReturn(List.of(third));
+			given(auctionDomainService.findOverdueAuctionEndSchedules(null, now, 2)).willReturn(List.of(overdue));
 
 			// when
-			auctionSchedulerService.cancelSchedule(auctionId);
+			auctionSchedulerService.recoverFromDatabase(now);
+			auctionSchedulerService.closePendingAuctions();
+
+			// then
+			verify(auctionEndQueue).add(eq(1L), eq(11L), anyLong());
+			verify(auctionEndQueue).add(eq(2L), eq(12L), anyLong());
+			verify(auctionEndQueue).add(eq(3L), eq(13L), anyLong());
+			verify(auctionEndQueue, never()).add(eq(4L), any(), anyLong());
+			verify(auctionSettlementExecutor).submitBatch(Map.of(4L, 14L));
+		}
+
+		@Test
+		@DisplayName("스케줄 복구 - 지난 경매가 여러 페이지여도 모두 일괄 종료 대상에 추가")
+		void success_recoverFromDatabase_overduePages() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			AuctionEndScheduleInfo first = new AuctionEndScheduleInfo(1L, 11L, now.minusMinutes(5));
+			AuctionEndScheduleInfo second = new AuctionEndScheduleInfo(2L, 12L, now.minusMinutes(1));
+
+			given(auctionDomainService.findUpcomingAuctionEndSchedules(null, now, 2)).willReturn(List.of());
+			given(auctionDomainService.findOverdueAuctionEndSchedules(null, now, 2))
+				.willReturn(List.of(first, second));
+			given(auctionDomainService.findOverdueAuctionEndSchedules(2L, now, 2)).willReturn(List.of());
+
+			// when
+			auctionSchedulerService.recoverFromDatabase(now);
+			auctionSchedulerService.closePendingAuctions();
+
+			// then
+			verify(auctionSettlementExecutor).submitBatch(Map.of(1L, 11L, 2L, 12L));
+			verify(auctionEndQueue, never()).add(any(), any(), anyLong());
+		}
+
+		@Test
+		@DisplayName("스케줄 복구 생략 - 대기열이 유지된 경우 DB를 조회하지 않음")
+		void success_recoverSchedules_queuePersisted() {
+			// given
+			given(auctionEndQueue.requiresRecovery()).willReturn(false);
+
+			// when
+			auctionSchedulerService.recoverSchedules();
 
 			// then
-			assertThat(tasks).isEmpty();
-			assertThat(tasks).doesNotContainKey(auctionId);
+			verify(auctionEndQueue).start(any());
+			verify(auctionDomainService, never()).findUpcomingAuctionEndSchedules(any(), any(), anyInt());
+			verify(auctionEndQueue, never()).add(any(), any(), anyLong());
 		}
+
+		@Test
+		@DisplayName("스케줄 복구 성공 - 복구가 끝나면 대기열에 완료를 알림")
+		void success_recover_complete() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			given(auctionDomainService.findUpcomingAuctionEndSchedules(null, now, 2)).willReturn(List.of());
+			given(auctionDomainService.findOverdueAuctionEndSchedules(null, now, 2)).willReturn(List.of());
+
+			// when
+			auctionSchedulerService.recover(now);
+
+			// then
+			verify(auctionEndQueue).completeRecovery();
+			verify(auctionEndQueue, never()).failRecovery();
+		}
+
+		@Test
+		@DisplayName("스케줄 복구 실패 - 완료 표시 없이 대기열에 실패를 알려 다시 복구하게 함")
+		void fail_recover() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			given(auctionDomainService.findUpcomingAuctionEndSchedules(null, now, 2))
+				.willThrow(new IllegalStateException("DB 조회 실패"));
+
+			// when
+			auctionSchedulerService.recover(now);
+
+			// then
+			verify(auctionEndQueue).failRecovery();
+			verify(auctionEndQueue, never()).completeRecovery();
+		}
+
+		@Test
+		@DisplayName("복구 재확인 - 복구가 끝났으면 lease를 잡지 않음")
+		void success_retryRecovery_alreadyRecovered() {
+			// given
+			given(auctionEndQueue.isRecoveryPending()).willReturn(false);
+
+			// when
+			auctionSchedulerService.retryRecovery();
+
+			// then
+			verify(auctionEndQueue, never()).requiresRecovery();
+		}
+
 	}
 
 	@Nested
-	@DisplayName("스케줄 복구")
-	class RecoverSchedulesTest {
+	@DisplayName("만료된 경매 일괄 종료")
+	class ClosePendingAuctionsTest {
 
 		@Test
-		@DisplayName("스케줄 복구 성공")
-		void success_recoverSchedules() {
+		@DisplayName("만료된 경매를 배치 크기만큼 묶어 정산 실행기에 일괄 종료 요청")
+		@SuppressWarnings("unchecked")
+		void success_closePendingAuctions() {
 			// given
-			LocalDateTime futureTime = LocalDateTime.now().plusDays(1);
-			Auction activeAuction = createAuction(1L, product, futureTime, false, false);
-			Auction wonAuction = createAuction(2L, product, futureTime, false, true);
+			BiConsumer<Long, Long> expiredHandler = startQueue();
+			expiredHandler.accept(1L, 11L);
+			expiredHandler.accept(2L, 12L);
+			expiredHandler.accept(3L, 13L);
 
-			List<Auction> auctionList = List.of(activeAuction, wonAuction);
-
-			ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
+			// when
+			auctionSchedulerService.closePendingAuctions();
 
-			given(auctionDomainService.findActiveAuctionsWithProductAndSeller()).willReturn(auctionList);
-			doReturn(mockFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+			// then
+			ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+			verify(auctionSettlementExecutor, times(2)).submitBatch(captor.capture());
+			assertThat(captor.getAllValues()).extracting(Map::size).containsExactlyInAnyOrder(2, 1);
+			assertThat(captor.getAllValues().stream().flatMap(batch -> batch.keySet().stream()))
+				.containsExactlyInAnyOrder(1L, 2L, 3L);
+		}
 
+		@Test
+		@DisplayName("만료된 경매가 없으면 정산 요청하지 않음")
+		void success_closePendingAuctions_empty() {
 			// when
-			auctionSchedulerService.recoverSchedules();
+			auctionSchedulerService.closePendingAuctions();
 
 			// then
-			assertThat(tasks).hasSize(1);
-			assertThat(tasks).containsKey(activeAuction.getId());
-			assertThat(tasks).doesNotContainKey(wonAuction.getId());
+			verifyNoInteractions(auctionSettlementExecutor);
 		}
 
+		@SuppressWarnings("unchecked")
+		private BiConsumer<Long, Long> startQueue() {
+			given(auctionEndQueue.requiresRecovery()).willReturn(false);
+			auctionSchedulerService.recoverSchedules();
+
+			ArgumentCaptor<BiConsumer<Long, Long>> captor = ArgumentCaptor.forClass(BiConsumer.class);
+			verify(auctionEndQueue).start(captor.capture());
+			return captor.getValue();
+		}
 	}
 
 	// 팩토리 메서드들 - 적당한 추상화 유지
@@ -5,7 +5,9 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,12 +27,15 @@ import nbc.chillguys.nebulazone.application.auction.dto.response.DeleteAuctionRe
 import nbc.chillguys.nebulazone.application.auction.dto.response.FindAllAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.dto.response.FindDetailAuctionResponse;
 import nbc.chillguys.nebulazone.application.auction.dto.response.ManualEndAuctionResponse;
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.ManualEndAuctionInfo;
 import nbc.chillguys.nebulazone.domain.auction.entity.AuctionSortType;
 import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.dto.TopBidInfo;
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
@@ -46,6 +51,7 @@ import nbc.chillguys.nebulazone.domain.transaction.service.TransactionDomainServ
 import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
 @DisplayName("경매 서비스 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -58,7 +64,7 @@ class AuctionServiceUnitTest {
 	BidDomainService bidDomainService;
 
 	@Mock
-	AuctionSchedulerService auctionSchedulerService;
+	AuctionDeletionService auctionDeletionService;
 
 	@Mock
 	ProductDomainService productDomainService;
@@ -66,6 +72,24 @@ class AuctionServiceUnitTest {
 	@Mock
 	TransactionDomainService txDomainService;
 
+	@Mock
+	UserDomainService userDomainService;
+
+	@Mock
+	BidEngine bidEngine;
+
+	@Mock
+	AuctionRankingService auctionRankingService;
+
+	@Mock
+	AuctionDetailCacheService auctionDetailCacheService;
+
+	@Mock
+	EscrowService escrowService;
+
+	@Mock
+	AuctionStreamService auctionStreamService;
+
 	@InjectMocks
 	AuctionService auctionService;
 
@@ -130,7 +154,7 @@ class AuctionServiceUnitTest {
 			AuctionSortType sortType = AuctionSortType.POPULAR;
 			List<AuctionFindAllInfo> auctionInfoList = createAuctionFindAllInfoList();
 
-			given(auctionDomainService.findAuctionsBySortType(sortType)).willReturn(auctionInfoList);
+			given(auctionRankingService.findTopAuctions(sortType)).willReturn(auctionInfoList);
 
 			// when
 			List<FindAllAuctionResponse> result = auctionService.findAuctionsBySortType(sortType);
@@ -150,7 +174,7 @@ class AuctionServiceUnitTest {
 			AuctionSortType sortType = AuctionSortType.CLOSING;
 			List<AuctionFindAllInfo> auctionInfoList = createAuctionFindAllInfoList();
 
-			given(auctionDomainService.findAuctionsBySortType(sortType)).willReturn(auctionInfoList);
+			given(auctionRankingService.findTopAuctions(sortType)).willReturn(auctionInfoList);
 
 			// when
 			List<FindAllAuctionResponse> result = auctionService.findAuctionsBySortType(sortType);
@@ -175,7 +199,6 @@ class AuctionServiceUnitTest {
 			Long auctionId = 1L;
 
 			given(auctionDomainService.deleteAuction(auctionId, seller)).willReturn(auctionId);
-			willDoNothing().given(auctionSchedulerService).cancelSchedule(auctionId);
 
 			// when
 			DeleteAuctionResponse result = auctionService.deleteAuction(auctionId, seller);
@@ -183,7 +206,7 @@ class AuctionServiceUnitTest {
 			// then
 			assertThat(result.auctionId()).isEqualTo(auctionId);
 			verify(auctionDomainService).deleteAuction(auctionId, seller);
-			verify(auctionSchedulerService).cancelSchedule(auctionId);
+			verify(auctionDeletionService).closeDeletedAuction(auctionId);
 		}
 	}
 
@@ -216,6 +239,14 @@ class AuctionServiceUnitTest {
 			assertThat(result.bidId()).isEqualTo(bidId);
 			assertThat(result.wonProductPrice()).isEqualTo(CURRENT_PRICE);
 			assertThat(result.wonProductName()).isEqualTo(PRODUCT_NAME);
+
+			verify(escrowService).settle(List.of(auctionId), Map.of(auctionId, bidder.getId()));
+			verify(userDomainService).deductPoint(bidder.getId(), CURRENT_PRICE);
+			verify(userDomainService).depositPoint(seller.getId(), CURRENT_PRICE);
+			assertThat(seller.getPoint()).isZero();
+			verify(bidDomainService).markLosingBids(List.of(auctionId), List.of(bidId));
+			verify(txDomainService).createTransactions(argThat(commands -> commands.size() == 2));
+			verify(auctionStreamService).publishClosed(auctionId);
 		}
 
 		@Test
@@ -273,6 +304,8 @@ class AuctionServiceUnitTest {
 
 			given(bidDomainService.findHighBidByAuction(auctionId)).willReturn(highestBid);
 			given(auctionDomainService.findAuction(auctionId)).willReturn(detailInfo);
+			given(auctionDetailCacheService.getOrLoad(eq(auctionId), any()))
+				.willAnswer(invocation -> invocation.<Supplier<AuctionFindDetailInfo>>getArgument(1).get());
 
 			// when
 			FindDetailAuctionResponse result = auctionService.findAuction(auctionId);
@@ -286,6 +319,25 @@ class AuctionServiceUnitTest {
 			assertThat(result.bidUserId()).isEqualTo(bidder.getId());
 			assertThat(result.bidUserNickname()).isEqualTo(BIDDER_NICKNAME);
 		}
+
+		@Test
+		@DisplayName("캐시에 있으면 최고가 입찰도 캐시 항목에서 응답")
+		void success_findAuction_cached() {
+			// given
+			Long auctionId = 1L;
+			AuctionFindDetailInfo cached = createAuctionFindDetailInfo(auctionId)
+				.withTopBid(TopBidInfo.from(createBid(100L, bidder, CURRENT_PRICE)));
+
+			given(auctionDetailCacheService.getOrLoad(eq(auctionId), any())).willReturn(cached);
+
+			// when
+			FindDetailAuctionResponse result = auctionService.findAuction(auctionId);
+
+			// then
+			assertThat(result.bidId()).isEqualTo(100L);
+			assertThat(result.bidUserNickname()).isEqualTo(BIDDER_NICKNAME);
+			verify(bidDomainService, never()).findHighBidByAuction(auctionId);
+		}
 	}
 
 	private User createUser(Long id, String email, String nickname) {
@@ -0,0 +1,258 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.exception.UserException;
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionEndEntry;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionSettlementRedisService;
+
+@DisplayName("경매 정산 실행기 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuctionSettlementExecutorUnitTest {
+
+	private static final Long AUCTION_ID = 1L;
+	private static final Long PRODUCT_ID = 11L;
+
+	@Mock
+	AutoAuctionService autoAuctionService;
+
+	@Mock
+	AuctionEndQueue auctionEndQueue;
+
+	@Mock
+	AuctionSettlementRedisService auctionSettlementRedisService;
+
+	@Mock
+	AuctionStreamService auctionStreamService;
+
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	SimpleMeterRegistry meterRegistry;
+
+	AuctionSettlementExecutor auctionSettlementExecutor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		auctionSettlementExecutor = new AuctionSettlementExecutor(autoAuctionService, auctionEndQueue,
+			auctionSettlementRedisService, auctionStreamService, transactionManager, meterRegistry);
+		ReflectionTestUtils.setField(auctionSettlementExecutor, "dbPermitCount", 2);
+		ReflectionTestUtils.setField(auctionSettlementExecutor, "timeoutSeconds", 5);
+		ReflectionTestUtils.setField(auctionSettlementExecutor, "maxPending", 100);
+		ReflectionTestUtils.setField(auctionSettlementExecutor, "maxAttempts", 3);
+		ReflectionTestUtils.setField(auctionSettlementExecutor, "retryBackoffSeconds", 10L);
+		ReflectionTestUtils.setField(auctionSettlementExecutor, "retryClaimBatchSize", 10);
+		auctionSettlementExecutor.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		auctionSettlementExecutor.shutdown();
+	}
+
+	@Nested
+	@DisplayName("경매 정산")
+	class SubmitTest {
+
+		@Test
+		@DisplayName("정산 성공 시 종료 대기열에서 완료 처리")
+		void success_submit() {
+			// when
+			auctionSettlementExecutor.submit(AUCTION_ID, PRODUCT_ID);
+
+			// then
+			verify(autoAuctionService, timeout(1000)).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+			verify(auctionEndQueue, timeout(1000)).complete(AUCTION_ID);
+			verify(auctionStreamService, timeout(1000)).publishClosed(AUCTION_ID);
+			verifyNoInteractions(auctionSettlementRedisService);
+		}
+
+		@Test
+		@DisplayName("비즈니스 예외는 재시도하지 않고 에러 코드와 함께 dead letter로 이동")
+		void fail_submit_businessException() {
+			// given
+			willThrow(new UserException(UserErrorCode.INSUFFICIENT_BALANCE))
+				.given(autoAuctionService).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+
+			// when
+			auctionSettlementExecutor.submit(AUCTION_ID, PRODUCT_ID);
+
+			// then
+			verify(auctionSettlementRedisService, timeout(1000))
+				.deadLetter(eq(AUCTION_ID), eq(PRODUCT_ID), startsWith("INSUFFICIENT_BALANCE"));
+			verify(auctionEndQueue, timeout(1000)).complete(AUCTION_ID);
+			verify(auctionSettlementRedisService, never()).scheduleRetry(any(), any(), anyLong());
+			verify(auctionStreamService, never()).publishClosed(any());
+		}
+
+		@Test
+		@DisplayName("정산 실패 시 재시도 대기열에 등록하고 실패 건수 기록")
+		void fail_submit_retry() {
+			// given
+			willThrow(new RuntimeException("deadlock"))
+				.given(autoAuctionService).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+			given(auctionSettlementRedisService.incrementAttempts(AUCTION_ID)).willReturn(1L);
+
+			// when
+			auctionSettlementExecutor.submit(AUCTION_ID, PRODUCT_ID);
+
+			// then
+			verify(auctionSettlementRedisService, timeout(1000))
+				.scheduleRetry(eq(AUCTION_ID), eq(PRODUCT_ID), anyLong());
+			verify(auctionEndQueue, timeout(1000)).complete(AUCTION_ID);
+			assertThat(meterRegistry.get("auction.settlement.failure").tag("reason", "error").counter().count())
+				.isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("입찰 DB 반영 대기 시간 초과 시 트랜잭션을 열지 않고 재시도 대기열에 등록")
+		void fail_submit_awaitPersistedTimeout() {
+			// given
+			willThrow(new IllegalStateException("timeout"))
+				.given(autoAuctionService).closeAndAwaitPersisted(List.of(AUCTION_ID));
+			given(auctionSettlementRedisService.incrementAttempts(AUCTION_ID)).willReturn(1L);
+
+			// when
+			auctionSettlementExecutor.submit(AUCTION_ID, PRODUCT_ID);
+
+			// then
+			verify(auctionSettlementRedisService, timeout(1000))
+				.scheduleRetry(eq(AUCTION_ID), eq(PRODUCT_ID), anyLong());
+			verify(autoAuctionService, never()).autoEndAuctionAndCreateTransaction(any(), any());
+			verifyNoInteractions(transactionManager);
+		}
+
+		@Test
+		@DisplayName("재시도 횟수를 넘기면 dead letter로 이동")
+		void fail_submit_deadLetter() {
+			// given
+			willThrow(new RuntimeException("deadlock"))
+				.given(autoAuctionService).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+			given(auctionSettlementRedisService.incrementAttempts(AUCTION_ID)).willReturn(3L);
+
+			// when
+			auctionSettlementExecutor.submit(AUCTION_ID, PRODUCT_ID);
+
+			// then
+			verify(auctionSettlementRedisService, timeout(1000)).deadLetter(AUCTION_ID, PRODUCT_ID, "deadlock");
+			verify(auctionSettlementRedisService, never()).scheduleRetry(any(), any(), anyLong());
+		}
+	}
+
+	@Nested
+	@DisplayName("경매 일괄 정산")
+	class SubmitBatchTest {
+
+		@Test
+		@DisplayName("일괄 정산 성공 시 모든 경매를 완료 처리")
+		void success_submitBatch() {
+			// when
+			auctionSettlementExecutor.submitBatch(Map.of(1L, 11L, 2L, 12L));
+
+			// then
+			verify(autoAuctionService, timeout(1000)).autoEndAuctionsAndCreateTransactions(anyList());
+			verify(auctionEndQueue, timeout(1000)).complete(1L);
+			verify(auctionEndQueue, timeout(1000)).complete(2L);
+			verify(autoAuctionService, never()).autoEndAuctionAndCreateTransaction(any(), any());
+		}
+
+		@Test
+		@DisplayName("일괄 정산 실패 시 경매별 정산으로 전환")
+		void success_submitBatch_fallback() {
+			// given
+			willThrow(new RuntimeException("batch failed"))
+				.given(autoAuctionService).autoEndAuctionsAndCreateTransactions(List.of(AUCTION_ID));
+
+			// when
+			auctionSettlementExecutor.submitBatch(Map.of(AUCTION_ID, PRODUCT_ID));
+
+			// then
+			verify(autoAuctionService, timeout(1000)).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+			verify(auctionEndQueue, timeout(1000)).complete(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("이미 처리 중인 경매는 일괄 정산에서 제외")
+		void success_submitBatch_skipInFlight() throws InterruptedException {
+			// given
+			CountDownLatch release = new CountDownLatch(1);
+			willAnswer(invocation -> {
+				if (invocation.<List<Long>>getArgument(0).contains(AUCTION_ID)) {
+					release.await();
+				}
+				return null;
+			}).given(autoAuctionService).closeAndAwaitPersisted(anyList());
+
+			auctionSettlementExecutor.submit(AUCTION_ID, PRODUCT_ID);
+			verify(autoAuctionService, timeout(1000)).closeAndAwaitPersisted(List.of(AUCTION_ID));
+
+			// when
+			auctionSettlementExecutor.submitBatch(Map.of(AUCTION_ID, PRODUCT_ID, 2L, 12L));
+
+			// then
+			verify(autoAuctionService, timeout(1000)).autoEndAuctionsAndCreateTransactions(List.of(2L));
+			release.countDown();
+			verify(autoAuctionService, timeout(1000)).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+			verify(autoAuctionService, never()).autoEndAuctionsAndCreateTransactions(List.of(AUCTION_ID, 2L));
+		}
+
+		@Test
+		@DisplayName("대기 중인 정산 수를 넘기면 경매별로 재시도 대기열에 등록")
+		void fail_submitBatch_overflow() {
+			// given
+			ReflectionTestUtils.setField(auctionSettlementExecutor, "maxPending", 1);
+			given(auctionSettlementRedisService.incrementAttempts(anyLong())).willReturn(1L);
+
+			// when
+			auctionSettlementExecutor.submitBatch(Map.of(1L, 11L, 2L, 12L));
+
+			// then
+			verify(auctionSettlementRedisService).scheduleRetry(eq(1L), eq(11L), anyLong());
+			verify(auctionSettlementRedisService).scheduleRetry(eq(2L), eq(12L), anyLong());
+			verify(auctionEndQueue).complete(1L);
+			verify(auctionEndQueue).complete(2L);
+			verifyNoInteractions(autoAuctionService);
+			assertThat(meterRegistry.get("auction.settlement.failure").tag("reason", "overflow").counter().count())
+				.isEqualTo(2.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("정산 재시도")
+	class PollRetriesTest {
+
+		@Test
+		@DisplayName("재시도 시각이 지난 정산을 실행하고 성공하면 재시도 정보 제거")
+		void success_pollRetries() {
+			// given
+			given(auctionSettlementRedisService.claimDue(anyLong(), anyLong(), eq(10)))
+				.willReturn(List.of(new AuctionEndEntry(AUCTION_ID, PRODUCT_ID)));
+
+			// when
+			auctionSettlementExecutor.pollRetries();
+
+			// then
+			verify(autoAuctionService, timeout(1000)).autoEndAuctionAndCreateTransaction(AUCTION_ID, PRODUCT_ID);
+			verify(auctionSettlementRedisService, timeout(1000)).complete(AUCTION_ID);
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+
+@DisplayName("경매 SSE 스트림 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class AuctionStreamServiceUnitTest {
+
+	private static final Long AUCTION_ID = 1L;
+
+	@Mock
+	AuctionDomainService auctionDomainService;
+
+	@Mock
+	AuctionDetailCacheService auctionDetailCacheService;
+
+	@Mock
+	RedisMessagePublisher redisMessagePublisher;
+
+	SimpleMeterRegistry meterRegistry;
+
+	AuctionStreamService auctionStreamService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		auctionStreamService = new AuctionStreamService(auctionDomainService, auctionDetailCacheService,
+			redisMessagePublisher, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+		ReflectionTestUtils.setField(auctionStreamService, "timeoutMs", 60_000L);
+		ReflectionTestUtils.setField(auctionStreamService, "maxConnections", 2);
+		auctionStreamService.init();
+	}
+
+	@Nested
+	@DisplayName("경매 스트림 연결")
+	class SubscribeTest {
+
+		@Test
+		@DisplayName("같은 경매의 연결은 상태 하나를 공유하여 초기 상태를 한 번만 조회")
+		void success_subscribe() {
+			// given
+			given(auctionDetailCacheService.getOrLoad(eq(AUCTION_ID), any()))
+				.willReturn(createDetail(false, LocalDateTime.now().plusMinutes(1)));
+
+			// when
+			auctionStreamService.subscribe(AUCTION_ID);
+			auctionStreamService.subscribe(AUCTION_ID);
+
+			// then
+			verify(auctionDetailCacheService, times(1)).getOrLoad(eq(AUCTION_ID), any());
+			assertThat(meterRegistry.get("auction.stream.connections").gauge().value()).isEqualTo(2.0);
+			assertThat(meterRegistry.get("auction.stream.auctions").gauge().value()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("이미 낙찰된 경매는 연결을 유지하지 않음")
+		void success_subscribe_closed() {
+			// given
+			given(auctionDetailCacheService.getOrLoad(eq(AUCTION_ID), any()))
+				.willReturn(createDetail(true, LocalDateTime.now().plusMinutes(1)));
+
+			// when
+			auctionStreamService.subscribe(AUCTION_ID);
+
+			// then
+			assertThat(meterRegistry.get("auction.stream.connections").gauge().value()).isZero();
+			assertThat(meterRegistry.get("auction.stream.auctions").gauge().value()).isZero();
+		}
+
+		@Test
+		@DisplayName("노드의 연결 수 제한을 넘으면 거부")
+		void fail_subscribe_limitExceeded() {
+			// given
+			given(auctionDetailCacheService.getOrLoad(eq(AUCTION_ID), any()))
+				.willReturn(createDetail(false, LocalDateTime.now().plusMinutes(1)));
+			auctionStreamService.subscribe(AUCTION_ID);
+			auctionStreamService.subscribe(AUCTION_ID);
+
+			// when & then
+			assertThatThrownBy(() -> auctionStreamService.subscribe(AUCTION_ID))
+				.isInstanceOf(AuctionException.class)
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.AUCTION_STREAM_LIMIT_EXCEEDED);
+
+			assertThat(meterRegistry.get("auction.stream.connections").gauge().value()).isEqualTo(2.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("경매 스트림 갱신과 종료")
+	class UpdateTest {
+
+		@Test
+		@DisplayName("연결이 없는 경매의 실시간 정보는 무시")
+		void success_applyLiveInfo_noStream() {
+			// when
+			auctionStreamService.applyLiveInfo(new AuctionLiveInfo(AUCTION_ID, 2000L, 3L, LocalDateTime.now()));
+			auctionStreamService.pushUpdated();
+
+			// then
+			assertThat(meterRegistry.get("auction.stream.auctions").gauge().value()).isZero();
+		}
+
+		@Test
+		@DisplayName("경매 종료 시 모든 연결을 닫고 상태 제거")
+		void success_close() {
+			// given
+			given(auctionDetailCacheService.getOrLoad(eq(AUCTION_ID), any()))
+				.willReturn(createDetail(false, LocalDateTime.now().plusMinutes(1)));
+			auctionStreamService.subscribe(AUCTION_ID);
+			auctionStreamService.subscribe(AUCTION_ID);
+
+			// when
+			auctionStreamService.close(AUCTION_ID);
+
+			// then
+			assertThat(meterRegistry.get("auction.stream.connections").gauge().value()).isZero();
+			assertThat(meterRegistry.get("auction.stream.auctions").gauge().value()).isZero();
+		}
+
+		@Test
+		@DisplayName("경매 종료는 Redis 채널로 모든 노드에 알림")
+		void success_publishClosed() {
+			// when
+			auctionStreamService.publishClosed(AUCTION_ID);
+
+			// then
+			verify(redisMessagePublisher).publishAuctionClosed(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("트랜잭션 안에서 호출하면 커밋 후 경매 종료 발행")
+		void success_publishClosed_afterCommit() {
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				auctionStreamService.publishClosed(AUCTION_ID);
+
+				// then
+				verify(redisMessagePublisher, never()).publishAuctionClosed(AUCTION_ID);
+
+				TransactionSynchronizationManager.getSynchronizations()
+					.forEach(TransactionSynchronization::afterCommit);
+
+				verify(redisMessagePublisher).publishAuctionClosed(AUCTION_ID);
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		}
+	}
+
+	private AuctionFindDetailInfo createDetail(boolean isWon, LocalDateTime endTime) {
+		return new AuctionFindDetailInfo(AUCTION_ID, 10L, "판매자", "seller@test.com", 1000L, 1500L, isWon,
+			endTime, 20L, "테스트 상품", null, LocalDateTime.now().minusDays(1), 3L);
+	}
+}
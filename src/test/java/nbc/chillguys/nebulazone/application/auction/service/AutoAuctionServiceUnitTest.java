@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,17 +13,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import nbc.chillguys.nebulazone.application.bid.service.BidEngine;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
 import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
 import nbc.chillguys.nebulazone.domain.auction.service.AutoAuctionDomainService;
 import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
 import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
 import nbc.chillguys.nebulazone.domain.catalog.entity.Catalog;
 import nbc.chillguys.nebulazone.domain.catalog.entity.CatalogType;
@@ -31,9 +37,11 @@ import nbc.chillguys.nebulazone.domain.product.exception.ProductErrorCode;
 import nbc.chillguys.nebulazone.domain.product.exception.ProductException;
 import nbc.chillguys.nebulazone.domain.product.service.ProductDomainService;
 import nbc.chillguys.nebulazone.domain.transaction.service.TransactionDomainService;
+import nbc.chillguys.nebulazone.domain.transaction.entity.UserType;
 import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
 import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
 @DisplayName("자동 경매 서비스 단위 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +62,21 @@ class AutoAuctionServiceUnitTest {
 	@Mock
 	BidDomainService bidDomainService;
 
+	@Mock
+	UserDomainService userDomainService;
+
+	@Mock
+	BidEngine bidEngine;
+
+	@Mock
+	AuctionRankingService auctionRankingService;
+
+	@Mock
+	AuctionDetailCacheService auctionDetailCacheService;
+
+	@Mock
+	EscrowService escrowService;
+
 	@InjectMocks
 	AutoAuctionService autoAuctionService;
 
@@ -110,11 +133,22 @@ class AutoAuctionServiceUnitTest {
 			verify(bidDomainService).findHighBidByAuction(auctionId);
 			verify(autoAuctionDomainService).endAutoAuction(auctionId, wonBid);
 
-			verify(txDomainService).createTransaction(argThat(
-				cmd -> cmd.user().equals(wonBid.getUser())
-					&& cmd.product().equals(product)
+			verify(escrowService).settle(List.of(auctionId), Map.of(auctionId, bidder.getId()));
+			verify(userDomainService).deductPoint(bidder.getId(), wonBid.getPrice());
+			verify(userDomainService).depositPoint(seller.getId(), wonBid.getPrice());
+			assertThat(seller.getPoint()).isZero();
+			verify(bidDomainService).markLosingBids(List.of(auctionId), List.of(wonBid.getId()));
+			verify(bidDomainService, never()).findBidsByAuctionIdAndStatusBid(any());
+
+			verify(txDomainService).createTransactions(argThat(
+				commands -> commands.size() == 2
+					&& commands.get(0).user().equals(wonBid.getUser())
+					&& commands.get(0).userType() == UserType.BUYER
+					&& commands.get(1).user().equals(product.getSeller())
+					&& commands.get(1).userType() == UserType.SELLER
+					&& commands.stream().allMatch(cmd -> cmd.product().equals(product)
 					&& cmd.txMethod().equals(product.getTxMethod().name())
-					&& cmd.price().equals(wonBid.getPrice())));
+					&& cmd.price().equals(wonBid.getPrice()))));
 		}
 
 		@Test
@@ -133,7 +167,29 @@ class AutoAuctionServiceUnitTest {
 
 			// then
 			verify(autoAuctionDomainService).endAutoAuction(auctionId, null);
-			verify(txDomainService, never()).createTransaction(any());
+			verify(escrowService, never()).settle(any(), any());
+			verify(txDomainService, never()).createTransactions(any());
+		}
+
+		@Test
+		@DisplayName("자동 경매 종료 - 이미 낙찰된 경매는 다시 처리하지 않음")
+		void success_autoEndAuctionAndCreateTransaction_alreadyWon() {
+			// given
+			Auction wonAuction = createAuction(1L, product, START_PRICE, CURRENT_PRICE,
+				LocalDateTime.now().minusMinutes(1), false, true);
+			Long auctionId = wonAuction.getId();
+			Long productId = product.getId();
+
+			given(auctionDomainService.findActiveAuctionById(auctionId)).willReturn(wonAuction);
+			given(productDomainService.findActiveProductById(productId)).willReturn(product);
+
+			// when
+			autoAuctionService.autoEndAuctionAndCreateTransaction(auctionId, productId);
+
+			// then
+			verify(product, never()).purchase();
+			verify(autoAuctionDomainService, never()).endAutoAuction(any(), any());
+			verify(txDomainService, never()).createTransactions(any());
 		}
 
 		@Test
@@ -170,6 +226,94 @@ class AutoAuctionServiceUnitTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("경매 일괄 종료 및 거래 생성")
+	class AutoEndAuctionsAndCreateTransactionsTest {
+
+		@Test
+		@DisplayName("경매 일괄 종료 성공 - 낙찰, 유찰 경매를 한 번에 처리")
+		void success_autoEndAuctionsAndCreateTransactions() {
+			// given
+			Product otherProduct = createProduct(2L, PRODUCT_NAME, PRODUCT_DESCRIPTION, START_PRICE, seller, catalog);
+			Auction noBidAuction = createAuction(2L, otherProduct, START_PRICE, null, LocalDateTime.now(), false,
+				false);
+			List<Long> auctionIds = List.of(auction.getId(), noBidAuction.getId(), 3L);
+
+			given(auctionDomainService.findEndableAuctionsWithProductAndSeller(auctionIds))
+				.willReturn(List.of(auction, noBidAuction));
+			given(bidDomainService.findHighBidsByAuctionIds(List.of(auction.getId(), noBidAuction.getId())))
+				.willReturn(Map.of(auction.getId(), wonBid));
+
+			// when
+			autoAuctionService.autoEndAuctionsAndCreateTransactions(auctionIds);
+
+			// then
+			assertThat(auction.isWon()).isTrue();
+			assertThat(noBidAuction.isWon()).isFalse();
+			assertThat(wonBid.getStatus()).isEqualTo(BidStatus.WON);
+			verify(product).purchase();
+			verify(otherProduct).purchase();
+
+			List<Long> endedAuctionIds = List.of(auction.getId(), noBidAuction.getId());
+			verify(userDomainService).deductPoint(bidder.getId(), wonBid.getPrice());
+			verify(userDomainService).depositPoint(seller.getId(), wonBid.getPrice());
+			verify(escrowService).settle(endedAuctionIds, Map.of(auction.getId(), bidder.getId()));
+			verify(bidDomainService).markLosingBids(endedAuctionIds, List.of(wonBid.getId()));
+			verify(txDomainService).createTransactions(argThat(commands -> commands.size() == 2));
+			verify(productDomainService).markProductsSoldInEs(List.of(product.getId(), otherProduct.getId()));
+			verify(productDomainService, never()).saveProductToEs(any());
+		}
+
+		@Test
+		@DisplayName("경매 일괄 종료 - 모두 이미 종료된 경매면 아무것도 하지 않음")
+		void success_autoEndAuctionsAndCreateTransactions_alreadyEnded() {
+			// given
+			List<Long> auctionIds = List.of(auction.getId());
+			given(auctionDomainService.findEndableAuctionsWithProductAndSeller(auctionIds)).willReturn(List.of());
+
+			// when
+			autoAuctionService.autoEndAuctionsAndCreateTransactions(auctionIds);
+
+			// then
+			verify(bidDomainService, never()).findHighBidsByAuctionIds(any());
+			verify(txDomainService, never()).createTransactions(any());
+			verify(productDomainService, never()).markProductsSoldInEs(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("정산 전 입찰 엔진 마감 및 DB 반영 대기")
+	class CloseAndAwaitPersistedTest {
+
+		@Test
+		@DisplayName("모든 경매를 먼저 마감한 뒤 DB 반영을 기다림")
+		void success_closeAndAwaitPersisted() {
+			// given
+			List<Long> auctionIds = List.of(1L, 2L);
+
+			// when
+			autoAuctionService.closeAndAwaitPersisted(auctionIds);
+
+			// then
+			InOrder inOrder = inOrder(bidEngine);
+			inOrder.verify(bidEngine).closeAuction(1L);
+			inOrder.verify(bidEngine).closeAuction(2L);
+			inOrder.verify(bidEngine).awaitPersisted(1L);
+			inOrder.verify(bidEngine).awaitPersisted(2L);
+		}
+
+		@Test
+		@DisplayName("DB 반영 대기 실패 시 예외 전파")
+		void fail_closeAndAwaitPersisted_timeout() {
+			// given
+			willThrow(new IllegalStateException("timeout")).given(bidEngine).awaitPersisted(1L);
+
+			// when & then
+			assertThatThrownBy(() -> autoAuctionService.closeAndAwaitPersisted(List.of(1L)))
+				.isInstanceOf(IllegalStateException.class);
+		}
+	}
+
 	// 팩토리 메서드들
 	private User createUser(Long id, String email, String nickname) {
 		User user = User.builder()
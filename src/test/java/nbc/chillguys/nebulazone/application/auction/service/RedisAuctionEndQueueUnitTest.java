@@ -0,0 +1,119 @@
+package nbc.chillguys.nebulazone.application.auction.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.infra.redis.dto.AuctionEndEntry;
+import nbc.chillguys.nebulazone.infra.redis.service.AuctionEndRedisService;
+
+@DisplayName("Redis 경매 종료 대기열 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class RedisAuctionEndQueueUnitTest {
+
+	@Mock
+	AuctionEndRedisService auctionEndRedisService;
+
+	@InjectMocks
+	RedisAuctionEndQueue redisAuctionEndQueue;
+
+	private final List<Long> expiredAuctionIds = new ArrayList<>();
+	private final BiConsumer<Long, Long> handler = (auctionId, productId) -> expiredAuctionIds.add(auctionId);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(redisAuctionEndQueue, "claimBatchSize", 2);
+		ReflectionTestUtils.setField(redisAuctionEndQueue, "visibilityTimeoutSeconds", 300L);
+		ReflectionTestUtils.setField(redisAuctionEndQueue, "recoveryLeaseSeconds", 600L);
+	}
+
+	@Nested
+	@DisplayName("종료 시각이 지난 경매 조회")
+	class PollDueAuctionsTest {
+
+		@Test
+		@DisplayName("가져간 경매를 handler로 넘기고, 배치가 가득 차면 이어서 가져감")
+		void success_pollDueAuctions() {
+			// given
+			redisAuctionEndQueue.start(handler);
+			given(auctionEndRedisService.claimDue(anyLong(), anyLong(), eq(2)))
+				.willReturn(List.of(new AuctionEndEntry(1L, 10L), new AuctionEndEntry(2L, 20L)))
+				.willReturn(List.of(new AuctionEndEntry(3L, 30L)));
+
+			// when
+			redisAuctionEndQueue.pollDueAuctions();
+
+			// then
+			assertThat(expiredAuctionIds).containsExactly(1L, 2L, 3L);
+			verify(auctionEndRedisService, times(2)).claimDue(anyLong(), anyLong(), eq(2));
+		}
+
+		@Test
+		@DisplayName("시작 전이거나 종료된 대기열은 조회하지 않음")
+		void success_pollDueAuctions_notStarted() {
+			// given
+			redisAuctionEndQueue.start(handler);
+			redisAuctionEndQueue.stop();
+
+			// when
+			redisAuctionEndQueue.pollDueAuctions();
+
+			// then
+			verify(auctionEndRedisService, never()).claimDue(anyLong(), anyLong(), anyInt());
+			assertThat(expiredAuctionIds).isEmpty();
+		}
+	}
+
+	@Nested
+	@DisplayName("복구 필요 여부")
+	class RequiresRecoveryTest {
+
+		@Test
+		@DisplayName("복구 lease를 잡은 노드만 복구 수행")
+		void success_requiresRecovery() {
+			// given
+			given(auctionEndRedisService.acquireRecoveryLease(Duration.ofSeconds(600))).willReturn(true, false);
+
+			// when & then
+			assertThat(redisAuctionEndQueue.requiresRecovery()).isTrue();
+			assertThat(redisAuctionEndQueue.requiresRecovery()).isFalse();
+		}
+
+		@Test
+		@DisplayName("복구가 끝나면 완료 표시, 실패하면 lease만 반납")
+		void success_completeAndFailRecovery() {
+			// when
+			redisAuctionEndQueue.failRecovery();
+			redisAuctionEndQueue.completeRecovery();
+
+			// then
+			verify(auctionEndRedisService, times(1)).releaseRecoveryLease();
+			verify(auctionEndRedisService, times(1)).markRecovered();
+		}
+
+		@Test
+		@DisplayName("완료 표시가 없으면 복구를 다시 확인해야 함")
+		void success_isRecoveryPending() {
+			// given
+			given(auctionEndRedisService.isRecovered()).willReturn(false, true);
+
+			// when & then
+			assertThat(redisAuctionEndQueue.isRecoveryPending()).isTrue();
+			assertThat(redisAuctionEndQueue.isRecoveryPending()).isFalse();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.infra.redis.service.BidArchiveRedisService;
+
+@DisplayName("입찰 내역 보관 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class BidArchiveServiceUnitTest {
+
+	@Mock
+	BidDomainService bidDomainService;
+
+	@Mock
+	BidArchiveRedisService bidArchiveRedisService;
+
+	@InjectMocks
+	BidArchiveService bidArchiveService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bidArchiveService, "enabled", true);
+		ReflectionTestUtils.setField(bidArchiveService, "retentionDays", 30);
+		ReflectionTestUtils.setField(bidArchiveService, "batchSize", 2);
+	}
+
+	@Nested
+	@DisplayName("입찰 내역 보관")
+	class ArchiveTest {
+
+		@Test
+		@DisplayName("보관 대상 경매를 batchSize 개씩 keyset 페이징하며 이동")
+		void success_archiveClosedBefore() {
+			// given
+			LocalDateTime closedBefore = LocalDateTime.now().minusDays(30);
+			given(bidDomainService.findArchivableAuctionIds(null, closedBefore, 2)).willReturn(List.of(1L, 3L));
+			given(bidDomainService.findArchivableAuctionIds(3L, closedBefore, 2)).willReturn(List.of(5L));
+			given(bidDomainService.archiveBids(List.of(1L, 3L))).willReturn(10L);
+			given(bidDomainService.archiveBids(List.of(5L))).willReturn(4L);
+
+			// when
+			long result = bidArchiveService.archiveClosedBefore(closedBefore);
+
+			// then
+			assertThat(result).isEqualTo(14L);
+			verify(bidDomainService, times(2)).findArchivableAuctionIds(any(), eq(closedBefore), eq(2));
+		}
+
+		@Test
+		@DisplayName("다른 노드가 보관 중이면 수행하지 않음")
+		void success_archive_locked() {
+			// given
+			given(bidArchiveRedisService.tryLockArchive(any())).willReturn(false);
+
+			// when
+			bidArchiveService.archive();
+
+			// then
+			verifyNoInteractions(bidDomainService);
+			verify(bidArchiveRedisService, never()).unlockArchive();
+		}
+
+		@Test
+		@DisplayName("보관이 끝나면 잠금 해제")
+		void success_archive_unlock() {
+			// given
+			given(bidArchiveRedisService.tryLockArchive(any())).willReturn(true);
+			given(bidDomainService.findArchivableAuctionIds(eq(null), any(), eq(2))).willReturn(List.of());
+
+			// when
+			bidArchiveService.archive();
+
+			// then
+			verify(bidArchiveRedisService).unlockArchive();
+		}
+	}
+}
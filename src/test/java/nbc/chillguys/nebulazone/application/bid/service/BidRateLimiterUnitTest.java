@@ -0,0 +1,122 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.infra.redis.dto.TokenBucket;
+import nbc.chillguys.nebulazone.infra.redis.service.BidRateLimitRedisService;
+
+@DisplayName("입찰 처리율 제한 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class BidRateLimiterUnitTest {
+
+	private static final Long AUCTION_ID = 1L;
+	private static final Long USER_ID = 2L;
+
+	@Mock
+	BidRateLimitRedisService bidRateLimitRedisService;
+
+	SimpleMeterRegistry meterRegistry;
+
+	BidRateLimiter bidRateLimiter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bidRateLimiter = new BidRateLimiter(bidRateLimitRedisService, meterRegistry);
+		ReflectionTestUtils.setField(bidRateLimiter, "enabled", true);
+		ReflectionTestUtils.setField(bidRateLimiter, "globalCapacity", 2000L);
+		ReflectionTestUtils.setField(bidRateLimiter, "globalRefillPerSecond", 1000.0);
+		ReflectionTestUtils.setField(bidRateLimiter, "auctionCapacity", 50L);
+		ReflectionTestUtils.setField(bidRateLimiter, "auctionRefillPerSecond", 20.0);
+		ReflectionTestUtils.setField(bidRateLimiter, "userCapacity", 5L);
+		ReflectionTestUtils.setField(bidRateLimiter, "userRefillPerSecond", 1.0);
+	}
+
+	@Nested
+	@DisplayName("입찰 토큰 획득")
+	class AcquireTest {
+
+		@Test
+		@DisplayName("모든 버킷에 토큰이 있으면 통과")
+		void success_acquire() {
+			// given
+			given(bidRateLimitRedisService.tryAcquire(AUCTION_ID, USER_ID, new TokenBucket(2000L, 1000.0),
+				new TokenBucket(50L, 20.0), new TokenBucket(5L, 1.0))).willReturn(0L);
+
+			// when & then
+			assertThatCode(() -> bidRateLimiter.acquire(AUCTION_ID, USER_ID)).doesNotThrowAnyException();
+			assertThat(meterRegistry.find("bid.rate-limit.rejected").counter()).isNull();
+		}
+
+		@Test
+		@DisplayName("사용자 버킷이 비어 있으면 거부하고 거부 건수 기록")
+		void fail_acquire_userLimited() {
+			// given
+			given(bidRateLimitRedisService.tryAcquire(eq(AUCTION_ID), eq(USER_ID), any(), any(), any()))
+				.willReturn(3L);
+
+			// when & then
+			assertThatThrownBy(() -> bidRateLimiter.acquire(AUCTION_ID, USER_ID))
+				.isInstanceOf(BidException.class)
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_RATE_LIMITED);
+
+			assertThat(meterRegistry.get("bid.rate-limit.rejected").tag("scope", "user").counter().count())
+				.isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("경매 버킷이 비어 있으면 경매 범위로 거부 건수 기록")
+		void fail_acquire_auctionLimited() {
+			// given
+			given(bidRateLimitRedisService.tryAcquire(eq(AUCTION_ID), eq(USER_ID), any(), any(), any()))
+				.willReturn(2L);
+
+			// when & then
+			assertThatThrownBy(() -> bidRateLimiter.acquire(AUCTION_ID, USER_ID))
+				.isInstanceOf(BidException.class);
+
+			assertThat(meterRegistry.get("bid.rate-limit.rejected").tag("scope", "auction").counter().count())
+				.isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 제한 없이 통과")
+		void success_acquire_redisFailure() {
+			// given
+			given(bidRateLimitRedisService.tryAcquire(eq(AUCTION_ID), eq(USER_ID), any(), any(), any()))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+
+			// when & then
+			assertThatCode(() -> bidRateLimiter.acquire(AUCTION_ID, USER_ID)).doesNotThrowAnyException();
+			assertThat(meterRegistry.get("bid.rate-limit.error").counter().count()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("비활성화 시 Redis를 호출하지 않음")
+		void success_acquire_disabled() {
+			// given
+			ReflectionTestUtils.setField(bidRateLimiter, "enabled", false);
+
+			// when
+			bidRateLimiter.acquire(AUCTION_ID, USER_ID);
+
+			// then
+			verifyNoInteractions(bidRateLimitRedisService);
+		}
+	}
+}
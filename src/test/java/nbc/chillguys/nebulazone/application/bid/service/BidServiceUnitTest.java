@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,10 +21,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionLiveService;
 import nbc.chillguys.nebulazone.application.bid.dto.request.CreateBidRequest;
 import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
 import nbc.chillguys.nebulazone.application.bid.dto.response.DeleteBidResponse;
 import nbc.chillguys.nebulazone.application.bid.dto.response.FindBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
 import nbc.chillguys.nebulazone.common.response.CommonPageResponse;
 import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
 import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
@@ -36,6 +42,7 @@ import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
 import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
 import nbc.chillguys.nebulazone.domain.catalog.entity.Catalog;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
 import nbc.chillguys.nebulazone.domain.catalog.entity.CatalogType;
 import nbc.chillguys.nebulazone.domain.product.entity.Product;
 import nbc.chillguys.nebulazone.domain.product.entity.ProductTxMethod;
@@ -59,6 +66,15 @@ class BidServiceUnitTest {
 	@Mock
 	AuctionDomainService auctionDomainService;
 
+	@Mock
+	AuctionLiveService auctionLiveService;
+
+	@Mock
+	BidRateLimiter bidRateLimiter;
+
+	@Mock
+	EscrowService escrowService;
+
 	@InjectMocks
 	BidService bidService;
 
@@ -87,6 +103,9 @@ class BidServiceUnitTest {
 		auction = createAuction(1L, product, START_PRICE);
 		loggedInUser = createUser(1L, BIDDER_EMAIL);
 		createBidRequest = new CreateBidRequest(BID_PRICE);
+		ReflectionTestUtils.setField(bidService, "bidEngine",
+			new LockBidEngine(bidDomainService, userDomainService, auctionDomainService, escrowService,
+				new SimpleMeterRegistry()));
 	}
 
 	@Nested
@@ -114,6 +133,49 @@ class BidServiceUnitTest {
 			verify(auctionDomainService).findActiveAuctionWithProductAndSellerLock(auctionId);
 			verify(userDomainService).findActiveUserById(loggedInUser.getId());
 			verify(bidDomainService).createBid(auction, bidder, BID_PRICE);
+			verify(escrowService).reserve(bidder, auction.getId(), BID_PRICE, EscrowHoldType.RESERVE);
+			verify(auctionDomainService).increaseBidCount(auction.getId());
+			verify(auctionLiveService).markUpdated(auctionId);
+		}
+
+		@Test
+		@DisplayName("입찰 후 취소하고 다시 입찰 - 입찰 상태로 복구하고 입찰가 전체를 예치, 입찰 건수 증가")
+		void success_createBid_afterCancel() {
+			// given
+			Long auctionId = 1L;
+			Long rebidPrice = 160000L;
+			Bid createdBid = createBid(100L, bidder, BID_PRICE);
+
+			given(auctionDomainService.findActiveAuctionWithProductAndSellerLock(auctionId)).willReturn(auction);
+			given(userDomainService.findActiveUserById(loggedInUser.getId())).willReturn(bidder);
+			given(bidDomainService.findBidByAuctionIdAndUserId(auction.getId(), bidder.getId()))
+				.willReturn(Optional.empty())
+				.willReturn(Optional.of(createdBid));
+			given(bidDomainService.createBid(auction, bidder, BID_PRICE)).willReturn(createdBid);
+			given(bidDomainService.statusBid(auction, bidder, createdBid.getId())).willAnswer(invocation -> {
+				createdBid.cancelBid();
+				return createdBid.getId();
+			});
+			given(bidDomainService.updateBid(auction, createdBid, bidder, rebidPrice)).willAnswer(invocation -> {
+				createdBid.reactivate(rebidPrice);
+				return createdBid;
+			});
+
+			// when
+			bidService.upsertBid(auctionId, loggedInUser, createBidRequest);
+			bidService.statusBid(bidder, auctionId, createdBid.getId());
+			CreateBidResponse result = bidService.upsertBid(auctionId, loggedInUser, new CreateBidRequest(rebidPrice));
+
+			// then
+			assertThat(result.bidPrice()).isEqualTo(rebidPrice);
+			assertThat(createdBid.getStatus()).isEqualTo(BidStatus.BID);
+
+			verify(escrowService).reserve(bidder, auction.getId(), BID_PRICE, EscrowHoldType.RESERVE);
+			verify(escrowService).release(bidder.getId(), auction.getId());
+			verify(escrowService).reserve(bidder, auction.getId(), rebidPrice, EscrowHoldType.RESERVE);
+			verify(escrowService, never()).reserve(any(), any(), anyLong(), eq(EscrowHoldType.ADJUST));
+			verify(auctionDomainService, times(2)).increaseBidCount(auction.getId());
+			verify(auctionDomainService).decreaseBidCount(auction.getId());
 		}
 
 		@Test
@@ -134,6 +196,7 @@ class BidServiceUnitTest {
 			verify(auctionDomainService).findActiveAuctionWithProductAndSellerLock(auctionId);
 			verify(userDomainService, never()).findActiveUserById(any());
 			verify(bidDomainService, never()).createBid(any(), any(), any());
+			verify(auctionLiveService, never()).markUpdated(any());
 		}
 
 		@Test
@@ -177,6 +240,25 @@ class BidServiceUnitTest {
 			verify(auctionDomainService).findActiveAuctionWithProductAndSellerLock(auctionId);
 			verify(userDomainService).findActiveUserById(loggedInUser.getId());
 			verify(bidDomainService).createBid(auction, bidder, BID_PRICE);
+			verify(auctionDomainService, never()).increaseBidCount(any());
+		}
+
+		@Test
+		@DisplayName("입찰 생성 실패 - 처리율 제한 초과")
+		void fail_createBid_rateLimited() {
+			// given
+			Long auctionId = 1L;
+
+			willThrow(new BidException(BidErrorCode.BID_RATE_LIMITED))
+				.given(bidRateLimiter).acquire(auctionId, bidder.getId());
+
+			// when & then
+			assertThatThrownBy(() -> bidService.upsertBid(auctionId, bidder, createBidRequest))
+				.isInstanceOf(BidException.class)
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_RATE_LIMITED);
+
+			verifyNoInteractions(auctionDomainService, userDomainService, bidDomainService, auctionLiveService);
 		}
 	}
 
@@ -238,6 +320,26 @@ class BidServiceUnitTest {
 			verify(bidDomainService).findMyBids(bidder, page, size);
 		}
 
+		@Test
+		@DisplayName("내 입찰 목록 cursor 조회 성공 - 초과 조회된 항목으로 다음 cursor 생성")
+		void success_findMyBidsByCursor() {
+			// given
+			int size = 1;
+			List<FindBidInfo> bidInfoList = createFindBidInfoList();
+
+			given(bidDomainService.findMyBidsByCursor(bidder, null, size)).willReturn(bidInfoList);
+
+			// when
+			CommonCursorResponse<FindBidResponse> result = bidService.findMyBidsByCursor(bidder, null, size);
+
+			// then
+			assertThat(result.content()).hasSize(1);
+			assertThat(result.content().get(0).BidId()).isEqualTo(100L);
+			assertThat(result.hasNext()).isTrue();
+			assertThat(Cursor.decode(result.nextCursor()))
+				.isEqualTo(new Cursor(bidInfoList.get(0).bidTime(), 100L));
+		}
+
 		@Test
 		@DisplayName("경매별 입찰 목록 조회 실패 - 경매를 찾을 수 없음")
 		void fail_findBids_auctionNotFound() {
@@ -282,6 +384,8 @@ class BidServiceUnitTest {
 
 			verify(auctionDomainService).findActiveAuctionWithProductAndSellerLock(auctionId);
 			verify(bidDomainService).statusBid(auction, bidder, bidId);
+			verify(escrowService).release(bidder.getId(), auction.getId());
+			verify(auctionDomainService).decreaseBidCount(auction.getId());
 		}
 
 		@Test
@@ -0,0 +1,255 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.product.entity.Product;
+import nbc.chillguys.nebulazone.domain.product.entity.ProductTxMethod;
+import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+
+@DisplayName("낙관적 입찰 엔진 단위 테스트")
+@ExtendWith({MockitoExtension.class})
+class OptimisticBidEngineUnitTest {
+
+	@Mock
+	BidDomainService bidDomainService;
+
+	@Mock
+	UserDomainService userDomainService;
+
+	@Mock
+	AuctionDomainService auctionDomainService;
+
+	@Mock
+	EscrowService escrowService;
+
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private OptimisticBidEngine optimisticBidEngine;
+
+	private static final Long AUCTION_ID = 1L;
+	private static final Long BID_PRICE = 150000L;
+
+	private User bidder;
+	private Auction auction;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		optimisticBidEngine = new OptimisticBidEngine(bidDomainService, userDomainService, auctionDomainService,
+			escrowService, transactionTemplate, meterRegistry);
+		ReflectionTestUtils.setField(optimisticBidEngine, "maxAttempts", 3);
+		ReflectionTestUtils.setField(optimisticBidEngine, "backoffMillis", 0L);
+
+		bidder = createUser(1L, "bidder@test.com");
+		User seller = createUser(2L, "seller@test.com");
+
+		Product product = Product.builder()
+			.name("테스트 상품")
+			.description("상품 설명")
+			.price(100000L)
+			.txMethod(ProductTxMethod.AUCTION)
+			.seller(seller)
+			.build();
+		ReflectionTestUtils.setField(product, "id", 1L);
+
+		auction = Auction.builder()
+			.product(product)
+			.startPrice(100000L)
+			.endTime(LocalDateTime.now().plusDays(1))
+			.build();
+		ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+
+		given(transactionTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	@Nested
+	@DisplayName("입찰 생성")
+	class UpsertBidTest {
+
+		@Test
+		@DisplayName("입찰 생성 성공 - 충돌 후 재시도하여 성공")
+		void success_upsertBid_afterConflict() {
+			// given
+			Bid savedBid = Bid.builder().auction(auction).user(bidder).price(BID_PRICE).build();
+			ReflectionTestUtils.setField(savedBid, "id", 10L);
+
+			given(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID)).willReturn(auction);
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidDomainService.findBidByAuctionIdAndUserId(AUCTION_ID, bidder.getId()))
+				.willReturn(Optional.empty());
+			willThrow(new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT))
+				.willDoNothing()
+				.given(auctionDomainService).updateCurrentPriceIfHigher(AUCTION_ID, BID_PRICE);
+			given(bidDomainService.saveBid(auction, bidder, BID_PRICE)).willReturn(savedBid);
+
+			// when
+			CreateBidResponse result = optimisticBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE);
+
+			// then
+			assertThat(result.bidId()).isEqualTo(10L);
+			assertThat(meterRegistry.counter("bid.optimistic.conflict", "operation", "upsert").count()).isEqualTo(1);
+			assertThat(meterRegistry.counter("bid.optimistic.retry", "operation", "upsert").count()).isEqualTo(1);
+			verify(escrowService).reserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+			verify(auctionDomainService, times(2)).updateCurrentPriceIfHigher(AUCTION_ID, BID_PRICE);
+		}
+
+		@Test
+		@DisplayName("같은 유저의 첫 입찰이 동시에 저장되어 unique 제약 위반 시 재시도하여 기존 입찰 수정")
+		void success_upsertBid_duplicateFirstBid() {
+			// given
+			Bid concurrentBid = Bid.builder().auction(auction).user(bidder).price(120000L).build();
+			ReflectionTestUtils.setField(concurrentBid, "id", 10L);
+
+			given(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID)).willReturn(auction);
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidDomainService.findBidByAuctionIdAndUserId(AUCTION_ID, bidder.getId()))
+				.willReturn(Optional.empty(), Optional.of(concurrentBid));
+			given(bidDomainService.saveBid(auction, bidder, BID_PRICE))
+				.willThrow(new DataIntegrityViolationException("uk_bids_auction_user"));
+
+			// when
+			CreateBidResponse result = optimisticBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE);
+
+			// then
+			assertThat(result.bidId()).isEqualTo(10L);
+			assertThat(result.bidPrice()).isEqualTo(BID_PRICE);
+			assertThat(meterRegistry.counter("bid.optimistic.retry", "operation", "upsert").count()).isEqualTo(1);
+			verify(escrowService).reserve(bidder, AUCTION_ID, BID_PRICE - 120000L, EscrowHoldType.ADJUST);
+		}
+
+		@Test
+		@DisplayName("같은 입찰을 동시에 수정하여 버전 충돌 시 최신 입찰가로 다시 예치금 계산")
+		void success_upsertBid_staleAdjust() {
+			// given
+			Bid staleBid = Bid.builder().auction(auction).user(bidder).price(120000L).build();
+			ReflectionTestUtils.setField(staleBid, "id", 10L);
+			Bid latestBid = Bid.builder().auction(auction).user(bidder).price(130000L).build();
+			ReflectionTestUtils.setField(latestBid, "id", 10L);
+
+			given(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID)).willReturn(auction);
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidDomainService.findBidByAuctionIdAndUserId(AUCTION_ID, bidder.getId()))
+				.willReturn(Optional.of(staleBid), Optional.of(latestBid));
+			// 오래된 입찰가로 계산한 수정은 커밋 시 버전 충돌로 실패
+			willThrow(new ObjectOptimisticLockingFailureException(Bid.class, 10L))
+				.given(escrowService).reserve(bidder, AUCTION_ID, BID_PRICE - 120000L, EscrowHoldType.ADJUST);
+
+			// when
+			CreateBidResponse result = optimisticBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE);
+
+			// then
+			assertThat(result.bidPrice()).isEqualTo(BID_PRICE);
+			verify(escrowService).reserve(bidder, AUCTION_ID, BID_PRICE - 130000L, EscrowHoldType.ADJUST);
+			assertThat(meterRegistry.counter("bid.optimistic.conflict", "operation", "upsert").count()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("취소한 입찰에 다시 입찰 - 입찰 상태로 복구하고 입찰가 전체를 예치, 입찰 건수 증가")
+		void success_upsertBid_afterCancel() {
+			// given
+			Bid cancelledBid = Bid.builder().auction(auction).user(bidder).price(120000L).build();
+			ReflectionTestUtils.setField(cancelledBid, "id", 10L);
+			cancelledBid.cancelBid();
+
+			given(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID)).willReturn(auction);
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidDomainService.findBidByAuctionIdAndUserId(AUCTION_ID, bidder.getId()))
+				.willReturn(Optional.of(cancelledBid));
+
+			// when
+			CreateBidResponse result = optimisticBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE);
+
+			// then
+			assertThat(result.bidId()).isEqualTo(10L);
+			assertThat(cancelledBid.getStatus()).isEqualTo(BidStatus.BID);
+			assertThat(cancelledBid.getPrice()).isEqualTo(BID_PRICE);
+			verify(escrowService).reserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+			verify(escrowService, never()).reserve(any(), any(), anyLong(), eq(EscrowHoldType.ADJUST));
+			verify(auctionDomainService).increaseBidCount(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("입찰 생성 실패 - 재시도 횟수 초과")
+		void fail_upsertBid_retryExhausted() {
+			// given
+			given(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID)).willReturn(auction);
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidDomainService.findBidByAuctionIdAndUserId(AUCTION_ID, bidder.getId()))
+				.willReturn(Optional.empty());
+			willThrow(new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT))
+				.given(auctionDomainService).updateCurrentPriceIfHigher(AUCTION_ID, BID_PRICE);
+
+			// when & then
+			assertThatThrownBy(() -> optimisticBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE))
+				.isInstanceOf(AuctionException.class)
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.AUCTION_BID_CONFLICT);
+
+			assertThat(meterRegistry.counter("bid.optimistic.exhausted", "operation", "upsert").count()).isEqualTo(1);
+			verify(auctionDomainService, times(3)).updateCurrentPriceIfHigher(AUCTION_ID, BID_PRICE);
+			verify(bidDomainService, never()).saveBid(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("입찰 생성 실패 - 검증 예외는 재시도하지 않음")
+		void fail_upsertBid_validationNotRetried() {
+			// given
+			given(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID))
+				.willThrow(new AuctionException(AuctionErrorCode.AUCTION_NOT_FOUND));
+
+			// when & then
+			assertThatThrownBy(() -> optimisticBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE))
+				.isInstanceOf(AuctionException.class)
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.AUCTION_NOT_FOUND);
+
+			verify(auctionDomainService, times(1)).findActiveAuctionWithProductAndSeller(AUCTION_ID);
+		}
+	}
+
+	private User createUser(Long id, String email) {
+		User user = User.builder()
+			.email(email)
+			.point(100000000L)
+			.oAuthType(OAuthType.DOMAIN)
+			.roles(Set.of(UserRole.ROLE_USER))
+			.build();
+		ReflectionTestUtils.setField(user, "id", id);
+		return user;
+	}
+}
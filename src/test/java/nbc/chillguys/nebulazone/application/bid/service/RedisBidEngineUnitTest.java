@@ -0,0 +1,295 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionLiveInfo;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.exception.UserException;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidBookResult;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidBookSnapshot;
+import nbc.chillguys.nebulazone.infra.redis.dto.BidWriteBehindEvent;
+import nbc.chillguys.nebulazone.infra.redis.service.BidBookRedisService;
+
+@DisplayName("Redis 입찰 엔진 단위 테스트")
+@ExtendWith({MockitoExtension.class})
+class RedisBidEngineUnitTest {
+
+	@Mock
+	BidBookRedisService bidBookRedisService;
+
+	@Mock
+	BidWriteBehindService bidWriteBehindService;
+
+	@Mock
+	AuctionDomainService auctionDomainService;
+
+	@Mock
+	BidDomainService bidDomainService;
+
+	@Mock
+	UserDomainService userDomainService;
+
+	@Mock
+	EscrowService escrowService;
+
+	@InjectMocks
+	RedisBidEngine redisBidEngine;
+
+	private static final Long AUCTION_ID = 1L;
+	private static final Long BID_PRICE = 150000L;
+
+	private User bidder;
+
+	@BeforeEach
+	void setUp() {
+		bidder = User.builder()
+			.email("bidder@test.com")
+			.nickname("입찰자")
+			.point(100000000L)
+			.oAuthType(OAuthType.DOMAIN)
+			.roles(Set.of(UserRole.ROLE_USER))
+			.build();
+		ReflectionTestUtils.setField(bidder, "id", 1L);
+		ReflectionTestUtils.setField(redisBidEngine, "batchSize", 500);
+	}
+
+	@Nested
+	@DisplayName("입찰 접수")
+	class UpsertBidTest {
+
+		@Test
+		@DisplayName("입찰 접수 성공 - DB 반영 전이므로 입찰 id 없이 반환")
+		void success_upsertBid() {
+			// given
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidBookRedisService.existsBook(AUCTION_ID)).willReturn(true);
+			given(bidBookRedisService.placeBid(eq(AUCTION_ID), eq(bidder.getId()), eq(BID_PRICE),
+				eq(bidder.getPoint()), anyLong()))
+				.willReturn(new BidBookResult(BidBookResult.Status.ACCEPTED, 0L, 1L));
+
+			// when
+			CreateBidResponse result = redisBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE);
+
+			// then
+			assertThat(result.bidId()).isNull();
+			assertThat(result.bidPrice()).isEqualTo(BID_PRICE);
+			verify(auctionDomainService, never()).findActiveAuctionWithProductAndSeller(any());
+		}
+
+		@Test
+		@DisplayName("입찰 접수 성공 - 예치금 합계 캐시가 없으면 적재 후 재시도")
+		void success_upsertBid_loadHeld() {
+			// given
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidBookRedisService.existsBook(AUCTION_ID)).willReturn(true);
+			given(bidBookRedisService.placeBid(eq(AUCTION_ID), eq(bidder.getId()), eq(BID_PRICE),
+				eq(bidder.getPoint()), anyLong()))
+				.willReturn(new BidBookResult(BidBookResult.Status.HELD_NOT_LOADED, 0L, 0L))
+				.willReturn(new BidBookResult(BidBookResult.Status.ACCEPTED, 0L, 1L));
+
+			// when
+			CreateBidResponse result = redisBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE);
+
+			// then
+			assertThat(result.bidPrice()).isEqualTo(BID_PRICE);
+			verify(escrowService).loadHeld(bidder.getId());
+		}
+
+		@Test
+		@DisplayName("입찰 접수 실패 - 현재 최고가 이하")
+		void fail_upsertBid_lowBidPrice() {
+			// given
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidBookRedisService.existsBook(AUCTION_ID)).willReturn(true);
+			given(bidBookRedisService.placeBid(eq(AUCTION_ID), eq(bidder.getId()), eq(BID_PRICE),
+				eq(bidder.getPoint()), anyLong()))
+				.willReturn(new BidBookResult(BidBookResult.Status.BELOW_CURRENT_PRICE, 0L, 0L));
+
+			// when & then
+			assertThatThrownBy(() -> redisBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE))
+				.isInstanceOf(BidException.class)
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
+		}
+
+		@Test
+		@DisplayName("입찰 접수 실패 - 미반영 입찰을 포함한 포인트 부족")
+		void fail_upsertBid_insufficientPoint() {
+			// given
+			given(userDomainService.findActiveUserById(bidder.getId())).willReturn(bidder);
+			given(bidBookRedisService.existsBook(AUCTION_ID)).willReturn(true);
+			given(bidBookRedisService.placeBid(eq(AUCTION_ID), eq(bidder.getId()), eq(BID_PRICE),
+				eq(bidder.getPoint()), anyLong()))
+				.willReturn(new BidBookResult(BidBookResult.Status.INSUFFICIENT_POINT, 0L, 0L));
+
+			// when & then
+			assertThatThrownBy(() -> redisBidEngine.upsertBid(AUCTION_ID, bidder, BID_PRICE))
+				.isInstanceOf(UserException.class)
+				.extracting("errorCode")
+				.isEqualTo(UserErrorCode.INSUFFICIENT_BALANCE);
+		}
+	}
+
+	@Nested
+	@DisplayName("실시간 경매 정보 조회")
+	class FindLiveInfoTest {
+
+		@Test
+		@DisplayName("호가창이 있으면 DB 조회 없이 호가창 기준으로 반환")
+		void success_findLiveInfo_fromBook() {
+			// given
+			LocalDateTime endTime = LocalDateTime.of(2030, 1, 1, 12, 0, 0);
+			long endTimeMillis = endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+			given(bidBookRedisService.findBookSnapshot(AUCTION_ID))
+				.willReturn(Optional.of(new BidBookSnapshot(BID_PRICE, 3L, endTimeMillis)));
+
+			// when
+			Optional<AuctionLiveInfo> result = redisBidEngine.findLiveInfo(AUCTION_ID);
+
+			// then
+			assertThat(result).contains(new AuctionLiveInfo(AUCTION_ID, BID_PRICE, 3L, endTime));
+			verify(auctionDomainService, never()).findAuctionLiveInfo(any());
+		}
+
+		@Test
+		@DisplayName("호가창이 없으면 DB 기준으로 반환")
+		void success_findLiveInfo_fromDatabase() {
+			// given
+			AuctionLiveInfo liveInfo = new AuctionLiveInfo(AUCTION_ID, null, 0L, LocalDateTime.now());
+
+			given(bidBookRedisService.findBookSnapshot(AUCTION_ID)).willReturn(Optional.empty());
+			given(auctionDomainService.findAuctionLiveInfo(AUCTION_ID)).willReturn(Optional.of(liveInfo));
+
+			// when
+			Optional<AuctionLiveInfo> result = redisBidEngine.findLiveInfo(AUCTION_ID);
+
+			// then
+			assertThat(result).contains(liveInfo);
+		}
+	}
+
+	@Nested
+	@DisplayName("경매 마감")
+	class CloseAuctionTest {
+
+		@Test
+		@DisplayName("경매 마감 실패 - dead letter로 이동한 입찰이 있는 경매")
+		void fail_closeAuction_poisoned() {
+			// given
+			given(bidBookRedisService.isPoisoned(AUCTION_ID)).willReturn(true);
+
+			// when & then
+			assertThatThrownBy(() -> redisBidEngine.closeAuction(AUCTION_ID))
+				.isInstanceOf(BidException.class)
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_NOT_PERSISTED);
+			verify(bidBookRedisService).closeBook(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("DB 반영 대기 실패 - dead letter로 이동한 입찰이 있는 경매")
+		void fail_awaitPersisted_poisoned() {
+			// given
+			given(bidBookRedisService.isPoisoned(AUCTION_ID)).willReturn(true);
+
+			// when & then
+			assertThatThrownBy(() -> redisBidEngine.awaitPersisted(AUCTION_ID))
+				.isInstanceOf(BidException.class)
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_NOT_PERSISTED);
+			verify(bidBookRedisService, never()).isPersisted(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("write-behind 반영")
+	class FlushWriteBehindTest {
+
+		@Test
+		@DisplayName("일괄 반영 성공 - 미반영 포인트 해제, 반영 순번 갱신 후 ack")
+		void success_flushWriteBehind() {
+			// given
+			BidWriteBehindEvent event = new BidWriteBehindEvent("1-0", BidWriteBehindEvent.Type.UPSERT,
+				AUCTION_ID, bidder.getId(), BID_PRICE, BID_PRICE, BID_PRICE, 3L);
+
+			given(bidBookRedisService.tryAcquireWriteBehindLease(anyString(), any(Duration.class))).willReturn(true);
+			given(bidBookRedisService.readWriteBehindEvents(500)).willReturn(List.of(event));
+
+			// when
+			redisBidEngine.flushWriteBehind();
+
+			// then
+			verify(bidWriteBehindService).persist(List.of(event));
+			verify(bidBookRedisService).releasePendingPoint(bidder.getId(), BID_PRICE);
+			verify(bidBookRedisService).markPersisted(AUCTION_ID, 3L);
+			verify(bidBookRedisService).acknowledge(List.of(event));
+			verify(bidBookRedisService, never()).moveToDeadLetter(any());
+		}
+
+		@Test
+		@DisplayName("건별 반영 실패 - dead letter로 이동, 미반영 포인트와 반영 순번은 유지")
+		void fail_flushWriteBehind_moveToDeadLetter() {
+			// given
+			BidWriteBehindEvent event = new BidWriteBehindEvent("1-0", BidWriteBehindEvent.Type.UPSERT,
+				AUCTION_ID, bidder.getId(), BID_PRICE, BID_PRICE, BID_PRICE, 3L);
+
+			given(bidBookRedisService.tryAcquireWriteBehindLease(anyString(), any(Duration.class))).willReturn(true);
+			given(bidBookRedisService.readWriteBehindEvents(500)).willReturn(List.of(event));
+			willThrow(new UserException(UserErrorCode.INSUFFICIENT_BALANCE))
+				.given(bidWriteBehindService).persist(List.of(event));
+
+			// when
+			redisBidEngine.flushWriteBehind();
+
+			// then
+			verify(bidWriteBehindService, times(2)).persist(List.of(event));
+			verify(bidBookRedisService).moveToDeadLetter(event);
+			verify(bidBookRedisService).markPoisoned(AUCTION_ID);
+			verify(bidBookRedisService, never()).releasePendingPoint(anyLong(), anyLong());
+			verify(bidBookRedisService, never()).markPersisted(anyLong(), anyLong());
+			verify(bidBookRedisService).acknowledge(List.of(event));
+		}
+
+		@Test
+		@DisplayName("lease를 얻지 못하면 stream을 읽지 않음")
+		void skip_flushWriteBehind_withoutLease() {
+			// given
+			given(bidBookRedisService.tryAcquireWriteBehindLease(anyString(), any(Duration.class))).willReturn(false);
+
+			// when
+			redisBidEngine.flushWriteBehind();
+
+			// then
+			verify(bidBookRedisService, never()).readWriteBehindEvents(anyInt());
+		}
+	}
+}
@@ -0,0 +1,344 @@
+package nbc.chillguys.nebulazone.application.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import nbc.chillguys.nebulazone.application.bid.dto.response.CreateBidResponse;
+import nbc.chillguys.nebulazone.application.bid.service.SequencerBidEngine.BidCommand;
+import nbc.chillguys.nebulazone.application.bid.service.SequencerBidEngine.CancelBid;
+import nbc.chillguys.nebulazone.application.bid.service.SequencerBidEngine.CloseAuction;
+import nbc.chillguys.nebulazone.application.bid.service.SequencerBidEngine.PlaceBid;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
+import nbc.chillguys.nebulazone.common.sequencer.MailboxSequencer;
+import nbc.chillguys.nebulazone.domain.auction.entity.Auction;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionErrorCode;
+import nbc.chillguys.nebulazone.domain.auction.exception.AuctionException;
+import nbc.chillguys.nebulazone.domain.auction.service.AuctionDomainService;
+import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
+import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.domain.bid.service.BidDomainService;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.product.entity.Product;
+import nbc.chillguys.nebulazone.domain.product.entity.ProductTxMethod;
+import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
+
+@DisplayName("입찰 시퀀서 엔진 단위 테스트")
+@ExtendWith({MockitoExtension.class})
+class SequencerBidEngineUnitTest {
+
+	@Mock
+	BidDomainService bidDomainService;
+
+	@Mock
+	UserDomainService userDomainService;
+
+	@Mock
+	AuctionDomainService auctionDomainService;
+
+	@Mock
+	EscrowService escrowService;
+
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	private SequencerBidEngine sequencerBidEngine;
+
+	private static final Long AUCTION_ID = 1L;
+	private static final Long START_PRICE = 100000L;
+
+	private User firstBidder;
+	private User secondBidder;
+	private Auction auction;
+
+	@BeforeEach
+	void setUp() {
+		sequencerBidEngine = new SequencerBidEngine(bidDomainService, userDomainService, auctionDomainService,
+			escrowService, transactionTemplate);
+		ReflectionTestUtils.setField(sequencerBidEngine, "batchSize", 32);
+		ReflectionTestUtils.setField(sequencerBidEngine, "timeoutMillis", 1000L);
+		ReflectionTestUtils.setField(sequencerBidEngine, "closedRetentionMillis", 600000L);
+		sequencerBidEngine.init();
+
+		firstBidder = createUser(1L, "first@test.com");
+		secondBidder = createUser(2L, "second@test.com");
+		User seller = createUser(3L, "seller@test.com");
+
+		Product product = Product.builder()
+			.name("테스트 상품")
+			.description("상품 설명")
+			.price(START_PRICE)
+			.txMethod(ProductTxMethod.AUCTION)
+			.seller(seller)
+			.build();
+		ReflectionTestUtils.setField(product, "id", 1L);
+
+		auction = Auction.builder()
+			.product(product)
+			.startPrice(START_PRICE)
+			.endTime(LocalDateTime.now().plusDays(1))
+			.build();
+		ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+
+		// 마감된 경매는 상태를 적재하지 않으므로 사용하지 않는 테스트가 있음
+		lenient().when(auctionDomainService.findActiveAuctionWithProductAndSeller(AUCTION_ID)).thenReturn(auction);
+		lenient().when(bidDomainService.findBidsByAuctionIdAndStatusBid(AUCTION_ID)).thenReturn(List.of());
+		lenient().doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		sequencerBidEngine.shutdown();
+	}
+
+	@Nested
+	@DisplayName("입찰 배치 처리")
+	class HandleBatchTest {
+
+		@Test
+		@DisplayName("배치의 입찰을 순서대로 검증하여 한 트랜잭션으로 반영")
+		void success_handleBatch_groupCommit() {
+			// given
+			PlaceBid first = placeBid(firstBidder, 120000L);
+			PlaceBid lower = placeBid(secondBidder, 110000L);
+			PlaceBid higher = placeBid(secondBidder, 130000L);
+
+			given(escrowService.tryReserve(any(), eq(AUCTION_ID), anyLong(), any())).willReturn(true);
+			given(bidDomainService.applyAcceptedBid(eq(auction), any(), anyLong()))
+				.willAnswer(invocation -> createBid(invocation.getArgument(1), invocation.getArgument(2)));
+
+			// when
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(first, lower, higher));
+
+			// then
+			assertThat(first.result().join().bidPrice()).isEqualTo(120000L);
+			assertThat(higher.result().join().bidPrice()).isEqualTo(130000L);
+			assertThatThrownBy(() -> lower.result().join())
+				.hasRootCauseInstanceOf(BidException.class)
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
+
+			verify(transactionTemplate, times(1)).executeWithoutResult(any());
+			verify(auctionDomainService, times(1)).findActiveAuctionWithProductAndSeller(AUCTION_ID);
+			verify(escrowService).tryReserve(secondBidder, AUCTION_ID, 130000L, EscrowHoldType.RESERVE);
+			verify(auctionDomainService, times(2)).increaseBidCount(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("잔액이 부족한 입찰만 거절하고 나머지는 반영")
+		void success_handleBatch_insufficientPoint() {
+			// given
+			PlaceBid poor = placeBid(firstBidder, 120000L);
+			PlaceBid rich = placeBid(secondBidder, 120000L);
+
+			given(escrowService.tryReserve(firstBidder, AUCTION_ID, 120000L, EscrowHoldType.RESERVE)).willReturn(false);
+			given(escrowService.tryReserve(secondBidder, AUCTION_ID, 120000L, EscrowHoldType.RESERVE)).willReturn(true);
+			given(bidDomainService.applyAcceptedBid(auction, secondBidder, 120000L))
+				.willReturn(createBid(secondBidder, 120000L));
+
+			// when
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(poor, rich));
+
+			// then
+			assertThat(rich.result().join().bidPrice()).isEqualTo(120000L);
+			assertThatThrownBy(() -> poor.result().join())
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(UserErrorCode.INSUFFICIENT_BALANCE);
+		}
+
+		@Test
+		@DisplayName("현재가 갱신 충돌 시 배치 전체 실패 후 다음 배치에서 경매 상태 재적재")
+		void fail_handleBatch_conflict() {
+			// given
+			PlaceBid first = placeBid(firstBidder, 120000L);
+			PlaceBid second = placeBid(secondBidder, 130000L);
+
+			given(escrowService.tryReserve(any(), eq(AUCTION_ID), anyLong(), any())).willReturn(true);
+			willThrow(new AuctionException(AuctionErrorCode.AUCTION_BID_CONFLICT))
+				.given(auctionDomainService).updateCurrentPriceIfHigher(AUCTION_ID, 130000L);
+			given(bidDomainService.applyAcceptedBid(eq(auction), any(), anyLong()))
+				.willAnswer(invocation -> createBid(invocation.getArgument(1), invocation.getArgument(2)));
+
+			// when
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(first, second));
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(placeBid(firstBidder, 125000L)));
+
+			// then
+			assertThatThrownBy(() -> first.result().join())
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.AUCTION_BID_CONFLICT);
+			assertThatThrownBy(() -> second.result().join())
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.AUCTION_BID_CONFLICT);
+			verify(auctionDomainService, times(2)).findActiveAuctionWithProductAndSeller(AUCTION_ID);
+		}
+
+		@Test
+		@DisplayName("마감 이후 순서의 입찰은 거절")
+		void fail_handleBatch_afterClose() {
+			// given
+			PlaceBid beforeClose = placeBid(firstBidder, 120000L);
+			PlaceBid afterClose = placeBid(secondBidder, 130000L);
+
+			given(escrowService.tryReserve(firstBidder, AUCTION_ID, 120000L, EscrowHoldType.RESERVE)).willReturn(true);
+			given(bidDomainService.applyAcceptedBid(auction, firstBidder, 120000L))
+				.willReturn(createBid(firstBidder, 120000L));
+
+			List<BidCommand> commands = List.of(beforeClose, new CloseAuction(), afterClose);
+
+			// when
+			sequencerBidEngine.handleBatch(AUCTION_ID, commands);
+
+			// then
+			assertThat(beforeClose.result().join().bidPrice()).isEqualTo(120000L);
+			assertThatThrownBy(() -> afterClose.result().join())
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
+		}
+
+		@Test
+		@DisplayName("마감 후 취소로 경매 상태를 다시 적재해도 이후 입찰은 거절")
+		void fail_handleBatch_afterCloseAndCancel() {
+			// given
+			CancelBid cancelBid = new CancelBid(firstBidder, 10L, new CompletableFuture<>());
+			PlaceBid afterCancel = placeBid(secondBidder, 130000L);
+
+			given(transactionTemplate.execute(any())).willReturn(10L);
+
+			// when
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(new CloseAuction(), cancelBid, afterCancel));
+
+			// then
+			assertThat(cancelBid.result().join()).isEqualTo(10L);
+			assertThatThrownBy(() -> afterCancel.result().join())
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
+			verify(bidDomainService, never()).applyAcceptedBid(any(), any(), anyLong());
+		}
+
+		@Test
+		@DisplayName("경매 상태를 적재하기 전에 마감되어도 이후 입찰은 거절")
+		void fail_handleBatch_closedBeforeLoad() {
+			// given
+			PlaceBid afterClose = placeBid(firstBidder, 120000L);
+
+			// when
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(new CloseAuction()));
+			sequencerBidEngine.handleBatch(AUCTION_ID, List.of(afterClose));
+
+			// then
+			assertThatThrownBy(() -> afterClose.result().join())
+				.rootCause()
+				.extracting("errorCode")
+				.isEqualTo(AuctionErrorCode.ALREADY_CLOSED_AUCTION);
+			verify(escrowService, never()).tryReserve(any(), any(), anyLong(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("입찰 접수")
+	class UpsertBidTest {
+
+		@Test
+		@DisplayName("메일박스를 거쳐 반영된 결과 반환")
+		void success_upsertBid() {
+			// given
+			given(userDomainService.findActiveUserById(firstBidder.getId())).willReturn(firstBidder);
+			given(escrowService.tryReserve(firstBidder, AUCTION_ID, 120000L, EscrowHoldType.RESERVE)).willReturn(true);
+			given(bidDomainService.applyAcceptedBid(auction, firstBidder, 120000L))
+				.willReturn(createBid(firstBidder, 120000L));
+
+			// when
+			CreateBidResponse result = sequencerBidEngine.upsertBid(AUCTION_ID, firstBidder, 120000L);
+
+			// then
+			assertThat(result.bidId()).isEqualTo(firstBidder.getId());
+			assertThat(result.bidPrice()).isEqualTo(120000L);
+		}
+	}
+
+	@Nested
+	@DisplayName("입찰 반영 대기")
+	class AwaitPersistedTest {
+
+		@Test
+		@DisplayName("메일박스가 비어 있으면 바로 반환")
+		void success_awaitPersisted_idle() {
+			// when & then
+			assertThatCode(() -> sequencerBidEngine.awaitPersisted(AUCTION_ID)).doesNotThrowAnyException();
+		}
+
+		@Test
+		@DisplayName("대기 중 인터럽트되면 인터럽트 상태를 복구하고 예외를 던짐")
+		void fail_awaitPersisted_interrupted() {
+			// given
+			MailboxSequencer<BidCommand> sequencer = mock();
+			given(sequencer.isIdle(AUCTION_ID)).willReturn(false);
+			ReflectionTestUtils.setField(sequencerBidEngine, "sequencer", sequencer);
+
+			// when & then
+			Thread.currentThread().interrupt();
+			try {
+				assertThatThrownBy(() -> sequencerBidEngine.awaitPersisted(AUCTION_ID))
+					.isInstanceOf(IllegalStateException.class)
+					.hasCauseInstanceOf(InterruptedException.class);
+				assertThat(Thread.currentThread().isInterrupted()).isTrue();
+			} finally {
+				Thread.interrupted();
+			}
+		}
+	}
+
+	private PlaceBid placeBid(User user, Long price) {
+		return new PlaceBid(user, price, new CompletableFuture<>());
+	}
+
+	private Bid createBid(User user, Long price) {
+		Bid bid = Bid.builder().auction(auction).user(user).price(price).build();
+		ReflectionTestUtils.setField(bid, "id", user.getId());
+		return bid;
+	}
+
+	private User createUser(Long id, String email) {
+		User user = User.builder()
+			.email(email)
+			.nickname(email)
+			.point(1000000L)
+			.oAuthType(OAuthType.DOMAIN)
+			.roles(Set.of(UserRole.ROLE_USER))
+			.build();
+		ReflectionTestUtils.setField(user, "id", id);
+		return user;
+	}
+}
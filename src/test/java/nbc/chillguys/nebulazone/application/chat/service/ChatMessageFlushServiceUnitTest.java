@@ -0,0 +1,123 @@
+package nbc.chillguys.nebulazone.application.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatException;
+import nbc.chillguys.nebulazone.infra.redis.dto.ChatStreamRecord;
+
+@DisplayName("채팅 write-behind 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class ChatMessageFlushServiceUnitTest {
+
+	@Mock
+	ChatMessageRedisService chatMessageRedisService;
+
+	@Mock
+	ChatMessageService chatMessageService;
+
+	SimpleMeterRegistry meterRegistry;
+
+	ChatMessageFlushService chatMessageFlushService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		chatMessageFlushService = new ChatMessageFlushService(chatMessageRedisService, chatMessageService,
+			meterRegistry);
+		ReflectionTestUtils.setField(chatMessageFlushService, "batchSize", 10);
+		ReflectionTestUtils.setField(chatMessageFlushService, "roomsPerFlush", 10);
+		ReflectionTestUtils.setField(chatMessageFlushService, "claimIdleMs", 60_000L);
+	}
+
+	@Nested
+	@DisplayName("채팅 기록 저장")
+	class FlushTest {
+
+		@Test
+		@DisplayName("여러 채팅방의 메시지를 한 번에 저장한 뒤 채팅방별로 ack")
+		void success_flush() {
+			// given
+			ChatStreamRecord first = createRecord("1-0", 1L);
+			ChatStreamRecord second = createRecord("2-0", 2L);
+
+			given(chatMessageRedisService.sampleRoomIds(10)).willReturn(new LinkedHashSet<>(List.of(1L, 2L)));
+			given(chatMessageRedisService.readMessages(eq(1L), anyString(), eq(10))).willReturn(List.of(first));
+			given(chatMessageRedisService.readMessages(eq(2L), anyString(), eq(9))).willReturn(List.of(second));
+
+			// when
+			chatMessageFlushService.flush();
+
+			// then
+			verify(chatMessageService).saveMessagesToDb(
+				Map.of(1L, List.of(first.message()), 2L, List.of(second.message())));
+			verify(chatMessageRedisService).acknowledge(1L, List.of(first));
+			verify(chatMessageRedisService).acknowledge(2L, List.of(second));
+			assertThat(meterRegistry.get("chat.write-behind.persisted").counter().count()).isEqualTo(2.0);
+		}
+
+		@Test
+		@DisplayName("저장할 메시지가 없으면 DB에 접근하지 않음")
+		void success_flush_empty() {
+			// given
+			given(chatMessageRedisService.sampleRoomIds(10)).willReturn(Set.of());
+
+			// when
+			chatMessageFlushService.flush();
+
+			// then
+			verifyNoInteractions(chatMessageService);
+		}
+
+		@Test
+		@DisplayName("일괄 저장 실패 시 채팅방별로 저장하고, 비즈니스 예외는 dead letter, 일시적 오류는 ack 하지 않음")
+		void success_flush_fallbackByRoom() {
+			// given
+			ChatStreamRecord deleted = createRecord("1-0", 1L);
+			ChatStreamRecord transientFailure = createRecord("2-0", 2L);
+
+			given(chatMessageRedisService.sampleRoomIds(10)).willReturn(new LinkedHashSet<>(List.of(1L, 2L)));
+			given(chatMessageRedisService.readMessages(eq(1L), anyString(), eq(10))).willReturn(List.of(deleted));
+			given(chatMessageRedisService.readMessages(eq(2L), anyString(), eq(9)))
+				.willReturn(List.of(transientFailure));
+			willThrow(new RuntimeException("batch failed"))
+				.given(chatMessageService).saveMessagesToDb(argThat(messages -> messages.size() == 2));
+			willThrow(new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND))
+				.given(chatMessageService).saveMessagesToDb(Map.of(1L, List.of(deleted.message())));
+			willThrow(new RuntimeException("lock timeout"))
+				.given(chatMessageService).saveMessagesToDb(Map.of(2L, List.of(transientFailure.message())));
+
+			// when
+			chatMessageFlushService.flush();
+
+			// then
+			verify(chatMessageRedisService).moveToDeadLetter(deleted);
+			verify(chatMessageRedisService).acknowledge(1L, List.of(deleted));
+			verify(chatMessageRedisService, never()).acknowledge(eq(2L), any());
+		}
+	}
+
+	private ChatStreamRecord createRecord(String recordId, Long roomId) {
+		return new ChatStreamRecord(recordId, ChatMessageInfo.of(roomId, 10L, "user@test.com", "안녕하세요",
+			MessageType.TEXT, LocalDateTime.of(2025, 1, 1, 12, 0)));
+	}
+}
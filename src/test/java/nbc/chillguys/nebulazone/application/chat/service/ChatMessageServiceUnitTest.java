@@ -0,0 +1,103 @@
+package nbc.chillguys.nebulazone.application.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.request.ChatSendTextMessageCommand;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatException;
+import nbc.chillguys.nebulazone.domain.chat.service.ChatDomainService;
+import nbc.chillguys.nebulazone.infra.aws.s3.S3Service;
+import nbc.chillguys.nebulazone.infra.redis.publisher.RedisMessagePublisher;
+import nbc.chillguys.nebulazone.infra.websocket.WebSocketSessionRegistry;
+import nbc.chillguys.nebulazone.infra.websocket.dto.SessionUser;
+
+@DisplayName("채팅 메시지 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceUnitTest {
+
+	private static final String SESSION_ID = "session-1";
+	private static final Long ROOM_ID = 1L;
+
+	@Mock
+	ChatMessageRedisService chatMessageRedisService;
+
+	@Mock
+	S3Service s3Service;
+
+	@Mock
+	RedisMessagePublisher redisMessagePublisher;
+
+	@Mock
+	ChatDomainService chatDomainService;
+
+	@Mock
+	WebSocketSessionRegistry webSocketSessionRegistry;
+
+	@InjectMocks
+	ChatMessageService chatMessageService;
+
+	@Nested
+	@DisplayName("텍스트 메시지 전송")
+	class SendTextMessageTest {
+
+		@Test
+		@DisplayName("이 노드의 세션 매핑으로 검증한 뒤 발행하고 채팅방 stream에 추가")
+		void success_sendTextMessage() {
+			// given
+			given(webSocketSessionRegistry.getUser(SESSION_ID)).willReturn(new SessionUser(10L, "chat@test.com"));
+			given(webSocketSessionRegistry.getRoomId(SESSION_ID)).willReturn(ROOM_ID);
+
+			// when
+			chatMessageService.sendTextMessage(SESSION_ID, ROOM_ID, new ChatSendTextMessageCommand("hello", "TEXT"));
+
+			// then
+			ArgumentCaptor<ChatMessageInfo> captor = ArgumentCaptor.forClass(ChatMessageInfo.class);
+			verify(redisMessagePublisher).publishChatMessage(eq(ROOM_ID), captor.capture());
+			verify(chatMessageRedisService).saveMessageToRedis(ROOM_ID, captor.getValue());
+
+			assertThat(captor.getValue().senderId()).isEqualTo(10L);
+			assertThat(captor.getValue().type()).isEqualTo(MessageType.TEXT);
+		}
+
+		@Test
+		@DisplayName("이 노드에 등록되지 않은 세션이면 전송 실패")
+		void fail_sendTextMessage_unknownSession() {
+			// given
+			given(webSocketSessionRegistry.getUser(SESSION_ID)).willReturn(null);
+
+			// when & then
+			assertThatThrownBy(() -> chatMessageService.sendTextMessage(SESSION_ID, ROOM_ID,
+				new ChatSendTextMessageCommand("hello", "TEXT")))
+				.isInstanceOf(ChatException.class)
+				.extracting("errorCode")
+				.isEqualTo(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
+			verifyNoInteractions(redisMessagePublisher, chatMessageRedisService);
+		}
+
+		@Test
+		@DisplayName("세션이 구독한 채팅방과 다르면 전송 실패")
+		void fail_sendTextMessage_otherRoom() {
+			// given
+			given(webSocketSessionRegistry.getUser(SESSION_ID)).willReturn(new SessionUser(10L, "chat@test.com"));
+			given(webSocketSessionRegistry.getRoomId(SESSION_ID)).willReturn(2L);
+
+			// when & then
+			assertThatThrownBy(() -> chatMessageService.sendTextMessage(SESSION_ID, ROOM_ID,
+				new ChatSendTextMessageCommand("hello", "TEXT")))
+				.isInstanceOf(ChatException.class);
+			verifyNoInteractions(redisMessagePublisher, chatMessageRedisService);
+		}
+	}
+}
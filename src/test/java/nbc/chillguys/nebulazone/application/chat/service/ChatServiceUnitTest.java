@@ -0,0 +1,151 @@
+package nbc.chillguys.nebulazone.application.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.application.chat.dto.response.FindChatHistoryResponse;
+import nbc.chillguys.nebulazone.common.cursor.Cursor;
+import nbc.chillguys.nebulazone.common.response.CommonCursorResponse;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatHistoryInfo;
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatException;
+import nbc.chillguys.nebulazone.domain.chat.service.ChatDomainService;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+
+@DisplayName("채팅 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class ChatServiceUnitTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+	@Mock
+	ChatDomainService chatDomainService;
+
+	@Mock
+	ChatMessageRedisService chatMessageRedisService;
+
+	@InjectMocks
+	ChatService chatService;
+
+	User user;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(chatService, "hotTailLimit", 1000);
+
+		user = User.builder()
+			.email("chat@test.com")
+			.roles(Set.of(UserRole.ROLE_USER))
+			.build();
+		ReflectionTestUtils.setField(user, "id", 10L);
+	}
+
+	@Nested
+	@DisplayName("채팅 기록 cursor 조회")
+	class FindChatHistoriesByCursorTest {
+
+		@Test
+		@DisplayName("stream의 미저장 메시지와 DB 기록을 최신순으로 합치고 양쪽에 있는 메시지는 한 번만 반환")
+		void success_findChatHistoriesByCursor_mergeWithoutDuplicates() {
+			// given
+			given(chatMessageRedisService.findRecentMessages(ROOM_ID, 1000)).willReturn(List.of(
+				createMessage("new", 3),
+				createMessage("flushed", 2)));
+			given(chatDomainService.findChatHistoriesByCursor(ROOM_ID, null, 3)).willReturn(List.of(
+				createHistory(7L, "flushed", 2),
+				createHistory(6L, "old", 1),
+				createHistory(5L, "older", 0)));
+
+			// when
+			CommonCursorResponse<FindChatHistoryResponse> result =
+				chatService.findChatHistoriesByCursor(user, ROOM_ID, null, 3);
+
+			// then
+			assertThat(result.content()).extracting("message").containsExactly("new", "flushed", "old");
+			assertThat(result.hasNext()).isTrue();
+			assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(BASE_TIME.plusSeconds(1), 6L));
+			verify(chatDomainService).validateUserAccessToChatRoom(user, ROOM_ID);
+		}
+
+		@Test
+		@DisplayName("cursor 이전의 stream 메시지만 포함하고, 마지막 항목이 stream 메시지면 id 0으로 cursor 생성")
+		void success_findChatHistoriesByCursor_streamCursor() {
+			// given
+			Cursor cursor = new Cursor(BASE_TIME.plusSeconds(3), 0L);
+			given(chatMessageRedisService.findRecentMessages(ROOM_ID, 1000)).willReturn(List.of(
+				createMessage("newest", 3),
+				createMessage("second", 2),
+				createMessage("first", 1)));
+			given(chatDomainService.findChatHistoriesByCursor(ROOM_ID, cursor, 1)).willReturn(List.of());
+
+			// when
+			CommonCursorResponse<FindChatHistoryResponse> result =
+				chatService.findChatHistoriesByCursor(user, ROOM_ID, cursor.encode(), 1);
+
+			// then
+			assertThat(result.content()).extracting("message").containsExactly("second");
+			assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(BASE_TIME.plusSeconds(2), 0L));
+		}
+
+		@Test
+		@DisplayName("stream에 메시지가 없으면 DB 기록만 반환")
+		void success_findChatHistoriesByCursor_dbOnly() {
+			// given
+			given(chatMessageRedisService.findRecentMessages(ROOM_ID, 1000)).willReturn(List.of());
+			given(chatDomainService.findChatHistoriesByCursor(ROOM_ID, null, 2)).willReturn(List.of(
+				createHistory(2L, "second", 1),
+				createHistory(1L, "first", 0)));
+
+			// when
+			CommonCursorResponse<FindChatHistoryResponse> result =
+				chatService.findChatHistoriesByCursor(user, ROOM_ID, "", 2);
+
+			// then
+			assertThat(result.content()).extracting("message").containsExactly("second", "first");
+			assertThat(result.hasNext()).isFalse();
+			assertThat(result.nextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("채팅방 참여자가 아니면 조회 실패")
+		void fail_findChatHistoriesByCursor_accessDenied() {
+			// given
+			willThrow(new ChatException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED))
+				.given(chatDomainService).validateUserAccessToChatRoom(user, ROOM_ID);
+
+			// when & then
+			assertThatThrownBy(() -> chatService.findChatHistoriesByCursor(user, ROOM_ID, null, 20))
+				.isInstanceOf(ChatException.class)
+				.extracting("errorCode")
+				.isEqualTo(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
+			verifyNoInteractions(chatMessageRedisService);
+		}
+	}
+
+	private ChatMessageInfo createMessage(String message, int seconds) {
+		return ChatMessageInfo.of(ROOM_ID, 10L, "chat@test.com", message, MessageType.TEXT,
+			BASE_TIME.plusSeconds(seconds));
+	}
+
+	private ChatHistoryInfo createHistory(Long id, String message, int seconds) {
+		return new ChatHistoryInfo(id, 10L, message, MessageType.TEXT, BASE_TIME.plusSeconds(seconds));
+	}
+}
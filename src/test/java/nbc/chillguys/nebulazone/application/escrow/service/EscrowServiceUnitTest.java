@@ -0,0 +1,220 @@
+package nbc.chillguys.nebulazone.application.escrow.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import nbc.chillguys.nebulazone.domain.escrow.dto.EscrowHoldInfo;
+import nbc.chillguys.nebulazone.domain.escrow.entity.EscrowHoldType;
+import nbc.chillguys.nebulazone.domain.escrow.service.EscrowDomainService;
+import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
+import nbc.chillguys.nebulazone.domain.user.entity.User;
+import nbc.chillguys.nebulazone.domain.user.entity.UserRole;
+import nbc.chillguys.nebulazone.domain.user.exception.UserErrorCode;
+import nbc.chillguys.nebulazone.domain.user.exception.UserException;
+import nbc.chillguys.nebulazone.infra.redis.service.EscrowHoldRedisService;
+
+@DisplayName("입찰 예치금 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class EscrowServiceUnitTest {
+
+	private static final Long AUCTION_ID = 1L;
+	private static final long USER_POINT = 100000L;
+	private static final long BID_PRICE = 30000L;
+	private static final Duration TTL = Duration.ofSeconds(86400);
+
+	@Mock
+	EscrowDomainService escrowDomainService;
+
+	@Mock
+	EscrowHoldRedisService escrowHoldRedisService;
+
+	@InjectMocks
+	EscrowService escrowService;
+
+	private User bidder;
+
+	@BeforeEach
+	void setUp() {
+		bidder = User.builder()
+			.email("bidder@test.com")
+			.nickname("입찰자")
+			.point(USER_POINT)
+			.oAuthType(OAuthType.DOMAIN)
+			.roles(Set.of(UserRole.ROLE_USER))
+			.build();
+		ReflectionTestUtils.setField(bidder, "id", 1L);
+		ReflectionTestUtils.setField(escrowService, "heldCacheTtlSeconds", 86400L);
+	}
+
+	@Nested
+	@DisplayName("예치")
+	class ReserveTest {
+
+		@Test
+		@DisplayName("예치 성공 - 캐시에서 확인 후 원장에 기록")
+		void success_reserve() {
+			// given
+			given(escrowHoldRedisService.reserve(bidder.getId(), BID_PRICE, USER_POINT, TTL)).willReturn(1L);
+
+			// when
+			escrowService.reserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+
+			// then
+			verify(escrowDomainService).hold(bidder.getId(), AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+			verify(escrowDomainService, never()).sumOpenHolds(any());
+		}
+
+		@Test
+		@DisplayName("예치 실패 - 사용 가능 포인트 부족")
+		void fail_reserve_insufficientPoint() {
+			// given
+			given(escrowHoldRedisService.reserve(bidder.getId(), BID_PRICE, USER_POINT, TTL)).willReturn(0L);
+
+			// when & then
+			assertThatThrownBy(() -> escrowService.reserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE))
+				.isInstanceOf(UserException.class)
+				.extracting("errorCode")
+				.isEqualTo(UserErrorCode.INSUFFICIENT_BALANCE);
+
+			verify(escrowDomainService, never()).hold(any(), any(), anyLong(), any());
+		}
+
+		@Test
+		@DisplayName("예치 성공 - 캐시가 없으면 원장 합계로 적재 후 다시 확인")
+		void success_reserve_cacheMiss() {
+			// given
+			given(escrowHoldRedisService.reserve(bidder.getId(), BID_PRICE, USER_POINT, TTL)).willReturn(-1L, 1L);
+			given(escrowDomainService.sumOpenHolds(bidder.getId())).willReturn(50000L);
+
+			// when
+			boolean result = escrowService.tryReserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+
+			// then
+			assertThat(result).isTrue();
+			verify(escrowHoldRedisService).load(bidder.getId(), 50000L, TTL);
+			verify(escrowDomainService).hold(bidder.getId(), AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 원장 합계로 확인")
+		void success_reserve_redisFailure() {
+			// given
+			given(escrowHoldRedisService.reserve(bidder.getId(), BID_PRICE, USER_POINT, TTL))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+			given(escrowDomainService.sumOpenHolds(bidder.getId())).willReturn(50000L);
+
+			// when
+			boolean result = escrowService.tryReserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.ADJUST);
+
+			// then
+			assertThat(result).isTrue();
+			verify(escrowDomainService).hold(bidder.getId(), AUCTION_ID, BID_PRICE, EscrowHoldType.ADJUST);
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 원장 합계 기준으로 포인트가 부족하면 예치하지 않음")
+		void fail_reserve_redisFailureInsufficientPoint() {
+			// given
+			given(escrowHoldRedisService.reserve(bidder.getId(), BID_PRICE, USER_POINT, TTL))
+				.willThrow(new RedisConnectionFailureException("connection refused"));
+			given(escrowDomainService.sumOpenHolds(bidder.getId())).willReturn(80000L);
+
+			// when
+			boolean result = escrowService.tryReserve(bidder, AUCTION_ID, BID_PRICE, EscrowHoldType.ADJUST);
+
+			// then
+			assertThat(result).isFalse();
+			verify(escrowDomainService, never()).hold(any(), any(), anyLong(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("사용 가능 포인트 조회")
+	class FindAvailablePointTest {
+
+		@Test
+		@DisplayName("유저 포인트에서 예치금 합계를 뺀 값 반환")
+		void success_findAvailablePoint() {
+			// given
+			given(escrowHoldRedisService.findHeld(bidder.getId())).willReturn(Optional.of(40000L));
+
+			// when
+			long result = escrowService.findAvailablePoint(bidder);
+
+			// then
+			assertThat(result).isEqualTo(60000L);
+			verify(escrowDomainService, never()).sumOpenHolds(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("예치금 해제, 정산")
+	class ReleaseTest {
+
+		@Test
+		@DisplayName("입찰 취소 시 캐시를 지워 원장 합계로 다시 적재")
+		void success_release() {
+			// given
+			given(escrowDomainService.release(bidder.getId(), AUCTION_ID)).willReturn(BID_PRICE);
+
+			// when
+			escrowService.release(bidder.getId(), AUCTION_ID);
+
+			// then
+			verify(escrowHoldRedisService).evict(bidder.getId());
+		}
+
+		@Test
+		@DisplayName("경매 정산 시 예치금이 바뀐 유저마다 캐시를 한 번씩 삭제")
+		void success_settle() {
+			// given
+			List<Long> auctionIds = List.of(AUCTION_ID, 2L);
+			Map<Long, Long> winnerIds = Map.of(AUCTION_ID, 2L);
+			given(escrowDomainService.settle(auctionIds, winnerIds)).willReturn(List.of(
+				new EscrowHoldInfo(bidder.getId(), AUCTION_ID, 10000L),
+				new EscrowHoldInfo(bidder.getId(), 2L, 20000L),
+				new EscrowHoldInfo(2L, AUCTION_ID, 15000L)));
+
+			// when
+			escrowService.settle(auctionIds, winnerIds);
+
+			// then
+			verify(escrowHoldRedisService).evict(bidder.getId());
+			verify(escrowHoldRedisService).evict(2L);
+		}
+	}
+
+	@Nested
+	@DisplayName("예치 기록")
+	class RecordTest {
+
+		@Test
+		@DisplayName("write-behind 예치 기록 후 캐시를 증가시키지 않고 삭제")
+		void success_record() {
+			// when
+			escrowService.record(bidder.getId(), AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+
+			// then
+			verify(escrowDomainService).hold(bidder.getId(), AUCTION_ID, BID_PRICE, EscrowHoldType.RESERVE);
+			verify(escrowHoldRedisService).evict(bidder.getId());
+			verify(escrowHoldRedisService, never()).load(any(), anyLong(), any());
+		}
+	}
+}
@@ -17,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.application.pointhistory.dto.request.PointRequest;
 import nbc.chillguys.nebulazone.application.pointhistory.dto.response.PointHistoryResponse;
 import nbc.chillguys.nebulazone.application.pointhistory.dto.response.PointResponse;
@@ -27,7 +28,6 @@ import nbc.chillguys.nebulazone.domain.pointhistory.entity.PointHistoryStatus;
 import nbc.chillguys.nebulazone.domain.pointhistory.entity.PointHistoryType;
 import nbc.chillguys.nebulazone.domain.pointhistory.service.PointHistoryDomainService;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
-import nbc.chillguys.nebulazone.domain.user.service.UserDomainService;
 
 @ExtendWith(MockitoExtension.class)
 class PointHistoryServiceTest {
@@ -35,7 +35,7 @@ class PointHistoryServiceTest {
 	@Mock
 	private PointHistoryDomainService pointHistoryDomainService;
 	@Mock
-	private UserDomainService userDomainService;
+	private EscrowService escrowService;
 	@InjectMocks
 	private PointHistoryService pointHistoryService;
 
@@ -68,7 +68,7 @@ class PointHistoryServiceTest {
 		}
 
 		@Test
-		@DisplayName("EXCHANGE 타입은 포인트 검증 호출")
+		@DisplayName("EXCHANGE 타입은 사용 가능 포인트 검증 호출")
 		void createExchangePointHistory_validatesPoint() {
 			// given
 			User mockUser = mock(User.class);
@@ -83,7 +83,7 @@ class PointHistoryServiceTest {
 			pointHistoryService.createPointHistory(req, mockUser);
 
 			// then
-			verify(userDomainService).validEnoughPoint(mockUser, 3000L);
+			verify(escrowService).validateAvailablePoint(mockUser, 3000L);
 		}
 	}
 
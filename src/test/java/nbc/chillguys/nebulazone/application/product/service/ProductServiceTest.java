@@ -23,7 +23,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import nbc.chillguys.nebulazone.application.auction.service.AuctionDeletionService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionDetailCacheService;
+import nbc.chillguys.nebulazone.application.auction.service.AuctionRankingService;
 import nbc.chillguys.nebulazone.application.auction.service.AuctionSchedulerService;
+import nbc.chillguys.nebulazone.application.escrow.service.EscrowService;
 import nbc.chillguys.nebulazone.application.product.dto.request.CreateProductRequest;
 import nbc.chillguys.nebulazone.application.product.dto.response.ProductResponse;
 import nbc.chillguys.nebulazone.application.product.dto.response.SearchProductResponse;
@@ -65,6 +69,18 @@ class ProductServiceTest {
 	@Mock
 	private AuctionSchedulerService auctionSchedulerService;
 
+	@Mock
+	private AuctionRankingService auctionRankingService;
+
+	@Mock
+	private AuctionDetailCacheService auctionDetailCacheService;
+
+	@Mock
+	private AuctionDeletionService auctionDeletionService;
+
+	@Mock
+	private EscrowService escrowService;
+
 	@Mock
 	private CatalogDomainService catalogDomainService;
 
@@ -0,0 +1,41 @@
+package nbc.chillguys.nebulazone.common.cursor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("cursor 단위 테스트")
+class CursorTest {
+
+	@Test
+	@DisplayName("인코딩한 cursor를 다시 해석하면 같은 위치")
+	void success_encodeAndDecode() {
+		// given
+		Cursor cursor = new Cursor(LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123456000), 42L);
+
+		// when
+		Cursor decoded = Cursor.decode(cursor.encode());
+
+		// then
+		assertThat(decoded).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("cursor가 없으면 첫 페이지")
+	void success_decode_firstPage() {
+		assertThat(Cursor.decode(null)).isNull();
+		assertThat(Cursor.decode("")).isNull();
+	}
+
+	@Test
+	@DisplayName("해석할 수 없는 cursor면 예외")
+	void fail_decode_invalid() {
+		assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+			.isInstanceOf(CursorException.class)
+			.extracting("errorCode")
+			.isEqualTo(CursorErrorCode.INVALID_CURSOR);
+	}
+}
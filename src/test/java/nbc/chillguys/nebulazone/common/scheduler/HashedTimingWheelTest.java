@@ -0,0 +1,106 @@
+package nbc.chillguys.nebulazone.common.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("해시 타이밍 휠 단위 테스트")
+class HashedTimingWheelTest {
+
+	private static final long START_SECOND = 1_000_000L;
+
+	private AtomicLong clock;
+	private List<Long> expiredIds;
+	private HashedTimingWheel<Long> timingWheel;
+
+	@BeforeEach
+	void setUp() {
+		clock = new AtomicLong(START_SECOND);
+		expiredIds = new ArrayList<>();
+		timingWheel = new HashedTimingWheel<>("test", 60, 2, (id, payload) -> expiredIds.add(id), clock::get);
+	}
+
+	@Test
+	@DisplayName("만료 시각이 된 항목만 만료 처리")
+	void success_expire() {
+		// given
+		timingWheel.schedule(1L, START_SECOND + 5, 10L);
+		timingWheel.schedule(2L, START_SECOND + 10, 20L);
+
+		// when
+		clock.set(START_SECOND + 5);
+		timingWheel.advanceAll();
+
+		// then
+		assertThat(expiredIds).containsExactly(1L);
+		assertThat(timingWheel.contains(2L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("휠 크기보다 먼 만료 시각은 한 바퀴 이상 지난 뒤 만료")
+	void success_expire_afterRounds() {
+		// given
+		timingWheel.schedule(1L, START_SECOND + 130, 10L);
+
+		// when
+		clock.set(START_SECOND + 70);
+		timingWheel.advanceAll();
+
+		// then
+		assertThat(expiredIds).isEmpty();
+
+		clock.set(START_SECOND + 130);
+		timingWheel.advanceAll();
+		assertThat(expiredIds).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("취소된 항목은 만료 처리되지 않음")
+	void success_cancel() {
+		// given
+		timingWheel.schedule(1L, START_SECOND + 5, 10L);
+
+		// when
+		boolean cancelled = timingWheel.cancel(1L);
+		clock.set(START_SECOND + 5);
+		timingWheel.advanceAll();
+
+		// then
+		assertThat(cancelled).isTrue();
+		assertThat(expiredIds).isEmpty();
+		assertThat(timingWheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("같은 id 재등록 시 만료 시각 교체")
+	void success_reschedule() {
+		// given
+		timingWheel.schedule(1L, START_SECOND + 5, 10L);
+		timingWheel.schedule(1L, START_SECOND + 20, 10L);
+
+		// when
+		clock.set(START_SECOND + 5);
+		timingWheel.advanceAll();
+
+		// then
+		assertThat(expiredIds).isEmpty();
+		assertThat(timingWheel.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이미 지난 만료 시각은 즉시 만료 처리")
+	void success_expire_pastDeadline() {
+		// when
+		timingWheel.schedule(1L, START_SECOND - 1, 10L);
+
+		// then
+		assertThat(expiredIds).containsExactly(1L);
+		assertThat(timingWheel.size()).isZero();
+	}
+}
@@ -0,0 +1,129 @@
+package nbc.chillguys.nebulazone.common.sequencer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("메일박스 시퀀서 단위 테스트")
+class MailboxSequencerTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키의 작업은 동시에 처리되지 않고 들어온 순서대로 처리")
+	void success_submit_sequentialPerKey() throws InterruptedException {
+		// given
+		int commandCount = 10_000;
+		Map<Long, List<Integer>> handled = new ConcurrentHashMap<>();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(commandCount * 2);
+
+		MailboxSequencer<Integer> sequencer = new MailboxSequencer<>("test", 16, executor, (key, batch) -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			handled.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).addAll(batch);
+			running.decrementAndGet();
+			batch.forEach(command -> done.countDown());
+		});
+
+		// when
+		for (int i = 0; i < commandCount; i++) {
+			sequencer.submit(1L, i);
+			sequencer.submit(2L, i);
+		}
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(handled.get(1L)).hasSize(commandCount).isSorted();
+		assertThat(handled.get(2L)).hasSize(commandCount).isSorted();
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("한 번에 최대 배치 크기만큼 꺼내서 처리")
+	void success_submit_batched() throws InterruptedException {
+		// given
+		List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(11);
+
+		MailboxSequencer<Integer> sequencer = new MailboxSequencer<>("test", 4, executor, (key, batch) -> {
+			batchSizes.add(batch.size());
+			started.countDown();
+			await(release);
+			batch.forEach(command -> done.countDown());
+		});
+
+		// when
+		sequencer.submit(1L, 0);
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i <= 10; i++) {
+			sequencer.submit(1L, i);
+		}
+		release.countDown();
+
+		// then
+		assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(batchSizes).containsExactly(1, 4, 4, 2);
+	}
+
+	@Test
+	@DisplayName("처리할 작업이 없는 메일박스만 제거")
+	void success_removeIdle() throws InterruptedException {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(2);
+
+		MailboxSequencer<Integer> sequencer = new MailboxSequencer<>("test", 4, executor, (key, batch) -> {
+			if (key == 2L) {
+				await(release);
+			}
+			done.countDown();
+		});
+
+		sequencer.submit(1L, 1);
+		sequencer.submit(2L, 1);
+
+		while (!sequencer.isIdle(1L)) {
+			Thread.sleep(1);
+		}
+
+		// when
+		int removed = sequencer.removeIdle();
+
+		// then
+		assertThat(removed).isEqualTo(1);
+		assertThat(sequencer.size()).isEqualTo(1);
+		assertThat(sequencer.isIdle(2L)).isFalse();
+
+		release.countDown();
+		assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -21,6 +21,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionCreateCommand;
+import nbc.chillguys.nebulazone.domain.auction.dto.AuctionEndScheduleInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindAllInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.AuctionFindDetailInfo;
 import nbc.chillguys.nebulazone.domain.auction.dto.ManualEndAuctionInfo;
@@ -436,26 +437,97 @@ class AuctionDomainServiceUnitTest {
 	}
 
 	@Nested
-	@DisplayName("삭제되지 않은 경매 리스트 조회")
-	class FindActiveAuctionsWithProductAndSellerTest {
+	@DisplayName("경매 종료 스케줄 조회")
+	class FindAuctionEndSchedulesTest {
 
 		@Test
-		@DisplayName("정상 조회")
-		void success_findActiveAuctionsWithProductAndSeller() {
+		@DisplayName("종료 시각이 남은 경매 스케줄 조회")
+		void success_findUpcomingAuctionEndSchedules() {
 			// given
-			List<Auction> auctionList = List.of(
-				createSimpleAuction(1000L, 1500L, false, false),
-				createSimpleAuction(2000L, 2500L, false, true)
+			LocalDateTime now = LocalDateTime.now();
+			List<AuctionEndScheduleInfo> schedules = List.of(
+				new AuctionEndScheduleInfo(2L, 20L, now.plusHours(1)),
+				new AuctionEndScheduleInfo(3L, 30L, now.plusHours(2))
 			);
-			given(auctionRepository.findAuctionsByNotDeletedAndIsWonFalse()).willReturn(auctionList);
+			given(auctionRepository.findUpcomingAuctionEndSchedules(1L, now, 100)).willReturn(schedules);
+
+			// when
+			List<AuctionEndScheduleInfo> result = auctionDomainService.findUpcomingAuctionEndSchedules(1L, now, 100);
+
+			// then
+			assertThat(result).extracting(AuctionEndScheduleInfo::auctionId).containsExactly(2L, 3L);
+		}
+
+		@Test
+		@DisplayName("종료 시각이 지난 경매 스케줄 조회")
+		void success_findOverdueAuctionEndSchedules() {
+			// given
+			LocalDateTime now = LocalDateTime.now();
+			List<AuctionEndScheduleInfo> schedules = List.of(new AuctionEndScheduleInfo(1L, 10L, now.minusHours(1)));
+			given(auctionRepository.findOverdueAuctionEndSchedules(null, now, 100)).willReturn(schedules);
+
+			// when
+			List<AuctionEndScheduleInfo> result = auctionDomainService.findOverdueAuctionEndSchedules(null, now, 100);
 
+			// then
+			assertThat(result).hasSize(1);
+			assertThat(result.get(0).productId()).isEqualTo(10L);
+		}
+	}
+
+	@Nested
+	@DisplayName("입찰 건수, 대표 이미지 갱신")
+	class DenormalizedColumnTest {
+
+		@Test
+		@DisplayName("입찰 취소 시 입찰 건수 1 감소")
+		void success_decreaseBidCount() {
+			// given
+			Long auctionId = 1L;
+
+			// when
+			auctionDomainService.decreaseBidCount(auctionId);
+
+			// then
+			verify(auctionRepository).adjustBidCount(auctionId, -1L);
+		}
+
+		@Test
+		@DisplayName("상품 이미지 변경 시 url 순으로 가장 앞선 이미지를 대표 이미지로 갱신")
+		void success_updateThumbnailUrl() {
+			// given
+			Long productId = 10L;
+			List<String> imageUrls = List.of("https://img/b.png", "https://img/a.png");
+
+			// when
+			auctionDomainService.updateThumbnailUrl(productId, imageUrls);
+
+			// then
+			verify(auctionRepository).updateThumbnailUrlByProductId(productId, "https://img/a.png");
+		}
+
+		@Test
+		@DisplayName("상품 이미지가 모두 삭제되면 대표 이미지 제거")
+		void success_updateThumbnailUrl_noImage() {
+			// given
+			Long productId = 10L;
+
+			// when
+			auctionDomainService.updateThumbnailUrl(productId, List.of());
+
+			// then
+			verify(auctionRepository).updateThumbnailUrlByProductId(productId, null);
+		}
+
+		@Test
+		@DisplayName("재계산 대상 경매가 없으면 UPDATE 생략")
+		void success_recalculateBidCountAndThumbnail_empty() {
 			// when
-			List<Auction> result = auctionDomainService.findActiveAuctionsWithProductAndSeller();
+			long result = auctionDomainService.recalculateBidCountAndThumbnail(List.of());
 
 			// then
-			assertThat(result).hasSize(2);
-			assertThat(result.get(0).getStartPrice()).isEqualTo(1000L);
-			assertThat(result.get(1).isWon()).isTrue();
+			assertThat(result).isZero();
+			verify(auctionRepository, never()).recalculateBidCountAndThumbnail(any());
 		}
 	}
 
@@ -28,6 +28,7 @@ import nbc.chillguys.nebulazone.domain.bid.entity.Bid;
 import nbc.chillguys.nebulazone.domain.bid.entity.BidStatus;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidErrorCode;
 import nbc.chillguys.nebulazone.domain.bid.exception.BidException;
+import nbc.chillguys.nebulazone.domain.bid.repository.BidArchiveRepository;
 import nbc.chillguys.nebulazone.domain.bid.repository.BidRepository;
 import nbc.chillguys.nebulazone.domain.catalog.entity.Catalog;
 import nbc.chillguys.nebulazone.domain.catalog.entity.CatalogType;
@@ -44,6 +45,9 @@ class BidDomainServiceUnitTest {
 	@Mock
 	BidRepository bidRepository;
 
+	@Mock
+	BidArchiveRepository bidArchiveRepository;
+
 	@InjectMocks
 	BidDomainService bidDomainService;
 
@@ -136,22 +140,15 @@ class BidDomainServiceUnitTest {
 		@Test
 		@DisplayName("입찰 생성 실패 - 입찰가가 현재가보다 낮음")
 		void fail_createBid_lowPrice() {
-			// given
-			given(bidRepository.findActiveBidHighestPriceByAuction(auction))
-				.willReturn(Optional.of(CURRENT_PRICE));
-
 			// when & then
 			assertBidException(() -> bidDomainService.createBid(auction, bidder, LOW_BID_PRICE),
 				BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
+			verify(bidRepository, never()).findActiveBidHighestPriceByAuction(any());
 		}
 
 		@Test
 		@DisplayName("입찰 생성 실패 - 입찰가가 동일함")
 		void fail_createBid_samePrice() {
-			// given
-			given(bidRepository.findActiveBidHighestPriceByAuction(auction))
-				.willReturn(Optional.of(CURRENT_PRICE));
-
 			// when & then
 			assertBidException(() -> bidDomainService.createBid(auction, bidder, CURRENT_PRICE),
 				BidErrorCode.BID_PRICE_TOO_LOW_CURRENT_PRICE);
@@ -172,6 +169,33 @@ class BidDomainServiceUnitTest {
 			// then
 		}
 
+		@Test
+		@DisplayName("취소한 입찰에 다시 입찰하면 입찰 상태로 복구")
+		void success_updateBid_reactivateCancelledBid() {
+			// given
+			Bid cancelledBid = createBid(1L, auction, bidder, CURRENT_PRICE, BidStatus.CANCEL);
+
+			// when
+			Bid result = bidDomainService.updateBid(auction, cancelledBid, bidder, NEW_BID_PRICE);
+
+			// then
+			assertThat(result.getStatus()).isEqualTo(BidStatus.BID);
+			assertThat(result.getPrice()).isEqualTo(NEW_BID_PRICE);
+		}
+
+		@Test
+		@DisplayName("취소한 입찰에 다시 입찰 실패 - 시작가보다 낮은 가격")
+		void fail_updateBid_cancelledBidBelowStartPrice() {
+			// given
+			Bid cancelledBid = createBid(1L, auction, bidder, CURRENT_PRICE, BidStatus.CANCEL);
+
+			// when & then
+			assertThatThrownBy(() -> bidDomainService.updateBid(auction, cancelledBid, bidder, START_PRICE - 1))
+				.isInstanceOf(BidException.class)
+				.extracting("errorCode")
+				.isEqualTo(BidErrorCode.BID_PRICE_TOO_LOW_START_PRICE);
+		}
+
 	}
 
 	@Nested
@@ -223,6 +247,88 @@ class BidDomainServiceUnitTest {
 			assertThat(result.getContent().get(0).nickname()).isEqualTo(BIDDER_NICKNAME);
 			assertThat(result.getContent().get(0).bidPrice()).isEqualTo(NEW_BID_PRICE);
 		}
+
+		@Test
+		@DisplayName("보관된 경매의 입찰 내역은 보관 테이블에서 조회")
+		void success_findBids_archived() {
+			// given
+			int page = 0;
+			int size = 10;
+			Auction closedAuction = createAuction(20L, product, START_PRICE, CURRENT_PRICE,
+				LocalDateTime.now().minusDays(40), false, true);
+			Page<FindBidInfo> pageResult = new PageImpl<>(createBidInfoList());
+
+			given(bidArchiveRepository.existsByAuctionId(closedAuction.getId())).willReturn(true);
+			given(bidArchiveRepository.findBidsWithUserByAuctionId(closedAuction.getId(), page, size))
+				.willReturn(pageResult);
+
+			// when
+			Page<FindBidInfo> result = bidDomainService.findBids(closedAuction, page, size);
+
+			// then
+			assertThat(result.getTotalElements()).isEqualTo(2);
+			verify(bidRepository, never()).findBidsWithUserByAuction(any(), anyInt(), anyInt());
+		}
+
+		@Test
+		@DisplayName("보관된 입찰이 있으면 내 입찰 내역을 두 테이블에서 최신순으로 합쳐서 조회")
+		void success_findMyBids_withArchivedBids() {
+			// given
+			int page = 0;
+			int size = 2;
+			LocalDateTime now = LocalDateTime.now();
+			FindBidInfo latestBid = new FindBidInfo(3L, NEW_BID_PRICE, now, BidStatus.BID,
+				BIDDER_NICKNAME, PRODUCT_NAME);
+			FindBidInfo archivedBid = new FindBidInfo(2L, CURRENT_PRICE, now.minusDays(40), BidStatus.WON,
+				BIDDER_NICKNAME, PRODUCT_NAME);
+			FindBidInfo oldestBid = new FindBidInfo(1L, START_PRICE, now.minusDays(50), BidStatus.LOST,
+				BIDDER_NICKNAME, PRODUCT_NAME);
+
+			given(bidArchiveRepository.countByUserId(bidder.getId())).willReturn(2L);
+			given(bidRepository.findMyBidsByCursor(bidder, null, 2)).willReturn(List.of(latestBid));
+			given(bidArchiveRepository.findMyBidsByCursor(bidder.getId(), null, 2))
+				.willReturn(List.of(archivedBid, oldestBid));
+			given(bidRepository.countByUser(bidder)).willReturn(1L);
+
+			// when
+			Page<FindBidInfo> result = bidDomainService.findMyBids(bidder, page, size);
+
+			// then
+			assertThat(result.getContent()).containsExactly(latestBid, archivedBid);
+			assertThat(result.getTotalElements()).isEqualTo(3);
+			verify(bidRepository, never()).findMyBids(any(), anyInt(), anyInt());
+		}
+	}
+
+	@Nested
+	@DisplayName("입찰 내역 보관")
+	class ArchiveBidsTest {
+
+		@Test
+		@DisplayName("보관 테이블에 복사한 뒤 bids 테이블에서 삭제")
+		void success_archiveBids() {
+			// given
+			List<Long> auctionIds = List.of(1L, 2L);
+			given(bidArchiveRepository.insertBidsByAuctionIds(auctionIds)).willReturn(5L);
+
+			// when
+			long result = bidDomainService.archiveBids(auctionIds);
+
+			// then
+			assertThat(result).isEqualTo(5L);
+			verify(bidRepository).deleteBidsByAuctionIds(auctionIds);
+		}
+
+		@Test
+		@DisplayName("보관할 경매가 없으면 쿼리를 실행하지 않음")
+		void success_archiveBids_empty() {
+			// when
+			long result = bidDomainService.archiveBids(List.of());
+
+			// then
+			assertThat(result).isZero();
+			verifyNoInteractions(bidArchiveRepository, bidRepository);
+		}
 	}
 
 	@Nested
@@ -0,0 +1,97 @@
+package nbc.chillguys.nebulazone.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatErrorCode;
+import nbc.chillguys.nebulazone.domain.chat.exception.ChatException;
+import nbc.chillguys.nebulazone.domain.chat.repository.ChatHistoryBulkRepository;
+import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomHistoryRepository;
+import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomRepository;
+import nbc.chillguys.nebulazone.domain.chat.repository.ChatRoomUserRepository;
+
+@DisplayName("채팅 도메인 서비스 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class ChatDomainServiceUnitTest {
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	ChatRoomUserRepository chatRoomUserRepository;
+
+	@Mock
+	ChatRoomHistoryRepository chatRoomHistoryRepository;
+
+	@Mock
+	ChatHistoryBulkRepository chatHistoryBulkRepository;
+
+	@InjectMocks
+	ChatDomainService chatDomainService;
+
+	@Nested
+	@DisplayName("채팅 기록 일괄 저장")
+	class SaveChatHistoriesTest {
+
+		@Test
+		@DisplayName("여러 채팅방의 메시지를 채팅방 엔티티 조회 없이 한 번의 batch insert로 저장")
+		void success_saveChatHistories() {
+			// given
+			ChatMessageInfo first = createMessage(1L, "first");
+			ChatMessageInfo second = createMessage(2L, "second");
+			ChatMessageInfo third = createMessage(2L, "third");
+
+			Map<Long, List<ChatMessageInfo>> messagesByRoom = new LinkedHashMap<>();
+			messagesByRoom.put(1L, List.of(first));
+			messagesByRoom.put(2L, List.of(second, third));
+
+			given(chatRoomRepository.findExistingIds(messagesByRoom.keySet())).willReturn(List.of(1L, 2L));
+
+			// when
+			chatDomainService.saveChatHistories(messagesByRoom);
+
+			// then
+			verify(chatHistoryBulkRepository).saveAll(List.of(first, second, third));
+			verify(chatRoomRepository, never()).findById(any());
+			verifyNoInteractions(chatRoomHistoryRepository);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 채팅방이 있으면 저장하지 않고 실패")
+		void fail_saveChatHistories_chatRoomNotFound() {
+			// given
+			Map<Long, List<ChatMessageInfo>> messagesByRoom = Map.of(
+				1L, List.of(createMessage(1L, "first")),
+				2L, List.of(createMessage(2L, "second")));
+
+			given(chatRoomRepository.findExistingIds(messagesByRoom.keySet())).willReturn(List.of(1L));
+
+			// when & then
+			assertThatThrownBy(() -> chatDomainService.saveChatHistories(messagesByRoom))
+				.isInstanceOf(ChatException.class)
+				.extracting("errorCode")
+				.isEqualTo(ChatErrorCode.CHAT_ROOM_NOT_FOUND);
+			verifyNoInteractions(chatHistoryBulkRepository);
+		}
+	}
+
+	private ChatMessageInfo createMessage(Long roomId, String message) {
+		return ChatMessageInfo.of(roomId, 10L, "chat@test.com", message, MessageType.TEXT,
+			LocalDateTime.of(2025, 7, 1, 12, 0));
+	}
+}
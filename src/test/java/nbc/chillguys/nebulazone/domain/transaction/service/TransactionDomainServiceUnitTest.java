@@ -32,6 +32,7 @@ import nbc.chillguys.nebulazone.domain.transaction.entity.TransactionMethod;
 import nbc.chillguys.nebulazone.domain.transaction.entity.UserType;
 import nbc.chillguys.nebulazone.domain.transaction.exception.TransactionErrorCode;
 import nbc.chillguys.nebulazone.domain.transaction.exception.TransactionException;
+import nbc.chillguys.nebulazone.domain.transaction.repository.TransactionBulkRepository;
 import nbc.chillguys.nebulazone.domain.transaction.repository.TransactionRepository;
 import nbc.chillguys.nebulazone.domain.user.entity.OAuthType;
 import nbc.chillguys.nebulazone.domain.user.entity.User;
@@ -44,6 +45,9 @@ class TransactionDomainServiceUnitTest {
 	@Mock
 	TransactionRepository transactionRepository;
 
+	@Mock
+	TransactionBulkRepository transactionBulkRepository;
+
 	@InjectMocks
 	TransactionDomainService transactionDomainService;
 
@@ -136,6 +140,51 @@ class TransactionDomainServiceUnitTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("거래내역 일괄 생성")
+	class CreateTransactionsTest {
+
+		@Test
+		@DisplayName("거래내역 일괄 생성 성공")
+		void success_createTransactions() {
+			// given
+			List<TransactionCreateCommand> commands = List.of(
+				TransactionCreateCommand.of(buyer, UserType.BUYER, product, AUCTION_METHOD, TRANSACTION_PRICE),
+				TransactionCreateCommand.of(seller, UserType.SELLER, product, AUCTION_METHOD, TRANSACTION_PRICE));
+
+			// when
+			transactionDomainService.createTransactions(commands);
+
+			// then
+			verify(transactionBulkRepository).saveAll(commands);
+			verify(transactionRepository, never()).save(any());
+		}
+
+		@Test
+		@DisplayName("거래내역 일괄 생성 - 빈 목록은 저장하지 않음")
+		void success_createTransactions_empty() {
+			// when
+			transactionDomainService.createTransactions(List.of());
+
+			// then
+			verify(transactionBulkRepository, never()).saveAll(any());
+		}
+
+		@Test
+		@DisplayName("거래내역 일괄 생성 실패 - 유효하지 않은 거래 방법이 있으면 저장하지 않음")
+		void fail_createTransactions_invalidMethod() {
+			// given
+			List<TransactionCreateCommand> commands = List.of(
+				TransactionCreateCommand.of(buyer, UserType.BUYER, product, AUCTION_METHOD, TRANSACTION_PRICE),
+				TransactionCreateCommand.of(seller, UserType.SELLER, product, INVALID_METHOD, TRANSACTION_PRICE));
+
+			// when & then
+			assertTransactionException(() -> transactionDomainService.createTransactions(commands),
+				TransactionErrorCode.INVALID_TX_METHOD);
+			verify(transactionBulkRepository, never()).saveAll(any());
+		}
+	}
+
 	@Nested
 	@DisplayName("내 거래내역 조회")
 	class FindMyTransactionsTest {
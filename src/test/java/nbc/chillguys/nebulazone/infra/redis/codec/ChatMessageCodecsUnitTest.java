@@ -0,0 +1,116 @@
+package nbc.chillguys.nebulazone.infra.redis.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import nbc.chillguys.nebulazone.domain.chat.dto.response.ChatMessageInfo;
+import nbc.chillguys.nebulazone.domain.chat.entity.MessageType;
+
+@DisplayName("채팅 메시지 codec 단위 테스트")
+class ChatMessageCodecsUnitTest {
+
+	private static final LocalDateTime SEND_TIME = LocalDateTime.of(2025, 7, 1, 12, 30, 15, 123_456_000);
+
+	ChatMessageCodecs chatMessageCodecs;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+		chatMessageCodecs = new ChatMessageCodecs(
+			List.of(new JsonChatMessageCodec(objectMapper), new BinaryChatMessageCodec()),
+			new ChatCodecProperties(null, Map.of("chat:room:", ChatCodecType.BINARY)));
+	}
+
+	@Nested
+	@DisplayName("바이너리 codec")
+	class BinaryTest {
+
+		@Test
+		@DisplayName("한글, 이모지, null 필드를 포함한 메시지를 그대로 복원")
+		void success_roundTrip() {
+			// given
+			ChatMessageInfo message = ChatMessageInfo.of(1_024L, 52_731L, null, "안녕하세요 😀 hello",
+				MessageType.IMAGE, SEND_TIME);
+			BinaryChatMessageCodec codec = new BinaryChatMessageCodec();
+
+			// when
+			ChatMessageInfo decoded = codec.decode(codec.encode(message));
+
+			// then
+			assertThat(decoded).isEqualTo(message);
+		}
+
+		@Test
+		@DisplayName("같은 메시지의 JSON보다 작게 인코딩")
+		void success_smallerThanJson() {
+			// given
+			ChatMessageInfo message = createMessage("거래 가능할까요?");
+
+			// when
+			byte[] binary = chatMessageCodecs.forKey("chat:room:1").encode(message);
+			byte[] json = chatMessageCodecs.forKey("chat:other").encode(message);
+
+			// then
+			assertThat(binary.length).isLessThan(json.length / 2);
+		}
+
+		@Test
+		@DisplayName("잘린 바이트는 해석 실패")
+		void fail_decode_truncated() {
+			// given
+			BinaryChatMessageCodec codec = new BinaryChatMessageCodec();
+			byte[] encoded = codec.encode(createMessage("거래 가능할까요?"));
+			byte[] truncated = new byte[encoded.length - 3];
+			System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+			// when & then
+			assertThatThrownBy(() -> codec.decode(truncated))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("codec 선택")
+	class SelectTest {
+
+		@Test
+		@DisplayName("prefix가 일치하면 설정된 codec, 아니면 기본 codec(JSON)")
+		void success_forKey() {
+			// when & then
+			assertThat(chatMessageCodecs.forKey("chat:room:1").type()).isEqualTo(ChatCodecType.BINARY);
+			assertThat(chatMessageCodecs.forKey("chat:stream:1").type()).isEqualTo(ChatCodecType.JSON);
+		}
+
+		@Test
+		@DisplayName("읽을 때는 설정과 관계없이 첫 바이트로 형식을 판별")
+		void success_decode_detectFormat() {
+			// given
+			ChatMessageInfo message = createMessage("hello");
+			byte[] binary = chatMessageCodecs.forKey("chat:room:1").encode(message);
+			byte[] json = chatMessageCodecs.forKey("chat:stream:1").encode(message);
+
+			// when & then
+			assertThat(chatMessageCodecs.decode(binary)).isEqualTo(message);
+			assertThat(chatMessageCodecs.decode(json).message()).isEqualTo("hello");
+		}
+	}
+
+	private ChatMessageInfo createMessage(String message) {
+		return ChatMessageInfo.of(1_024L, 52_731L, "buyer@nebulazone.com", message, MessageType.TEXT, SEND_TIME);
+	}
+}
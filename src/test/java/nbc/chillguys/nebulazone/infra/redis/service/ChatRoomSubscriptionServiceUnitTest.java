@@ -0,0 +1,114 @@
+package nbc.chillguys.nebulazone.infra.redis.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("채팅방 채널 구독 관리 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionServiceUnitTest {
+
+	private static final ChannelTopic ROOM_TOPIC = ChannelTopic.of("chat:room:1");
+
+	@Mock
+	RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Mock
+	MessageListenerAdapter listenerAdapter;
+
+	SimpleMeterRegistry meterRegistry;
+
+	ChatRoomSubscriptionService chatRoomSubscriptionService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		chatRoomSubscriptionService = new ChatRoomSubscriptionService(redisMessageListenerContainer,
+			listenerAdapter, meterRegistry);
+		chatRoomSubscriptionService.init();
+	}
+
+	@Nested
+	@DisplayName("채팅방 채널 구독")
+	class SubscribeTest {
+
+		@Test
+		@DisplayName("채팅방의 첫 로컬 구독에만 채널을 구독")
+		void success_subscribe_onlyFirstSubscriber() {
+			// when
+			chatRoomSubscriptionService.subscribe("session-1", "sub-0", 1L);
+			chatRoomSubscriptionService.subscribe("session-2", "sub-0", 1L);
+
+			// then
+			verify(redisMessageListenerContainer, times(1)).addMessageListener(listenerAdapter, ROOM_TOPIC);
+			assertThat(meterRegistry.get("chat.pubsub.subscribed-rooms").gauge().value()).isEqualTo(1.0);
+		}
+
+		@Test
+		@DisplayName("같은 구독 id로 다시 구독해도 한 번만 센다")
+		void success_subscribe_duplicateSubscription() {
+			// when
+			chatRoomSubscriptionService.subscribe("session-1", "sub-0", 1L);
+			chatRoomSubscriptionService.subscribe("session-1", "sub-0", 1L);
+			chatRoomSubscriptionService.unsubscribe("session-1", "sub-0");
+
+			// then
+			verify(redisMessageListenerContainer).removeMessageListener(listenerAdapter, ROOM_TOPIC);
+		}
+	}
+
+	@Nested
+	@DisplayName("채팅방 채널 구독 해제")
+	class UnsubscribeTest {
+
+		@Test
+		@DisplayName("마지막 로컬 구독이 해제될 때만 채널 구독을 해제")
+		void success_unsubscribe_lastSubscriber() {
+			// given
+			chatRoomSubscriptionService.subscribe("session-1", "sub-0", 1L);
+			chatRoomSubscriptionService.subscribe("session-2", "sub-0", 1L);
+
+			// when
+			chatRoomSubscriptionService.unsubscribe("session-1", "sub-0");
+
+			// then
+			verify(redisMessageListenerContainer, never()).removeMessageListener(listenerAdapter, ROOM_TOPIC);
+
+			// when
+			chatRoomSubscriptionService.unsubscribe("session-2", "sub-0");
+
+			// then
+			verify(redisMessageListenerContainer).removeMessageListener(listenerAdapter, ROOM_TOPIC);
+			assertThat(meterRegistry.get("chat.pubsub.subscribed-rooms").gauge().value()).isZero();
+		}
+
+		@Test
+		@DisplayName("연결 종료 시 세션의 구독을 모두 해제하고, 중복 종료 이벤트는 무시")
+		void success_unsubscribeAll() {
+			// given
+			chatRoomSubscriptionService.subscribe("session-1", "sub-0", 1L);
+			chatRoomSubscriptionService.subscribe("session-1", "sub-1", 2L);
+
+			// when
+			chatRoomSubscriptionService.unsubscribeAll("session-1");
+			chatRoomSubscriptionService.unsubscribeAll("session-1");
+
+			// then
+			verify(redisMessageListenerContainer).removeMessageListener(listenerAdapter, ROOM_TOPIC);
+			verify(redisMessageListenerContainer)
+				.removeMessageListener(listenerAdapter, ChannelTopic.of("chat:room:2"));
+		}
+	}
+}